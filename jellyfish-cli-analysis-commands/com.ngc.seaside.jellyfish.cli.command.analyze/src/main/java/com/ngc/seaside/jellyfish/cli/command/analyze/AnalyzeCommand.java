@@ -22,24 +22,34 @@
  */
 package com.ngc.seaside.jellyfish.cli.command.analyze;
 
+import com.ngc.seaside.jellyfish.api.CommonParameters;
 import com.ngc.seaside.jellyfish.api.DefaultParameter;
 import com.ngc.seaside.jellyfish.api.DefaultUsage;
 import com.ngc.seaside.jellyfish.api.ICommand;
 import com.ngc.seaside.jellyfish.api.ICommandOptions;
 import com.ngc.seaside.jellyfish.api.ICommandProvider;
+import com.ngc.seaside.jellyfish.api.IJellyFishCommand;
 import com.ngc.seaside.jellyfish.api.IJellyFishCommandProvider;
 import com.ngc.seaside.jellyfish.api.IParameter;
 import com.ngc.seaside.jellyfish.api.IUsage;
 import com.ngc.seaside.jellyfish.api.ParameterCategory;
+import com.ngc.seaside.jellyfish.utilities.command.AbstractJellyfishAnalysisCommand;
 import com.ngc.seaside.jellyfish.utilities.command.AbstractJellyfishCommand;
+import com.ngc.seaside.jellyfish.utilities.command.FusedAnalysis;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Optional;
 
 /**
  * The top level analyze command.  This command uses the {@code analyses} and {@code reports} parameters to call
  * one or more analysis and reporting commands.  This command does little work itself.  It mostly delegates to other
  * commands.
+ *
+ * <p/> If the {@code fuseAnalyses} parameter is true and the entire project is being analyzed, analyses which can be
+ * fused are run together with a {@link FusedAnalysis} so the project is only traversed once.  Other analyses are run
+ * individually afterwards.
  */
 public class AnalyzeCommand extends AbstractJellyfishCommand {
 
@@ -58,6 +68,11 @@ public class AnalyzeCommand extends AbstractJellyfishCommand {
     */
    public static final String REPORTS_PARAMETER_NAME = "reports";
 
+   /**
+    * The parameter that enables running analyses with a single traversal of the project.
+    */
+   public static final String FUSE_ANALYSES_PARAMETER_NAME = "fuseAnalyses";
+
    /**
     * The delimiter that separates the analyses and reports commands.
     */
@@ -131,13 +146,24 @@ public class AnalyzeCommand extends AbstractJellyfishCommand {
             new DefaultParameter<>(REPORTS_PARAMETER_NAME)
                   .setDescription("Configures the reports to generated after performing analysis. The values are comma"
                                   + " (,) separated.")
-                  .optional());
+                  .optional(),
+            new DefaultParameter<>(FUSE_ANALYSES_PARAMETER_NAME)
+                  .setDescription("If true, analyses that support it are run together with a single traversal of"
+                                  + " the project.  Defaults to false.")
+                  .advanced(),
+            CommonParameters.PARALLEL.advanced());
    }
 
    @Override
    protected void doRun() {
       // First, run the analyses.
-      runCommands(parseCommands(getOptions().getParameters().getParameter(ANALYSES_PARAMETER_NAME).getStringValue()));
+      Collection<String> analyses =
+            parseCommands(getOptions().getParameters().getParameter(ANALYSES_PARAMETER_NAME).getStringValue());
+      if (shouldFuseAnalyses()) {
+         runFusedAnalyses(analyses);
+      } else {
+         runCommands(analyses);
+      }
       // Next, run the reports.
       IParameter<?> reports = getOptions().getParameters().getParameter(REPORTS_PARAMETER_NAME);
       if (reports != null) {
@@ -154,6 +180,32 @@ public class AnalyzeCommand extends AbstractJellyfishCommand {
       }
    }
 
+   private void runFusedAnalyses(Collection<String> analyses) {
+      FusedAnalysis fusedAnalysis = new FusedAnalysis(logService, getOptions());
+      Collection<String> unfusedAnalyses = new ArrayList<>();
+      for (String analysis : analyses) {
+         IJellyFishCommand command = jellyFishCommandProvider.getCommand(analysis);
+         Optional<AbstractJellyfishAnalysisCommand> fusible = command == null
+                                                              ? Optional.empty()
+                                                              : FusedAnalysis.getFusibleCommand(command);
+         if (fusible.isPresent()) {
+            fusedAnalysis.add(fusible.get());
+         } else {
+            unfusedAnalyses.add(analysis);
+         }
+      }
+      fusedAnalysis.run(getBooleanParameter(CommonParameters.PARALLEL.getName()));
+      runCommands(unfusedAnalyses);
+   }
+
+   private boolean shouldFuseAnalyses() {
+      // Analyses are only fused when analyzing the entire project.  Otherwise, each analysis only analyzes a few
+      // models and there is little to gain.
+      return getBooleanParameter(FUSE_ANALYSES_PARAMETER_NAME)
+            && !getOptions().getParameters().containsParameter(CommonParameters.MODEL.getName())
+            && !getOptions().getParameters().containsParameter(CommonParameters.STEREOTYPES.getName());
+   }
+
    private ICommandProvider<?, ?, ?> getProviderForCommand(String command) {
       // The command could either be a Jellyfish command or basic command that does not require a valid system
       // descriptor.  Therefore, we check to see which provider actually manages the command.
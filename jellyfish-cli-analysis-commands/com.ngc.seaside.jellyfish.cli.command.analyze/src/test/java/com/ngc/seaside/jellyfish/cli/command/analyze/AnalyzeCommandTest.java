@@ -22,12 +22,19 @@
  */
 package com.ngc.seaside.jellyfish.cli.command.analyze;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.stream.Collectors;
 
 import org.junit.Before;
@@ -38,12 +45,20 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import com.ngc.seaside.jellyfish.api.DefaultParameter;
 import com.ngc.seaside.jellyfish.api.DefaultParameterCollection;
+import com.ngc.seaside.jellyfish.api.DefaultUsage;
 import com.ngc.seaside.jellyfish.api.ICommand;
 import com.ngc.seaside.jellyfish.api.ICommandOptions;
 import com.ngc.seaside.jellyfish.api.ICommandProvider;
 import com.ngc.seaside.jellyfish.api.IJellyFishCommand;
 import com.ngc.seaside.jellyfish.api.IJellyFishCommandOptions;
 import com.ngc.seaside.jellyfish.api.IJellyFishCommandProvider;
+import com.ngc.seaside.jellyfish.api.IUsage;
+import com.ngc.seaside.jellyfish.utilities.command.AbstractJellyfishAnalysisCommand;
+import com.ngc.seaside.systemdescriptor.model.api.IPackage;
+import com.ngc.seaside.systemdescriptor.model.api.ISystemDescriptor;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
+import com.ngc.seaside.systemdescriptor.model.impl.basic.NamedChildCollection;
+import com.ngc.seaside.systemdescriptor.service.gherkin.api.IGherkinParsingResult;
 import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -137,6 +152,44 @@ public class AnalyzeCommandTest {
       verify(jellyFishCommandProvider).run(report, commandOptions);
    }
 
+   @Test
+   public void testDoesFuseAnalyses() {
+      IModel model = mock(IModel.class);
+      when(model.getName()).thenReturn("FooModel");
+      NamedChildCollection<IPackage, IModel> models = new NamedChildCollection<>();
+      models.add(model);
+      IPackage packagez = mock(IPackage.class);
+      when(packagez.getModels()).thenReturn(models);
+      when(packagez.getData()).thenReturn(new NamedChildCollection<>());
+      when(packagez.getEnumerations()).thenReturn(new NamedChildCollection<>());
+      NamedChildCollection<ISystemDescriptor, IPackage> packages = new NamedChildCollection<>();
+      packages.add(packagez);
+      ISystemDescriptor systemDescriptor = mock(ISystemDescriptor.class);
+      when(systemDescriptor.getPackages()).thenReturn(packages);
+      IGherkinParsingResult gherkinResult = mock(IGherkinParsingResult.class);
+      when(gherkinResult.getFeatures()).thenReturn(Collections.emptyList());
+      when(commandOptions.getSystemDescriptor()).thenReturn(systemDescriptor);
+      when(commandOptions.getGherkinParsingResult()).thenReturn(gherkinResult);
+
+      FusibleCommand fusible1 = new FusibleCommand("fusible1");
+      FusibleCommand fusible2 = new FusibleCommand("fusible2");
+      IJellyFishCommand unfusible = mock(IJellyFishCommand.class);
+      when(jellyFishCommandProvider.getCommand(fusible1.getName())).thenReturn(fusible1);
+      when(jellyFishCommandProvider.getCommand(fusible2.getName())).thenReturn(fusible2);
+      when(jellyFishCommandProvider.getCommand("unfusible")).thenReturn(unfusible);
+      parameters.addParameter(new DefaultParameter<>(AnalyzeCommand.ANALYSES_PARAMETER_NAME,
+                                                     "fusible1,unfusible,fusible2"));
+      parameters.addParameter(new DefaultParameter<>(AnalyzeCommand.FUSE_ANALYSES_PARAMETER_NAME, "true"));
+
+      command.run(commandOptions);
+
+      assertEquals(Collections.singletonList(model), fusible1.models);
+      assertEquals(Collections.singletonList(model), fusible2.models);
+      verify(jellyFishCommandProvider, never()).run(eq(fusible1.getName()), any());
+      verify(jellyFishCommandProvider, never()).run(eq(fusible2.getName()), any());
+      verify(jellyFishCommandProvider).run("unfusible", commandOptions);
+   }
+
    @Test(expected = IllegalArgumentException.class)
    public void testDoesHandleUnknownAnalysisOrReport() {
       String analysis = "analysis";
@@ -145,4 +198,28 @@ public class AnalyzeCommandTest {
       parameters.addParameter(new DefaultParameter<>(AnalyzeCommand.REPORTS_PARAMETER_NAME, report));
       command.run(commandOptions);
    }
+
+   private static class FusibleCommand extends AbstractJellyfishAnalysisCommand {
+
+      private final Collection<IModel> models = new ArrayList<>();
+
+      FusibleCommand(String name) {
+         super(name);
+      }
+
+      @Override
+      protected IUsage createUsage() {
+         return new DefaultUsage("");
+      }
+
+      @Override
+      protected boolean isFusible() {
+         return true;
+      }
+
+      @Override
+      protected void analyzeModel(IModel model) {
+         models.add(model);
+      }
+   }
 }
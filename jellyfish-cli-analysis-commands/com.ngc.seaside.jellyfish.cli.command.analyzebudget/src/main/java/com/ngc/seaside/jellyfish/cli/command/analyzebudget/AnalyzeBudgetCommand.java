@@ -52,6 +52,11 @@ public class AnalyzeBudgetCommand extends AbstractJellyfishAnalysisCommand {
       this.budgetAdapter = ref;
    }
 
+   @Override
+   protected boolean isFusible() {
+      return true;
+   }
+
    @Override
    protected void analyzeModel(IModel topModel) {
       ForkJoinPool commonPool = ForkJoinPool.commonPool();
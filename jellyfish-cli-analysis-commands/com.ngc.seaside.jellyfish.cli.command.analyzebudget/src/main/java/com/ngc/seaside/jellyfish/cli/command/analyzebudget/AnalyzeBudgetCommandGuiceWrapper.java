@@ -29,10 +29,12 @@ import com.ngc.seaside.jellyfish.api.IJellyFishCommandOptions;
 import com.ngc.seaside.jellyfish.api.IUsage;
 import com.ngc.seaside.jellyfish.cli.command.analyzebudget.budget.SdBudgetAdapter;
 import com.ngc.seaside.jellyfish.service.analysis.api.IAnalysisService;
+import com.ngc.seaside.jellyfish.utilities.command.AbstractJellyfishAnalysisCommand;
+import com.ngc.seaside.jellyfish.utilities.command.IAnalysisCommandWrapper;
 import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
 import com.ngc.seaside.systemdescriptor.service.source.api.ISourceLocatorService;
 
-public class AnalyzeBudgetCommandGuiceWrapper implements IJellyFishCommand {
+public class AnalyzeBudgetCommandGuiceWrapper implements IJellyFishCommand, IAnalysisCommandWrapper {
 
    private final AnalyzeBudgetCommand delegate = new AnalyzeBudgetCommand();
 
@@ -65,4 +67,9 @@ public class AnalyzeBudgetCommandGuiceWrapper implements IJellyFishCommand {
       delegate.run(options);
    }
 
+   @Override
+   public AbstractJellyfishAnalysisCommand getAnalysisCommand() {
+      return delegate;
+   }
+
 }
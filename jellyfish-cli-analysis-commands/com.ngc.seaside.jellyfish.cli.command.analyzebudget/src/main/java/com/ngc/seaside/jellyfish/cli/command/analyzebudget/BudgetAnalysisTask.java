@@ -34,23 +34,40 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
 
 import javax.measure.Quantity;
+import javax.measure.Unit;
 
 /**
  * Finds the budgets in a model and its nested parts. For each budget, computes the actual sum of the budget, and
  * returns budget results for each budget.
+ *
+ * <p>
+ * A part model may appear under many parents.  All tasks that are forked from the same top-level task share their
+ * results, so each model is only analyzed once and the sum of each part subtree is only computed once per budget
+ * property and unit.
  */
 public class BudgetAnalysisTask extends RecursiveTask<Set<BudgetResult<? extends Quantity<?>>>> {
 
    private IModel model;
    private SdBudgetAdapter adapter;
+   private final RollUp rollUp;
 
    public BudgetAnalysisTask(IModel model, SdBudgetAdapter adapter) {
+      this(model, adapter, new RollUp());
+   }
+
+   private BudgetAnalysisTask(IModel model, SdBudgetAdapter adapter, RollUp rollUp) {
       this.model = model;
       this.adapter = adapter;
+      this.rollUp = rollUp;
    }
 
    @Override
@@ -58,24 +75,25 @@ public class BudgetAnalysisTask extends RecursiveTask<Set<BudgetResult<? extends
       Set<BudgetResult<? extends Quantity<?>>> results = new LinkedHashSet<>();
 
       Set<Budget<? extends Quantity<?>>> budgets = adapter.getBudgets(model);
-      List<BudgetSumTask<? extends Quantity<?>>> subtasks = new ArrayList<>(budgets.size());
+      List<BudgetResultTask<? extends Quantity<?>>> subtasks = new ArrayList<>(budgets.size());
       for (Budget<? extends Quantity<?>> budget : budgets) {
-         BudgetSumTask<? extends Quantity<?>> subtask = new BudgetSumTask<>(model, budget);
-         subtask.fork();
-         subtasks.add(subtask);
+         subtasks.add(new BudgetResultTask<>(budget));
       }
-      for (BudgetSumTask<? extends Quantity<?>> subtask : subtasks) {
+      for (BudgetResultTask<? extends Quantity<?>> subtask : subtasks) {
          results.add(subtask.getResult());
       }
 
       Collection<IModelReferenceField> parts = model.getParts();
-      List<BudgetAnalysisTask> analysisTasks = new ArrayList<>(parts.size());
+      List<ForkJoinTask<Set<BudgetResult<? extends Quantity<?>>>>> analysisTasks = new ArrayList<>(parts.size());
       for (IModelReferenceField part : parts) {
-         BudgetAnalysisTask subtask = new BudgetAnalysisTask(part.getType(), adapter);
-         subtask.fork();
-         analysisTasks.add(subtask);
+         IModel partModel = part.getType();
+         analysisTasks.add(rollUp.share(rollUp.analyses,
+                                        partModel.getFullyQualifiedName(),
+                                        () -> new BudgetAnalysisTask(partModel, adapter, rollUp)));
       }
-      for (BudgetAnalysisTask subtask : analysisTasks) {
+      for (ForkJoinTask<Set<BudgetResult<? extends Quantity<?>>>> subtask : analysisTasks) {
+         // The results of a shared part are added by each parent.  Since the results are a set, the order of the
+         // results is the same as if the part was analyzed for each parent.
          Set<BudgetResult<? extends Quantity<?>>> subResults = subtask.join();
          results.addAll(subResults);
       }
@@ -83,24 +101,43 @@ public class BudgetAnalysisTask extends RecursiveTask<Set<BudgetResult<? extends
       return results;
    }
 
+   /**
+    * Gets the sum of a single budget of the model.
+    *
+    * @param <T> unit type
+    */
+   private class BudgetResultTask<T extends Quantity<T>> {
+
+      private final Budget<T> budget;
+      private final ForkJoinTask<Quantity<T>> sum;
+
+      private BudgetResultTask(Budget<T> budget) {
+         this.budget = budget;
+         this.sum = rollUp.sum(model, budget, adapter);
+      }
+
+      private BudgetResult<T> getResult() {
+         return new BudgetResult<>(budget, sum.join());
+      }
+   }
+
    /**
     * Recursively calculates the sum for the supplied budget.
     * 
     * @param <T> unit type
     */
-   private class BudgetSumTask<T extends Quantity<T>> extends RecursiveTask<Quantity<T>> {
+   private static class BudgetSumTask<T extends Quantity<T>> extends RecursiveTask<Quantity<T>> {
 
       private IModel model;
       private Budget<T> budget;
+      private SdBudgetAdapter adapter;
+      private RollUp rollUp;
 
-      private BudgetSumTask(IModel model, Budget<T> budget) {
+      private BudgetSumTask(IModel model, Budget<T> budget, SdBudgetAdapter adapter, RollUp rollUp) {
          this.model = model;
          this.budget = budget;
-      }
-
-      private BudgetResult<T> getResult() {
-         Quantity<T> quantity = this.join();
-         return new BudgetResult<>(budget, quantity);
+         this.adapter = adapter;
+         this.rollUp = rollUp;
       }
 
       @Override
@@ -108,14 +145,12 @@ public class BudgetAnalysisTask extends RecursiveTask<Set<BudgetResult<? extends
          Quantity<T> quantity =
                   adapter.getBudgetValue(model, budget).orElseGet(() -> Quantities.getQuantity(0, budget.getUnit()));
          Collection<IModelReferenceField> parts = model.getParts();
-         List<BudgetSumTask<T>> subtasks = new ArrayList<>(parts.size());
+         List<ForkJoinTask<Quantity<T>>> subtasks = new ArrayList<>(parts.size());
          for (IModelReferenceField part : parts) {
-            BudgetSumTask<T> subtask = new BudgetSumTask<>(part.getType(), budget);
-            subtask.fork();
-            subtasks.add(subtask);
+            subtasks.add(rollUp.sum(part.getType(), budget, adapter));
          }
 
-         for (BudgetSumTask<T> subtask : subtasks) {
+         for (ForkJoinTask<Quantity<T>> subtask : subtasks) {
             Quantity<T> subquantity = subtask.join();
             quantity = quantity.add(subquantity);
          }
@@ -123,4 +158,74 @@ public class BudgetAnalysisTask extends RecursiveTask<Set<BudgetResult<? extends
       }
 
    }
+
+   /**
+    * The results shared by all tasks that are forked from the same top-level task.  Each result is computed by the
+    * first task that needs it.  Other tasks join the task that computes the result.
+    */
+   private static class RollUp {
+
+      private final Map<String, ForkJoinTask<?>> analyses = new ConcurrentHashMap<>();
+      private final Map<SumKey, ForkJoinTask<?>> sums = new ConcurrentHashMap<>();
+
+      /**
+       * Gets the task that sums the given budget for a model and its parts.  The sum only depends on the budget's
+       * property and unit so budgets that only differ in their range share the same sum.
+       */
+      <T extends Quantity<T>> ForkJoinTask<Quantity<T>> sum(IModel model, Budget<T> budget, SdBudgetAdapter adapter) {
+         SumKey key = new SumKey(model.getFullyQualifiedName(), budget.getProperty(), budget.getUnit());
+         return share(sums, key, () -> new BudgetSumTask<>(model, budget, adapter, this));
+      }
+
+      /**
+       * Gets the task for the given key.  If there is no task yet, the task is created and forked.
+       */
+      @SuppressWarnings("unchecked")
+      <K, V> ForkJoinTask<V> share(Map<K, ForkJoinTask<?>> tasks,
+                                   K key,
+                                   Supplier<ForkJoinTask<V>> taskFactory) {
+         ForkJoinTask<V> task = taskFactory.get();
+         ForkJoinTask<?> existing = tasks.putIfAbsent(key, task);
+         if (existing != null) {
+            return (ForkJoinTask<V>) existing;
+         }
+         task.fork();
+         return task;
+      }
+   }
+
+   /**
+    * Identifies the sum of a budget for a model and its parts.
+    */
+   private static class SumKey {
+
+      private final String model;
+      private final String property;
+      private final Unit<?> unit;
+
+      private SumKey(String model, String property, Unit<?> unit) {
+         this.model = model;
+         this.property = property;
+         this.unit = unit;
+      }
+
+      @Override
+      public boolean equals(Object o) {
+         if (this == o) {
+            return true;
+         }
+         if (!(o instanceof SumKey)) {
+            return false;
+         }
+         SumKey that = (SumKey) o;
+         return Objects.equals(model, that.model)
+                  && Objects.equals(property, that.property)
+                  && Objects.equals(unit, that.unit);
+      }
+
+      @Override
+      public int hashCode() {
+         return Objects.hash(model, property, unit);
+      }
+   }
 }
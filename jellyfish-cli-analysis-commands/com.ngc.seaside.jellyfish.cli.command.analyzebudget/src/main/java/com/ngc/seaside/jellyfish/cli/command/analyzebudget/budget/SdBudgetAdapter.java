@@ -38,8 +38,10 @@ import tec.uom.se.unit.MetricPrefix;
 
 import java.math.BigInteger;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import javax.inject.Inject;
@@ -54,9 +56,21 @@ public class SdBudgetAdapter {
    public static final String BUDGET_MAXIMUM_FIELD_NAME = "max";
    public static final String BUDGET_GIVEN_BY_FIELD_NAME = "givenBy";
 
+   /**
+    * The maximum number of parsed units that are cached.
+    */
+   private static final int MAXIMUM_CACHED_UNITS = 1024;
+
    private ISystemDescriptorService sdService;
    private final UnitFormat unitFormat;
 
+   /**
+    * Units keyed by their string representation.  Budgets usually use only a few distinct units so this avoids parsing
+    * the same unit string over and over.  Quantities are not cached since a budget identifies the source of an error by
+    * the identity of its quantities.
+    */
+   private final Map<String, Unit<?>> units = new ConcurrentHashMap<>();
+
    /**
     * Constructor.
     */
@@ -200,7 +214,7 @@ public class SdBudgetAdapter {
 
       Unit<?> unit;
       try {
-         unit = unitFormat.parse(parts[1]);
+         unit = parseUnit(parts[1]);
       } catch (Exception e) {
          throw new BudgetValidationException(
                   "Invalid unit for budget property in model " + model.getFullyQualifiedName() + ": " + value, e,
@@ -215,6 +229,14 @@ public class SdBudgetAdapter {
       return Quantities.getQuantity(number, unit);
    }
 
+   private Unit<?> parseUnit(String value) {
+      if (units.size() >= MAXIMUM_CACHED_UNITS) {
+         units.clear();
+      }
+      // Units that fail to parse are not cached so the error is reported for each value.
+      return units.computeIfAbsent(value, unitFormat::parse);
+   }
+
    /**
     * Returns the source of the property.
     * 
@@ -0,0 +1,112 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.cli.command.analyzebudget;
+
+import com.ngc.seaside.jellyfish.cli.command.analyzebudget.budget.Budget;
+import com.ngc.seaside.jellyfish.cli.command.analyzebudget.budget.BudgetResult;
+import com.ngc.seaside.jellyfish.cli.command.analyzebudget.budget.SdBudgetAdapter;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModelReferenceField;
+import com.ngc.seaside.systemdescriptor.model.impl.basic.NamedChildCollection;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import tec.uom.se.quantity.Quantities;
+import tec.uom.se.unit.Units;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import javax.measure.Quantity;
+import javax.measure.quantity.Mass;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BudgetAnalysisTaskTest {
+
+   @Mock
+   private SdBudgetAdapter adapter;
+
+   @Test
+   public void testDoesSumSharedPartsOnce() {
+      IModel top = mockModel("com.Top");
+      IModel left = mockModel("com.Left");
+      IModel right = mockModel("com.Right");
+      IModel shared = mockModel("com.Shared");
+      setParts(top, left, right);
+      setParts(left, shared);
+      setParts(right, shared);
+      setParts(shared);
+
+      Budget<Mass> budget = new Budget<>(Quantities.getQuantity(0, Units.KILOGRAM),
+                                         Quantities.getQuantity(10, Units.KILOGRAM),
+                                         "mass",
+                                         o -> null);
+      Set<Budget<? extends Quantity<?>>> budgets = new LinkedHashSet<>();
+      budgets.add(budget);
+      when(adapter.getBudgets(any())).thenReturn(Collections.emptySet());
+      when(adapter.getBudgets(top)).thenReturn(budgets);
+      when(adapter.<Mass>getBudgetValue(any(), any())).thenReturn(Optional.empty());
+      when(adapter.getBudgetValue(shared, budget)).thenReturn(Optional.of(Quantities.getQuantity(3, Units.KILOGRAM)));
+
+      Set<BudgetResult<? extends Quantity<?>>> results =
+            ForkJoinPool.commonPool().invoke(new BudgetAnalysisTask(top, adapter));
+
+      assertEquals(1, results.size());
+      BudgetResult<? extends Quantity<?>> result = results.iterator().next();
+      assertEquals(budget, result.getBudget());
+      assertEquals(6, result.getActual().getValue().doubleValue(), 0.0001);
+      assertEquals(Units.KILOGRAM, result.getActual().getUnit());
+      verify(adapter, times(1)).getBudgetValue(shared, budget);
+      verify(adapter, times(1)).getBudgets(shared);
+   }
+
+   private static IModel mockModel(String name) {
+      IModel model = mock(IModel.class);
+      when(model.getFullyQualifiedName()).thenReturn(name);
+      return model;
+   }
+
+   private static void setParts(IModel model, IModel... parts) {
+      NamedChildCollection<IModel, IModelReferenceField> fields = new NamedChildCollection<>();
+      for (int i = 0; i < parts.length; i++) {
+         IModelReferenceField field = mock(IModelReferenceField.class);
+         when(field.getName()).thenReturn("part" + i);
+         when(field.getType()).thenReturn(parts[i]);
+         fields.add(field);
+      }
+      when(model.getParts()).thenReturn(fields);
+   }
+}
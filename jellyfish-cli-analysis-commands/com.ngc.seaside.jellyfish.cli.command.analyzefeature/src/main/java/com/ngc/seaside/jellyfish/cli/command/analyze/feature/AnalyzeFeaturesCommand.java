@@ -83,19 +83,23 @@ public class AnalyzeFeaturesCommand extends AbstractJellyfishAnalysisCommand {
    }
 
    @Override
-   protected void analyzeEntireProject() {
-      IGherkinParsingResult gherkinResult = getOptions().getGherkinParsingResult();
-      if (gherkinResult.isSuccessful()) {
-         super.analyzeEntireProject();
-         // Require all feature files to have an SD scenario.
-         for (IFeature feature : gherkinResult.getFeatures()) {
-            if (!feature.getModelScenario().isPresent()) {
-               missingSdScenarioForFeatureFile(feature);
-            }
-         }
+   protected void analyzeFeature(IFeature feature) {
+      // Require all feature files to have an SD scenario.
+      if (getOptions().getGherkinParsingResult().isSuccessful() && !feature.getModelScenario().isPresent()) {
+         missingSdScenarioForFeatureFile(feature);
       }
    }
 
+   @Override
+   protected boolean isFusible() {
+      return true;
+   }
+
+   @Override
+   protected boolean isPackageAnalysisThreadSafe() {
+      return true;
+   }
+
    private void missingFeatureFileForSdScenario(IScenario scenario) {
       String message = "Scenario "
                        + scenario.getName()
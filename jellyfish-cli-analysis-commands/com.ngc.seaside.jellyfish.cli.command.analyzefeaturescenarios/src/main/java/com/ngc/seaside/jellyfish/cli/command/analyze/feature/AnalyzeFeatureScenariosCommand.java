@@ -68,6 +68,16 @@ public class AnalyzeFeatureScenariosCommand extends AbstractJellyfishAnalysisCom
       return new DefaultUsage("Checks that scenarios in a feature file are uniquely named.");
    }
 
+   @Override
+   protected boolean isFusible() {
+      return true;
+   }
+
+   @Override
+   protected boolean isPackageAnalysisThreadSafe() {
+      return true;
+   }
+
    @Override
    protected void analyzeFeature(IFeature feature) {
       Map<String, List<IGherkinScenario>> scenarioNames = new HashMap<>();
@@ -64,6 +64,16 @@ public class AnalyzeInputsOutputsCommand extends AbstractJellyfishAnalysisComman
                               CommonParameters.STEREOTYPES.optional());
    }
 
+   @Override
+   protected boolean isFusible() {
+      return true;
+   }
+
+   @Override
+   protected boolean isPackageAnalysisThreadSafe() {
+      return true;
+   }
+
    @Override
    protected void analyzeModel(IModel model) {
       if (!model.getInputs().isEmpty() && model.getOutputs().isEmpty()) {
@@ -27,13 +27,15 @@ import com.ngc.seaside.jellyfish.api.IJellyFishCommand;
 import com.ngc.seaside.jellyfish.api.IJellyFishCommandOptions;
 import com.ngc.seaside.jellyfish.api.IUsage;
 import com.ngc.seaside.jellyfish.service.analysis.api.IAnalysisService;
+import com.ngc.seaside.jellyfish.utilities.command.AbstractJellyfishAnalysisCommand;
+import com.ngc.seaside.jellyfish.utilities.command.IAnalysisCommandWrapper;
 import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
 import com.ngc.seaside.systemdescriptor.service.source.api.ISourceLocatorService;
 
 /**
  * The wrapper for the inputs and outputs command.
  */
-public class AnalyzeInputsOutputsCommandGuiceWrapper implements IJellyFishCommand {
+public class AnalyzeInputsOutputsCommandGuiceWrapper implements IJellyFishCommand, IAnalysisCommandWrapper {
 
    private final AnalyzeInputsOutputsCommand delegate = new AnalyzeInputsOutputsCommand();
 
@@ -64,4 +66,9 @@ public class AnalyzeInputsOutputsCommandGuiceWrapper implements IJellyFishComman
    public void run(IJellyFishCommandOptions options) {
       delegate.run(options);
    }
+
+   @Override
+   public AbstractJellyfishAnalysisCommand getAnalysisCommand() {
+      return delegate;
+   }
 }
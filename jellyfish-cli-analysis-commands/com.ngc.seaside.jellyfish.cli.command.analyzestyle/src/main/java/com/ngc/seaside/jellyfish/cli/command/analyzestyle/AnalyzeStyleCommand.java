@@ -108,8 +108,18 @@ public class AnalyzeStyleCommand extends AbstractJellyfishAnalysisCommand {
    }
 
    @Override
-   protected void analyzeEntireProject() {
-      super.analyzeEntireProject();
+   protected boolean isFusible() {
+      return true;
+   }
+
+   @Override
+   protected boolean isPackageAnalysisThreadSafe() {
+      // The conventions are only set in preAnalysis.
+      return true;
+   }
+
+   @Override
+   protected void analyzeProject() {
       Path mainRoot = getOptions().getParsingResult().getMainSourcesRoot();
       Path testRoot = getOptions().getParsingResult().getTestSourcesRoot();
       // count == 0 when the project is parsed from a zip, which means
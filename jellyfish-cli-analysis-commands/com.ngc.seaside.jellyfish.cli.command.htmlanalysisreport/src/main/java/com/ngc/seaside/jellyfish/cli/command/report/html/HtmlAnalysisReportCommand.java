@@ -22,12 +22,13 @@
  */
 package com.ngc.seaside.jellyfish.cli.command.report.html;
 
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Deactivate;
@@ -36,8 +37,11 @@ import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 
 import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.LinkedListMultimap;
+import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Multimap;
+import com.google.common.collect.MultimapBuilder;
 import com.ngc.seaside.jellyfish.api.CommonParameters;
 import com.ngc.seaside.jellyfish.api.DefaultParameter;
 import com.ngc.seaside.jellyfish.api.DefaultParameterCollection;
@@ -136,10 +140,11 @@ public class HtmlAnalysisReportCommand implements ICommand<ICommandOptions> {
                                  .getParameter(REPORT_NAME_PARAMETER_NAME)
                                  .getStringValue() + ".html")
             .setTitle("Jellyfish Analysis Report");
+      SourceLineCache lineCache = new SourceLineCache(logService);
       addSummary(findings, dto);
-      addErrors(findings, dto);
-      addWarnings(findings, dto);
-      addInfo(findings, dto);
+      addErrors(findings, dto, lineCache);
+      addWarnings(findings, dto, lineCache);
+      addInfo(findings, dto, lineCache);
       addRuntimeInformation(commandOptions, dto);
 
       outputReport(commandOptions, dto);
@@ -220,58 +225,90 @@ public class HtmlAnalysisReportCommand implements ICommand<ICommandOptions> {
    }
 
    private void addErrors(Multimap<ISystemDescriptorFindingType.Severity, SystemDescriptorFinding<?>> findings,
-                          HtmlReportDto dto) {
-      StringBuilder section = new StringBuilder();
-      section.append("<div class=\"errors\">\n");
-      section.append("<h1 id=\"errors\">Errors</h1>\n");
-      appendFindings(findings.get(ISystemDescriptorFindingType.Severity.ERROR), section);
-      section.append("</div>\n");
-      dto.addContent(section.toString());
+                          HtmlReportDto dto,
+                          SourceLineCache lineCache) {
+      dto.addContent(getSection("errors",
+                                "errors",
+                                "Errors",
+                                findings.get(ISystemDescriptorFindingType.Severity.ERROR),
+                                lineCache));
    }
 
    private void addWarnings(Multimap<ISystemDescriptorFindingType.Severity, SystemDescriptorFinding<?>> findings,
-                            HtmlReportDto dto) {
-      StringBuilder section = new StringBuilder();
-      section.append("<div class=\"warnings\">\n");
-      section.append("<h1 id=\"warnings\">Warnings</h1>\n");
-      appendFindings(findings.get(ISystemDescriptorFindingType.Severity.WARNING), section);
-      section.append("</div>\n");
-      dto.addContent(section.toString());
+                            HtmlReportDto dto,
+                            SourceLineCache lineCache) {
+      dto.addContent(getSection("warnings",
+                                "warnings",
+                                "Warnings",
+                                findings.get(ISystemDescriptorFindingType.Severity.WARNING),
+                                lineCache));
    }
 
    private void addInfo(Multimap<ISystemDescriptorFindingType.Severity, SystemDescriptorFinding<?>> findings,
-            HtmlReportDto dto) {
-      StringBuilder section = new StringBuilder();
-      section.append("<div class=\"info\">\n");
-      section.append("<h1 id=\"info\">Info</h1>\n");
-      appendFindings(findings.get(ISystemDescriptorFindingType.Severity.INFO), section);
-      section.append("</div>\n");
-      dto.addContent(section.toString());
+            HtmlReportDto dto,
+            SourceLineCache lineCache) {
+      dto.addContent(getSection("info",
+                                "info",
+                                "Info",
+                                findings.get(ISystemDescriptorFindingType.Severity.INFO),
+                                lineCache));
    }
 
-   private void appendFindings(Collection<SystemDescriptorFinding<?>> findings,
-                               StringBuilder sb) {
-      // Group into types.
-      Multimap<ISystemDescriptorFindingType, SystemDescriptorFinding<?>> sorted = LinkedListMultimap.create();
+   /**
+    * Gets the contents of a section that contains findings.  The contents are generated while the report is written
+    * so the HTML of all findings is never kept in memory at once.
+    */
+   private Iterable<String> getSection(String cssClass,
+                                       String id,
+                                       String title,
+                                       Collection<SystemDescriptorFinding<?>> findings,
+                                       SourceLineCache lineCache) {
+      return Iterables.concat(
+            Collections.singleton("<div class=\"" + cssClass + "\">\n<h1 id=\"" + id + "\">" + title + "</h1>\n"),
+            getFindingsContents(findings, lineCache),
+            Collections.singleton("</div>\n"));
+   }
+
+   private Iterable<String> getFindingsContents(Collection<SystemDescriptorFinding<?>> findings,
+                                                SourceLineCache lineCache) {
+      // Group into types.  Within each type, group the findings by file.
+      ListMultimap<ISystemDescriptorFindingType, SystemDescriptorFinding<?>> sorted = LinkedListMultimap.create();
       findings.forEach(f -> sorted.put(f.getType(), f));
 
-      for (ISystemDescriptorFindingType type : sorted.keySet()) {
-         sb.append("<div class=\"finding-type\">\n");
-         sb.append(reportingOutputService.convert(type.getDescription()));
-
-         for (SystemDescriptorFinding<?> finding : sorted.get(type)) {
-            sb.append("<div class=\"finding\">\n");
-            if (finding.getLocation().isPresent()) {
-               sb.append(getLocationContent(finding.getLocation().get(), finding.getType().getSeverity()));
-            }
-            sb.append("<div class=\"finding-details\">\n");
-            sb.append(reportingOutputService.convert(finding.getMessage()));
-            sb.append("</div>\n");
-            sb.append("</div>\n");
-         }
+      return Iterables.concat(Iterables.transform(sorted.keySet(), type -> Iterables.concat(
+            Collections.singleton("<div class=\"finding-type\">\n"
+                                  + reportingOutputService.convert(type.getDescription())),
+            Iterables.transform(groupByFile(sorted.get(type)), finding -> getFindingContent(finding, lineCache)),
+            Collections.singleton("</div>\n"))));
+   }
 
-         sb.append("</div>\n");
+   private String getFindingContent(SystemDescriptorFinding<?> finding, SourceLineCache lineCache) {
+      StringBuilder sb = new StringBuilder();
+      sb.append("<div class=\"finding\">\n");
+      if (finding.getLocation().isPresent()) {
+         sb.append(getLocationContent(finding.getLocation().get(), finding.getType().getSeverity(), lineCache));
+      }
+      sb.append("<div class=\"finding-details\">\n");
+      sb.append(reportingOutputService.convert(finding.getMessage()));
+      sb.append("</div>\n");
+      sb.append("</div>\n");
+      return sb.toString();
+   }
+
+   /**
+    * Orders the given findings so findings in the same file are listed together.  Files are listed in the order of
+    * their first finding.  Findings without a location are listed last.
+    */
+   private static Collection<SystemDescriptorFinding<?>> groupByFile(List<SystemDescriptorFinding<?>> findings) {
+      ListMultimap<Path, SystemDescriptorFinding<?>> byFile =
+            MultimapBuilder.linkedHashKeys().arrayListValues().build();
+      for (SystemDescriptorFinding<?> finding : findings) {
+         byFile.put(finding.getLocation().map(ISourceLocation::getPath).orElse(null), finding);
       }
+      List<SystemDescriptorFinding<?>> withoutLocation = byFile.removeAll(null);
+      List<SystemDescriptorFinding<?>> grouped = new ArrayList<>(byFile.values());
+      grouped.addAll(withoutLocation);
+      return grouped;
    }
 
    private void addRuntimeInformation(ICommandOptions commandOptions, HtmlReportDto dto) {
@@ -309,7 +346,9 @@ public class HtmlAnalysisReportCommand implements ICommand<ICommandOptions> {
                              true);
    }
 
-   private String getLocationContent(ISourceLocation location, ISystemDescriptorFindingType.Severity severity) {
+   private String getLocationContent(ISourceLocation location,
+                                     ISystemDescriptorFindingType.Severity severity,
+                                     SourceLineCache lineCache) {
       String icon = "";
       if (severity == ISystemDescriptorFindingType.Severity.ERROR) {
          icon = "<i class=\"error fas fa-times\"></i> ";
@@ -324,38 +363,37 @@ public class HtmlAnalysisReportCommand implements ICommand<ICommandOptions> {
              + "<span class=\"col\">col " + location.getColumn() + "</span>\n"
              + "</div>\n"
              + "<div class=\"source-snippet\">\n"
-             + getLocationContents(location)
+             + getLocationContents(location, lineCache)
              + "</div>\n";
    }
 
-   private String getLocationContents(ISourceLocation location) {
+   private String getLocationContents(ISourceLocation location, SourceLineCache lineCache) {
+      Optional<List<String>> source = lineCache.getLines(location.getPath());
+      if (!source.isPresent()) {
+         return "source not available";
+      }
+
       StringBuilder sb = new StringBuilder();
       sb.append("<div class=\"source-code language-sd\">\n");
-
-      try {
-         List<String> lines = Files.readAllLines(location.getPath());
-         int line = location.getLineNumber() - 1;
-
-         for (int i = Math.max(0, line - PRECEDING_LINES_TO_SHOW);
-                 i < Math.min(line + 1 + SUCCEEDING_LINES_TO_SHOW, lines.size());
-                 i++) {
-            if (i == line) {
-               sb.append("<pre class=\"line offending-line\">")
-                     .append(getOffendingLineContents(lines.get(i), location))
-                     .append("</pre>\n");
-            } else {
-               sb.append("<pre class=\"line\">")
-                     .append(lines.get(i))
-                     .append("</pre>\n");
-            }
+      List<String> lines = source.get();
+      int line = location.getLineNumber() - 1;
+
+      for (int i = Math.max(0, line - PRECEDING_LINES_TO_SHOW);
+              i < Math.min(line + 1 + SUCCEEDING_LINES_TO_SHOW, lines.size());
+              i++) {
+         if (i == line) {
+            sb.append("<pre class=\"line offending-line\">")
+                  .append(getOffendingLineContents(lines.get(i), location))
+                  .append("</pre>\n");
+         } else {
+            sb.append("<pre class=\"line\">")
+                  .append(lines.get(i))
+                  .append("</pre>\n");
          }
-
-         sb.append("</div>\n");
-      } catch (IOException e) {
-         logService.error(getClass(), e, "Unable to read source from %s for finding location.", location.getPath());
-         sb = new StringBuilder("source not available");
       }
 
+      sb.append("</div>\n");
+
       return sb.toString();
    }
 
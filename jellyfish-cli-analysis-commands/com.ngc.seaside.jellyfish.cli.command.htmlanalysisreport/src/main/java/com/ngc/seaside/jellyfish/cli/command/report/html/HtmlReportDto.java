@@ -25,8 +25,11 @@ package com.ngc.seaside.jellyfish.cli.command.report.html;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
+import com.google.common.collect.Iterables;
+
 /**
  * The DTO used to generate the HTML report.
  */
@@ -43,9 +46,9 @@ public class HtmlReportDto {
    private String title;
 
    /**
-    * The HTML contents of the report.
+    * The HTML contents of the report.  Contents may be generated lazily while the report is written.
     */
-   private final List<String> contents = new ArrayList<>();
+   private final List<Iterable<String>> contents = new ArrayList<>();
 
    /**
     * Gets the file name of the report.
@@ -78,17 +81,18 @@ public class HtmlReportDto {
    }
 
    /**
-    * Gets the contents of the report.
+    * Gets the contents of the report.  Contents that were added with {@link #addContent(Iterable)} are generated while
+    * the contents are iterated.
     */
-   public List<String> getContents() {
-      return contents;
+   public Iterable<String> getContents() {
+      return Iterables.concat(contents);
    }
 
    /**
     * Adds some HTML content to the report.
     */
    public HtmlReportDto addContent(String content) {
-      contents.add(content);
+      contents.add(Collections.singletonList(content));
       return this;
    }
 
@@ -96,9 +100,9 @@ public class HtmlReportDto {
     * Adds some HTML content to the report.
     */
    public HtmlReportDto addContent(String content, String... contents) {
-      this.contents.add(content);
+      addContent(content);
       if (contents != null) {
-         this.contents.addAll(Arrays.asList(contents));
+         this.contents.add(Arrays.asList(contents));
       }
       return this;
    }
@@ -107,7 +111,16 @@ public class HtmlReportDto {
     * Adds some HTML content to the report.
     */
    public HtmlReportDto addContent(Collection<String> contents) {
-      this.contents.addAll(contents);
+      this.contents.add(new ArrayList<>(contents));
+      return this;
+   }
+
+   /**
+    * Adds some HTML content to the report that is generated lazily.  The content is not retained once it has been
+    * written, so large reports can be written without keeping the entire report in memory.
+    */
+   public HtmlReportDto addContent(Iterable<String> contents) {
+      this.contents.add(contents);
       return this;
    }
 }
@@ -0,0 +1,70 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.cli.command.report.html;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
+
+/**
+ * Caches the lines of the source files that are shown in a report.  Each file is only read once regardless of the
+ * number of findings in the file.  A cache is only used while a single report is written.
+ */
+class SourceLineCache {
+
+   private final ILogService logService;
+
+   /**
+    * The lines of each file.  Files that could not be read map to an empty optional so they are only read once.
+    */
+   private final Map<Path, Optional<List<String>>> lines = new HashMap<>();
+
+   SourceLineCache(ILogService logService) {
+      this.logService = logService;
+   }
+
+   /**
+    * Gets the lines of the given file.
+    *
+    * @param path the file
+    * @return the lines of the file or an empty optional if the file could not be read
+    */
+   Optional<List<String>> getLines(Path path) {
+      return lines.computeIfAbsent(path, this::readLines);
+   }
+
+   private Optional<List<String>> readLines(Path path) {
+      try {
+         return Optional.of(Files.readAllLines(path));
+      } catch (IOException e) {
+         logService.error(getClass(), e, "Unable to read source from %s for finding location.", path);
+         return Optional.empty();
+      }
+   }
+}
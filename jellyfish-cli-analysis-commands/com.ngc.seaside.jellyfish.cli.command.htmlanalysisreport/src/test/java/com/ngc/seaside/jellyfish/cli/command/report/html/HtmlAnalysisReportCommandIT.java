@@ -28,6 +28,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -126,6 +127,18 @@ public class HtmlAnalysisReportCommandIT {
                  Files.isRegularFile(outputDirectory.resolve("test.html")));
    }
 
+   @Test
+   public void testDoesWriteAllFindingsToReport() throws Throwable {
+      command.run(options);
+      String report = new String(Files.readAllBytes(outputDirectory.resolve("test.html")), StandardCharsets.UTF_8);
+      for (SystemDescriptorFinding<ISystemDescriptorFindingType> finding : analysisService.getFindings()) {
+         assertTrue("report does not contain finding " + finding.getMessage(),
+                    report.contains(finding.getMessage()));
+      }
+      assertTrue("report does not contain the source of the findings!",
+                 report.contains("offending-line"));
+   }
+
    private static final ISystemDescriptorFindingType FOO_TYPE = ISystemDescriptorFindingType.createFindingType(
          "foo",
          "## Foo\n"
@@ -24,13 +24,19 @@ package com.ngc.seaside.jellyfish.cli.command.createjavaserviceproject;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.Before;
@@ -162,6 +168,27 @@ public class CreateJavaServiceProjectCommandTest {
    }
 
 
+   @Test
+   public void testDoesRunGradleProjectLastWhenRunningInParallel() {
+      parameters.addParameter(new DefaultParameter<>(CreateJavaServiceProjectCommand.MODEL_PROPERTY,
+                                                     model.getFullyQualifiedName()));
+      parameters.addParameter(new DefaultParameter<>(CreateJavaServiceProjectCommand.OUTPUT_DIRECTORY_PROPERTY,
+                                                     outputDirectoryName));
+      parameters.addParameter(new DefaultParameter<>(CreateJavaServiceProjectCommand.PARALLEL_PROPERTY, "true"));
+
+      List<String> commands = Collections.synchronizedList(new ArrayList<>());
+      doAnswer(invocation -> commands.add(invocation.getArgument(0)))
+            .when(commandProvider).run(anyString(), any(IJellyFishCommandOptions.class));
+
+      command.run(options);
+
+      assertEquals(11, commands.size());
+      assertEquals(CreateJavaServiceProjectCommand.CREATE_JELLYFISH_GRADLE_PROJECT_COMMAND_NAME,
+                   commands.get(commands.size() - 1));
+      assertTrue(commands.contains(CreateJavaServiceProjectCommand.CREATE_DOMAIN_COMMAND_NAME));
+      assertTrue(commands.contains(CreateJavaServiceProjectCommand.CREATE_JAVA_SERVICE_COMMAND_NAME));
+   }
+
    @Test
    public void testWithoutDomain() {
       String modelName = model.getFullyQualifiedName();
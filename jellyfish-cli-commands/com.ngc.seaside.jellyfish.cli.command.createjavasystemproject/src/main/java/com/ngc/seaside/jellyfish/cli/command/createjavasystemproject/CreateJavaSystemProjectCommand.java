@@ -33,6 +33,7 @@ import com.ngc.seaside.jellyfish.api.IParameter;
 import com.ngc.seaside.jellyfish.api.IUsage;
 import com.ngc.seaside.jellyfish.api.ParameterCategory;
 import com.ngc.seaside.jellyfish.utilities.command.AbstractJellyfishCommand;
+import com.ngc.seaside.jellyfish.utilities.command.SubcommandRunner;
 import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
 
 import java.io.File;
@@ -49,6 +50,7 @@ public class CreateJavaSystemProjectCommand extends AbstractJellyfishCommand {
    static final String MODEL_PROPERTY = CommonParameters.MODEL.getName();
    static final String DEPLOYMENT_MODEL_PROPERTY = CommonParameters.DEPLOYMENT_MODEL.getName();
    static final String OUTPUT_DIRECTORY_PROPERTY = CommonParameters.OUTPUT_DIRECTORY.getName();
+   static final String PARALLEL_PROPERTY = CommonParameters.PARALLEL.getName();
 
    static final String CREATE_JELLYFISH_GRADLE_PROJECT_COMMAND_NAME = "create-jellyfish-gradle-project";
    static final String CREATE_JAVA_CUCUMBER_TESTS_COMMAND_NAME = "create-java-cucumber-tests";
@@ -113,6 +115,7 @@ public class CreateJavaSystemProjectCommand extends AbstractJellyfishCommand {
 
       // This is explicitly optional since the config command will run if it's not provided
       usageParameters.put(DEPLOYMENT_MODEL_PROPERTY, CommonParameters.DEPLOYMENT_MODEL.optional());
+      usageParameters.put(PARALLEL_PROPERTY, CommonParameters.PARALLEL.advanced());
 
       IParameter<?>[] parameters = usageParameters.values().toArray(new IParameter<?>[usageParameters.size()]);
       return new DefaultUsage("Creates a new project for a system model", parameters);
@@ -132,6 +135,9 @@ public class CreateJavaSystemProjectCommand extends AbstractJellyfishCommand {
       // state as the commands are run.  The next command will read this state, so we want to make sure all the other
       // commands are finished.
       createJellyFishGradleProject(ctx);
+
+      // Apart from the Gradle project, the subcommands generate separate projects and may run concurrently.
+      ctx.subcommands.run(ctx.parallel);
    }
 
    private IJellyFishCommandOptions generateDelegateOptions(CommandInvocationContext ctx) {
@@ -158,7 +164,7 @@ public class CreateJavaSystemProjectCommand extends AbstractJellyfishCommand {
 
    private void createJellyFishGradleProject(CommandInvocationContext ctx) {
       IJellyFishCommandOptions delegateOptions = generateDelegateOptions(ctx, true);
-      doRunCommand(CREATE_JELLYFISH_GRADLE_PROJECT_COMMAND_NAME, delegateOptions);
+      ctx.subcommands.addAfterAll(CREATE_JELLYFISH_GRADLE_PROJECT_COMMAND_NAME, delegateOptions);
    }
 
    private void createCucumberTestsProject(CommandInvocationContext ctx) {
@@ -166,36 +172,26 @@ public class CreateJavaSystemProjectCommand extends AbstractJellyfishCommand {
       if (ctx.generatedConfigProjectUsed) {
          command = CREATE_JAVA_CUCUMBER_TESTS_CONFIG_COMMAND_NAME;
          IJellyFishCommandOptions delegateOptions = generateDelegateOptions(ctx);
-         doRunCommand(command, delegateOptions);
+         ctx.subcommands.add(command, delegateOptions);
       }
       command = CREATE_JAVA_CUCUMBER_TESTS_COMMAND_NAME;
       IJellyFishCommandOptions delegateOptions = generateDelegateOptions(ctx);
-      doRunCommand(command, delegateOptions);
+      ctx.subcommands.add(command, delegateOptions);
    }
 
    private void createDistributionProject(CommandInvocationContext ctx) {
       IJellyFishCommandOptions delegateOptions = generateDelegateOptions(ctx);
-      doRunCommand(CREATE_JAVA_DISTRIBUTION_COMMAND_NAME, delegateOptions);
+      ctx.subcommands.add(CREATE_JAVA_DISTRIBUTION_COMMAND_NAME, delegateOptions);
    }
 
    private void createJavaServiceBaseProject(CommandInvocationContext ctx) {
       IJellyFishCommandOptions delegateOptions = generateDelegateOptions(ctx);
-      doRunCommand(CREATE_JAVA_SERVICE_BASE_COMMAND_NAME, delegateOptions);
+      ctx.subcommands.add(CREATE_JAVA_SERVICE_BASE_COMMAND_NAME, delegateOptions);
    }
 
    private void createProtocolBufferMessagesProject(CommandInvocationContext ctx) {
       IJellyFishCommandOptions delegateOptions = generateDelegateOptions(ctx);
-      doRunCommand(CREATE_PROTOCOLBUFFER_MESSAGES_COMMAND_NAME, delegateOptions);
-   }
-
-   private void doRunCommand(String commandName, IJellyFishCommandOptions delegateOptions) {
-      logService.debug(CreateJavaSystemProjectCommand.class,
-                       "--------------------------------------------------");
-      logService.debug(CreateJavaSystemProjectCommand.class,
-                       "Running %s", commandName);
-      logService.debug(CreateJavaSystemProjectCommand.class,
-                       "--------------------------------------------------");
-      jellyFishCommandProvider.run(commandName, delegateOptions);
+      ctx.subcommands.add(CREATE_PROTOCOLBUFFER_MESSAGES_COMMAND_NAME, delegateOptions);
    }
 
    private CommandInvocationContext buildContext() {
@@ -226,6 +222,12 @@ public class CreateJavaSystemProjectCommand extends AbstractJellyfishCommand {
       // Whether or not the configuration should use the generated config command
       ctx.generatedConfigProjectUsed = ctx.deploymentModel.isPresent();
 
+      // Whether or not independent subcommands should be run concurrently.
+      ctx.parallel = CommonParameters.evaluateBooleanParameter(getOptions().getParameters(), PARALLEL_PROPERTY);
+      ctx.subcommands = new SubcommandRunner(jellyFishCommandProvider,
+                                             logService,
+                                             CreateJavaSystemProjectCommand.class);
+
       // Get the directory that will contain the project directory.
       ctx.rootOutputDirectory = Paths.get(
             getOptions().getParameters().getParameter(OUTPUT_DIRECTORY_PROPERTY).getStringValue())
@@ -285,5 +287,8 @@ public class CreateJavaSystemProjectCommand extends AbstractJellyfishCommand {
 
       IModel model;
       Optional<IModel> deploymentModel;
+
+      boolean parallel;
+      SubcommandRunner subcommands;
    }
 }
@@ -27,17 +27,18 @@ import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
 
 import org.apache.commons.lang.StringUtils;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.TreeSet;
+import java.util.List;
 
 public class RequirementItemFormat implements ITableFormat<Requirement> {
 
-   private Collection<IModel> models = new TreeSet<>(Collections.reverseOrder());
+   private final List<IModel> models;
    private final int reqColWidth;
 
    public RequirementItemFormat(Collection<IModel> models, int reqColWidth) {
-      this.models = models;
+      // Copy the models to a list so the model of a column can be found without iterating the collection.
+      this.models = new ArrayList<>(models);
       this.reqColWidth = reqColWidth;
    }
 
@@ -83,7 +84,7 @@ public class RequirementItemFormat implements ITableFormat<Requirement> {
    }
 
    private IModel getModelAt(int index) {
-      return (IModel) models.toArray()[index];
+      return models.get(index);
    }
 
    @Override
@@ -47,6 +47,7 @@ import com.ngc.seaside.jellyfish.api.ParameterCategory;
 import com.ngc.seaside.jellyfish.cli.command.report.requirementsallocation.utilities.MatrixUtils;
 import com.ngc.seaside.jellyfish.cli.command.report.requirementsallocation.utilities.ModelUtils;
 import com.ngc.seaside.jellyfish.service.requirements.api.IRequirementsService;
+import com.ngc.seaside.jellyfish.service.requirements.api.IRequirementsTraceabilityIndex;
 import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
 import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
 
@@ -97,19 +98,24 @@ public class RequirementsAllocationMatrixCommand implements IJellyFishCommand {
       models.addAll(ModelUtils.searchModels(commandOptions, values, operator));
       Collection<Requirement> requirements = searchForRequirements(commandOptions, models);
 
-      String report = "";
-      if (outputFormat.equalsIgnoreCase("csv")) {
-         report = MatrixUtils.generateCsvAllocationMatrix(requirements, models);
-      } else {
-         report = String.valueOf(MatrixUtils.generateDefaultAllocationMatrix(requirements, models));
-      }
+      MatrixUtils.IMatrixWriter report = out -> {
+         if (outputFormat.equalsIgnoreCase("csv")) {
+            MatrixUtils.writeCsvAllocationMatrix(requirements, models, out);
+         } else {
+            MatrixUtils.generateDefaultAllocationMatrix(requirements, models).write(out);
+         }
+      };
 
       boolean success = false;
 
       if (output.equalsIgnoreCase(DEFAULT_OUTPUT_PROPERTY)) {
          logService.info(RequirementsAllocationMatrixCommand.class, "Printing report to console...");
-         MatrixUtils.printAllocationConsole(report);
-         success = true;
+         try {
+            MatrixUtils.printAllocationConsole(report);
+            success = true;
+         } catch (IOException e) {
+            logService.error(RequirementsAllocationMatrixCommand.class, e, "Failed to print report to console");
+         }
       } else {
          Path outputPath = getAbsoluteOutputPath(output, commandOptions);
 
@@ -118,8 +124,8 @@ public class RequirementsAllocationMatrixCommand implements IJellyFishCommand {
             MatrixUtils.printAllocationMatrixToFile(report, outputPath);
             success = true;
          } catch (IOException e) {
-            logService.error(RequirementsAllocationMatrixCommand.class, "Failed to print report to location: %s",
-                             outputPath.toString(), e);
+            logService.error(RequirementsAllocationMatrixCommand.class, e, "Failed to print report to location: %s",
+                             outputPath);
          }
       }
 
@@ -133,7 +139,8 @@ public class RequirementsAllocationMatrixCommand implements IJellyFishCommand {
    }
 
    /**
-    * Searches a collection of models for all requirements satisfied
+    * Searches a collection of models for all requirements satisfied.  The requirements allocated to each model are
+    * looked up in the traceability index of the system descriptor.
     *
     * @param models         the list of models to search for requirements
     * @param commandOptions the command options
@@ -142,33 +149,15 @@ public class RequirementsAllocationMatrixCommand implements IJellyFishCommand {
    private Collection<Requirement> searchForRequirements(IJellyFishCommandOptions commandOptions,
                                                          Collection<IModel> models) {
       final Map<String, Requirement> requirementsMap = new TreeMap<>();
+      IRequirementsTraceabilityIndex index = requirementsService.getTraceabilityIndex(commandOptions);
 
-      models.forEach(m -> searchForRequirements(commandOptions, m, requirementsMap));
-
-      return requirementsMap.values();
-   }
-
-   /**
-    * Populates a map with all requirements that a given model satisfies
-    *
-    * @param commandOptions  the command options
-    * @param model           the model to search for requirements
-    * @param requirementsMap the requirements map to populate
-    */
-   private void searchForRequirements(IJellyFishCommandOptions commandOptions, IModel model,
-                                      Map<String, Requirement> requirementsMap) {
-      Collection<String>
-            requirementsSet =
-            ModelUtils.getAllRequirementsForModel(commandOptions, requirementsService, model);
-
-      requirementsSet.forEach(eachReqName -> {
-         if (!requirementsMap.containsKey(eachReqName)
-               || requirementsMap.get(eachReqName) == null) {
-            requirementsMap.put(eachReqName, new Requirement(eachReqName));
+      for (IModel model : models) {
+         for (String eachReqName : index.getAllocatedRequirements(model)) {
+            requirementsMap.computeIfAbsent(eachReqName, Requirement::new).addModel(model);
          }
+      }
 
-         requirementsMap.get(eachReqName).addModel(model);
-      });
+      return requirementsMap.values();
    }
 
    private Path getAbsoluteOutputPath(String output, IJellyFishCommandOptions commandOptions) {
@@ -28,13 +28,13 @@ import com.ngc.seaside.jellyfish.utilities.console.api.ITableFormat;
 import com.ngc.seaside.jellyfish.utilities.console.impl.stringtable.StringTable;
 import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
+import java.io.PrintStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
 import java.util.StringJoiner;
 
 /**
@@ -45,6 +45,21 @@ public class MatrixUtils {
    private MatrixUtils() {
    }
 
+   /**
+    * Writes a matrix to an output.
+    */
+   @FunctionalInterface
+   public interface IMatrixWriter {
+
+      /**
+       * Writes the matrix to the given output.
+       *
+       * @param out the output to write to
+       * @throws IOException if the output can't be written to
+       */
+      void write(Appendable out) throws IOException;
+   }
+
    /**
     * Generates a requirements allocation matrix given a Collection of requirements and models
     *
@@ -98,32 +113,50 @@ public class MatrixUtils {
     */
    public static String generateCsvAllocationMatrix(Collection<Requirement> requirements,
                                                     Collection<IModel> models) {
-      String commaSeparator = ",";
-
-      StringJoiner sj = new StringJoiner(",");
       StringBuilder sb = new StringBuilder();
+      try {
+         writeCsvAllocationMatrix(requirements, models, sb);
+      } catch (IOException e) {
+         // A StringBuilder never throws IOExceptions.
+         throw new IllegalStateException(e);
+      }
+      return sb.toString();
+   }
+
+   /**
+    * Writes a comma delimited requirements allocation matrix given a Collection of requirements and models.  Each row
+    * is written as soon as it is created.
+    *
+    * @param requirements satisfied requirements
+    * @param models       models satisfying requirements
+    * @param out          the output to write the matrix to
+    * @throws IOException if the output can't be written to
+    */
+   public static void writeCsvAllocationMatrix(Collection<Requirement> requirements,
+                                               Collection<IModel> models,
+                                               Appendable out) throws IOException {
+      String commaSeparator = ",";
 
       // Process header information
       if (!models.isEmpty()) {
-         sb.append("\"Req\"").append(commaSeparator);
+         StringJoiner sj = new StringJoiner(",");
+         out.append("\"Req\"").append(commaSeparator);
          models.forEach(model -> sj.add("\"" + model.getName() + "\""));
-         sb.append(sj.toString()).append("\n");
+         out.append(sj.toString()).append("\n");
 
-         requirements.forEach(req -> sb.append(req.createRequirementAllocationCsvString(models)).append("\n"));
-
-         return sb.toString();
+         for (Requirement req : requirements) {
+            out.append(req.createRequirementAllocationCsvString(models)).append("\n");
+         }
       }
-
-      return "";
    }
 
    /**
     * Prints the verification matrix report to the file provided by the output
     *
-    * @param report     allocation matrix to be printed
+    * @param report     writes the allocation matrix to be printed
     * @param outputPath file path to output
     */
-   public static void printAllocationMatrixToFile(String report, Path outputPath) throws IOException {
+   public static void printAllocationMatrixToFile(IMatrixWriter report, Path outputPath) throws IOException {
       File parent = outputPath.getParent().toAbsolutePath().toFile();
       boolean parentFolderCreationSuccessful = true;
       if (!parent.exists()) {
@@ -131,18 +164,22 @@ public class MatrixUtils {
       }
 
       if (parentFolderCreationSuccessful) {
-         List<String> test = new ArrayList<>();
-         test.add(report);
-         Files.write(outputPath, test);
+         try (BufferedWriter writer = Files.newBufferedWriter(outputPath)) {
+            report.write(writer);
+            writer.newLine();
+         }
       }
    }
 
    /**
     * Prints the allocation matrix report to the console
     *
-    * @param report allocation matrix to be printed
+    * @param report writes the allocation matrix to be printed
     */
-   public static void printAllocationConsole(String report) {
-      System.out.println(report);
+   public static void printAllocationConsole(IMatrixWriter report) throws IOException {
+      PrintStream out = System.out;
+      report.write(out);
+      out.println();
+      out.flush();
    }
 }
@@ -23,7 +23,6 @@
 package com.ngc.seaside.jellyfish.cli.command.report.requirementsallocation.utilities;
 
 import com.ngc.seaside.jellyfish.api.IJellyFishCommandOptions;
-import com.ngc.seaside.jellyfish.service.requirements.api.IRequirementsService;
 import com.ngc.seaside.systemdescriptor.model.api.ISystemDescriptor;
 import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
 import com.ngc.seaside.systemdescriptor.model.api.traversal.ModelPredicates;
@@ -32,9 +31,7 @@ import com.ngc.seaside.systemdescriptor.model.api.traversal.Traversals;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
-import java.util.TreeSet;
 
 /**
  * Utility class for model and system descriptor related operation
@@ -44,29 +41,6 @@ public class ModelUtils {
    private ModelUtils() {
    }
 
-   /**
-    * Returns a colletion of all requirements that a given model satisfies
-    *
-    * @param commandOptions      the command options
-    * @param requirementsService the requirements service
-    * @param model               the model to search for requirements
-    * @return a collection of all requirements satisfied by the model
-    */
-   public static Collection<String> getAllRequirementsForModel(IJellyFishCommandOptions commandOptions,
-                                                               IRequirementsService requirementsService, IModel model) {
-      Collection<String> requirements = new TreeSet<>(Collections.reverseOrder());
-      requirements.addAll(requirementsService.getRequirements(commandOptions, model));
-
-      model.getInputs().forEach(item -> requirements.addAll(requirementsService.getRequirements(commandOptions, item)));
-      model.getOutputs()
-            .forEach(item -> requirements.addAll(requirementsService.getRequirements(commandOptions, item)));
-      model.getParts().forEach(item -> requirements.addAll(requirementsService.getRequirements(commandOptions, item)));
-      model.getScenarios()
-            .forEach(item -> requirements.addAll(requirementsService.getRequirements(commandOptions, item)));
-
-      return requirements;
-   }
-
    /**
     * Returns a collection of models that matches the search criteria
     *
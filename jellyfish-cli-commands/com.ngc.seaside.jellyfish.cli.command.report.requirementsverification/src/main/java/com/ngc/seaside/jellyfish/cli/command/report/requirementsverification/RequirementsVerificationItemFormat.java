@@ -26,16 +26,17 @@ import com.ngc.seaside.jellyfish.utilities.console.api.ITableFormat;
 
 import org.apache.commons.lang.StringUtils;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.TreeSet;
+import java.util.List;
 
 public class RequirementsVerificationItemFormat implements ITableFormat<Requirement> {
    private final int reqColWidth;
-   private Collection<String> features = new TreeSet<>(Collections.reverseOrder());
+   private final List<String> features;
 
    public RequirementsVerificationItemFormat(Collection<String> features, int reqColWidth) {
-      this.features = features;
+      // Copy the features to a list so the feature of a column can be found without iterating the collection.
+      this.features = new ArrayList<>(features);
       this.reqColWidth = reqColWidth;
    }
 
@@ -81,7 +82,7 @@ public class RequirementsVerificationItemFormat implements ITableFormat<Requirem
       if (column == 0) {
          return object.getID();
       } else if (column < getColumnCount()) {
-         String feature = (String) features.toArray()[column - 1];
+         String feature = getFeatureAt(column - 1);
          if (object.getFeatures().contains(feature)) {
             int colWidth = getColumnWidth(column);
             int leftPad = (colWidth + 1) / 2;
@@ -99,6 +100,6 @@ public class RequirementsVerificationItemFormat implements ITableFormat<Requirem
     * @return returns feature at index
     */
    private String getFeatureAt(int index) {
-      return (String) features.toArray()[index];
+      return features.get(index);
    }
 }
@@ -28,10 +28,9 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Map;
-import java.util.Map.Entry;
+import java.util.List;
+import java.util.Set;
 import java.util.TreeSet;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.osgi.service.component.annotations.Activate;
@@ -56,6 +55,7 @@ import com.ngc.seaside.jellyfish.cli.command.report.requirementsverification.uti
 import com.ngc.seaside.jellyfish.service.feature.api.IFeatureInformation;
 import com.ngc.seaside.jellyfish.service.feature.api.IFeatureService;
 import com.ngc.seaside.jellyfish.service.requirements.api.IRequirementsService;
+import com.ngc.seaside.jellyfish.service.requirements.api.IRequirementsTraceabilityIndex;
 import com.ngc.seaside.jellyfish.utilities.console.impl.stringtable.StringTable;
 import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
 import com.ngc.seaside.systemdescriptor.model.api.model.scenario.IScenario;
@@ -177,28 +177,32 @@ public class RequirementsVerificationMatrixCommand implements IJellyFishCommand
       Path outputPath = evaluateOutput(commandOptions);
       String values = evaluateValues(commandOptions);
       String operator = evaluateOperator(commandOptions);
-      Collection<IModel> models = searchModels(commandOptions, values, operator);
+      Set<String> modelNames = searchModels(commandOptions, values, operator)
+            .stream()
+            .map(IModel::getFullyQualifiedName)
+            .collect(Collectors.toSet());
 
-      Map<Path, IFeatureInformation>
-            features = featureService.getAllFeatures(commandOptions)
+      List<IFeatureInformation> features = featureService.getAllFeatures(commandOptions)
             .stream()
-            .filter(feature -> models.contains(feature.getModel().orElse(null)))
-            .collect(Collectors.toMap(IFeatureInformation::getPath, Function.identity()));
+            .filter(feature -> feature.getModel()
+                  .map(model -> modelNames.contains(model.getFullyQualifiedName()))
+                  .orElse(false))
+            .collect(Collectors.toList());
       ArrayList<String> fullyQualifiedFeatureNameList = new ArrayList<String>();
-      for (Entry<Path, IFeatureInformation> featureInfo : features.entrySet()) {
-         fullyQualifiedFeatureNameList.add(featureInfo.getValue().getFullyQualifiedName());
+      for (IFeatureInformation featureInfo : features) {
+         fullyQualifiedFeatureNameList.add(featureInfo.getFullyQualifiedName());
       }
       Collections.sort(fullyQualifiedFeatureNameList, Collections.reverseOrder());
 
-      Collection<Requirement> satisfiedRequirements = verifyRequirements(commandOptions, models, features);
+      Collection<Requirement> satisfiedRequirements = verifyRequirements(commandOptions, features);
 
-      String report;
-      if (outputFormat.equalsIgnoreCase("csv")) {
-         report = generateCsvVerificationMatrix(satisfiedRequirements, fullyQualifiedFeatureNameList);
-      } else {
-         report =
-               String.valueOf(generateDefaultVerificationMatrix(satisfiedRequirements, fullyQualifiedFeatureNameList));
-      }
+      MatrixUtils.IMatrixWriter report = out -> {
+         if (outputFormat.equalsIgnoreCase("csv")) {
+            writeCsvVerificationMatrix(satisfiedRequirements, fullyQualifiedFeatureNameList, out);
+         } else {
+            generateDefaultVerificationMatrix(satisfiedRequirements, fullyQualifiedFeatureNameList).write(out);
+         }
+      };
 
       if (outputPath == null) {
 
@@ -215,21 +219,25 @@ public class RequirementsVerificationMatrixCommand implements IJellyFishCommand
    }
 
    /**
-    * Prints the verification matrix report to the file provided by the output
+    * Prints the verification matrix report to the console
     *
-    * @param report verification matrix to be printed
+    * @param report writes the verification matrix to be printed
     */
-   private void printVerificationConsole(String report) {
-      MatrixUtils.printVerificationConsole(report);
+   private void printVerificationConsole(MatrixUtils.IMatrixWriter report) {
+      try {
+         MatrixUtils.printVerificationConsole(report);
+      } catch (IOException e) {
+         throw new CommandException("Unable to print the verification matrix to the console", e);
+      }
    }
 
    /**
     * Prints the verification matrix report to the file provided by the output
     *
     * @param outputPath file path to output
-    * @param report     verification matrix to be printed
+    * @param report     writes the verification matrix to be printed
     */
-   private void printVerificationMatrixToFile(Path outputPath, String report) {
+   private void printVerificationMatrixToFile(Path outputPath, MatrixUtils.IMatrixWriter report) {
       try {
          MatrixUtils.printVerificationMatrixToFile(outputPath, report);
       } catch (IOException e) {
@@ -251,6 +259,19 @@ public class RequirementsVerificationMatrixCommand implements IJellyFishCommand
       return MatrixUtils.generateCsvVerificationMatrix(requirements, features);
    }
 
+   /**
+    * Writes a comma delimited requirements verification matrix given a Collection of requirements and features
+    *
+    * @param requirements satisfied requirements
+    * @param features     satisfied features
+    * @param out          the output to write the matrix to
+    * @throws IOException if the output can't be written to
+    */
+   protected void writeCsvVerificationMatrix(Collection<Requirement> requirements, Collection<String> features,
+                                             Appendable out) throws IOException {
+      MatrixUtils.writeCsvVerificationMatrix(requirements, features, out);
+   }
+
    /**
     * Generates a requirements verification matrix given a Collection of requirements and features
     *
@@ -264,41 +285,34 @@ public class RequirementsVerificationMatrixCommand implements IJellyFishCommand
    }
 
    /**
-    * Verifies which feature files meets which requirement.
+    * Verifies which feature files meets which requirement.  The requirements of each feature's model and scenario are
+    * looked up in the traceability index of the system descriptor.
     *
-    * @param models   models to search through for requirements
-    * @param features features to look for
+    * @param features features of the models to verify
     * @return returns a Collection of {@link Requirement}s
     */
    private Collection<Requirement> verifyRequirements(IJellyFishCommandOptions commandOptions,
-                                                      Collection<IModel> models,
-                                                      Map<Path, IFeatureInformation> features) {
+                                                      Collection<IFeatureInformation> features) {
       TreeMultimap<String, String>
             requirementsMap =
             TreeMultimap.create(Ordering.natural().reverse(), Ordering.natural());
+      IRequirementsTraceabilityIndex index = requirementsService.getTraceabilityIndex(commandOptions);
 
-      features.forEach((featureFileName, featureInfo) -> {
-         IModel
-               model =
-               models.stream().filter(aModel -> featureInfo.getFullyQualifiedName().startsWith(aModel.getName()))
-                     .findAny().orElse(null);
-
-         if (model != null) {
+      for (IFeatureInformation featureInfo : features) {
+         IModel model = featureInfo.getModel().orElse(null);
+         IScenario scenario = featureInfo.getScenario().orElse(null);
 
-            IScenario scenario = featureInfo.getScenario().orElse(null);
-
-            // A feature file should be considered to verify a requirement:
-            if (scenario != null) {
-
-               for (String scenarioReq : requirementsService.getRequirements(commandOptions, scenario)) {
-                  requirementsMap.put(scenarioReq, featureInfo.getFullyQualifiedName());
-               }
-               for (String modelReq : requirementsService.getRequirements(commandOptions, model)) {
-                  requirementsMap.put(modelReq, featureInfo.getFullyQualifiedName());
-               }
+         // A feature file should be considered to verify a requirement:
+         if (model != null && scenario != null) {
+            String featureName = featureInfo.getFullyQualifiedName();
+            for (String scenarioReq : index.getRequirements(scenario)) {
+               requirementsMap.put(scenarioReq, featureName);
+            }
+            for (String modelReq : index.getRequirements(model)) {
+               requirementsMap.put(modelReq, featureName);
             }
          }
-      });
+      }
       return createVerifiedRequirements(requirementsMap);
    }
 
@@ -27,13 +27,13 @@ import com.ngc.seaside.jellyfish.cli.command.report.requirementsverification.Req
 import com.ngc.seaside.jellyfish.utilities.console.api.ITableFormat;
 import com.ngc.seaside.jellyfish.utilities.console.impl.stringtable.StringTable;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
+import java.io.PrintStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
 import java.util.StringJoiner;
 
 /**
@@ -43,6 +43,21 @@ public class MatrixUtils {
    private MatrixUtils() {
    }
 
+   /**
+    * Writes a matrix to an output.
+    */
+   @FunctionalInterface
+   public interface IMatrixWriter {
+
+      /**
+       * Writes the matrix to the given output.
+       *
+       * @param out the output to write to
+       * @throws IOException if the output can't be written to
+       */
+      void write(Appendable out) throws IOException;
+   }
+
    /**
     * Generates a requirements verification matrix given a Collection of requirements and features
     *
@@ -100,33 +115,50 @@ public class MatrixUtils {
     */
    public static String generateCsvVerificationMatrix(Collection<Requirement> requirements,
                                                       Collection<String> features) {
-      String commaSeparator = ",";
-
-      StringJoiner sj = new StringJoiner(",");
-
       StringBuilder sb = new StringBuilder();
+      try {
+         writeCsvVerificationMatrix(requirements, features, sb);
+      } catch (IOException e) {
+         // A StringBuilder never throws IOExceptions.
+         throw new IllegalStateException(e);
+      }
+      return sb.toString();
+   }
+
+   /**
+    * Writes a comma delimited requirements verification matrix given a Collection of requirements and features.  Each
+    * row is written as soon as it is created.
+    *
+    * @param requirements satisfied requirements
+    * @param features     satisfied features
+    * @param out          the output to write the matrix to
+    * @throws IOException if the output can't be written to
+    */
+   public static void writeCsvVerificationMatrix(Collection<Requirement> requirements,
+                                                 Collection<String> features,
+                                                 Appendable out) throws IOException {
+      String commaSeparator = ",";
 
       // Process header information
       if (!features.isEmpty()) {
-         sb.append("\"Req\"").append(commaSeparator);
+         StringJoiner sj = new StringJoiner(",");
+         out.append("\"Req\"").append(commaSeparator);
          features.forEach(feature -> sj.add("\"" + feature + "\""));
-         sb.append(sj.toString()).append("\n");
+         out.append(sj.toString()).append("\n");
 
-         requirements.forEach(req -> sb.append(req.createFeatureVerificationCsvString(features)).append("\n"));
-
-         return sb.toString();
+         for (Requirement req : requirements) {
+            out.append(req.createFeatureVerificationCsvString(features)).append("\n");
+         }
       }
-
-      return "";
    }
 
    /**
     * Prints the verification matrix report to the file provided by the output
     *
     * @param outputPath file path to output
-    * @param report     verification matrix to be printed
+    * @param report     writes the verification matrix to be printed
     */
-   public static void printVerificationMatrixToFile(Path outputPath, String report) throws IOException {
+   public static void printVerificationMatrixToFile(Path outputPath, IMatrixWriter report) throws IOException {
       File parent = outputPath.getParent().toAbsolutePath().toFile();
       boolean parentFolderCreationSuccessful = true;
       if (!parent.exists()) {
@@ -134,18 +166,23 @@ public class MatrixUtils {
       }
 
       if (parentFolderCreationSuccessful) {
-         List<String> test = new ArrayList<>();
-         test.add(report);
-         Files.write(outputPath, test);
+         try (BufferedWriter writer = Files.newBufferedWriter(outputPath)) {
+            report.write(writer);
+            writer.newLine();
+         }
       }
    }
 
    /**
-    * Prints the verification matrix report to the file provided by the output
+    * Prints the verification matrix report to the console
     *
-    * @param report verification matrix to be printed
+    * @param report writes the verification matrix to be printed
     */
-   public static void printVerificationConsole(String report) {
-      System.out.println("\nOUTPUT:\n" + report);
+   public static void printVerificationConsole(IMatrixWriter report) throws IOException {
+      PrintStream out = System.out;
+      out.print("\nOUTPUT:\n");
+      report.write(out);
+      out.println();
+      out.flush();
    }
 }
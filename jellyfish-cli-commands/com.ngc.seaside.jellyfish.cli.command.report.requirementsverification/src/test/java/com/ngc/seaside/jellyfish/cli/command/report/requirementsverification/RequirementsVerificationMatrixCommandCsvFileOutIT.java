@@ -122,10 +122,10 @@ public class RequirementsVerificationMatrixCommandCsvFileOutIT {
          }
 
          @Override
-         protected String generateCsvVerificationMatrix(Collection<Requirement> requirements,
-                  Collection<String> features) {
+         protected void writeCsvVerificationMatrix(Collection<Requirement> requirements,
+                  Collection<String> features, Appendable out) throws IOException {
             csv = super.generateCsvVerificationMatrix(requirements, features);
-            return csv;
+            super.writeCsvVerificationMatrix(requirements, features, out);
          }
 
          @Override
@@ -42,6 +42,8 @@ public enum CommonParameters {
    MODEL("model", "The fully qualified name of a system descriptor model"),
    OUTPUT_DIRECTORY("outputDirectory", "Base directory in which to output the project"),
    PACKAGE("package", "The project's default package"),
+   PARALLEL("parallel", "If true, commands that generate several projects generate independent projects"
+                        + " concurrently and fused analyses analyze independent packages concurrently"),
    UPDATE_GRADLE_SETTING("updateGradleSettings", "If false, the generated project will not be added to any existing"
                                                  + " settings.gradle file"),
    PHASE("phase",
@@ -23,14 +23,18 @@
 package com.ngc.seaside.jellyfish.impl.provider;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 import org.apache.maven.model.Model;
 import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
@@ -42,6 +46,10 @@ import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import com.ngc.seaside.jellyfish.api.CommandException;
 import com.ngc.seaside.jellyfish.api.CommonParameters;
 import com.ngc.seaside.jellyfish.api.DefaultJellyFishCommandOptions;
@@ -52,6 +60,7 @@ import com.ngc.seaside.jellyfish.api.IJellyFishCommandOptions;
 import com.ngc.seaside.jellyfish.api.IJellyFishCommandProvider;
 import com.ngc.seaside.jellyfish.api.IParameter;
 import com.ngc.seaside.jellyfish.api.IUsage;
+import com.ngc.seaside.jellyfish.service.execution.api.IJellyfishService;
 import com.ngc.seaside.jellyfish.service.parameter.api.IParameterService;
 import com.ngc.seaside.jellyfish.utilities.parsing.ParsingResultLogging;
 import com.ngc.seaside.systemdescriptor.service.api.IParsingResult;
@@ -59,24 +68,49 @@ import com.ngc.seaside.systemdescriptor.service.api.ISystemDescriptorService;
 import com.ngc.seaside.systemdescriptor.service.gherkin.api.IGherkinParsingResult;
 import com.ngc.seaside.systemdescriptor.service.gherkin.api.IGherkinService;
 import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
+import com.ngc.seaside.systemdescriptor.service.repository.api.IRepositoryService;
 
 /**
  * A command provider that runs {@code IJellyfishCommand}s. These commands
  * require a valid SD project in order to be executed. This provider will not
  * execute any command if the SD project is not configured correctly or contains
  * errors.
+ *
+ * <p/>
+ * If {@link IJellyfishService#DAEMON_PROPERTY_NAME daemon mode} is enabled, this provider caches the results of
+ * parsing a project and reuses them for later commands until a file in the project's {@code src} directory or its
+ * published project information changes.
  */
 @Component(service = IJellyFishCommandProvider.class)
 public class JellyfishCommandProvider
         extends AbstractCommandProvider<IJellyFishCommandOptions, IJellyFishCommand, IJellyFishCommandOptions>
         implements IJellyFishCommandProvider {
 
+    /**
+     * The maximum number of parsed projects to cache.
+     */
+    private static final int MAXIMUM_PARSED_PROJECTS = 8;
+
     private final Map<String, IJellyFishCommand> commands = new ConcurrentHashMap<>();
 
     private ISystemDescriptorService systemDescriptorService;
 
     private IGherkinService gherkinService;
 
+    private IRepositoryService repositoryService;
+
+    /**
+     * The projects that have been parsed, keyed by input directory and GAV.  Only used if {@link #cacheParsingResults}
+     * is true.  The least recently used projects are discarded once {@link #MAXIMUM_PARSED_PROJECTS} projects are
+     * cached.  Parsed projects are large, so they are also discarded if memory runs low.
+     */
+    private final Cache<String, ParsedProject> parsedProjects = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_PARSED_PROJECTS)
+            .softValues()
+            .build();
+
+    private boolean cacheParsingResults = Boolean.getBoolean(IJellyfishService.DAEMON_PROPERTY_NAME);
+
     @Override
     public IUsage getUsage() {
         List<IParameter<?>> parameters = new ArrayList<>();
@@ -128,6 +162,20 @@ public class JellyfishCommandProvider
 
     @Deactivate
     public void deactivate() {
+        parsedProjects.invalidateAll();
+    }
+
+    /**
+     * Enables or disables caching of parsed projects.  This is enabled by default if
+     * {@link IJellyfishService#DAEMON_PROPERTY_NAME daemon mode} is enabled.
+     *
+     * @param cacheParsingResults true to reuse the results of parsing a project until the project changes
+     */
+    public void setCacheParsingResults(boolean cacheParsingResults) {
+        this.cacheParsingResults = cacheParsingResults;
+        if (!cacheParsingResults) {
+            parsedProjects.invalidateAll();
+        }
     }
 
     @Reference(cardinality = ReferenceCardinality.MANDATORY, policy = ReferencePolicy.STATIC, unbind = "removeLogService")
@@ -160,6 +208,15 @@ public class JellyfishCommandProvider
         setGherkinService(null);
     }
 
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.STATIC, unbind = "removeRepositoryService")
+    public void setRepositoryService(IRepositoryService ref) {
+        this.repositoryService = ref;
+    }
+
+    public void removeRepositoryService(IRepositoryService ref) {
+        setRepositoryService(null);
+    }
+
     private JellyfishCommandContext parseParameters(String command, List<String> params) {
         JellyfishCommandContext ctx = new JellyfishCommandContext(command, parameterService.parseParameters(params));
 
@@ -232,16 +289,51 @@ public class JellyfishCommandProvider
     }
 
     private IJellyFishCommandOptions buildCommandOptions(JellyfishCommandContext ctx) {
-        IParsingResult parsingResult = parseProject(ctx);
-        IGherkinParsingResult gherkinResult = parseGherkin(parsingResult);
+        ParsedProject project = cacheParsingResults ? getOrParseProject(ctx) : parse(ctx);
 
         DefaultJellyFishCommandOptions options = new DefaultJellyFishCommandOptions();
         options.setParameters(ctx.getParameters());
-        options.setParsingResult(parsingResult);
-        options.setGherkinParsingResult(gherkinResult);
+        options.setParsingResult(project.parsingResult);
+        options.setGherkinParsingResult(project.gherkinResult);
         return options;
     }
 
+    private ParsedProject getOrParseProject(JellyfishCommandContext ctx) {
+        String inputDirectory = ctx.getParameters()
+                .getParameter(CommonParameters.INPUT_DIRECTORY.getName())
+                .getStringValue();
+        String gav = ctx.isGavSpecified()
+                ? ctx.getParameters()
+                        .getParameter(CommonParameters.GROUP_ARTIFACT_VERSION.getName())
+                        .getStringValue()
+                : null;
+        String key = gav == null ? inputDirectory : inputDirectory + "|" + gav;
+        String fingerprint = fingerprint(Paths.get(inputDirectory), gav);
+
+        ParsedProject project = parsedProjects.getIfPresent(key);
+        if (project != null && fingerprint != null && project.fingerprint.equals(fingerprint)) {
+            logService.debug(getClass(), "Reusing the parsed project at %s since it has not changed.", inputDirectory);
+            return project;
+        }
+
+        logService.debug(getClass(), "Project at %s has not been parsed or has changed, parsing.", inputDirectory);
+        project = parse(ctx);
+        // Only cache successful results so a project with errors is always reported with the latest errors.
+        if (fingerprint != null && project.parsingResult.isSuccessful() && project.gherkinResult.isSuccessful()) {
+            project.fingerprint = fingerprint;
+            parsedProjects.put(key, project);
+        } else {
+            parsedProjects.invalidate(key);
+        }
+        return project;
+    }
+
+    private ParsedProject parse(JellyfishCommandContext ctx) {
+        IParsingResult parsingResult = parseProject(ctx);
+        IGherkinParsingResult gherkinResult = parseGherkin(parsingResult);
+        return new ParsedProject(parsingResult, gherkinResult);
+    }
+
     private IParsingResult parseProject(JellyfishCommandContext ctx) {
         IParsingResult result;
         if (ctx.isGavSpecified()) {
@@ -260,6 +352,57 @@ public class JellyfishCommandProvider
         return result;
     }
 
+    /**
+     * Computes a fingerprint of the files that determine the results of parsing the project in the given directory.
+     * The fingerprint includes the path, size, and last modified time of every file in the {@code src} directory and
+     * the published project information in {@code build/publications}.  Other build output is ignored so that
+     * generating files does not invalidate the parsed project.  If the project has a GAV, the project is parsed from
+     * the repository so the archive of the project and the archives of all its dependencies are included as well.  The
+     * archives are resolved again each time, so a new SNAPSHOT or a new version that matches a version range changes
+     * the fingerprint.
+     *
+     * @return the fingerprint or {@code null} if the files could not be read
+     */
+    private String fingerprint(Path inputDirectory, String gav) {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        try {
+            for (Path directory : Arrays.asList(inputDirectory.resolve("src"),
+                    inputDirectory.resolve("build").resolve("publications"))) {
+                if (Files.isDirectory(directory)) {
+                    try (Stream<Path> files = Files.walk(directory)) {
+                        Iterator<Path> i = files.filter(Files::isRegularFile).sorted().iterator();
+                        while (i.hasNext()) {
+                            putFile(hasher, i.next());
+                        }
+                    }
+                }
+            }
+            if (gav != null) {
+                if (repositoryService == null) {
+                    // The dependencies can't be checked, so the project must always be parsed.
+                    return null;
+                }
+                String[] splitGav = gav.split(":");
+                String archiveGav = String.format("%s:%s:zip:%s", splitGav[0], splitGav[1], splitGav[2]);
+                putFile(hasher, repositoryService.getArtifact(archiveGav));
+                for (Path dependency : new TreeSet<>(repositoryService.getArtifactDependencies(archiveGav, true))) {
+                    putFile(hasher, dependency);
+                }
+            }
+        } catch (RuntimeException | IOException e) {
+            logService.debug(getClass(), "Unable to compute the fingerprint of the project at %s: %s",
+                    inputDirectory, e.getMessage());
+            return null;
+        }
+        return hasher.hash().toString();
+    }
+
+    private static void putFile(Hasher hasher, Path file) throws IOException {
+        hasher.putUnencodedChars(file.toString())
+                .putLong(Files.size(file))
+                .putLong(Files.getLastModifiedTime(file).toMillis());
+    }
+
     private IGherkinParsingResult parseGherkin(IParsingResult parsingResult) {
         if (parsingResult.getTestSourcesRoot() != null
                 && Files.isDirectory(parsingResult.getTestSourcesRoot())
@@ -271,4 +414,19 @@ public class JellyfishCommandProvider
             return EmptyParsingResult.SUCCESSFUL_INSTANCE;
         }
     }
+
+    /**
+     * The results of parsing a project.
+     */
+    private static class ParsedProject {
+
+        private final IParsingResult parsingResult;
+        private final IGherkinParsingResult gherkinResult;
+        private String fingerprint;
+
+        ParsedProject(IParsingResult parsingResult, IGherkinParsingResult gherkinResult) {
+            this.parsingResult = parsingResult;
+            this.gherkinResult = gherkinResult;
+        }
+    }
 }
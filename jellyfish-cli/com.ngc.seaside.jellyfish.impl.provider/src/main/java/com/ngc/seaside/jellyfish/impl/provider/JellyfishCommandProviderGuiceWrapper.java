@@ -35,6 +35,7 @@ import com.ngc.seaside.jellyfish.service.parameter.api.IParameterService;
 import com.ngc.seaside.systemdescriptor.service.api.ISystemDescriptorService;
 import com.ngc.seaside.systemdescriptor.service.gherkin.api.IGherkinService;
 import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
+import com.ngc.seaside.systemdescriptor.service.repository.api.IRepositoryService;
 
 /**
  * Wraps the Jellyfish command provider.
@@ -64,11 +65,13 @@ public class JellyfishCommandProviderGuiceWrapper implements IJellyFishCommandPr
          IParameterService parameterService,
          ISystemDescriptorService systemDescriptorService,
          IGherkinService gherkinService,
+         IRepositoryService repositoryService,
          Set<IJellyFishCommand> commands) {
       delegate.setLogService(logService);
       delegate.setParameterService(parameterService);
       delegate.setSystemDescriptorService(systemDescriptorService);
       delegate.setGherkinService(gherkinService);
+      delegate.setRepositoryService(repositoryService);
       // Note we can't call commands.forEach(delegate::addCommand) because they may throw a Guice exception if a
       // command requires the IJellyFishCommandProvider to be injected into it.  If this is the case, Guice creates a
       // proxy for the command but it would let us use the proxy until all injection is completed.
@@ -27,16 +27,21 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collections;
 
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
@@ -58,10 +63,14 @@ import com.ngc.seaside.systemdescriptor.service.api.ISystemDescriptorService;
 import com.ngc.seaside.systemdescriptor.service.gherkin.api.IGherkinParsingResult;
 import com.ngc.seaside.systemdescriptor.service.gherkin.api.IGherkinService;
 import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
+import com.ngc.seaside.systemdescriptor.service.repository.api.IRepositoryService;
 
 @RunWith(MockitoJUnitRunner.class)
 public class JellyfishCommandProviderTest {
 
+   @Rule
+   public TemporaryFolder folder = new TemporaryFolder();
+
    private JellyfishCommandProvider provider;
 
    @Mock
@@ -76,6 +85,9 @@ public class JellyfishCommandProviderTest {
    @Mock
    private IGherkinService gherkinService;
 
+   @Mock
+   private IRepositoryService repositoryService;
+
    @Mock
    private IParsingResult parsingResult;
 
@@ -89,6 +101,7 @@ public class JellyfishCommandProviderTest {
       provider.setParameterService(parameterService);
       provider.setSystemDescriptorService(systemDescriptorService);
       provider.setGherkinService(gherkinService);
+      provider.setRepositoryService(repositoryService);
       provider.activate();
    }
 
@@ -121,6 +134,64 @@ public class JellyfishCommandProviderTest {
       verify(command).run(any(IJellyFishCommandOptions.class));
    }
 
+   @Test
+   public void testDoesReuseParsedProjectUntilProjectChanges() throws IOException {
+      Path projectDirectory = folder.getRoot().toPath();
+      Path sdFile = projectDirectory.resolve("src/main/sd/com/Test.sd");
+      Files.createDirectories(sdFile.getParent());
+      Files.write(sdFile, "package com".getBytes());
+
+      DefaultParameterCollection params = new DefaultParameterCollection();
+      params.addParameter(new DefaultParameter<>(CommonParameters.INPUT_DIRECTORY.getName(),
+                                                 projectDirectory.toString()));
+      IJellyFishCommand command = mockedCommand("foo-command");
+      when(parameterService.parseParameters(anyList())).thenReturn(params);
+      when(systemDescriptorService.parseProject(projectDirectory)).thenReturn(parsingResult);
+      when(parsingResult.isSuccessful()).thenReturn(true);
+
+      provider.setCacheParsingResults(true);
+      provider.addCommand(command);
+      provider.run(new String[]{command.getName()});
+      provider.run(new String[]{command.getName()});
+      verify(systemDescriptorService, times(1)).parseProject(projectDirectory);
+
+      Files.write(sdFile, "package com.changed".getBytes());
+      provider.run(new String[]{command.getName()});
+      verify(systemDescriptorService, times(2)).parseProject(projectDirectory);
+      verify(command, times(3)).run(any(IJellyFishCommandOptions.class));
+   }
+
+   @Test
+   public void testDoesReparseProjectWhenResolvedDependencyChanges() throws IOException {
+      Path projectDirectory = folder.newFolder("project").toPath();
+      Path archive = folder.newFile("test-1.0.0-SNAPSHOT.zip").toPath();
+      Path dependency = folder.newFile("dependency-1.0.0-SNAPSHOT.zip").toPath();
+      String gav = "com.ngc.seaside:test:1.0.0-SNAPSHOT";
+      String archiveGav = "com.ngc.seaside:test:zip:1.0.0-SNAPSHOT";
+
+      DefaultParameterCollection params = new DefaultParameterCollection();
+      params.addParameter(new DefaultParameter<>(CommonParameters.INPUT_DIRECTORY.getName(),
+                                                 projectDirectory.toString()));
+      params.addParameter(new DefaultParameter<>(CommonParameters.GROUP_ARTIFACT_VERSION.getName(), gav));
+      IJellyFishCommand command = mockedCommand("foo-command");
+      when(parameterService.parseParameters(anyList())).thenReturn(params);
+      when(repositoryService.getArtifact(archiveGav)).thenReturn(archive);
+      when(repositoryService.getArtifactDependencies(archiveGav, true)).thenReturn(Collections.singleton(dependency));
+      when(systemDescriptorService.parseProject(gav)).thenReturn(parsingResult);
+      when(parsingResult.isSuccessful()).thenReturn(true);
+
+      provider.setCacheParsingResults(true);
+      provider.addCommand(command);
+      provider.run(new String[]{command.getName()});
+      provider.run(new String[]{command.getName()});
+      verify(systemDescriptorService, times(1)).parseProject(gav);
+
+      // Simulate a new SNAPSHOT of the dependency being resolved.
+      Files.write(dependency, "changed".getBytes());
+      provider.run(new String[]{command.getName()});
+      verify(systemDescriptorService, times(2)).parseProject(gav);
+   }
+
    @Test(expected = CommandException.class)
    public void testDoesRunNotCommandWithInvalidProject() {
       IJellyFishCommand command = mockedCommand("foo-command");
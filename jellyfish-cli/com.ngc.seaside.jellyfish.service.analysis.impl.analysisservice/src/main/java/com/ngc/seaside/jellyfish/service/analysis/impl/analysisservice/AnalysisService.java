@@ -25,24 +25,35 @@ package com.ngc.seaside.jellyfish.service.analysis.impl.analysisservice;
 import com.ngc.seaside.jellyfish.service.analysis.api.IAnalysisService;
 import com.ngc.seaside.jellyfish.service.analysis.api.ISystemDescriptorFindingType;
 import com.ngc.seaside.jellyfish.service.analysis.api.SystemDescriptorFinding;
+import com.ngc.seaside.jellyfish.service.execution.api.IExecutionScopedService;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
-public class AnalysisService implements IAnalysisService {
+/**
+ * The default implementation of {@code IAnalysisService}.  Findings are kept in the order they are added.  This
+ * service is thread safe.  The findings are discarded before each execution of Jellyfish that reuses this service.
+ */
+public class AnalysisService implements IAnalysisService, IExecutionScopedService {
 
    private final List<SystemDescriptorFinding<ISystemDescriptorFindingType>> findings = new ArrayList<>();
    
    @SuppressWarnings("unchecked")
    @Override
-   public void addFinding(SystemDescriptorFinding<? extends ISystemDescriptorFindingType> finding) {
+   public synchronized void addFinding(SystemDescriptorFinding<? extends ISystemDescriptorFindingType> finding) {
       findings.add((SystemDescriptorFinding<ISystemDescriptorFindingType>) finding);
    }
 
    @Override
-   public List<SystemDescriptorFinding<ISystemDescriptorFindingType>> getFindings() {
-      return Collections.unmodifiableList(findings);
+   public synchronized List<SystemDescriptorFinding<ISystemDescriptorFindingType>> getFindings() {
+      // Return a copy so callers can iterate the findings while other threads add findings.
+      return Collections.unmodifiableList(new ArrayList<>(findings));
+   }
+
+   @Override
+   public synchronized void resetExecutionState() {
+      findings.clear();
    }
 
 }
@@ -23,13 +23,19 @@
 package com.ngc.seaside.jellyfish.service.analysis.impl.analysisservice;
 
 import com.google.inject.AbstractModule;
+import com.google.inject.multibindings.Multibinder;
 import com.ngc.seaside.jellyfish.service.analysis.api.IAnalysisService;
+import com.ngc.seaside.jellyfish.service.execution.api.IExecutionScopedService;
 
 public class AnalysisServiceGuiceModule extends AbstractModule {
 
    @Override
    protected void configure() {
-      bind(IAnalysisService.class).to(AnalysisService.class).asEagerSingleton();
+      bind(AnalysisService.class).asEagerSingleton();
+      bind(IAnalysisService.class).to(AnalysisService.class);
+      Multibinder.newSetBinder(binder(), IExecutionScopedService.class)
+            .addBinding()
+            .to(AnalysisService.class);
    }
 
 }
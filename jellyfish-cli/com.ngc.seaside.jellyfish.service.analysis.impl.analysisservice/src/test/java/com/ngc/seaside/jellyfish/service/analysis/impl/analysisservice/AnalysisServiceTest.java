@@ -31,6 +31,7 @@ import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.Arrays;
+import java.util.Collections;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.CALLS_REAL_METHODS;
@@ -60,6 +61,9 @@ public class AnalysisServiceTest {
       service.addFinding(finding4);
 
       assertEquals(service.getFindings(), Arrays.asList(finding1, finding3, finding2, finding4));
+
+      service.resetExecutionState();
+      assertEquals(service.getFindings(), Collections.emptyList());
    }
 
 }
@@ -26,18 +26,20 @@ import java.util.List;
 
 /**
  * A service for reporting and aggregating issues and other information about a System Descriptor project.
+ * Implementations must be thread safe since analyses may report findings from multiple threads.
  */
 public interface IAnalysisService {
 
    /**
-    * Adds a finding to the analysis.
+    * Adds a finding to the analysis.  Findings are returned by {@link #getFindings()} in the order they are added.
     * 
     * @param finding a finding within the System Descriptor project
     */
    void addFinding(SystemDescriptorFinding<? extends ISystemDescriptorFindingType> finding);
 
    /**
-    * Returns the list of findings added to this service.
+    * Returns the list of findings added to this service.  The returned list is not changed by findings added after
+    * this method returns.
     * 
     * @return the list of findings
     */
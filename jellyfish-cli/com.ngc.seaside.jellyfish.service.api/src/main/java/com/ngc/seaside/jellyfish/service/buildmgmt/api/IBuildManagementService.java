@@ -36,6 +36,10 @@ import java.util.Collection;
  * <p/>
  * Commands also use this service to {@link #registerProject(ICommandOptions, IProjectInformation) register
  * projects} that are generated by the command.
+ * <p/>
+ * Implementations must be thread safe.  Commands that generate several projects may run their subcommands
+ * concurrently, so dependencies and projects may be registered from multiple threads at once.  Operations that return
+ * registered dependencies or projects should return a snapshot that is not affected by later registrations.
  */
 public interface IBuildManagementService {
 
@@ -103,7 +107,7 @@ public interface IBuildManagementService {
     * Gets all projects that have been registered via {@link #registerProject(ICommandOptions,
     * IProjectInformation)}.
     *
-    * @return all projects that have been registered
+    * @return a snapshot of all projects that have been registered
     */
    Collection<IProjectInformation> getRegisteredProjects();
 
@@ -0,0 +1,45 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.service.execution.api;
+
+/**
+ * Implemented by services that keep state for a single execution of Jellyfish, such as the findings of an analysis
+ * or the dependencies registered while generating a project.  In daemon mode, an injector and its singletons are
+ * reused between executions.  Before each execution that reuses an injector, the {@link IJellyfishService} resets
+ * every service of this type that is bound in the injector so state does not leak from one execution to the next.
+ * Services register themselves with a {@code Multibinder} of this type:
+ *
+ * <pre>
+ *    Multibinder.newSetBinder(binder(), IExecutionScopedService.class)
+ *          .addBinding()
+ *          .to(MyService.class);
+ * </pre>
+ * The service must be bound as a singleton so the same instance is reset that is used by the rest of the injector.
+ */
+public interface IExecutionScopedService {
+
+   /**
+    * Discards any state that was kept for the previous execution of Jellyfish.
+    */
+   void resetExecutionState();
+}
@@ -25,6 +25,7 @@ package com.ngc.seaside.jellyfish.service.execution.api;
 import com.google.inject.Module;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -32,9 +33,23 @@ import java.util.Map;
  * from within their application.  Clients pass in the {@code Module}s to use to create Jellyfish and execute.  In most
  * cases clients will pass in {@code com.ngc.seaside.jellyfish.DefaultJellyfishModule} directly to extend the default
  * module.
+ *
+ * <p/>
+ * If the system property {@value #DAEMON_PROPERTY_NAME} is {@code true}, Jellyfish runs in daemon mode.  In this mode,
+ * an implementation reuses the injector created for a set of modules between executions and caches parsed projects
+ * until the files of the project change.  This makes repeated executions within the same JVM (such as a Gradle daemon)
+ * much faster.  An injector is only reused for modules that are {@code equal} to the ones used to create it.  Modules
+ * that don't override {@code equals} must be passed as the same instances to reuse an injector.  Modules should only
+ * be made equal to new instances of themselves if their bindings don't depend on any state.  Services that keep state
+ * for a single execution implement {@link IExecutionScopedService} so they are reset before the injector is reused.
  */
 public interface IJellyfishService {
 
+   /**
+    * The name of the system property that enables daemon mode.  Daemon mode is disabled by default.
+    */
+   String DAEMON_PROPERTY_NAME = "jellyfish.daemon";
+
    /**
     * Executes Jellyfish using the given arguments.  The arguments are expected to in the form {@code
     * argumentName=value} or {@code argumentName}.
@@ -66,4 +81,37 @@ public interface IJellyfishService {
     */
    IJellyfishExecution run(String command, Map<String, String> arguments, Collection<Module> modules)
          throws JellyfishExecutionException;
+
+   /**
+    * Executes several Jellyfish commands with the same arguments.  The System Descriptor project is parsed once when
+    * the first command is run.  Every later command is run with the same command options and injector.  This is much
+    * faster than invoking {@code run} once per command.  Each command must be a Jellyfish command that requires a
+    * System Descriptor project.  The arguments are expected to in the form {@code argumentName=value} or
+    * {@code argumentName}.
+    *
+    * @param commands  the Jellyfish commands to run in the order they should be run
+    * @param arguments the arguments to run the commands with
+    * @param modules   the modules to use to run Jellyfish with (consider using a subclass of {@code
+    *                  com.ngc.seaside.jellyfish.DefaultJellyfishModule})
+    * @return the results of executing Jellyfish, which contains the options and injector shared by all the commands
+    * @throws JellyfishExecutionException if the execution of any command failed.  Commands after the failed command
+    *                                     are not run.
+    */
+   IJellyfishExecution runAll(List<String> commands, Collection<String> arguments, Collection<Module> modules)
+         throws JellyfishExecutionException;
+
+   /**
+    * Executes several Jellyfish commands with the same arguments.  The keys of the map are used as the argument names
+    * and the value are used as the values of the argument.  See {@link #runAll(List, Collection, Collection)}.
+    *
+    * @param commands  the Jellyfish commands to run in the order they should be run
+    * @param arguments the arguments to run the commands with
+    * @param modules   the modules to use to run Jellyfish with (consider using a subclass of {@code
+    *                  com.ngc.seaside.jellyfish.DefaultJellyfishModule})
+    * @return the results of executing Jellyfish, which contains the options and injector shared by all the commands
+    * @throws JellyfishExecutionException if the execution of any command failed.  Commands after the failed command
+    *                                     are not run.
+    */
+   IJellyfishExecution runAll(List<String> commands, Map<String, String> arguments, Collection<Module> modules)
+         throws JellyfishExecutionException;
 }
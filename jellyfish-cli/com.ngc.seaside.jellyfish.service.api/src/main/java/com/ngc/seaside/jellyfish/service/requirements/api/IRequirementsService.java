@@ -113,4 +113,17 @@ public interface IRequirementsService {
       return getRequirements(options, scenario.getMetadata());
    }
 
+   /**
+    * Gets an index that traces the requirements of the system descriptor and features of the given options to the
+    * models, scenarios, and features that satisfy them.  Reports should prefer the index to calling
+    * {@code getRequirements} for every element.  The default implementation builds a new index with this service
+    * every time it is called; implementations should cache the index for a parsed system descriptor.
+    *
+    * @param options the options the current command is being executed with
+    * @return the traceability index
+    */
+   default IRequirementsTraceabilityIndex getTraceabilityIndex(IJellyFishCommandOptions options) {
+      return RequirementsTraceabilityIndex.build(options, this);
+   }
+
 }
@@ -0,0 +1,100 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.service.requirements.api;
+
+import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
+import com.ngc.seaside.systemdescriptor.model.api.model.scenario.IScenario;
+import com.ngc.seaside.systemdescriptor.service.gherkin.model.api.IFeature;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.SortedSet;
+
+/**
+ * An index that traces the requirements declared in a system descriptor to the models, scenarios, and features that
+ * satisfy them.  An index is built once for a parsed system descriptor so reports can look up requirements without
+ * searching the descriptor or reading metadata again.  Use
+ * {@link IRequirementsService#getTraceabilityIndex(com.ngc.seaside.jellyfish.api.IJellyFishCommandOptions)} to get an
+ * index.
+ */
+public interface IRequirementsTraceabilityIndex {
+
+   /**
+    * Gets all the requirements in the index.
+    *
+    * @return the requirements sorted in natural order
+    */
+   SortedSet<String> getRequirements();
+
+   /**
+    * Gets the requirements declared in the metadata of the given model.  Requirements of the model's fields and
+    * scenarios are not included.
+    *
+    * @param model the model
+    * @return the requirements declared by the model
+    */
+   Set<String> getRequirements(IModel model);
+
+   /**
+    * Gets the requirements declared in the metadata of the given scenario.
+    *
+    * @param scenario the scenario
+    * @return the requirements declared by the scenario
+    */
+   Set<String> getRequirements(IScenario scenario);
+
+   /**
+    * Gets the requirements allocated to the given model.  These are the requirements declared by the model, its
+    * inputs, its outputs, its parts, and its scenarios.
+    *
+    * @param model the model
+    * @return the requirements allocated to the model
+    */
+   Set<String> getAllocatedRequirements(IModel model);
+
+   /**
+    * Gets the models the given requirement is allocated to.
+    *
+    * @param requirement the requirement
+    * @return the models sorted by fully qualified name
+    * @see #getAllocatedRequirements(IModel)
+    */
+   Collection<IModel> getModels(String requirement);
+
+   /**
+    * Gets the scenarios that declare the given requirement.
+    *
+    * @param requirement the requirement
+    * @return the scenarios that declare the requirement
+    */
+   Collection<IScenario> getScenarios(String requirement);
+
+   /**
+    * Gets the features that verify the given requirement.  A feature verifies a requirement if the requirement is
+    * declared by the feature's scenario or by the model that contains the scenario.
+    *
+    * @param requirement the requirement
+    * @return the features that verify the requirement
+    */
+   Collection<IFeature> getFeatures(String requirement);
+}
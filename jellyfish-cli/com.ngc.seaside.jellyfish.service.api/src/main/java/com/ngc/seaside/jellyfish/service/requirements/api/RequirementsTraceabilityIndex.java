@@ -0,0 +1,191 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.service.requirements.api;
+
+import com.google.common.base.Preconditions;
+import com.ngc.seaside.jellyfish.api.IJellyFishCommandOptions;
+import com.ngc.seaside.systemdescriptor.model.api.IPackage;
+import com.ngc.seaside.systemdescriptor.model.api.ISystemDescriptor;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
+import com.ngc.seaside.systemdescriptor.model.api.model.IReferenceField;
+import com.ngc.seaside.systemdescriptor.model.api.model.scenario.IScenario;
+import com.ngc.seaside.systemdescriptor.service.gherkin.api.IGherkinParsingResult;
+import com.ngc.seaside.systemdescriptor.service.gherkin.model.api.IFeature;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * The default {@link IRequirementsTraceabilityIndex}.  The index is built eagerly by visiting every model of the
+ * system descriptor once.  Models and scenarios are indexed by their fully qualified names since the wrappers of the
+ * system descriptor are not guaranteed to be the same instances between lookups.  Scenarios are also indexed by
+ * identity so scenarios that don't reference their parent model can be found.
+ */
+final class RequirementsTraceabilityIndex implements IRequirementsTraceabilityIndex {
+
+   private final SortedSet<String> requirements = new TreeSet<>();
+   private final Map<String, Set<String>> modelRequirements = new HashMap<>();
+   private final Map<String, Set<String>> allocatedRequirements = new HashMap<>();
+   private final Map<String, Set<String>> scenarioRequirements = new HashMap<>();
+   private final Map<IScenario, Set<String>> scenarioRequirementsByIdentity = new IdentityHashMap<>();
+   private final Map<String, List<IModel>> models = new HashMap<>();
+   private final Map<String, List<IScenario>> scenarios = new HashMap<>();
+   private final Map<String, List<IFeature>> features = new HashMap<>();
+
+   private RequirementsTraceabilityIndex() {
+   }
+
+   /**
+    * Builds an index for the system descriptor and features of the given options.
+    *
+    * @param options the options that contain the parsed system descriptor
+    * @param service the service used to read the requirements of each element
+    * @return the index
+    */
+   static RequirementsTraceabilityIndex build(IJellyFishCommandOptions options, IRequirementsService service) {
+      Preconditions.checkNotNull(options, "options may not be null!");
+      Preconditions.checkNotNull(service, "service may not be null!");
+      RequirementsTraceabilityIndex index = new RequirementsTraceabilityIndex();
+
+      ISystemDescriptor sd = options.getSystemDescriptor();
+      if (sd != null) {
+         List<IModel> sortedModels = new ArrayList<>();
+         for (IPackage pkg : sd.getPackages()) {
+            sortedModels.addAll(pkg.getModels());
+         }
+         sortedModels.sort(Comparator.comparing(IModel::getFullyQualifiedName));
+         for (IModel model : sortedModels) {
+            index.addModel(options, service, model);
+         }
+      }
+
+      IGherkinParsingResult gherkin = options.getGherkinParsingResult();
+      if (gherkin != null) {
+         for (IFeature feature : gherkin.getFeatures()) {
+            feature.getModelScenario().ifPresent(scenario -> index.addFeature(feature, scenario));
+         }
+      }
+
+      return index;
+   }
+
+   @Override
+   public SortedSet<String> getRequirements() {
+      return Collections.unmodifiableSortedSet(requirements);
+   }
+
+   @Override
+   public Set<String> getRequirements(IModel model) {
+      Preconditions.checkNotNull(model, "model may not be null!");
+      return modelRequirements.getOrDefault(model.getFullyQualifiedName(), Collections.emptySet());
+   }
+
+   @Override
+   public Set<String> getRequirements(IScenario scenario) {
+      Preconditions.checkNotNull(scenario, "scenario may not be null!");
+      Set<String> reqs = scenarioRequirementsByIdentity.get(scenario);
+      if (reqs == null && scenario.getParent() != null) {
+         reqs = scenarioRequirements.get(getKey(scenario.getParent(), scenario));
+      }
+      return reqs == null ? Collections.emptySet() : reqs;
+   }
+
+   @Override
+   public Set<String> getAllocatedRequirements(IModel model) {
+      Preconditions.checkNotNull(model, "model may not be null!");
+      return allocatedRequirements.getOrDefault(model.getFullyQualifiedName(), Collections.emptySet());
+   }
+
+   @Override
+   public Collection<IModel> getModels(String requirement) {
+      return Collections.unmodifiableList(models.getOrDefault(requirement, Collections.emptyList()));
+   }
+
+   @Override
+   public Collection<IScenario> getScenarios(String requirement) {
+      return Collections.unmodifiableList(scenarios.getOrDefault(requirement, Collections.emptyList()));
+   }
+
+   @Override
+   public Collection<IFeature> getFeatures(String requirement) {
+      return Collections.unmodifiableList(features.getOrDefault(requirement, Collections.emptyList()));
+   }
+
+   private void addModel(IJellyFishCommandOptions options, IRequirementsService service, IModel model) {
+      Set<String> declared = Collections.unmodifiableSet(new TreeSet<>(service.getRequirements(options, model)));
+      Set<String> allocated = new TreeSet<>(declared);
+      addFieldRequirements(options, service, model.getInputs(), allocated);
+      addFieldRequirements(options, service, model.getOutputs(), allocated);
+      addFieldRequirements(options, service, model.getParts(), allocated);
+      for (IScenario scenario : model.getScenarios()) {
+         Set<String> scenarioReqs = Collections.unmodifiableSet(
+               new TreeSet<>(service.getRequirements(options, scenario)));
+         if (!scenarioReqs.isEmpty()) {
+            scenarioRequirements.put(getKey(model, scenario), scenarioReqs);
+            scenarioRequirementsByIdentity.put(scenario, scenarioReqs);
+            scenarioReqs.forEach(req -> scenarios.computeIfAbsent(req, __ -> new ArrayList<>()).add(scenario));
+            allocated.addAll(scenarioReqs);
+         }
+      }
+
+      String name = model.getFullyQualifiedName();
+      if (!declared.isEmpty()) {
+         modelRequirements.put(name, declared);
+      }
+      if (!allocated.isEmpty()) {
+         allocatedRequirements.put(name, Collections.unmodifiableSet(allocated));
+         allocated.forEach(req -> models.computeIfAbsent(req, __ -> new ArrayList<>()).add(model));
+         requirements.addAll(allocated);
+      }
+   }
+
+   private void addFeature(IFeature feature, IScenario scenario) {
+      Set<String> verified = new TreeSet<>(getRequirements(scenario));
+      if (scenario.getParent() != null) {
+         verified.addAll(getRequirements(scenario.getParent()));
+      }
+      verified.forEach(req -> features.computeIfAbsent(req, __ -> new ArrayList<>()).add(feature));
+   }
+
+   private static void addFieldRequirements(IJellyFishCommandOptions options,
+                                            IRequirementsService service,
+                                            Collection<? extends IReferenceField> fields,
+                                            Set<String> requirements) {
+      for (IReferenceField field : fields) {
+         requirements.addAll(service.getRequirements(options, field));
+      }
+   }
+
+   private static String getKey(IModel model, IScenario scenario) {
+      return model.getFullyQualifiedName() + "." + scenario.getName();
+   }
+}
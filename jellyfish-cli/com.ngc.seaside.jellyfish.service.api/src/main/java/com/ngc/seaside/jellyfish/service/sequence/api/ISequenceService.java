@@ -28,6 +28,7 @@ import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * The sequence service generates {@link ISequence sequences} for different models.  This is useful to explore the
@@ -59,6 +60,15 @@ public interface ISequenceService {
        */
       ALL_COMBINATIONS,
 
+      /**
+       * Generates the same sequences as {@link #ALL_COMBINATIONS} but skips combinations of inputs that can't produce
+       * a sequence.  A combination can't produce a sequence if it contains an input that no flow of the model can
+       * consume with the other inputs of the combination.  Inputs which are not consumed by any flow are ignored
+       * entirely, so only the inputs that are actually consumed by the model's scenarios count towards the limit of
+       * 30 inputs.
+       */
+      PRUNED_COMBINATIONS,
+
       /**
        * Indicates that only the provided inputs should be used when creating sequences.  For example, if the inputs
        * {a, b} are provided, only the input set {a, b} will be used to generate sequences.
@@ -81,9 +91,32 @@ public interface ISequenceService {
                                 GenerationStrategy generationStrategy,
                                 Collection<IDataReferenceField> inputFields);
 
+   /**
+    * Generates sequences for the given model.  The sequences are generated lazily as the stream is consumed.  This is
+    * useful for models with many inputs since the caller can process each sequence without waiting for all sequences
+    * to be generated.  The sequences are the same as the ones returned by
+    * {@link #getSequences(IJellyFishCommandOptions, IModel, GenerationStrategy, Collection)}.  The default
+    * implementation simply streams the result of {@code getSequences}.
+    *
+    * @param options            the options Jellyfish was invoked with
+    * @param model              the model to generate the sequences for
+    * @param generationStrategy the strategy to use to generate the inputs to the sequence
+    * @param inputFields        the inputs fields to use when generating the sets of inputs to the sequence (these must
+    *                           be input fields declared in the model)
+    * @return a stream of the generated sequences
+    */
+   default Stream<ISequence> streamSequences(IJellyFishCommandOptions options,
+                                             IModel model,
+                                             GenerationStrategy generationStrategy,
+                                             Collection<IDataReferenceField> inputFields) {
+      return getSequences(options, model, generationStrategy, inputFields).stream();
+   }
+
    /**
     * Generates sequences for the given model using the model's declared input fields as the inputs.  The {@link
-    * GenerationStrategy#ALL_COMBINATIONS} strategy will be used when generating inputs.
+    * GenerationStrategy#ALL_COMBINATIONS} strategy will be used when generating inputs.  Callers that want to skip
+    * combinations of inputs that can't produce a sequence should use the {@link GenerationStrategy#PRUNED_COMBINATIONS}
+    * strategy explicitly.
     *
     * @param options the options Jellyfish was invoked with
     * @param model   the model to generate the sequences for
@@ -24,6 +24,7 @@ package com.ngc.seaside.jellyfish.service.buildmgmt.impl.buildmgmtservice;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -44,19 +45,25 @@ import com.ngc.seaside.jellyfish.service.buildmgmt.api.DependencyScope;
 import com.ngc.seaside.jellyfish.service.buildmgmt.api.IBuildDependency;
 import com.ngc.seaside.jellyfish.service.buildmgmt.api.IBuildManagementService;
 import com.ngc.seaside.jellyfish.service.buildmgmt.impl.buildmgmtservice.config.DependenciesConfiguration;
+import com.ngc.seaside.jellyfish.service.execution.api.IExecutionScopedService;
 import com.ngc.seaside.jellyfish.service.name.api.IProjectInformation;
 import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
 
 /**
- * A stateful implementation of the {@code IBuildManagementService}.  Unlike most services, a new instance of this
- * service should be used for each generation of project in Jellyfish.  Since Jellyfish only generates a single project
- * per execution, this works fine.
+ * A stateful implementation of the {@code IBuildManagementService}.  Unlike most services, the state of this service
+ * belongs to a single generation of project in Jellyfish.  Since Jellyfish only generates a single project per
+ * execution, this works fine.  When an instance is reused for another execution (such as in daemon mode),
+ * {@link #resetExecutionState()} must be invoked first to discard the dependencies and projects that were registered
+ * by the previous execution.
  * <p/>
  * Dependencies and versions are configured by {@link DefaultDependenciesConfiguration}.  That configuration can
  * reference any property declared in {@link #BUILD_PROPERTIES_FILE} as this file will be loaded from the classpath on
  * activation.  This file typically has properties that are set during the build of Jellyfish.
+ * <p/>
+ * This service is thread safe so commands may register dependencies and projects concurrently.  The registered
+ * dependencies and projects are returned as snapshots.
  */
-public class BuildManagementService implements IBuildManagementService {
+public class BuildManagementService implements IBuildManagementService, IExecutionScopedService {
 
    /**
     * The properties file that should be loaded from the classpath.  This file contains properties that may be
@@ -89,9 +96,12 @@ public class BuildManagementService implements IBuildManagementService {
                                                                  DependencyScope scope) {
       Preconditions.checkNotNull(options, "options may not be null!");
       Preconditions.checkNotNull(scope, "scope may not be null!");
-      return registeredArtifacts.stream()
-            .filter(d -> d.getScope() == scope)
-            .collect(Collectors.toList());
+      // Streams of synchronized collections are not synchronized.
+      synchronized (registeredArtifacts) {
+         return registeredArtifacts.stream()
+               .filter(d -> d.getScope() == scope)
+               .collect(Collectors.toList());
+      }
    }
 
    @Override
@@ -148,7 +158,8 @@ public class BuildManagementService implements IBuildManagementService {
 
    @Override
    public Collection<IProjectInformation> getRegisteredProjects() {
-      return registeredProjects;
+      // Copying a synchronized collection is synchronized so this is safe while other commands register projects.
+      return new ArrayList<>(registeredProjects);
    }
 
    @Override
@@ -158,6 +169,12 @@ public class BuildManagementService implements IBuildManagementService {
       logService.info(getClass(), "Project %s.%s generated.", project.getGroupId(), project.getArtifactId());
    }
 
+   @Override
+   public void resetExecutionState() {
+      registeredArtifacts.clear();
+      registeredProjects.clear();
+   }
+
    @Activate
    public void activate() {
       try (InputStream is = getClass().getClassLoader().getResourceAsStream(BUILD_PROPERTIES_FILE)) {
@@ -30,10 +30,11 @@ import com.ngc.seaside.jellyfish.service.buildmgmt.api.DependencyScope;
 import com.ngc.seaside.jellyfish.service.buildmgmt.api.IBuildDependency;
 import com.ngc.seaside.jellyfish.service.buildmgmt.api.IBuildManagementService;
 import com.ngc.seaside.jellyfish.service.buildmgmt.impl.buildmgmtservice.config.DependenciesConfiguration;
+import com.ngc.seaside.jellyfish.service.execution.api.IExecutionScopedService;
 import com.ngc.seaside.jellyfish.service.name.api.IProjectInformation;
 import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
 
-public class BuildManagementServiceGuiceWrapper implements IBuildManagementService {
+public class BuildManagementServiceGuiceWrapper implements IBuildManagementService, IExecutionScopedService {
 
    private final BuildManagementService buildManagementService;
 
@@ -84,4 +85,9 @@ public class BuildManagementServiceGuiceWrapper implements IBuildManagementServi
    public void registerProject(ICommandOptions options, IProjectInformation project) {
       buildManagementService.registerProject(options, project);
    }
+
+   @Override
+   public void resetExecutionState() {
+      buildManagementService.resetExecutionState();
+   }
 }
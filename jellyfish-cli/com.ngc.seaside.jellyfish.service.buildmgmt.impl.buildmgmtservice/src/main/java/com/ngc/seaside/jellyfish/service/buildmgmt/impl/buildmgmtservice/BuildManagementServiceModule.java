@@ -24,15 +24,22 @@ package com.ngc.seaside.jellyfish.service.buildmgmt.impl.buildmgmtservice;
 
 import com.google.inject.AbstractModule;
 import com.google.inject.Singleton;
+import com.google.inject.multibindings.Multibinder;
 
 import com.ngc.seaside.jellyfish.service.buildmgmt.api.IBuildManagementService;
 import com.ngc.seaside.jellyfish.service.buildmgmt.impl.buildmgmtservice.config.DependenciesConfiguration;
+import com.ngc.seaside.jellyfish.service.execution.api.IExecutionScopedService;
 
 public class BuildManagementServiceModule extends AbstractModule {
 
    @Override
    protected void configure() {
-      bind(IBuildManagementService.class).to(BuildManagementServiceGuiceWrapper.class).in(Singleton.class);
+      bind(BuildManagementServiceGuiceWrapper.class).in(Singleton.class);
+      bind(IBuildManagementService.class).to(BuildManagementServiceGuiceWrapper.class);
+      // The registered dependencies and projects must be reset if the injector is reused for another execution.
+      Multibinder.newSetBinder(binder(), IExecutionScopedService.class)
+            .addBinding()
+            .to(BuildManagementServiceGuiceWrapper.class);
       // Register the config with Guice.  It is possible to override this configuration my registering a different
       // instance of DependenciesConfiguration.
       bind(DependenciesConfiguration.class).toInstance(DefaultDependenciesConfiguration.getConfig());
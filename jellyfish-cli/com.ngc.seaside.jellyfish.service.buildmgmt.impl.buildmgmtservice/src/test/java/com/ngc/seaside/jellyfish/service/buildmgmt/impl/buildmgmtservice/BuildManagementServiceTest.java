@@ -152,6 +152,19 @@ public class BuildManagementServiceTest {
                    projects.iterator().next());
    }
 
+   @Test
+   public void testDoesResetRegisteredDependenciesAndProjects() {
+      when(project.getDirectoryName()).thenReturn("generated-projects/artifactId");
+      service.registerDependency(options, "com.ngc.blocs", "api");
+      service.registerProject(options, project);
+
+      service.resetExecutionState();
+      assertTrue("did not reset registered dependencies!",
+                 service.getRegisteredDependencies(options, DependencyScope.BUILD).isEmpty());
+      assertTrue("did not reset registered projects!",
+                 service.getRegisteredProjects().isEmpty());
+   }
+
    @Test(expected = IllegalArgumentException.class)
    public void testDoesThrowExceptionIfDependencyNotFound() {
       service.getDependency(options, "com.ngc.blocs", "foo");
@@ -0,0 +1,199 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.service.impl.templateservice;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.output.NullOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ngc.seaside.jellyfish.api.DefaultParameter;
+import com.ngc.seaside.jellyfish.api.DefaultParameterCollection;
+import com.ngc.seaside.jellyfish.service.impl.propertyservice.PropertyService;
+import com.ngc.seaside.jellyfish.service.property.api.IProperties;
+import com.ngc.seaside.jellyfish.service.template.api.ITemplateOutput;
+import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
+import com.ngc.seaside.systemdescriptor.service.log.api.PrintStreamLogService;
+
+/**
+ * Compares unpacking a template that has been read into memory with unzipping the template to a temporary directory
+ * and rendering it with a new Velocity engine each time, which is how templates were unpacked before they were
+ * cached.  Run with {@code gradle jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TemplateServiceBenchmark {
+
+   private static final String TEMPLATE_NAME = "com.ngc.seaside.jellyfish.benchmark";
+
+   /**
+    * The number of files in the template.
+    */
+   @Param({"10", "100"})
+   private int files;
+
+   private Path directory;
+   private Path outputDirectory;
+   private ILogService logService;
+   private PropertyService propertyService;
+   private TemplateService templateService;
+   private DefaultParameterCollection parameters;
+   private final List<Path> unzippedDirectories = new ArrayList<>();
+
+   @Setup
+   public void setup() throws IOException {
+      directory = Files.createTempDirectory("template-benchmark");
+      outputDirectory = directory.resolve("output");
+      Path templates = Files.createDirectories(directory.resolve("resources").resolve("templates"));
+      writeTemplate(templates.resolve(TEMPLATE_NAME + "-1.0-template.zip"));
+
+      logService = new PrintStreamLogService(new PrintStream(NullOutputStream.NULL_OUTPUT_STREAM));
+      propertyService = new PropertyService();
+      propertyService.setLogService(logService);
+      templateService = new TemplateService() {
+         @Override
+         protected Path getResourceRootPath() {
+            return directory.resolve("resources");
+         }
+      };
+      templateService.setLogService(logService);
+      templateService.setPropertyService(propertyService);
+      templateService.activate();
+
+      parameters = new DefaultParameterCollection();
+      parameters.addParameter(new DefaultParameter<>("groupId", "com.ngc.seaside"));
+      parameters.addParameter(new DefaultParameter<>("artifactId", "benchmark"));
+   }
+
+   @TearDown(Level.Iteration)
+   public void deleteUnzippedTemplates() throws IOException {
+      for (Path unzipped : unzippedDirectories) {
+         FileUtils.deleteDirectory(unzipped.toFile());
+      }
+      unzippedDirectories.clear();
+   }
+
+   @TearDown
+   public void teardown() throws IOException {
+      templateService.deactivate();
+      FileUtils.deleteDirectory(directory.toFile());
+   }
+
+   @Benchmark
+   public ITemplateOutput unpackFromMemory() {
+      return templateService.unpack(TEMPLATE_NAME, parameters, outputDirectory, true);
+   }
+
+   @Benchmark
+   public Path unzipEachTime() throws IOException {
+      Path unzipped = Files.createTempDirectory(null);
+      unzippedDirectories.add(unzipped);
+      try (ZipInputStream zis = new ZipInputStream(templateService.getTemplateInputStream(TEMPLATE_NAME))) {
+         ZipEntry entry = zis.getNextEntry();
+         while (entry != null) {
+            File entryDestination = new File(unzipped.toString(), entry.getName());
+            if (entry.isDirectory()) {
+               entryDestination.mkdirs();
+            } else {
+               entryDestination.getParentFile().mkdirs();
+               try (OutputStream out = new FileOutputStream(entryDestination)) {
+                  IOUtils.copy(zis, out);
+               }
+               zis.closeEntry();
+            }
+            entry = zis.getNextEntry();
+         }
+      }
+
+      TemplateIgnoreComponent templateIgnoreComponent = new TemplateIgnoreComponent(unzipped,
+                                                                                    "templateContent",
+                                                                                    logService).parse();
+      IProperties properties = propertyService.load(unzipped.resolve("template.properties"));
+      Map<String, Object> parametersAndValues = new HashMap<>();
+      parameters.getAllParameters().forEach(p -> parametersAndValues.put(p.getName(), p.getValue()));
+      for (String key : properties.getKeys()) {
+         parametersAndValues.putIfAbsent(key, properties.get(key));
+      }
+
+      // Use a visitor with its own Velocity engine like each unpack used to.
+      TemplateVisitor visitor = new TemplateVisitor(parametersAndValues,
+                                                    unzipped.resolve("templateContent"),
+                                                    outputDirectory,
+                                                    true,
+                                                    templateIgnoreComponent);
+      Files.walkFileTree(unzipped.resolve("templateContent"), visitor);
+      return visitor.getTopLevelFolder();
+   }
+
+   private void writeTemplate(Path zip) throws IOException {
+      try (ZipOutputStream zos = new ZipOutputStream(Files.newOutputStream(zip))) {
+         zos.putNextEntry(new ZipEntry("template.properties"));
+         zos.write("groupId=com.ngc\nartifactId=example\n".getBytes(StandardCharsets.UTF_8));
+         zos.closeEntry();
+
+         for (int i = 0; i < files; i++) {
+            String name = String.format("templateContent/${groupId}.${artifactId}/src/File%d.txt", i);
+            zos.putNextEntry(new ZipEntry(name));
+            String content = String.format("package ${groupId}.${artifactId};%n%n"
+                                                 + "#foreach($i in [1..10])%n"
+                                                 + "// File %d line $i of ${artifactId}%n"
+                                                 + "#end%n", i);
+            zos.write(content.getBytes(StandardCharsets.UTF_8));
+            zos.closeEntry();
+         }
+      }
+   }
+}
@@ -0,0 +1,248 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.service.impl.templateservice;
+
+import com.google.common.base.Preconditions;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.velocity.Template;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.FileVisitor;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * The contents of a template ZIP file that has been read into memory.  The entries of the ZIP are addressed by paths
+ * relative to a root path.  The root is only used to name the entries, nothing is ever read from or written to it.
+ * This allows a template to be rendered any number of times without extracting it to a temporary directory.
+ *
+ * <p/>
+ * The Velocity templates of an archive are parsed the first time they are requested and then reused.  An archive
+ * may be shared between threads once it has been read.
+ */
+public class TemplateArchive {
+
+   private final Path root;
+   private final Map<Path, byte[]> files = new HashMap<>();
+   private final Map<Path, Collection<Path>> directories = new HashMap<>();
+   private final Map<Path, Template> templates = new ConcurrentHashMap<>();
+   private final Map<Path, Path> extractedFiles = new ConcurrentHashMap<>();
+
+   private TemplateArchive(Path root) {
+      this.root = root.toAbsolutePath().normalize();
+      directories.put(this.root, new LinkedHashSet<>());
+   }
+
+   /**
+    * Reads the given ZIP stream into memory.  The stream is closed when this method returns.
+    *
+    * @param stream the stream of the ZIP file
+    * @param root   the path that is used as the root of the entries in the archive
+    * @return the archive
+    * @throws IOException if the stream can't be read or if the ZIP contains an entry outside of the root
+    */
+   public static TemplateArchive read(InputStream stream, Path root) throws IOException {
+      Preconditions.checkNotNull(stream, "stream may not be null!");
+      Preconditions.checkNotNull(root, "root may not be null!");
+      TemplateArchive archive = new TemplateArchive(root);
+      try (ZipInputStream zis = new ZipInputStream(stream)) {
+         ZipEntry entry = zis.getNextEntry();
+         while (entry != null) {
+            Path path = archive.root.resolve(entry.getName()).normalize();
+            if (!path.startsWith(archive.root) || (path.equals(archive.root) && !entry.isDirectory())) {
+               throw new IOException("The template entry " + entry.getName() + " is outside of the template.");
+            }
+            if (entry.isDirectory()) {
+               archive.addDirectory(path);
+            } else {
+               archive.addFile(path, IOUtils.toByteArray(zis));
+            }
+            zis.closeEntry();
+            entry = zis.getNextEntry();
+         }
+      }
+      return archive;
+   }
+
+   /**
+    * Gets the path that is used as the root of the entries of this archive.
+    *
+    * @return the root path
+    */
+   public Path getRoot() {
+      return root;
+   }
+
+   /**
+    * Determines if the archive contains a file with the given path.
+    *
+    * @param path the path of the file
+    * @return true if the archive contains the file, false otherwise
+    */
+   public boolean isFile(Path path) {
+      return files.containsKey(path);
+   }
+
+   /**
+    * Determines if the archive contains a directory with the given path.
+    *
+    * @param path the path of the directory
+    * @return true if the archive contains the directory, false otherwise
+    */
+   public boolean isDirectory(Path path) {
+      return directories.containsKey(path);
+   }
+
+   /**
+    * Gets the contents of a file in the archive.
+    *
+    * @param file the path of the file
+    * @return the contents of the file
+    * @throws NoSuchFileException if the archive does not contain the file
+    */
+   public byte[] getContents(Path file) throws NoSuchFileException {
+      byte[] contents = files.get(file);
+      if (contents == null) {
+         throw new NoSuchFileException(file.toString());
+      }
+      return contents;
+   }
+
+   /**
+    * Reads all the lines of a file in the archive.  The file is decoded as UTF-8.
+    *
+    * @param file the path of the file
+    * @return the lines of the file
+    * @throws IOException if the archive does not contain the file
+    */
+   public List<String> readAllLines(Path file) throws IOException {
+      return IOUtils.readLines(new ByteArrayInputStream(getContents(file)), StandardCharsets.UTF_8);
+   }
+
+   /**
+    * Gets the parsed Velocity template of a file in the archive.  The file is only parsed the first time this method
+    * is invoked for that file.
+    *
+    * @param file     the path of the file
+    * @param velocity the cache that is used to parse the template
+    * @return the parsed template
+    * @throws IOException if the archive does not contain the file
+    */
+   public Template getTemplate(Path file, VelocityTemplateCache velocity) throws IOException {
+      Template template = templates.get(file);
+      if (template == null) {
+         try (Reader reader = new InputStreamReader(new ByteArrayInputStream(getContents(file)),
+                                                    StandardCharsets.UTF_8)) {
+            template = velocity.compile(root.relativize(file).toString(), reader);
+         }
+         templates.put(file, template);
+      }
+      return template;
+   }
+
+   /**
+    * Writes a file in the archive to a temporary file so it can be used by APIs that only accept real files.  The file
+    * is only written once, the same temporary file is returned each time this method is invoked for that file.  The
+    * temporary file is deleted when the JVM exits.
+    *
+    * @param file the path of the file
+    * @return the path of the temporary file
+    * @throws IOException if the archive does not contain the file or the temporary file can't be written
+    */
+   public synchronized Path extract(Path file) throws IOException {
+      Path extracted = extractedFiles.get(file);
+      if (extracted == null || !Files.isRegularFile(extracted)) {
+         extracted = Files.createTempFile(null, "-" + file.getFileName());
+         extracted.toFile().deleteOnExit();
+         Files.write(extracted, getContents(file));
+         extractedFiles.put(file, extracted);
+      }
+      return extracted;
+   }
+
+   /**
+    * Walks the given directory of the archive in the same way {@link Files#walkFileTree(Path, FileVisitor)} walks a
+    * directory of a file system.  Entries are visited in the order they appear in the ZIP.  The visitor is always
+    * given {@code null} file attributes.  {@link FileVisitResult#SKIP_SIBLINGS} is treated like
+    * {@link FileVisitResult#CONTINUE}.
+    *
+    * @param start   the directory to walk
+    * @param visitor the visitor
+    * @throws IOException if the archive does not contain the directory or the visitor throws an exception
+    */
+   public void walk(Path start, FileVisitor<? super Path> visitor) throws IOException {
+      Preconditions.checkNotNull(visitor, "visitor may not be null!");
+      if (!isDirectory(start)) {
+         throw new NoSuchFileException(start.toString());
+      }
+      walkDirectory(start, visitor);
+   }
+
+   private FileVisitResult walkDirectory(Path directory, FileVisitor<? super Path> visitor) throws IOException {
+      FileVisitResult result = visitor.preVisitDirectory(directory, null);
+      if (result == FileVisitResult.TERMINATE) {
+         return result;
+      }
+      if (result != FileVisitResult.SKIP_SUBTREE) {
+         for (Path child : new ArrayList<>(directories.get(directory))) {
+            result = isDirectory(child) ? walkDirectory(child, visitor) : visitor.visitFile(child, null);
+            if (result == FileVisitResult.TERMINATE) {
+               return result;
+            }
+         }
+      }
+      result = visitor.postVisitDirectory(directory, null);
+      return result == FileVisitResult.TERMINATE ? result : FileVisitResult.CONTINUE;
+   }
+
+   private void addDirectory(Path directory) {
+      if (!directories.containsKey(directory)) {
+         directories.put(directory, new LinkedHashSet<>());
+         addDirectory(directory.getParent());
+         directories.get(directory.getParent()).add(directory);
+      }
+   }
+
+   private void addFile(Path file, byte[] contents) {
+      addDirectory(file.getParent());
+      files.put(file, contents);
+      directories.get(file.getParent()).add(file);
+   }
+}
@@ -66,11 +66,27 @@ public class TemplateIgnoreComponent {
     * @return This instance.
     */
    public TemplateIgnoreComponent parse() throws IOException {
+      // Only parse the templateContent file if it exists
+      return parse(templateFile.toFile().exists() ? Files.readAllLines(templateFile) : null);
+   }
+
+   /**
+    * Parses the templateContent's ignore file from a template that has been read into memory, collecting the list of
+    * files that velocity should ignore.  The template directory given to the constructor should be the root of the
+    * archive.
+    *
+    * @param archive the template archive that contains the ignore file
+    * @return This instance.
+    */
+   public TemplateIgnoreComponent parse(TemplateArchive archive) throws IOException {
+      return parse(archive.isFile(templateFile) ? archive.readAllLines(templateFile) : null);
+   }
+
+   private TemplateIgnoreComponent parse(List<String> ignorePaths) {
       pathToIgnoreKey.clear();
 
-      // Only parse the templateContent file if it exists
-      if (templateFile.toFile().exists()) {
-         for (String ignorePath : Files.readAllLines(templateFile)) {
+      if (ignorePaths != null) {
+         for (String ignorePath : ignorePaths) {
             if (!ignorePath.trim().startsWith("#")) {
                final Path eachPath = templateFolder.resolve(
                         ignorePath.replace("[", "").replace("]", ""));
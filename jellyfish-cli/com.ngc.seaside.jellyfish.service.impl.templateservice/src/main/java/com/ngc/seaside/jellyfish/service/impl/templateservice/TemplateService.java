@@ -22,21 +22,16 @@
  */
 package com.ngc.seaside.jellyfish.service.impl.templateservice;
 
-import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.regex.Pattern;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
 
-import org.apache.commons.io.IOUtils;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
@@ -44,6 +39,8 @@ import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.ngc.seaside.jellyfish.api.IParameterCollection;
 import com.ngc.seaside.jellyfish.api.JellyfishHome;
 import com.ngc.seaside.jellyfish.service.promptuser.api.IPromptUserService;
@@ -56,7 +53,15 @@ import com.ngc.seaside.jellyfish.service.template.api.TemplateServiceException;
 import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
 
 /**
- * Default implementation of the {@link ITemplateService} interface.
+ * Default implementation of the {@link ITemplateService} interface.  Each template ZIP is read into memory the first
+ * time it is unpacked and rendered directly from memory afterward.  The Velocity templates of a ZIP are only parsed
+ * once.
+ *
+ * <p/>
+ * At most {@link #MAXIMUM_ARCHIVES} templates are kept in memory.  The least recently used template is discarded when
+ * another template is read and templates may also be discarded if memory is low.  All templates are discarded when
+ * the service is deactivated.  A discarded template is simply read again the next time it is unpacked.  Template ZIPs
+ * are assumed not to change while they are kept in memory.
  */
 @Component(service = ITemplateService.class)
 public class TemplateService implements ITemplateService {
@@ -69,6 +74,26 @@ public class TemplateService implements ITemplateService {
    private static final String TEMPLATE_PROPERTIES = "template.properties";
    private static final String TEMPLATE_NAME_ENDING_FORMAT = "-template%s.zip";
 
+   /**
+    * The path used as the parent of the root of each {@link TemplateArchive}.  Nothing is ever read from or written to
+    * this path.
+    */
+   private static final Path ARCHIVE_ROOT = Paths.get("").toAbsolutePath().getRoot().resolve("jellyfish-templates");
+
+   /**
+    * The maximum number of templates to keep in memory.
+    */
+   static final int MAXIMUM_ARCHIVES = 64;
+
+   /**
+    * Templates that have been read into memory, keyed by template name.
+    */
+   private final Cache<String, TemplateArchive> archives = CacheBuilder.newBuilder()
+         .maximumSize(MAXIMUM_ARCHIVES)
+         .softValues()
+         .build();
+   private final VelocityTemplateCache velocity = new VelocityTemplateCache();
+
    private ILogService logService;
    private IPromptUserService promptUserService;
    private IPropertyService propertyService;
@@ -80,6 +105,7 @@ public class TemplateService implements ITemplateService {
 
    @Deactivate
    public void deactivate() {
+      archives.invalidateAll();
       logService.trace(getClass(), "deactivated");
    }
 
@@ -145,6 +171,9 @@ public class TemplateService implements ITemplateService {
 
    @Override
    public boolean templateExists(String templatePrefix) {
+      if (archives.getIfPresent(templatePrefix) != null) {
+         return true;
+      }
       InputStream is;
       try {
          is = getTemplateInputStream(templatePrefix);
@@ -164,25 +193,10 @@ public class TemplateService implements ITemplateService {
          throws TemplateServiceException {
       ITemplateOutput output;
 
-      try (ZipInputStream zis = new ZipInputStream(getTemplateInputStream(templateName))) {
-         Path unzippedFolderPath = Files.createTempDirectory(null);
-         ZipEntry entry = zis.getNextEntry();
-
-         while (entry != null) {
-            File entryDestination = new File(unzippedFolderPath.toString(), entry.getName());
-            if (entry.isDirectory()) {
-               entryDestination.mkdirs();
-            } else {
-               entryDestination.getParentFile().mkdirs();
-               OutputStream out = new FileOutputStream(entryDestination);
-               IOUtils.copy(zis, out);
-               zis.closeEntry();
-               out.close();
-            }
-            entry = zis.getNextEntry();
-         }
+      try {
+         TemplateArchive archive = getTemplateArchive(templateName);
 
-         if (!isValidateTemplate(unzippedFolderPath)) {
+         if (!isValidateTemplate(archive)) {
             String message = String.format(
                   "Invalid template. Each template must contain %s and a template folder named '%s'",
                   TEMPLATE_PROPERTIES,
@@ -191,12 +205,12 @@ public class TemplateService implements ITemplateService {
             throw new TemplateServiceException(message);
          }
 
-         TemplateIgnoreComponent templateIgnoreComponent = new TemplateIgnoreComponent(unzippedFolderPath,
+         TemplateIgnoreComponent templateIgnoreComponent = new TemplateIgnoreComponent(archive.getRoot(),
                                                                                        TEMPLATE_FOLDER,
                                                                                        logService);
-         templateIgnoreComponent.parse();
+         templateIgnoreComponent.parse(archive);
 
-         output = updateTemplate(unzippedFolderPath,
+         output = updateTemplate(archive,
                                  parameters,
                                  outputDirectory,
                                  clean,
@@ -226,6 +240,30 @@ public class TemplateService implements ITemplateService {
       return new FileInputStream(path.toFile());
    }
 
+   /**
+    * Gets the contents of the template with the given name.  The template ZIP is only read the first time the
+    * template is requested or if it was discarded since it was last requested.
+    *
+    * @param templateName the name of the template
+    * @return the template archive
+    * @throws IOException              if the template could not be read
+    * @throws TemplateServiceException if no template with the given name could be found
+    */
+   protected TemplateArchive getTemplateArchive(String templateName) throws IOException,
+                                                                           TemplateServiceException {
+      TemplateArchive archive = archives.getIfPresent(templateName);
+      if (archive == null) {
+         archive = TemplateArchive.read(getTemplateInputStream(templateName), ARCHIVE_ROOT.resolve(templateName));
+         TemplateArchive existing = archives.asMap().putIfAbsent(templateName, archive);
+         if (existing != null) {
+            archive = existing;
+         } else {
+            logService.debug(getClass(), "Read template %s into memory.", templateName);
+         }
+      }
+      return archive;
+   }
+
    /**
     * Update the template based on the the visitor pattern. This will replace any Velocity Template
     * parameters with the input values from the properties file.
@@ -245,7 +283,68 @@ public class TemplateService implements ITemplateService {
          throws IOException {
       // Parse template.properties file for each parameter and its default value
       IProperties parametersAndDefaults = propertyService.load(templateFolder.resolve(TEMPLATE_PROPERTIES));
+      Map<String, Object> parametersAndValues = getParametersAndValues(parametersAndDefaults, parameters);
+
+      TemplateVisitor visitor = new TemplateVisitor(parametersAndValues,
+                                                    templateFolder.resolve(TEMPLATE_FOLDER),
+                                                    outputFolder,
+                                                    clean,
+                                                    templateIgnoreComponent,
+                                                    null,
+                                                    velocity);
+
+      // Walk through the unzipped template directory in order to generate the
+      // instance of the template
+      Files.walkFileTree(templateFolder.resolve(TEMPLATE_FOLDER), visitor);
+
+      return new DefaultTemplateOutput()
+            .setOutputPath(visitor.getTopLevelFolder())
+            .setProperties(parametersAndValues);
+   }
 
+   /**
+    * Update the template based on the the visitor pattern. This will replace any Velocity Template
+    * parameters with the input values from the properties file.  The template is read from memory.
+    *
+    * @param archive                 the template archive.
+    * @param parameters              the parameters that should overwrite any parameter values in the
+    *                                template.properties
+    * @param outputFolder            the output folder.
+    * @param clean                   true if this should clean existing directories.
+    * @param templateIgnoreComponent used to check files that should be copied instead of evaluated by velocity.
+    */
+   protected ITemplateOutput updateTemplate(TemplateArchive archive,
+                                            IParameterCollection parameters,
+                                            Path outputFolder,
+                                            boolean clean,
+                                            TemplateIgnoreComponent templateIgnoreComponent)
+         throws IOException {
+      // The property service can only load files, so template.properties is written to a temporary file once.
+      IProperties parametersAndDefaults = propertyService.load(
+            archive.extract(archive.getRoot().resolve(TEMPLATE_PROPERTIES)));
+      Map<String, Object> parametersAndValues = getParametersAndValues(parametersAndDefaults, parameters);
+
+      Path templateContent = archive.getRoot().resolve(TEMPLATE_FOLDER);
+      TemplateVisitor visitor = new TemplateVisitor(parametersAndValues,
+                                                    templateContent,
+                                                    outputFolder,
+                                                    clean,
+                                                    templateIgnoreComponent,
+                                                    archive,
+                                                    velocity);
+      archive.walk(templateContent, visitor);
+
+      return new DefaultTemplateOutput()
+            .setOutputPath(visitor.getTopLevelFolder())
+            .setProperties(parametersAndValues);
+   }
+
+   /**
+    * Gets the values of the parameters of a template.  The user is prompted for the value of any parameter in
+    * template.properties that isn't in the given parameters.
+    */
+   private Map<String, Object> getParametersAndValues(IProperties parametersAndDefaults,
+                                                      IParameterCollection parameters) {
       // For each parameter query the user for its value if that property isn't already in the parameters collection.
       Map<String, Object> parametersAndValues = new HashMap<>();
       for (String parameter : parametersAndDefaults.getKeys()) {
@@ -270,20 +369,7 @@ public class TemplateService implements ITemplateService {
       // If the parameter is not already in the map, it must have not been referenced in the property value.
       // Even if that is the case, we still want to provide it.
       parameters.getAllParameters().forEach(p -> parametersAndValues.putIfAbsent(p.getName(), p.getValue()));
-
-      TemplateVisitor visitor = new TemplateVisitor(parametersAndValues,
-                                                    templateFolder.resolve(TEMPLATE_FOLDER),
-                                                    outputFolder,
-                                                    clean,
-                                                    templateIgnoreComponent);
-
-      // Walk through the unzipped template directory in order to generate the
-      // instance of the template
-      Files.walkFileTree(templateFolder.resolve(TEMPLATE_FOLDER), visitor);
-
-      return new DefaultTemplateOutput()
-            .setOutputPath(visitor.getTopLevelFolder())
-            .setProperties(parametersAndValues);
+      return parametersAndValues;
    }
 
    /**
@@ -328,6 +414,17 @@ public class TemplateService implements ITemplateService {
             && Files.isDirectory(templateFolder.resolve(TEMPLATE_FOLDER));
    }
    
+   /**
+    * Determines if the contents of the template archive are valid.
+    *
+    * @param archive the template archive
+    * @return true if the template is valid, false otherwise
+    */
+   protected boolean isValidateTemplate(TemplateArchive archive) {
+      return archive.isFile(archive.getRoot().resolve(TEMPLATE_PROPERTIES))
+            && archive.isDirectory(archive.getRoot().resolve(TEMPLATE_FOLDER));
+   }
+   
    protected Path getResourceRootPath() {
        return JellyfishHome.get().resolve(RESOURCE_LOCATION);
    }
@@ -26,19 +26,17 @@ import com.google.common.base.Preconditions;
 
 import com.ngc.seaside.jellyfish.service.template.api.TemplateServiceException;
 
+import org.apache.velocity.Template;
 import org.apache.velocity.VelocityContext;
-import org.apache.velocity.app.VelocityEngine;
 
 import java.io.IOException;
 import java.io.Reader;
-import java.io.StringWriter;
 import java.io.Writer;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.FileSystems;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.HashSet;
@@ -54,8 +52,11 @@ import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
  */
 public class TemplateVisitor extends SimpleFileVisitor<Path> {
 
-   private final VelocityEngine engine = new VelocityEngine();
+   private static final Pattern IGNORED_EXPRESSION = Pattern.compile("\\[([^)]+)]");
+
+   private final VelocityTemplateCache velocity;
    private final VelocityContext context = new VelocityContext();
+   private final TemplateArchive archive;
    private final Path outputFolder;
    private final Path inputFolder;
    private final boolean clean;
@@ -80,13 +81,39 @@ public class TemplateVisitor extends SimpleFileVisitor<Path> {
                           Path outputFolder,
                           boolean clean,
                           TemplateIgnoreComponent templateIgnoreComponent) {
+      this(parametersAndValues, inputFolder, outputFolder, clean, templateIgnoreComponent, null,
+           new VelocityTemplateCache());
+   }
+
+   /**
+    * Constructor that reads the template from the given archive instead of the file system and uses the given cache to
+    * parse Velocity templates.  The visitor must be used with {@link TemplateArchive#walk(Path,
+    * java.nio.file.FileVisitor)} if an archive is given.
+    *
+    * @param parametersAndValues     Map of parameter-values used
+    * @param inputFolder             folder of the template, within the archive if an archive is given
+    * @param outputFolder            folder for outputting the generated template instance
+    * @param clean                   whether or not to recursively delete already existing folder before creating them
+    *                                again
+    * @param templateIgnoreComponent used to check files that should be copied instead of evaluated by velocity.
+    * @param archive                 the archive that contains the template or {@code null} to read the template from
+    *                                the file system
+    * @param velocity                the cache used to parse Velocity templates and paths
+    */
+   public TemplateVisitor(Map<String, ?> parametersAndValues,
+                          Path inputFolder,
+                          Path outputFolder,
+                          boolean clean,
+                          TemplateIgnoreComponent templateIgnoreComponent,
+                          TemplateArchive archive,
+                          VelocityTemplateCache velocity) {
       this.outputFolder = outputFolder.toAbsolutePath().normalize();
       this.inputFolder = inputFolder.toAbsolutePath().normalize();
       this.clean = clean;
       this.templateIgnoreComponent = templateIgnoreComponent;
+      this.archive = archive;
+      this.velocity = Preconditions.checkNotNull(velocity, "velocity may not be null!");
 
-      engine.setProperty("runtime.references.strict", true);
-      engine.setProperty("runtime.log.logsystem.class", "org.apache.velocity.runtime.log.NullLogSystem");
       for (Map.Entry<String, ?> entry : parametersAndValues.entrySet()) {
          context.put(entry.getKey(), entry.getValue());
       }
@@ -173,11 +200,14 @@ public class TemplateVisitor extends SimpleFileVisitor<Path> {
       Path outputFile = getOutputPath(path);
 
       if (templateIgnoreComponent.contains(path)) {
-         Files.copy(path, outputFile, REPLACE_EXISTING);
+         if (archive == null) {
+            Files.copy(path, outputFile, REPLACE_EXISTING);
+         } else {
+            Files.write(outputFile, archive.getContents(path));
+         }
       } else {
-         try (Writer writer = Files.newBufferedWriter(outputFile);
-               Reader reader = Files.newBufferedReader(path)) {
-            engine.evaluate(context, writer, "", reader);
+         try (Writer writer = Files.newBufferedWriter(outputFile)) {
+            getTemplate(path).merge(context, writer);
          } catch (Exception e) {
             throw new TemplateServiceException("Failed to parse velocity file " + path, e);
          }
@@ -186,6 +216,18 @@ public class TemplateVisitor extends SimpleFileVisitor<Path> {
       return FileVisitResult.CONTINUE;
    }
 
+   /**
+    * Gets the parsed Velocity template of the given file.  Templates from an archive are only parsed once.
+    */
+   private Template getTemplate(Path path) throws IOException {
+      if (archive != null) {
+         return archive.getTemplate(path, velocity);
+      }
+      try (Reader reader = Files.newBufferedReader(path)) {
+         return velocity.compile(path.toString(), reader);
+      }
+   }
+
    /**
     * Recursively deletes the contents of the given folder.
     *
@@ -220,31 +262,29 @@ public class TemplateVisitor extends SimpleFileVisitor<Path> {
    private Path getOutputPath(Path input) {
       if (templateIgnoreComponent.contains(input)) {
          String path = templateIgnoreComponent.getKey(input);
-         Matcher m = Pattern.compile("\\[([^)]+)]").matcher(path);
+         Matcher m = IGNORED_EXPRESSION.matcher(path);
          while (m.find()) {
             String value = String.format("[%s]", m.group(1));
-            StringWriter stringWriter = new StringWriter();
-
+            String evaluated;
             try {
-               engine.evaluate(context, stringWriter, "evaluate output", m.group(1));
+               evaluated = velocity.evaluate(m.group(1), context);
             } catch (Exception e) {
                throw new TemplateServiceException("Failed to parse file " + input + " in velocity", e);
             }
-            path = path.replace(value, stringWriter.toString());
+            path = path.replace(value, evaluated);
          }
 
-         return Paths.get(outputFolder.toFile().getAbsolutePath(), path).toAbsolutePath();
+         return outputFolder.resolve(path).toAbsolutePath();
       }
 
-      Path output = outputFolder.resolve(inputFolder.relativize(input)).toAbsolutePath();
-      StringWriter stringWriter = new StringWriter();
-      String outputPath = output.toAbsolutePath().toString().replace("\\$", "\\\\$");
+      // Only the part of the path within the template is evaluated.  This keeps the number of distinct expressions
+      // small enough to cache and works if the input is in an archive.
+      String outputPath = inputFolder.relativize(input).toString().replace("\\$", "\\\\$");
       if (outputPath.endsWith(".vm")) {
          outputPath = outputPath.substring(0, outputPath.length() - 3);
       }
-      engine.evaluate(context, stringWriter, "evaluate output", outputPath);
 
-      return Paths.get(stringWriter.toString()).toAbsolutePath();
+      return outputFolder.resolve(velocity.evaluate(outputPath, context)).toAbsolutePath();
    }
 
 }
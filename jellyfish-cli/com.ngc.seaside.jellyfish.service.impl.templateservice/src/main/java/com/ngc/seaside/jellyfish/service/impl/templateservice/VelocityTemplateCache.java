@@ -0,0 +1,120 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.service.impl.templateservice;
+
+import com.google.common.base.Preconditions;
+
+import com.ngc.seaside.jellyfish.service.template.api.TemplateServiceException;
+
+import org.apache.velocity.Template;
+import org.apache.velocity.context.Context;
+import org.apache.velocity.runtime.RuntimeInstance;
+import org.apache.velocity.runtime.parser.ParseException;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parses Velocity templates with a single, shared Velocity runtime.  The runtime is configured the same way each
+ * {@link TemplateVisitor} used to configure its own engine.  Templates are parsed once and then merged any number of
+ * times.  Short expressions, like the names of the files and folders of a template, are cached by their text so the
+ * same path is never parsed twice.
+ *
+ * <p/>
+ * Parsed templates are immutable, so a single cache may be shared between threads.
+ */
+public class VelocityTemplateCache {
+
+   /**
+    * The maximum number of expressions to cache.  The cache is simply cleared when it gets this large.
+    */
+   static final int MAXIMUM_EXPRESSIONS = 10_000;
+
+   private final RuntimeInstance runtime = new RuntimeInstance();
+   private final Map<String, Template> expressions = new ConcurrentHashMap<>();
+
+   /**
+    * Creates a new cache with its own Velocity runtime.
+    */
+   public VelocityTemplateCache() {
+      runtime.setProperty("runtime.references.strict", true);
+      runtime.setProperty("runtime.log.logsystem.class", "org.apache.velocity.runtime.log.NullLogSystem");
+      runtime.init();
+   }
+
+   /**
+    * Parses the given template.  The returned template is not cached by this method.
+    *
+    * @param name   the name of the template, used in error messages
+    * @param reader the contents of the template
+    * @return the parsed template
+    * @throws TemplateServiceException if the template can't be parsed
+    */
+   public Template compile(String name, Reader reader) {
+      Preconditions.checkNotNull(name, "name may not be null!");
+      Preconditions.checkNotNull(reader, "reader may not be null!");
+      Template template = new Template();
+      template.setName(name);
+      template.setRuntimeServices(runtime);
+      try {
+         template.setData(runtime.parse(reader, template));
+      } catch (ParseException e) {
+         throw new TemplateServiceException("Failed to parse velocity template " + name, e);
+      }
+      template.initDocument();
+      return template;
+   }
+
+   /**
+    * Evaluates the given expression with the given context.  Expressions that don't contain any Velocity references
+    * or directives are returned as is.
+    *
+    * @param expression the expression to evaluate
+    * @param context    the context that contains the values of any references in the expression
+    * @return the evaluated expression
+    * @throws TemplateServiceException if the expression can't be parsed
+    */
+   public String evaluate(String expression, Context context) {
+      Preconditions.checkNotNull(expression, "expression may not be null!");
+      Preconditions.checkNotNull(context, "context may not be null!");
+      if (expression.indexOf('$') < 0 && expression.indexOf('#') < 0) {
+         return expression;
+      }
+
+      Template template = expressions.get(expression);
+      if (template == null) {
+         if (expressions.size() >= MAXIMUM_EXPRESSIONS) {
+            expressions.clear();
+         }
+         template = compile(expression, new StringReader(expression));
+         expressions.put(expression, template);
+      }
+
+      StringWriter writer = new StringWriter();
+      template.merge(context, writer);
+      return writer.toString();
+   }
+}
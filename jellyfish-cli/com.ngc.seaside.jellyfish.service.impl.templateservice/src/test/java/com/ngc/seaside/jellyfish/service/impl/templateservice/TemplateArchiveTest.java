@@ -0,0 +1,139 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.service.impl.templateservice;
+
+import org.apache.velocity.VelocityContext;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TemplateArchiveTest {
+
+   private Path root;
+
+   @Before
+   public void setup() {
+      root = Paths.get("").toAbsolutePath().getRoot().resolve("test-template");
+   }
+
+   @Test
+   public void testDoesReadArchiveIntoMemory() throws IOException {
+      TemplateArchive archive = TemplateArchive.read(zip("template.properties", "name=value",
+                                                         "templateContent/$name/File.txt", "Hello $name"),
+                                                     root);
+
+      assertTrue(archive.isFile(root.resolve("template.properties")));
+      assertTrue(archive.isDirectory(root.resolve("templateContent")));
+      assertTrue(archive.isDirectory(root.resolve("templateContent/$name")));
+      assertFalse(archive.isFile(root.resolve("templateContent")));
+      assertEquals(Arrays.asList("name=value"), archive.readAllLines(root.resolve("template.properties")));
+
+      Path extracted = archive.extract(root.resolve("template.properties"));
+      assertEquals(Arrays.asList("name=value"), Files.readAllLines(extracted));
+      assertSame(extracted, archive.extract(root.resolve("template.properties")));
+   }
+
+   @Test
+   public void testDoesParseTemplatesOnce() throws IOException {
+      TemplateArchive archive = TemplateArchive.read(zip("templateContent/File.txt", "Hello $name"), root);
+      VelocityTemplateCache velocity = new VelocityTemplateCache();
+      Path file = root.resolve("templateContent/File.txt");
+
+      VelocityContext context = new VelocityContext();
+      context.put("name", "World");
+      StringWriter writer = new StringWriter();
+      archive.getTemplate(file, velocity).merge(context, writer);
+
+      assertEquals("Hello World", writer.toString());
+      assertSame(archive.getTemplate(file, velocity), archive.getTemplate(file, velocity));
+   }
+
+   @Test
+   public void testDoesWalkArchiveInOrder() throws IOException {
+      TemplateArchive archive = TemplateArchive.read(zip("templateContent/b/File1.txt", "1",
+                                                         "templateContent/a/File2.txt", "2",
+                                                         "templateContent/File3.txt", "3"),
+                                                     root);
+      List<String> visited = new ArrayList<>();
+      Path start = root.resolve("templateContent");
+      archive.walk(start, new SimpleFileVisitor<Path>() {
+         @Override
+         public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+            visited.add(start.relativize(dir).toString() + "/");
+            return FileVisitResult.CONTINUE;
+         }
+
+         @Override
+         public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+            visited.add(start.relativize(file).toString());
+            return FileVisitResult.CONTINUE;
+         }
+      });
+
+      assertEquals(Arrays.asList("/",
+                                 "b/",
+                                 Paths.get("b", "File1.txt").toString(),
+                                 "a/",
+                                 Paths.get("a", "File2.txt").toString(),
+                                 "File3.txt"),
+                   visited);
+   }
+
+   @Test(expected = IOException.class)
+   public void testDoesNotReadEntriesOutsideOfRoot() throws IOException {
+      TemplateArchive.read(zip("templateContent/../../File.txt", "evil"), root);
+   }
+
+   private static ByteArrayInputStream zip(String... namesAndContents) throws IOException {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (ZipOutputStream zos = new ZipOutputStream(bytes)) {
+         for (int i = 0; i < namesAndContents.length; i += 2) {
+            zos.putNextEntry(new ZipEntry(namesAndContents[i]));
+            zos.write(namesAndContents[i + 1].getBytes(StandardCharsets.UTF_8));
+            zos.closeEntry();
+         }
+      }
+      return new ByteArrayInputStream(bytes.toByteArray());
+   }
+}
@@ -36,12 +36,14 @@ import static org.mockito.Mockito.when;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.After;
 import org.junit.Before;
@@ -158,6 +160,70 @@ public class TemplateServiceTest {
 
    }
 
+   @Test
+   public void testDoesReadTemplateOnlyOnce() throws IOException {
+      AtomicInteger reads = new AtomicInteger();
+      TemplateService countingService = new TemplateService() {
+         @Override
+         protected InputStream getTemplateInputStream(String templateName) throws IOException {
+            reads.incrementAndGet();
+            return templateService.getTemplateInputStream(templateName);
+         }
+      };
+      countingService.setLogService(logService);
+      countingService.setPromptUserService(promptUserService);
+      countingService.setPropertyService(propertyService);
+      countingService.activate();
+
+      DefaultParameterCollection parameters = new DefaultParameterCollection();
+      parameters.addParameter(new DefaultParameter<>("parameter1", "folder1"));
+      parameters.addParameter(new DefaultParameter<>("parameter2", "folder2"));
+      IProperties properties = mock(IProperties.class);
+      when(properties.get("parameter1")).thenReturn("folder1");
+      when(properties.get("parameter2")).thenReturn("folder2");
+      when(properties.getKeys()).thenReturn(Arrays.asList("parameter1", "parameter2"));
+      when(propertyService.load(any())).thenReturn(properties);
+
+      for (int i = 0; i < 3; i++) {
+         Path outputDirectory = testFolder.newFolder("output" + i).toPath();
+         countingService.unpack("com.ngc.seaside.jellyfish.command.impl.duplicatefolderexample",
+                                parameters,
+                                outputDirectory,
+                                false);
+         assertTrue(Files.isRegularFile(outputDirectory.resolve(Paths.get("folder1", "File1.txt"))));
+         assertTrue(Files.isRegularFile(outputDirectory.resolve(Paths.get("folder2", "File2.txt"))));
+      }
+      assertEquals(1, reads.get());
+
+      countingService.deactivate();
+   }
+
+   @Test
+   public void testDoesDiscardTemplatesWhenDeactivated() throws IOException {
+      AtomicInteger reads = new AtomicInteger();
+      TemplateService countingService = new TemplateService() {
+         @Override
+         protected InputStream getTemplateInputStream(String templateName) throws IOException {
+            reads.incrementAndGet();
+            return templateService.getTemplateInputStream(templateName);
+         }
+      };
+      countingService.setLogService(logService);
+      countingService.activate();
+
+      String templateName = "com.ngc.seaside.jellyfish.command.impl.duplicatefolderexample";
+      TemplateArchive archive = countingService.getTemplateArchive(templateName);
+      assertTrue(archive == countingService.getTemplateArchive(templateName));
+      assertEquals(1, reads.get());
+
+      countingService.deactivate();
+      countingService.activate();
+      assertFalse(archive == countingService.getTemplateArchive(templateName));
+      assertEquals(2, reads.get());
+
+      countingService.deactivate();
+   }
+
    @Test(expected = TemplateServiceException.class)
    public void testInvalidTemplateFileThrowsATemplateServiceException() throws TemplateServiceException, IOException {
       templateService.unpack("Invalid", new DefaultParameterCollection(), Files.createTempDirectory(null), false);
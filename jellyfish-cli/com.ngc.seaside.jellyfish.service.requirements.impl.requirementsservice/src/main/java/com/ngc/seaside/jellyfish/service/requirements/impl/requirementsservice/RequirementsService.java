@@ -39,7 +39,10 @@ import org.osgi.service.component.annotations.ReferencePolicy;
 
 import com.ngc.seaside.jellyfish.api.IJellyFishCommandOptions;
 import com.ngc.seaside.jellyfish.service.requirements.api.IRequirementsService;
+import com.ngc.seaside.jellyfish.service.requirements.api.IRequirementsTraceabilityIndex;
+import com.ngc.seaside.systemdescriptor.model.api.ISystemDescriptor;
 import com.ngc.seaside.systemdescriptor.model.api.metadata.IMetadata;
+import com.ngc.seaside.systemdescriptor.service.gherkin.api.IGherkinParsingResult;
 import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
 
 @Component(service = IRequirementsService.class)
@@ -49,6 +52,13 @@ public class RequirementsService implements IRequirementsService {
 
    private ILogService logService;
 
+   /**
+    * The most recently built traceability index.  Only one index is retained.  An index references the models of its
+    * system descriptor and the models reference the descriptor, so the descriptor and Gherkin result of the last
+    * index stay reachable until an index is built for a different descriptor or Gherkin result.  Commands of the same
+    * invocation share the same descriptor, so a single entry is enough to reuse the index between them.
+    */
+   private CachedIndex lastIndex;
 
    @Override
    public Set<String> getRequirements(IJellyFishCommandOptions options, IMetadata metadata) {
@@ -78,6 +88,25 @@ public class RequirementsService implements IRequirementsService {
       return Collections.emptySet();
    }
 
+   @Override
+   public IRequirementsTraceabilityIndex getTraceabilityIndex(IJellyFishCommandOptions options) {
+      ISystemDescriptor sd = options.getSystemDescriptor();
+      if (sd == null) {
+         return IRequirementsService.super.getTraceabilityIndex(options);
+      }
+      IGherkinParsingResult gherkin = options.getGherkinParsingResult();
+      synchronized (this) {
+         CachedIndex cached = lastIndex;
+         // The features of the index are only valid for the Gherkin result the index was built with.
+         if (cached == null || cached.systemDescriptor != sd || cached.gherkin != gherkin) {
+            logService.debug(RequirementsService.class, "Building requirements traceability index.");
+            cached = new CachedIndex(sd, gherkin, IRequirementsService.super.getTraceabilityIndex(options));
+            lastIndex = cached;
+         }
+         return cached.index;
+      }
+   }
+
    @Activate
    public void activate() {
       logService.debug(getClass(), "activated");
@@ -99,4 +128,19 @@ public class RequirementsService implements IRequirementsService {
       setLogService(null);
    }
 
+   private static class CachedIndex {
+
+      private final ISystemDescriptor systemDescriptor;
+      private final IGherkinParsingResult gherkin;
+      private final IRequirementsTraceabilityIndex index;
+
+      CachedIndex(ISystemDescriptor systemDescriptor,
+                  IGherkinParsingResult gherkin,
+                  IRequirementsTraceabilityIndex index) {
+         this.systemDescriptor = systemDescriptor;
+         this.gherkin = gherkin;
+         this.index = index;
+      }
+   }
+
 }
@@ -27,6 +27,7 @@ import java.util.Set;
 import com.google.inject.Inject;
 import com.ngc.seaside.jellyfish.api.IJellyFishCommandOptions;
 import com.ngc.seaside.jellyfish.service.requirements.api.IRequirementsService;
+import com.ngc.seaside.jellyfish.service.requirements.api.IRequirementsTraceabilityIndex;
 import com.ngc.seaside.systemdescriptor.model.api.metadata.IMetadata;
 import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
 
@@ -45,4 +46,9 @@ public class RequirementsServiceGuiceWrapper implements IRequirementsService {
       return delegate.getRequirements(options, metadata);
    }
 
+   @Override
+   public IRequirementsTraceabilityIndex getTraceabilityIndex(IJellyFishCommandOptions options) {
+      return delegate.getTraceabilityIndex(options);
+   }
+
 }
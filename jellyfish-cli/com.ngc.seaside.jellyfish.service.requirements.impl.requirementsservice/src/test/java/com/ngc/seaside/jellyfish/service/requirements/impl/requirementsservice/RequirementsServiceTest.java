@@ -23,8 +23,12 @@
 package com.ngc.seaside.jellyfish.service.requirements.impl.requirementsservice;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -32,6 +36,8 @@ import java.util.AbstractList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Optional;
+import java.util.TreeSet;
 
 import javax.json.JsonArray;
 import javax.json.JsonObject;
@@ -43,7 +49,15 @@ import org.junit.Test;
 import org.mockito.Mock;
 
 import com.ngc.seaside.jellyfish.api.IJellyFishCommandOptions;
+import com.ngc.seaside.jellyfish.service.requirements.api.IRequirementsTraceabilityIndex;
+import com.ngc.seaside.systemdescriptor.model.api.IPackage;
+import com.ngc.seaside.systemdescriptor.model.api.ISystemDescriptor;
 import com.ngc.seaside.systemdescriptor.model.api.metadata.IMetadata;
+import com.ngc.seaside.systemdescriptor.model.api.model.IDataReferenceField;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
+import com.ngc.seaside.systemdescriptor.model.api.model.scenario.IScenario;
+import com.ngc.seaside.systemdescriptor.service.gherkin.api.IGherkinParsingResult;
+import com.ngc.seaside.systemdescriptor.service.gherkin.model.api.IFeature;
 import com.ngc.seaside.systemdescriptor.service.log.api.PrintStreamLogService;
 
 public class RequirementsServiceTest {
@@ -71,6 +85,76 @@ public class RequirementsServiceTest {
       assertEquals(new HashSet<>(Arrays.asList("TE001", "TE002", "TE003")), service.getRequirements(options, metadata));
    }
 
+   @Test
+   public void testTraceabilityIndex() {
+      IModel model1 = mock(IModel.class, RETURNS_DEEP_STUBS);
+      when(model1.getFullyQualifiedName()).thenReturn("com.ngc.Model1");
+      IMetadata model1Metadata = getMockMetadata("TE001");
+      when(model1.getMetadata()).thenReturn(model1Metadata);
+      IDataReferenceField input = mock(IDataReferenceField.class);
+      IMetadata inputMetadata = getMockMetadata("TE002");
+      when(input.getMetadata()).thenReturn(inputMetadata);
+      mockIteration(model1.getInputs(), input);
+      IScenario scenario = mock(IScenario.class);
+      when(scenario.getName()).thenReturn("scenario");
+      when(scenario.getParent()).thenReturn(model1);
+      IMetadata scenarioMetadata = getMockMetadata("TE003");
+      when(scenario.getMetadata()).thenReturn(scenarioMetadata);
+      mockIteration(model1.getScenarios(), scenario);
+
+      IModel model2 = mock(IModel.class, RETURNS_DEEP_STUBS);
+      when(model2.getFullyQualifiedName()).thenReturn("com.ngc.Model2");
+      IMetadata model2Metadata = getMockMetadata("TE001", "TE004");
+      when(model2.getMetadata()).thenReturn(model2Metadata);
+
+      IPackage pkg = mock(IPackage.class, RETURNS_DEEP_STUBS);
+      mockIteration(pkg.getModels(), model2, model1);
+      ISystemDescriptor sd = mock(ISystemDescriptor.class, RETURNS_DEEP_STUBS);
+      mockIteration(sd.getPackages(), pkg);
+
+      IFeature feature = mock(IFeature.class);
+      when(feature.getModelScenario()).thenReturn(Optional.of(scenario));
+      IGherkinParsingResult gherkin = mock(IGherkinParsingResult.class);
+      when(gherkin.getFeatures()).thenReturn(Collections.singleton(feature));
+
+      IJellyFishCommandOptions options = mock(IJellyFishCommandOptions.class);
+      when(options.getSystemDescriptor()).thenReturn(sd);
+      when(options.getGherkinParsingResult()).thenReturn(gherkin);
+
+      IRequirementsTraceabilityIndex index = service.getTraceabilityIndex(options);
+      assertEquals(new TreeSet<>(Arrays.asList("TE001", "TE002", "TE003", "TE004")), index.getRequirements());
+      assertEquals(Collections.singleton("TE001"), index.getRequirements(model1));
+      assertEquals(Collections.singleton("TE003"), index.getRequirements(scenario));
+      assertEquals(new HashSet<>(Arrays.asList("TE001", "TE002", "TE003")), index.getAllocatedRequirements(model1));
+      assertEquals(Arrays.asList(model1, model2), index.getModels("TE001"));
+      assertEquals(Collections.singletonList(model2), index.getModels("TE004"));
+      assertEquals(Collections.singletonList(scenario), index.getScenarios("TE003"));
+      assertEquals(Collections.singletonList(feature), index.getFeatures("TE001"));
+      assertEquals(Collections.singletonList(feature), index.getFeatures("TE003"));
+      assertTrue(index.getFeatures("TE002").isEmpty());
+      assertTrue(index.getModels("TE005").isEmpty());
+
+      assertSame(index, service.getTraceabilityIndex(options));
+
+      when(options.getGherkinParsingResult()).thenReturn(mock(IGherkinParsingResult.class));
+      IRequirementsTraceabilityIndex rebuilt = service.getTraceabilityIndex(options);
+      assertNotSame(index, rebuilt);
+      assertTrue(rebuilt.getFeatures("TE001").isEmpty());
+      assertEquals(index.getRequirements(), rebuilt.getRequirements());
+
+      // Only the index of the last descriptor is retained.
+      ISystemDescriptor otherSd = mock(ISystemDescriptor.class, RETURNS_DEEP_STUBS);
+      when(options.getSystemDescriptor()).thenReturn(otherSd);
+      assertTrue(service.getTraceabilityIndex(options).getRequirements().isEmpty());
+      when(options.getSystemDescriptor()).thenReturn(sd);
+      assertNotSame(rebuilt, service.getTraceabilityIndex(options));
+   }
+
+   @SafeVarargs
+   private static <T> void mockIteration(Iterable<T> iterable, T... elements) {
+      when(iterable.iterator()).thenAnswer(args -> Arrays.asList(elements).iterator());
+   }
+
    private static IMetadata getMockMetadata(String... requirements) {
       IMetadata metadata = mock(IMetadata.class);
       when(metadata.getJson()).thenReturn(mock(JsonObject.class));
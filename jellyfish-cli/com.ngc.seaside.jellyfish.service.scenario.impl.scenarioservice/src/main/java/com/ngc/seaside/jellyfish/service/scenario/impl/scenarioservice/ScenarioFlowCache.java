@@ -0,0 +1,167 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.service.scenario.impl.scenarioservice;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Suppliers;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.ngc.seaside.jellyfish.service.scenario.api.IPublishSubscribeMessagingFlow;
+import com.ngc.seaside.jellyfish.service.scenario.api.IRequestResponseMessagingFlow;
+import com.ngc.seaside.systemdescriptor.model.api.IPackage;
+import com.ngc.seaside.systemdescriptor.model.api.ISystemDescriptor;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
+import com.ngc.seaside.systemdescriptor.model.api.model.scenario.IScenario;
+import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
+
+/**
+ * Caches the messaging flows of scenarios so the steps of a scenario are only processed once.  Flows are grouped by
+ * the system descriptor that contains the scenario.  Both system descriptors and scenarios are compared by identity.
+ * Each type of flow is only computed the first time it is requested.
+ *
+ * <p/>
+ * Since a flow references its scenario and a scenario references its system descriptor, the flows of a descriptor
+ * can't be released by weak references alone.  Instead, only the flows of the {@value #MAXIMUM_DESCRIPTORS} most
+ * recently used system descriptors are retained.  Flows of older descriptors are released.  Scenarios that are not
+ * part of a system descriptor are never cached.
+ *
+ * <p/>
+ * The hit rate of the cache is logged at the debug level every {@value #STATISTICS_LOG_INTERVAL} requests.
+ */
+class ScenarioFlowCache {
+
+   /**
+    * The maximum number of system descriptors whose flows are retained.
+    */
+   static final int MAXIMUM_DESCRIPTORS = 4;
+
+   /**
+    * The number of requests between logging the statistics of the cache.
+    */
+   static final int STATISTICS_LOG_INTERVAL = 500;
+
+   private final ILogService logService;
+
+   private final Cache<ISystemDescriptor, Cache<IScenario, ScenarioFlows>> flows = CacheBuilder.newBuilder()
+         // Weak keys are compared by identity.
+         .weakKeys()
+         .maximumSize(MAXIMUM_DESCRIPTORS)
+         .build();
+
+   private final AtomicLong requests = new AtomicLong();
+   private final AtomicLong misses = new AtomicLong();
+
+   ScenarioFlowCache(ILogService logService) {
+      this.logService = Preconditions.checkNotNull(logService, "logService may not be null!");
+   }
+
+   /**
+    * Gets the flows of the given scenario, computing them if necessary.
+    *
+    * @param scenario     the scenario
+    * @param flowComputer computes the flows of a scenario if the cache doesn't contain them
+    * @return the flows of the scenario
+    */
+   ScenarioFlows get(IScenario scenario, Function<IScenario, ScenarioFlows> flowComputer) {
+      ISystemDescriptor descriptor = getSystemDescriptor(scenario);
+      if (descriptor == null) {
+         return flowComputer.apply(scenario);
+      }
+
+      ScenarioFlows scenarioFlows;
+      try {
+         scenarioFlows = flows.get(descriptor, ScenarioFlowCache::newScenarioCache)
+               .get(scenario, () -> {
+                  misses.incrementAndGet();
+                  return flowComputer.apply(scenario);
+               });
+      } catch (ExecutionException e) {
+         throw new RuntimeException(e.getMessage(), e);
+      }
+      if (requests.incrementAndGet() % STATISTICS_LOG_INTERVAL == 0) {
+         logStatistics();
+      }
+      return scenarioFlows;
+   }
+
+   /**
+    * Releases all cached flows.
+    */
+   void clear() {
+      flows.invalidateAll();
+   }
+
+   /**
+    * Logs the statistics of this cache at the debug level.
+    */
+   void logStatistics() {
+      long requestCount = requests.get();
+      long missCount = misses.get();
+      double hitRate = requestCount == 0 ? 0 : (requestCount - missCount) * 100.0 / requestCount;
+      logService.debug(getClass(),
+                       "Scenario flow cache: %d hits, %d misses, %.1f%% hit rate.",
+                       requestCount - missCount,
+                       missCount,
+                       hitRate);
+   }
+
+   private static Cache<IScenario, ScenarioFlows> newScenarioCache() {
+      // Weak keys are compared by identity.
+      return CacheBuilder.newBuilder().weakKeys().build();
+   }
+
+   private static ISystemDescriptor getSystemDescriptor(IScenario scenario) {
+      IModel model = scenario.getParent();
+      IPackage pkg = model == null ? null : model.getParent();
+      return pkg == null ? null : pkg.getParent();
+   }
+
+   /**
+    * The messaging flows of a single scenario.  Each flow is computed the first time it is requested and then reused.
+    */
+   static class ScenarioFlows {
+
+      private final Supplier<Optional<IPublishSubscribeMessagingFlow>> pubSubFlow;
+      private final Supplier<Optional<IRequestResponseMessagingFlow>> requestResponseFlow;
+
+      ScenarioFlows(Supplier<Optional<IPublishSubscribeMessagingFlow>> pubSubFlow,
+                    Supplier<Optional<IRequestResponseMessagingFlow>> requestResponseFlow) {
+         this.pubSubFlow = Suppliers.memoize(pubSubFlow::get);
+         this.requestResponseFlow = Suppliers.memoize(requestResponseFlow::get);
+      }
+
+      Optional<IPublishSubscribeMessagingFlow> getPubSubFlow() {
+         return pubSubFlow.get();
+      }
+
+      Optional<IRequestResponseMessagingFlow> getRequestResponseFlow() {
+         return requestResponseFlow.get();
+      }
+   }
+}
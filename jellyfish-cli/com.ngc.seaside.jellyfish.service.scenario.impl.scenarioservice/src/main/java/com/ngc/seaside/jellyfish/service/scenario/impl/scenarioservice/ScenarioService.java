@@ -42,6 +42,7 @@ import com.ngc.seaside.jellyfish.service.scenario.api.IRequestResponseMessagingF
 import com.ngc.seaside.jellyfish.service.scenario.api.IScenarioService;
 import com.ngc.seaside.jellyfish.service.scenario.api.ITimingConstraint;
 import com.ngc.seaside.jellyfish.service.scenario.api.MessagingParadigm;
+import com.ngc.seaside.jellyfish.service.scenario.impl.scenarioservice.ScenarioFlowCache.ScenarioFlows;
 import com.ngc.seaside.jellyfish.service.scenario.impl.scenarioservice.processor.PubSubProcessor;
 import com.ngc.seaside.jellyfish.service.scenario.impl.scenarioservice.processor.RequestResponseProcessor;
 import com.ngc.seaside.systemdescriptor.model.api.model.scenario.IScenario;
@@ -55,13 +56,15 @@ import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
 
 /**
  * An implementation of {@code IScenarioService} that mostly delegates to to components that handle specific messaging
- * paradigms.
+ * paradigms.  The flows of each scenario are computed once and cached for the system descriptor that contains the
+ * scenario.
  */
 @Component(service = IScenarioService.class)
 public class ScenarioService implements IScenarioService {
 
    private PubSubProcessor pubSubProcessor;
    private RequestResponseProcessor reqResProcesssor;
+   private ScenarioFlowCache flowCache;
 
    private ReceiveStepHandler receiveStepHandler;
    private PublishStepHandler publishStepHandler;
@@ -75,11 +78,12 @@ public class ScenarioService implements IScenarioService {
       Preconditions.checkNotNull(options, "options may not be null!");
       Preconditions.checkNotNull(scenario, "scenario may not be null!");
 
+      ScenarioFlows flows = getFlows(scenario);
       Set<MessagingParadigm> paradigms = EnumSet.noneOf(MessagingParadigm.class);
-      if (pubSubProcessor.isPublishSubscribe(scenario)) {
+      if (flows.getPubSubFlow().isPresent()) {
          paradigms.add(MessagingParadigm.PUBLISH_SUBSCRIBE);
       }
-      if (reqResProcesssor.isRequestResponse(scenario)) {
+      if (flows.getRequestResponseFlow().isPresent()) {
          paradigms.add(MessagingParadigm.REQUEST_RESPONSE);
       }
 
@@ -91,7 +95,7 @@ public class ScenarioService implements IScenarioService {
                                                                           IScenario scenario) {
       Preconditions.checkNotNull(options, "options may not be null!");
       Preconditions.checkNotNull(scenario, "scenario may not be null!");
-      return pubSubProcessor.getFlow(scenario);
+      return getFlows(scenario).getPubSubFlow();
    }
 
    @Override
@@ -99,7 +103,7 @@ public class ScenarioService implements IScenarioService {
                                                                                    IScenario scenario) {
       Preconditions.checkNotNull(options, "options may not be null!");
       Preconditions.checkNotNull(scenario, "scenario may not be null!");
-      return reqResProcesssor.getFlow(scenario);
+      return getFlows(scenario).getRequestResponseFlow();
    }
 
    @Override
@@ -115,14 +119,22 @@ public class ScenarioService implements IScenarioService {
                                             correlateStepHandler);
       reqResProcesssor = new RequestResponseProcessor(receiveRequestStepHandler,
                                                       respondStepHandler);
+      flowCache = new ScenarioFlowCache(logService);
       logService.debug(getClass(), "activated");
    }
 
    @Deactivate
    public void deactivate() {
+      flowCache.logStatistics();
+      flowCache.clear();
       logService.debug(getClass(), "deactivated");
    }
 
+   private ScenarioFlows getFlows(IScenario scenario) {
+      return flowCache.get(scenario, s -> new ScenarioFlows(() -> pubSubProcessor.getFlow(s),
+                                                            () -> reqResProcesssor.getFlow(s)));
+   }
+
    @Reference(cardinality = ReferenceCardinality.MANDATORY,
          policy = ReferencePolicy.STATIC)
    public void setLogService(ILogService ref) {
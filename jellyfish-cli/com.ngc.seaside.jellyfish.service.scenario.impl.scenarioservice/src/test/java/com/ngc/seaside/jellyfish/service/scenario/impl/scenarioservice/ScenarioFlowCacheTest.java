@@ -0,0 +1,127 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.service.scenario.impl.scenarioservice;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.ngc.seaside.jellyfish.service.scenario.impl.scenarioservice.ScenarioFlowCache.ScenarioFlows;
+import com.ngc.seaside.systemdescriptor.model.api.IPackage;
+import com.ngc.seaside.systemdescriptor.model.api.ISystemDescriptor;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
+import com.ngc.seaside.systemdescriptor.model.api.model.scenario.IScenario;
+import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ScenarioFlowCacheTest {
+
+   private ScenarioFlowCache cache;
+
+   private final AtomicInteger computations = new AtomicInteger();
+
+   @Mock
+   private ILogService logService;
+
+   @Before
+   public void setup() {
+      cache = new ScenarioFlowCache(logService);
+   }
+
+   @Test
+   public void testDoesComputeFlowsOncePerScenario() {
+      ISystemDescriptor descriptor = mock(ISystemDescriptor.class);
+      IScenario scenario = scenario(descriptor);
+      IScenario other = scenario(descriptor);
+
+      ScenarioFlows flows = cache.get(scenario, this::computeFlows);
+      assertSame("flows not cached!", flows, cache.get(scenario, this::computeFlows));
+      cache.get(other, this::computeFlows);
+      assertEquals("flows computed too many times!", 2, computations.get());
+
+      cache.clear();
+      cache.get(scenario, this::computeFlows);
+      assertEquals("flows not released!", 3, computations.get());
+   }
+
+   @Test
+   public void testDoesNotCacheFlowsOfScenariosWithoutSystemDescriptor() {
+      IScenario scenario = mock(IScenario.class);
+
+      cache.get(scenario, this::computeFlows);
+      cache.get(scenario, this::computeFlows);
+      assertEquals("flows should not be cached!", 2, computations.get());
+   }
+
+   @Test
+   public void testDoesComputeEachFlowOnlyWhenRequested() {
+      ISystemDescriptor descriptor = mock(ISystemDescriptor.class);
+      IScenario scenario = scenario(descriptor);
+      AtomicInteger pubSubComputations = new AtomicInteger();
+      AtomicInteger requestResponseComputations = new AtomicInteger();
+      Function<IScenario, ScenarioFlows> computer = s -> new ScenarioFlows(
+            () -> {
+               pubSubComputations.incrementAndGet();
+               return Optional.empty();
+            },
+            () -> {
+               requestResponseComputations.incrementAndGet();
+               return Optional.empty();
+            });
+
+      cache.get(scenario, computer).getPubSubFlow();
+      cache.get(scenario, computer).getPubSubFlow();
+      assertEquals("pub/sub flow not computed once!", 1, pubSubComputations.get());
+      assertEquals("request/response flow should not be computed!", 0, requestResponseComputations.get());
+
+      cache.get(scenario, computer).getRequestResponseFlow();
+      cache.get(scenario, computer).getRequestResponseFlow();
+      assertEquals("request/response flow not computed once!", 1, requestResponseComputations.get());
+   }
+
+   private ScenarioFlows computeFlows(IScenario scenario) {
+      computations.incrementAndGet();
+      return new ScenarioFlows(Optional::empty, Optional::empty);
+   }
+
+   private static IScenario scenario(ISystemDescriptor descriptor) {
+      IPackage pkg = mock(IPackage.class);
+      when(pkg.getParent()).thenReturn(descriptor);
+      IModel model = mock(IModel.class);
+      when(model.getParent()).thenReturn(pkg);
+      IScenario scenario = mock(IScenario.class);
+      when(scenario.getParent()).thenReturn(model);
+      return scenario;
+   }
+}
@@ -0,0 +1,297 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.service.sequence.impl.sequenceservice;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.google.common.base.Preconditions;
+import com.ngc.seaside.jellyfish.api.IJellyFishCommandOptions;
+import com.ngc.seaside.jellyfish.service.scenario.api.IPublishSubscribeMessagingFlow;
+import com.ngc.seaside.jellyfish.service.scenario.api.IScenarioService;
+import com.ngc.seaside.jellyfish.service.scenario.correlation.api.ICorrelationDescription;
+import com.ngc.seaside.systemdescriptor.model.api.model.IDataReferenceField;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
+import com.ngc.seaside.systemdescriptor.model.api.model.scenario.IScenario;
+
+/**
+ * Enumerates the combinations of inputs that may produce a sequence.  A sequence is only valid if every one of its
+ * inputs is consumed by a flow.  An input can only be consumed by a flow that declares the input and whose correlated
+ * inputs are all present.  Combinations that contain an input which can't be consumed this way are pruned without
+ * running a {@link SequenceGenerator}.  Inputs that no flow of the model declares are never part of a combination.
+ *
+ * <p/>
+ * Each combination is a bitmask of the inputs.  Combinations are visited in increasing order, so the combinations that
+ * share the same high order bits are visited together.  When a combination can't be consumed, every combination that
+ * keeps the high order bits that caused the failure, and so contains the same unconsumable input with the same missing
+ * required inputs, is skipped without being checked.  Adding inputs to a combination may make it consumable, so
+ * other supersets of a combination that failed are still checked.
+ *
+ * <p/>
+ * Combinations are enumerated in the same order as {@link com.google.common.collect.Sets#powerSet(java.util.Set)}
+ * enumerates the subsets of the inputs.  Since pruning only removes combinations that can't produce a sequence, the
+ * combinations that do produce a sequence are the same ones, in the same order, that the
+ * {@link com.ngc.seaside.jellyfish.service.sequence.api.ISequenceService.GenerationStrategy#ALL_COMBINATIONS} strategy
+ * finds.
+ */
+public class InputCombinations {
+
+   /**
+    * The maximum number of inputs that can be combined.
+    */
+   static final int MAX_INPUTS = 30;
+
+   /**
+    * The inputs that are consumed by at least one flow, in the order they were given.
+    */
+   private final List<IDataReferenceField> inputs = new ArrayList<>();
+
+   /**
+    * For each input, the bitmasks of the inputs that must be present for a flow to consume the input.  Each bit
+    * corresponds to the input at the same index in {@link #inputs}.
+    */
+   private final List<Collection<Long>> requirements = new ArrayList<>();
+
+   /**
+    * Creates the combinations of the given inputs for the given model.
+    *
+    * @param scenarioService the scenario service used to find the flows of the model
+    * @param options         the options Jellyfish was invoked with
+    * @param model           the model
+    * @param inputFields     the inputs to combine
+    */
+   public InputCombinations(IScenarioService scenarioService,
+                            IJellyFishCommandOptions options,
+                            IModel model,
+                            Collection<IDataReferenceField> inputFields) {
+      Preconditions.checkNotNull(scenarioService, "scenarioService may not be null!");
+      Preconditions.checkNotNull(model, "model may not be null!");
+      Preconditions.checkNotNull(inputFields, "inputFields may not be null!");
+
+      List<IDataReferenceField> fields = new ArrayList<>(new LinkedHashSet<>(inputFields));
+      Map<IDataReferenceField, Integer> indexes = new HashMap<>();
+      fields.forEach(field -> indexes.put(field, indexes.size()));
+
+      // Find the masks of the inputs each flow requires and the inputs it can consume.
+      Map<Integer, Collection<Long>> requirementsByIndex = new HashMap<>();
+      for (IScenario scenario : model.getScenarios()) {
+         scenarioService.getPubSubMessagingFlow(options, scenario).ifPresent(
+               flow -> addRequirements(flow.getInputs(), getCorrelatedInputs(flow), indexes, requirementsByIndex));
+         scenarioService.getRequestResponseMessagingFlow(options, scenario).ifPresent(
+               flow -> addRequirements(Collections.singleton(flow.getInput()),
+                                       Collections.singleton(flow.getInput()),
+                                       indexes,
+                                       requirementsByIndex));
+      }
+
+      // Only keep the inputs that can be consumed.  Then rewrite the masks to use the positions of the remaining
+      // inputs.
+      List<Integer> consumable = new ArrayList<>();
+      for (int i = 0; i < fields.size(); i++) {
+         if (requirementsByIndex.containsKey(i)) {
+            consumable.add(i);
+            inputs.add(fields.get(i));
+         }
+      }
+      Preconditions.checkArgument(
+            inputs.size() <= MAX_INPUTS,
+            "cannot compute the sequences for more than %s consumable input fields since this results in more than"
+            + " Integer.MAX_INT possibilities.  Given %s consumable inputs.", MAX_INPUTS, inputs.size());
+      for (int i : consumable) {
+         Collection<Long> masks = new ArrayList<>();
+         for (long mask : requirementsByIndex.get(i)) {
+            masks.add(compact(mask, consumable));
+         }
+         requirements.add(masks);
+      }
+   }
+
+   /**
+    * Gets the number of inputs that are consumed by at least one flow.  Only these inputs are combined.
+    *
+    * @return the number of inputs that are combined
+    */
+   public int getInputCount() {
+      return inputs.size();
+   }
+
+   /**
+    * Gets the combinations of inputs that may produce a sequence.  The combinations are computed lazily.
+    *
+    * @return the combinations of inputs
+    */
+   public Stream<Collection<IDataReferenceField>> stream() {
+      return StreamSupport.longStream(new CombinationSpliterator(1, 1L << inputs.size()), false)
+            .mapToObj(this::toInputs);
+   }
+
+   /**
+    * Determines if every input in the given combination can be consumed by a flow whose required inputs are all in the
+    * combination.  If the combination can't be consumed, this returns the lowest bit of the high order bits that
+    * cause the failure.  Every combination that has the same bits at and above this position also fails.
+    *
+    * @param combination the combination to check
+    * @return -1 if the combination can be consumed, otherwise the position of the lowest bit that must be changed for
+    * the combination to be consumed
+    */
+   private int getFailedPrefix(long combination) {
+      int failedPrefix = -1;
+      for (int i = 0; i < inputs.size(); i++) {
+         if ((combination & (1L << i)) == 0) {
+            continue;
+         }
+         // The input stays unconsumable as long as the input itself and at least one missing input of each of its
+         // flows stay the same.
+         int prefix = i;
+         for (long mask : requirements.get(i)) {
+            long missing = mask & ~combination;
+            if (missing == 0) {
+               prefix = -1;
+               break;
+            }
+            prefix = Math.min(prefix, 63 - Long.numberOfLeadingZeros(missing));
+         }
+         failedPrefix = Math.max(failedPrefix, prefix);
+      }
+      return failedPrefix;
+   }
+
+   /**
+    * Visits the consumable combinations in a range.  Splitting a spliterator splits its range in half so the
+    * combinations can be checked in parallel.
+    */
+   private class CombinationSpliterator implements Spliterator.OfLong {
+
+      private long next;
+      private final long end;
+
+      CombinationSpliterator(long start, long end) {
+         this.next = start;
+         this.end = end;
+      }
+
+      @Override
+      public boolean tryAdvance(LongConsumer action) {
+         while (next < end) {
+            long combination = next;
+            int failedPrefix = getFailedPrefix(combination);
+            if (failedPrefix < 0) {
+               next = combination + 1;
+               action.accept(combination);
+               return true;
+            }
+            // Skip to the next combination with different bits at or above the failed prefix.
+            next = ((combination >>> failedPrefix) + 1) << failedPrefix;
+         }
+         return false;
+      }
+
+      @Override
+      public Spliterator.OfLong trySplit() {
+         long middle = next + (end - next) / 2;
+         if (middle <= next) {
+            return null;
+         }
+         Spliterator.OfLong prefix = new CombinationSpliterator(next, middle);
+         next = middle;
+         return prefix;
+      }
+
+      @Override
+      public long estimateSize() {
+         return Math.max(0, end - next);
+      }
+
+      @Override
+      public int characteristics() {
+         return Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+      }
+   }
+
+   private Collection<IDataReferenceField> toInputs(long combination) {
+      Collection<IDataReferenceField> combined = new LinkedHashSet<>();
+      for (int i = 0; i < inputs.size(); i++) {
+         if ((combination & (1L << i)) != 0) {
+            combined.add(inputs.get(i));
+         }
+      }
+      return combined;
+   }
+
+   private static void addRequirements(Collection<IDataReferenceField> flowInputs,
+                                       Collection<IDataReferenceField> requiredInputs,
+                                       Map<IDataReferenceField, Integer> indexes,
+                                       Map<Integer, Collection<Long>> requirementsByIndex) {
+      long mask = 0;
+      for (IDataReferenceField required : requiredInputs) {
+         Integer index = indexes.get(required);
+         if (index == null) {
+            // The flow requires an input that is never available, so it can't consume anything.
+            return;
+         }
+         mask |= 1L << index;
+      }
+      for (IDataReferenceField input : flowInputs) {
+         Integer index = indexes.get(input);
+         if (index != null) {
+            requirementsByIndex.computeIfAbsent(index, i -> new ArrayList<>()).add(mask);
+         }
+      }
+   }
+
+   private static Collection<IDataReferenceField> getCorrelatedInputs(IPublishSubscribeMessagingFlow flow) {
+      Collection<IDataReferenceField> correlated = new ArrayList<>();
+      if (flow.getCorrelationDescription().isPresent()) {
+         ICorrelationDescription correlation = flow.getCorrelationDescription().get();
+         for (IDataReferenceField input : flow.getInputs()) {
+            if (!correlation.getCompletenessExpressionForInput(input).isEmpty()) {
+               correlated.add(input);
+            }
+         }
+      }
+      return correlated;
+   }
+
+   /**
+    * Converts a mask over all input fields to a mask over the consumable inputs.  Every required input is consumable
+    * since a flow that requires an input also declares it.
+    */
+   private static long compact(long mask, List<Integer> consumable) {
+      long compacted = 0;
+      for (int i = 0; i < consumable.size(); i++) {
+         if ((mask & (1L << consumable.get(i))) != 0) {
+            compacted |= 1L << i;
+         }
+      }
+      return compacted;
+   }
+}
@@ -27,7 +27,12 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -42,6 +47,7 @@ import com.ngc.seaside.jellyfish.api.IJellyFishCommandOptions;
 import com.ngc.seaside.jellyfish.service.scenario.api.IScenarioService;
 import com.ngc.seaside.jellyfish.service.sequence.api.ISequence;
 import com.ngc.seaside.jellyfish.service.sequence.api.ISequenceService;
+import com.ngc.seaside.jellyfish.service.sequence.impl.sequenceservice.model.Sequence;
 import com.ngc.seaside.systemdescriptor.model.api.model.IDataReferenceField;
 import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
 import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
@@ -52,6 +58,17 @@ import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
 @Component(service = ISequenceService.class)
 public class SequenceService implements ISequenceService {
 
+   /**
+    * The minimum number of combined inputs before the combinations are evaluated in parallel when using the {@link
+    * GenerationStrategy#PRUNED_COMBINATIONS} strategy.
+    */
+   static final int PARALLEL_INPUT_THRESHOLD = 8;
+
+   /**
+    * The minimum number of combined inputs before the combinations are evaluated in parallel.
+    */
+   private int parallelInputThreshold = PARALLEL_INPUT_THRESHOLD;
+
    /**
     * The scenario service.
     */
@@ -73,6 +90,8 @@ public class SequenceService implements ISequenceService {
       switch (generationStrategy) {
          case ALL_COMBINATIONS:
             return getSequencesByCombination(options, model, inputFields);
+         case PRUNED_COMBINATIONS:
+            return getSequencesByPrunedCombination(options, model, inputFields);
          case EXACT:
             return getSequencesByExactInput(options, model, inputFields);
          default:
@@ -80,6 +99,34 @@ public class SequenceService implements ISequenceService {
       }
    }
 
+   @Override
+   public Stream<ISequence> streamSequences(IJellyFishCommandOptions options,
+                                           IModel model,
+                                           GenerationStrategy generationStrategy,
+                                           Collection<IDataReferenceField> inputFields) {
+      Preconditions.checkNotNull(options, "options may not be null!");
+      Preconditions.checkNotNull(model, "model may not be null!");
+      Preconditions.checkNotNull(generationStrategy, "generationStrategy may not be null!");
+      if (generationStrategy != GenerationStrategy.PRUNED_COMBINATIONS) {
+         return getSequences(options, model, generationStrategy, inputFields).stream();
+      }
+
+      // We can reuse the generator since the stream is sequential.
+      SequenceGenerator generator = new SequenceGenerator(scenarioService, logService)
+            .setOptions(options)
+            .setModel(model);
+      AtomicInteger sequenceCount = new AtomicInteger();
+      return new InputCombinations(scenarioService, options, model, inputFields)
+            .stream()
+            .map(inputs -> {
+               Optional<ISequence> sequence = generator.generate(inputs, sequenceCount.get() + 1);
+               sequence.ifPresent(s -> sequenceCount.incrementAndGet());
+               return sequence;
+            })
+            .filter(Optional::isPresent)
+            .map(Optional::get);
+   }
+
    @Activate
    public void activate() {
       logService.debug(getClass(), "Activated.");
@@ -112,6 +159,14 @@ public class SequenceService implements ISequenceService {
       setScenarioService(null);
    }
 
+   /**
+    * Sets the minimum number of combined inputs before the combinations are evaluated in parallel when using the
+    * {@link GenerationStrategy#PRUNED_COMBINATIONS} strategy.  This is only used for testing.
+    */
+   void setParallelInputThreshold(int parallelInputThreshold) {
+      this.parallelInputThreshold = parallelInputThreshold;
+   }
+
    private List<ISequence> getSequencesByCombination(IJellyFishCommandOptions options,
                                                      IModel model,
                                                      Collection<IDataReferenceField> inputFields) {
@@ -140,6 +195,42 @@ public class SequenceService implements ISequenceService {
       return sequences;
    }
 
+   private List<ISequence> getSequencesByPrunedCombination(IJellyFishCommandOptions options,
+                                                           IModel model,
+                                                           Collection<IDataReferenceField> inputFields) {
+      InputCombinations combinations = new InputCombinations(scenarioService, options, model, inputFields);
+      if (combinations.getInputCount() < parallelInputThreshold) {
+         return streamSequences(options, model, GenerationStrategy.PRUNED_COMBINATIONS, inputFields)
+               .collect(Collectors.toList());
+      }
+
+      // Evaluate the combinations in parallel.  Generators are not thread safe, so each combination gets its own.  A
+      // sequence's ID is its position in the results, which isn't known until all combinations are evaluated.  Use a
+      // placeholder ID and assign the real IDs after the results are collected in order.  The stream is run in a
+      // dedicated pool so generation does not compete with other users of the common pool.
+      ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+      List<ISequence> generated;
+      try {
+         generated = pool.submit(() -> combinations.stream()
+               .parallel()
+               .map(inputs -> new SequenceGenerator(scenarioService, logService)
+                     .setOptions(options)
+                     .setModel(model)
+                     .generate(inputs, 0))
+               .filter(Optional::isPresent)
+               .map(Optional::get)
+               .collect(Collectors.toList()))
+               .join();
+      } finally {
+         pool.shutdownNow();
+      }
+      List<ISequence> sequences = new ArrayList<>(generated.size());
+      for (ISequence sequence : generated) {
+         sequences.add(new Sequence(sequences.size() + 1, sequence));
+      }
+      return sequences;
+   }
+
    private List<ISequence> getSequencesByExactInput(IJellyFishCommandOptions options,
                                                     IModel model,
                                                     Collection<IDataReferenceField> inputFields) {
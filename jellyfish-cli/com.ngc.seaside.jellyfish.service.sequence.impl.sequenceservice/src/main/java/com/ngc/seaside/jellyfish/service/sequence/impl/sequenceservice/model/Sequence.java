@@ -68,6 +68,22 @@ public class Sequence implements ISequence {
       this.id = id;
    }
 
+   /**
+    * Creates a new sequence with the given ID that has the same model, inputs, outputs, and flows as the given
+    * sequence.
+    *
+    * @param id       the ID of the new sequence
+    * @param sequence the sequence to copy
+    */
+   public Sequence(int id, ISequence sequence) {
+      this(id);
+      Preconditions.checkNotNull(sequence, "sequence may not be null!");
+      setModel(sequence.getModel());
+      addInputs(sequence.getInputs());
+      addOutputs(sequence.getOutputs());
+      addFlows(sequence.getFlows());
+   }
+
    @Override
    public int getId() {
       return id;
@@ -0,0 +1,178 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.service.sequence.impl.sequenceservice;
+
+import com.google.common.collect.Sets;
+
+import com.ngc.seaside.jellyfish.api.IJellyFishCommandOptions;
+import com.ngc.seaside.jellyfish.service.scenario.api.IPublishSubscribeMessagingFlow;
+import com.ngc.seaside.jellyfish.service.scenario.api.IRequestResponseMessagingFlow;
+import com.ngc.seaside.jellyfish.service.scenario.api.IScenarioService;
+import com.ngc.seaside.jellyfish.service.scenario.correlation.api.ICorrelationDescription;
+import com.ngc.seaside.jellyfish.service.scenario.correlation.api.ICorrelationExpression;
+import com.ngc.seaside.systemdescriptor.model.api.model.IDataReferenceField;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
+import com.ngc.seaside.systemdescriptor.model.api.model.scenario.IScenario;
+import com.ngc.seaside.systemdescriptor.test.systemdescriptor.ModelUtils;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class InputCombinationsTest {
+
+   private IJellyFishCommandOptions options;
+
+   private IScenarioService scenarioService;
+
+   private IModel model;
+
+   private final List<IDataReferenceField> inputs = new ArrayList<>();
+
+   private final List<IScenario> scenarios = new ArrayList<>();
+
+   /**
+    * The inputs and correlated inputs of each flow of the model.
+    */
+   private final List<Collection<IDataReferenceField>> flowInputs = new ArrayList<>();
+   private final List<Collection<IDataReferenceField>> flowCorrelatedInputs = new ArrayList<>();
+
+   @Before
+   public void setup() {
+      options = mock(IJellyFishCommandOptions.class);
+      scenarioService = mock(IScenarioService.class);
+      model = mock(IModel.class);
+      for (int i = 0; i < 12; i++) {
+         inputs.add(mock(IDataReferenceField.class));
+      }
+
+      pubSub(fields(0, 1), fields(0, 1));
+      pubSub(fields(2), fields());
+      pubSub(fields(3, 4, 5), fields(3, 4));
+      pubSub(fields(6, 7), fields());
+      requestResponse(inputs.get(8));
+      pubSub(fields(9, 10, 0), fields(9, 10, 0));
+      // No flow consumes the last input.
+
+      when(model.getScenarios()).thenReturn(ModelUtils.mockedNamedCollectionOf(scenarios.toArray(new IScenario[0])));
+   }
+
+   @Test
+   public void testDoesOnlyEnumerateConsumableCombinations() {
+      InputCombinations combinations = new InputCombinations(scenarioService, options, model, inputs);
+      assertEquals("only inputs consumed by a flow should be combined!",
+                   inputs.size() - 1,
+                   combinations.getInputCount());
+
+      // Check every subset the same way the all combinations strategy would enumerate them.
+      List<Set<IDataReferenceField>> expected = new ArrayList<>();
+      for (Set<IDataReferenceField> combination : Sets.powerSet(new LinkedHashSet<>(inputs.subList(0, 11)))) {
+         if (!combination.isEmpty() && isConsumable(combination)) {
+            expected.add(combination);
+         }
+      }
+
+      List<Collection<IDataReferenceField>> actual = combinations.stream().collect(Collectors.toList());
+      assertEquals("combinations not correct!", expected, actual);
+   }
+
+   @Test
+   public void testDoesEnumerateSameCombinationsInParallel() {
+      InputCombinations combinations = new InputCombinations(scenarioService, options, model, inputs);
+      List<Collection<IDataReferenceField>> serial = combinations.stream().collect(Collectors.toList());
+      List<Collection<IDataReferenceField>> parallel = combinations.stream()
+            .parallel()
+            .collect(Collectors.toList());
+      assertEquals("parallel combinations not correct!", serial, parallel);
+   }
+
+   private boolean isConsumable(Set<IDataReferenceField> combination) {
+      for (IDataReferenceField input : combination) {
+         boolean consumed = false;
+         for (int i = 0; i < flowInputs.size() && !consumed; i++) {
+            consumed = flowInputs.get(i).contains(input) && combination.containsAll(flowCorrelatedInputs.get(i));
+         }
+         if (!consumed) {
+            return false;
+         }
+      }
+      return true;
+   }
+
+   private void pubSub(Collection<IDataReferenceField> flowInputs,
+                       Collection<IDataReferenceField> correlatedInputs) {
+      IScenario scenario = scenario();
+      IPublishSubscribeMessagingFlow flow = mock(IPublishSubscribeMessagingFlow.class);
+      when(flow.getInputs()).thenReturn(flowInputs);
+      if (correlatedInputs.isEmpty()) {
+         when(flow.getCorrelationDescription()).thenReturn(Optional.empty());
+      } else {
+         ICorrelationDescription correlation = mock(ICorrelationDescription.class);
+         for (IDataReferenceField input : flowInputs) {
+            when(correlation.getCompletenessExpressionForInput(input)).thenReturn(
+                  correlatedInputs.contains(input)
+                        ? Collections.singleton(mock(ICorrelationExpression.class))
+                        : Collections.<ICorrelationExpression>emptySet());
+         }
+         when(flow.getCorrelationDescription()).thenReturn(Optional.of(correlation));
+      }
+      when(scenarioService.getPubSubMessagingFlow(options, scenario)).thenReturn(Optional.of(flow));
+      when(scenarioService.getRequestResponseMessagingFlow(options, scenario)).thenReturn(Optional.empty());
+      this.flowInputs.add(flowInputs);
+      this.flowCorrelatedInputs.add(correlatedInputs);
+   }
+
+   private void requestResponse(IDataReferenceField input) {
+      IScenario scenario = scenario();
+      IRequestResponseMessagingFlow flow = mock(IRequestResponseMessagingFlow.class);
+      when(flow.getInput()).thenReturn(input);
+      when(scenarioService.getPubSubMessagingFlow(options, scenario)).thenReturn(Optional.empty());
+      when(scenarioService.getRequestResponseMessagingFlow(options, scenario)).thenReturn(Optional.of(flow));
+      flowInputs.add(Collections.singleton(input));
+      flowCorrelatedInputs.add(Collections.singleton(input));
+   }
+
+   private IScenario scenario() {
+      IScenario scenario = mock(IScenario.class);
+      when(scenario.getName()).thenReturn("scenario" + scenarios.size());
+      scenarios.add(scenario);
+      return scenario;
+   }
+
+   private Collection<IDataReferenceField> fields(int... indexes) {
+      return Arrays.stream(indexes).mapToObj(inputs::get).collect(Collectors.toList());
+   }
+}
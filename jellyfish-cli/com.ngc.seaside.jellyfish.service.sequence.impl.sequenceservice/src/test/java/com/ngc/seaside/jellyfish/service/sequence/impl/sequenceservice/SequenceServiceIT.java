@@ -22,12 +22,15 @@
  */
 package com.ngc.seaside.jellyfish.service.sequence.impl.sequenceservice;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.Before;
 import org.junit.BeforeClass;
@@ -44,6 +47,8 @@ import com.google.inject.Module;
 import com.ngc.seaside.jellyfish.api.IJellyFishCommandOptions;
 import com.ngc.seaside.jellyfish.service.scenario.api.IScenarioService;
 import com.ngc.seaside.jellyfish.service.scenario.impl.scenarioservice.ScenarioServiceModule;
+import com.ngc.seaside.jellyfish.service.sequence.api.ISequence;
+import com.ngc.seaside.jellyfish.service.sequence.api.ISequenceService.GenerationStrategy;
 import com.ngc.seaside.jellyfish.service.sequence.impl.sequenceservice.cases.CreateMultipleSequencesPubSubSystemTestCase;
 import com.ngc.seaside.jellyfish.service.sequence.impl.sequenceservice.cases.CreatePubSubSystemOfSystemsTestCase;
 import com.ngc.seaside.jellyfish.service.sequence.impl.sequenceservice.cases.CreateSequenceForPubSubSystemWithCorrelatedInputsTestCase;
@@ -58,6 +63,8 @@ import com.ngc.seaside.jellyfish.service.sequence.impl.sequenceservice.cases.Cre
 import com.ngc.seaside.jellyfish.service.sequence.impl.sequenceservice.cases.CreateSequenceWithDuplicateFlowsIfDuplicateInputsReceivedTestCase;
 import com.ngc.seaside.jellyfish.service.sequence.impl.sequenceservice.cases.CreateSequenceWithDuplicateInputsTestCase;
 import com.ngc.seaside.systemdescriptor.model.api.ISystemDescriptor;
+import com.ngc.seaside.systemdescriptor.model.api.model.IDataReferenceField;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
 import com.ngc.seaside.systemdescriptor.scenario.impl.module.StepsSystemDescriptorServiceModule;
 import com.ngc.seaside.systemdescriptor.service.api.IParsingResult;
 import com.ngc.seaside.systemdescriptor.service.api.ISystemDescriptorService;
@@ -203,6 +210,52 @@ public class SequenceServiceIT {
       new CreatePubSubSystemOfSystemsTestCase(state()).execute();
    }
 
+   /**
+    * This test ensures that pruning combinations of inputs generates the same sequences as trying all combinations,
+    * whether the sequences are collected or streamed.
+    */
+   @Test
+   public void testDoesCreateSameSequencesWhenPruningCombinations() {
+      IModel threatEval = systemDescriptor.findModel("com.ngc.seaside.threateval.ThreatEvaluation").get();
+      List<ISequence> expected = service.getSequences(options,
+                                                      threatEval,
+                                                      GenerationStrategy.ALL_COMBINATIONS,
+                                                      threatEval.getInputs());
+      List<ISequence> pruned = service.getSequences(options,
+                                                    threatEval,
+                                                    GenerationStrategy.PRUNED_COMBINATIONS,
+                                                    threatEval.getInputs());
+      List<ISequence> streamed = service.streamSequences(options,
+                                                         threatEval,
+                                                         GenerationStrategy.PRUNED_COMBINATIONS,
+                                                         threatEval.getInputs())
+            .collect(Collectors.toList());
+
+      assertEquals("pruned sequences not correct!", describe(expected), describe(pruned));
+      assertEquals("streamed sequences not correct!", describe(expected), describe(streamed));
+   }
+
+   /**
+    * This test ensures that evaluating the pruned combinations in parallel generates the same sequences, in the same
+    * order, as evaluating them serially.
+    */
+   @Test
+   public void testDoesCreateSameSequencesWhenEvaluatingCombinationsInParallel() {
+      IModel threatEval = systemDescriptor.findModel("com.ngc.seaside.threateval.ThreatEvaluation").get();
+      service.setParallelInputThreshold(Integer.MAX_VALUE);
+      List<ISequence> serial = service.getSequences(options,
+                                                    threatEval,
+                                                    GenerationStrategy.PRUNED_COMBINATIONS,
+                                                    threatEval.getInputs());
+      service.setParallelInputThreshold(0);
+      List<ISequence> parallel = service.getSequences(options,
+                                                      threatEval,
+                                                      GenerationStrategy.PRUNED_COMBINATIONS,
+                                                      threatEval.getInputs());
+
+      assertEquals("parallel sequences not correct!", describe(serial), describe(parallel));
+   }
+
    /**
     * This test ensures that undeclared flows are actually detected.
     */
@@ -227,6 +280,14 @@ public class SequenceServiceIT {
    // TODO TH: use a system of systems example.  IE, use the weapon system example.
    // test forks and splits
 
+   private static List<String> describe(List<ISequence> sequences) {
+      return sequences.stream()
+            .map(s -> s.getId()
+                  + ":" + s.getInputs().stream().map(IDataReferenceField::getName).collect(Collectors.joining(","))
+                  + "->" + s.getFlows().size())
+            .collect(Collectors.toList());
+   }
+
    private ItTestState state() {
       return new ItTestState(service, systemDescriptor, logService, options);
    }
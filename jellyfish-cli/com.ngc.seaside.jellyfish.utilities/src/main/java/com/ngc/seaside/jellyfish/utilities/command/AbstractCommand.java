@@ -91,9 +91,13 @@ public abstract class AbstractCommand<T extends ICommandOptions> implements ICom
    private final String name;
 
    private IUsage usage;
-   
-   private T options;
-   
+
+   /**
+    * The options of the invocation of {@link #run(ICommandOptions)} on the current thread.  These are kept per thread
+    * so the same command may be run concurrently with different options.
+    */
+   private final ThreadLocal<T> options = new ThreadLocal<>();
+
    /**
     * Creates a new command with the given name.
     *
@@ -120,11 +124,27 @@ public abstract class AbstractCommand<T extends ICommandOptions> implements ICom
 
    @Override
    public void run(T options) {
+      runWithOptions(options, this::doRun);
+   }
+
+   /**
+    * Performs the given action on the current thread as if this command had been {@link #run(ICommandOptions) run}
+    * with the given options.  This allows the callbacks of a command to be invoked outside of {@link #doRun()}.
+    *
+    * @param options the options to make available with {@link #getOptions()}
+    * @param action  the action to perform
+    */
+   void runWithOptions(T options, Runnable action) {
+      T previous = this.options.get();
       try {
-         this.options = options;
-         doRun();
+         this.options.set(options);
+         action.run();
       } finally {
-         this.options = null;
+         if (previous == null) {
+            this.options.remove();
+         } else {
+            this.options.set(previous);
+         }
       }
    }
 
@@ -185,9 +205,11 @@ public abstract class AbstractCommand<T extends ICommandOptions> implements ICom
    protected abstract IUsage createUsage();
 
    /**
-    * Gets the options the command was invoked with.
+    * Gets the options the command was invoked with.  This must be called from the thread that invoked
+    * {@link #run(ICommandOptions)}.
     */
    protected T getOptions() {
+      T options = this.options.get();
       Preconditions.checkState(options != null, "request made to get options outside of run(..) invocation!");
       return options;
    }
@@ -217,7 +239,7 @@ public abstract class AbstractCommand<T extends ICommandOptions> implements ICom
    protected void registerProject(IProjectInformation project) {
       Preconditions.checkNotNull(project, "project may not be null!");
       Preconditions.checkState(buildManagementService != null, "build mgmt service not set!");
-      buildManagementService.registerProject(options, project);
+      buildManagementService.registerProject(getOptions(), project);
    }
 
    /**
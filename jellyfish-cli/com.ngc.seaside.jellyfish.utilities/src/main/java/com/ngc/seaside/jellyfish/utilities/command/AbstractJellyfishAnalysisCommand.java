@@ -61,6 +61,9 @@ import java.util.stream.Collectors;
  * unless otherwise configured.  If the {@link CommonParameters#MODEL model} parameter is supplied, {@code analyzeModel}
  * will be invoked only for that model.  If the {@link CommonParameters#STEREOTYPES stereotypes} parameter is supplied,
  * {@code analyzeModel} will only be invoked on models that contain the provided stereotypes.
+ *
+ * <p/> Commands that only analyze an entire project through these callbacks and {@link #analyzeProject()} can be
+ * {@link #isFusible() fused} with other commands by {@link FusedAnalysis} so the project is only traversed once.
  */
 public abstract class AbstractJellyfishAnalysisCommand extends AbstractJellyfishCommand {
 
@@ -77,7 +80,7 @@ public abstract class AbstractJellyfishAnalysisCommand extends AbstractJellyfish
    /**
     * True if this command has reported at least one finding.
     */
-   private boolean findingsReported = false;
+   private volatile boolean findingsReported = false;
 
    /**
     * Creates a new analysis command with the given name.
@@ -159,8 +162,10 @@ public abstract class AbstractJellyfishAnalysisCommand extends AbstractJellyfish
 
    /**
     * Invoked when the command should analyze an entire project.  This method is invoked when the command is invoked
-    * without any additional parameters.  The default implementation calls {@link #analyzeModel(IModel)},
-    * {@link #analyzeData(IData)}, and {@link #analyzeEnumeration(IEnumeration)} for every element in the project.
+    * without any additional parameters.  The default implementation calls {@link #analyzePackage(IPackage)},
+    * {@link #analyzeModel(IModel)}, {@link #analyzeData(IData)}, {@link #analyzeEnumeration(IEnumeration)}, and
+    * {@link #analyzeFeature(IFeature)} for every element in the project and then calls {@link #analyzeProject()}.
+    * Commands that override this method should not be {@link #isFusible() fusible}.
     */
    protected void analyzeEntireProject() {
       for (IPackage packagez : getOptions().getSystemDescriptor().getPackages()) {
@@ -172,6 +177,38 @@ public abstract class AbstractJellyfishAnalysisCommand extends AbstractJellyfish
       for (IFeature feature : getOptions().getGherkinParsingResult().getFeatures()) {
          analyzeFeature(feature);
       }
+      analyzeProject();
+   }
+
+   /**
+    * Invoked after every element and feature has been analyzed when the entire project is analyzed.  The default
+    * implementation does nothing.  Extenders of this class can override this method to analyze the project as a whole,
+    * such as the layout of its files.
+    */
+   protected void analyzeProject() {
+   }
+
+   /**
+    * Returns true if this command can be run as part of a {@link FusedAnalysis}.  A fused command is not
+    * {@link #run(com.ngc.seaside.jellyfish.api.ICommandOptions) run}; instead, its callbacks are invoked in the same
+    * order as {@link #analyzeEntireProject()} would invoke them, interleaved with the callbacks of other commands.  The
+    * default implementation returns false.
+    *
+    * @return true if this command may be fused with other commands
+    */
+   protected boolean isFusible() {
+      return false;
+   }
+
+   /**
+    * Returns true if {@link #analyzePackage(IPackage)}, {@link #analyzeModel(IModel)}, {@link #analyzeData(IData)},
+    * and {@link #analyzeEnumeration(IEnumeration)} may be invoked concurrently for different packages when this
+    * command is {@link #isFusible() fused}.  The default implementation returns false.
+    *
+    * @return true if different packages may be analyzed concurrently
+    */
+   protected boolean isPackageAnalysisThreadSafe() {
+      return false;
    }
 
    /**
@@ -238,7 +275,7 @@ public abstract class AbstractJellyfishAnalysisCommand extends AbstractJellyfish
       Preconditions.checkState(analysisService != null,
                                "analysis service not set!  This service must be set to report a finding.");
       findingsReported = true;
-      analysisService.addFinding(finding);
+      FusedAnalysis.addFinding(analysisService, finding);
    }
 
    /**
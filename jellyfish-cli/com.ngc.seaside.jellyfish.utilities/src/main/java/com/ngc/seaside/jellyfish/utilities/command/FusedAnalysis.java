@@ -0,0 +1,218 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.utilities.command;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Stopwatch;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.ngc.seaside.jellyfish.api.CommandException;
+import com.ngc.seaside.jellyfish.api.IJellyFishCommand;
+import com.ngc.seaside.jellyfish.api.IJellyFishCommandOptions;
+import com.ngc.seaside.jellyfish.service.analysis.api.IAnalysisService;
+import com.ngc.seaside.jellyfish.service.analysis.api.SystemDescriptorFinding;
+import com.ngc.seaside.systemdescriptor.model.api.IPackage;
+import com.ngc.seaside.systemdescriptor.model.api.data.IData;
+import com.ngc.seaside.systemdescriptor.model.api.data.IEnumeration;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
+import com.ngc.seaside.systemdescriptor.service.gherkin.model.api.IFeature;
+import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
+
+import org.apache.commons.lang3.time.DurationFormatUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Runs several {@link AbstractJellyfishAnalysisCommand#isFusible() fusible} analysis commands over an entire project
+ * with a single traversal of the System Descriptor.  Each element is dispatched to every command before moving on to
+ * the next element, so commands share the cost of walking the model.
+ *
+ * <p/> Packages may optionally be analyzed concurrently if every command is
+ * {@link AbstractJellyfishAnalysisCommand#isPackageAnalysisThreadSafe() thread safe}.  In that case, the findings of
+ * each package are buffered and added to the {@code IAnalysisService} in the order of the packages in the System
+ * Descriptor.  This keeps the order of findings the same no matter how many threads are used.
+ */
+public class FusedAnalysis {
+
+   /**
+    * The findings reported on the current thread which have not yet been added to an analysis service.  This is only
+    * set while a package is being analyzed concurrently.
+    */
+   private static final ThreadLocal<List<Runnable>> DEFERRED_FINDINGS = new ThreadLocal<>();
+
+   private final ILogService logService;
+   private final IJellyFishCommandOptions options;
+   private final List<AbstractJellyfishAnalysisCommand> commands = new ArrayList<>();
+
+   /**
+    * Creates a new fused analysis.
+    *
+    * @param logService the log service
+    * @param options    the options to analyze the project with
+    */
+   public FusedAnalysis(ILogService logService, IJellyFishCommandOptions options) {
+      this.logService = Preconditions.checkNotNull(logService, "logService may not be null!");
+      this.options = Preconditions.checkNotNull(options, "options may not be null!");
+   }
+
+   /**
+    * Gets the analysis command that performs the work of the given command if that analysis command can be fused.
+    * Both analysis commands and {@link IAnalysisCommandWrapper wrappers} of analysis commands are supported.
+    *
+    * @param command the command
+    * @return the fusible analysis command or an empty optional if the command cannot be fused
+    */
+   public static Optional<AbstractJellyfishAnalysisCommand> getFusibleCommand(IJellyFishCommand command) {
+      Preconditions.checkNotNull(command, "command may not be null!");
+      AbstractJellyfishAnalysisCommand analysis = null;
+      if (command instanceof AbstractJellyfishAnalysisCommand) {
+         analysis = (AbstractJellyfishAnalysisCommand) command;
+      } else if (command instanceof IAnalysisCommandWrapper) {
+         analysis = ((IAnalysisCommandWrapper) command).getAnalysisCommand();
+      }
+      return Optional.ofNullable(analysis).filter(AbstractJellyfishAnalysisCommand::isFusible);
+   }
+
+   /**
+    * Adds a command to this analysis.  Commands are invoked in the order they are added.
+    *
+    * @param command a fusible analysis command
+    * @return this analysis
+    */
+   public FusedAnalysis add(AbstractJellyfishAnalysisCommand command) {
+      Preconditions.checkNotNull(command, "command may not be null!");
+      Preconditions.checkArgument(command.isFusible(), "command %s cannot be fused!", command.getName());
+      commands.add(command);
+      return this;
+   }
+
+   /**
+    * Analyzes the entire project with every command that has been added.
+    *
+    * @param parallel true to analyze packages concurrently if all the commands allow it
+    */
+   public void run(boolean parallel) {
+      Stopwatch sw = Stopwatch.createStarted();
+
+      forEachCommand(AbstractJellyfishAnalysisCommand::preAnalysis);
+      List<IPackage> packages = new ArrayList<>(options.getSystemDescriptor().getPackages());
+      if (parallel
+            && packages.size() > 1
+            && commands.stream().allMatch(AbstractJellyfishAnalysisCommand::isPackageAnalysisThreadSafe)) {
+         analyzePackagesConcurrently(packages);
+      } else {
+         packages.forEach(this::analyzePackage);
+      }
+      for (IFeature feature : options.getGherkinParsingResult().getFeatures()) {
+         forEachCommand(c -> c.analyzeFeature(feature));
+      }
+      forEachCommand(AbstractJellyfishAnalysisCommand::analyzeProject);
+      forEachCommand(AbstractJellyfishAnalysisCommand::postAnalysis);
+
+      long elapsed = sw.elapsed(TimeUnit.MILLISECONDS);
+      logService.debug(FusedAnalysis.class,
+                       "Fused analysis of %d commands completed in %s.",
+                       commands.size(),
+                       DurationFormatUtils.formatDurationHMS(elapsed));
+   }
+
+   /**
+    * Adds the finding to the given service.  If a package is being analyzed concurrently on the current thread, the
+    * finding is added once all previous packages have been analyzed.
+    */
+   static void addFinding(IAnalysisService analysisService, SystemDescriptorFinding<?> finding) {
+      List<Runnable> deferred = DEFERRED_FINDINGS.get();
+      if (deferred == null) {
+         analysisService.addFinding(finding);
+      } else {
+         deferred.add(() -> analysisService.addFinding(finding));
+      }
+   }
+
+   private void analyzePackage(IPackage pkg) {
+      forEachCommand(c -> c.analyzePackage(pkg));
+      for (IModel model : pkg.getModels()) {
+         forEachCommand(c -> c.analyzeModel(model));
+      }
+      for (IData data : pkg.getData()) {
+         forEachCommand(c -> c.analyzeData(data));
+      }
+      for (IEnumeration enumeration : pkg.getEnumerations()) {
+         forEachCommand(c -> c.analyzeEnumeration(enumeration));
+      }
+   }
+
+   private void analyzePackagesConcurrently(List<IPackage> packages) {
+      List<Callable<List<Runnable>>> tasks = new ArrayList<>(packages.size());
+      for (IPackage pkg : packages) {
+         tasks.add(() -> {
+            List<Runnable> deferred = new ArrayList<>();
+            DEFERRED_FINDINGS.set(deferred);
+            try {
+               analyzePackage(pkg);
+            } finally {
+               DEFERRED_FINDINGS.remove();
+            }
+            return deferred;
+         });
+      }
+
+      int threads = Math.min(packages.size(), Runtime.getRuntime().availableProcessors());
+      ExecutorService executor = Executors.newFixedThreadPool(
+            threads,
+            new ThreadFactoryBuilder().setNameFormat("jellyfish-analysis-%d").setDaemon(true).build());
+      try {
+         // Futures are returned in the same order as the tasks, so findings are added in package order.
+         for (Future<List<Runnable>> future : executor.invokeAll(tasks)) {
+            future.get().forEach(Runnable::run);
+         }
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+         throw new CommandException(e);
+      } catch (ExecutionException e) {
+         if (e.getCause() instanceof RuntimeException) {
+            throw (RuntimeException) e.getCause();
+         }
+         if (e.getCause() instanceof Error) {
+            throw (Error) e.getCause();
+         }
+         throw new CommandException(e.getCause().getMessage(), e.getCause());
+      } finally {
+         executor.shutdownNow();
+      }
+   }
+
+   private void forEachCommand(Consumer<AbstractJellyfishAnalysisCommand> action) {
+      for (AbstractJellyfishAnalysisCommand command : commands) {
+         command.runWithOptions(options, () -> action.accept(command));
+      }
+   }
+}
@@ -0,0 +1,189 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.utilities.command;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.ngc.seaside.jellyfish.api.CommandException;
+import com.ngc.seaside.jellyfish.api.IJellyFishCommandOptions;
+import com.ngc.seaside.jellyfish.api.IJellyFishCommandProvider;
+import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs the subcommands of a command that generates several projects.  Each subcommand may depend on subcommands that
+ * were added before it.  When run serially, subcommands are run in the order they were added.  When run in parallel, a
+ * subcommand is started as soon as all of the subcommands it depends on have finished.  Subcommands that write to
+ * disjoint directories and only share thread safe services can be added without dependencies.
+ * <p/>
+ * If a subcommand fails, the subcommands that depend on it are not run.  All other subcommands are allowed to finish
+ * before the first failure is rethrown.
+ */
+public class SubcommandRunner {
+
+   private final IJellyFishCommandProvider commandProvider;
+   private final ILogService logService;
+   private final Class<?> owner;
+   private final Map<String, Subcommand> subcommands = new LinkedHashMap<>();
+
+   /**
+    * Creates a new runner.
+    *
+    * @param commandProvider the provider used to run the subcommands
+    * @param logService      the log service
+    * @param owner           the command that is running the subcommands, used for logging
+    */
+   public SubcommandRunner(IJellyFishCommandProvider commandProvider, ILogService logService, Class<?> owner) {
+      this.commandProvider = Preconditions.checkNotNull(commandProvider, "commandProvider may not be null!");
+      this.logService = Preconditions.checkNotNull(logService, "logService may not be null!");
+      this.owner = Preconditions.checkNotNull(owner, "owner may not be null!");
+   }
+
+   /**
+    * Adds a subcommand.
+    *
+    * @param command      the name of the subcommand
+    * @param options      the options to run the subcommand with
+    * @param dependencies the names of previously added subcommands that must finish before this subcommand is run
+    * @return this runner
+    */
+   public SubcommandRunner add(String command, IJellyFishCommandOptions options, String... dependencies) {
+      return add(command, options, Arrays.asList(dependencies));
+   }
+
+   /**
+    * Adds a subcommand that depends on every subcommand that has been added so far.  This is used for subcommands
+    * that read state the other subcommands build up, such as the projects registered with the build management
+    * service.
+    *
+    * @param command the name of the subcommand
+    * @param options the options to run the subcommand with
+    * @return this runner
+    */
+   public SubcommandRunner addAfterAll(String command, IJellyFishCommandOptions options) {
+      return add(command, options, new ArrayList<>(subcommands.keySet()));
+   }
+
+   /**
+    * Runs all subcommands that have been added.
+    *
+    * @param parallel true to run independent subcommands concurrently, false to run each subcommand in the order it
+    *                 was added
+    */
+   public void run(boolean parallel) {
+      if (!parallel || subcommands.size() < 2) {
+         for (Subcommand subcommand : subcommands.values()) {
+            runSubcommand(subcommand);
+         }
+         return;
+      }
+
+      int threads = Math.min(subcommands.size(), Runtime.getRuntime().availableProcessors());
+      ExecutorService executor = Executors.newFixedThreadPool(
+            threads,
+            new ThreadFactoryBuilder().setNameFormat("jellyfish-subcommand-%d").setDaemon(true).build());
+      try {
+         Map<String, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+         for (Subcommand subcommand : subcommands.values()) {
+            CompletableFuture<?>[] dependencies = subcommand.dependencies.stream()
+                  .map(futures::get)
+                  .toArray(CompletableFuture<?>[]::new);
+            futures.put(subcommand.command,
+                        CompletableFuture.allOf(dependencies).thenRunAsync(() -> runSubcommand(subcommand), executor));
+         }
+
+         // Wait for every subcommand so none are still generating files when a failure is reported.  A subcommand
+         // always fails after the subcommands it depends on, so the first failure found is the original one.
+         Throwable failure = null;
+         for (CompletableFuture<Void> future : futures.values()) {
+            try {
+               future.join();
+            } catch (CompletionException e) {
+               if (failure == null) {
+                  failure = e.getCause();
+               }
+            }
+         }
+         if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+         }
+         if (failure instanceof Error) {
+            throw (Error) failure;
+         }
+         if (failure != null) {
+            throw new CommandException(failure.getMessage(), failure);
+         }
+      } finally {
+         executor.shutdownNow();
+      }
+   }
+
+   private SubcommandRunner add(String command,
+                                IJellyFishCommandOptions options,
+                                Collection<String> dependencies) {
+      Preconditions.checkNotNull(command, "command may not be null!");
+      Preconditions.checkArgument(!command.trim().isEmpty(), "command may not be empty!");
+      Preconditions.checkNotNull(options, "options may not be null!");
+      Preconditions.checkArgument(!subcommands.containsKey(command), "command %s has already been added!", command);
+      for (String dependency : dependencies) {
+         // Only allowing dependencies on earlier subcommands keeps the graph acyclic and makes the order subcommands
+         // were added a valid serial order.
+         Preconditions.checkArgument(subcommands.containsKey(dependency),
+                                     "command %s depends on %s which has not been added!",
+                                     command,
+                                     dependency);
+      }
+      subcommands.put(command, new Subcommand(command, options, new ArrayList<>(dependencies)));
+      return this;
+   }
+
+   private void runSubcommand(Subcommand subcommand) {
+      logService.debug(owner, "--------------------------------------------------");
+      logService.debug(owner, "Running %s", subcommand.command);
+      logService.debug(owner, "--------------------------------------------------");
+      commandProvider.run(subcommand.command, subcommand.options);
+   }
+
+   private static class Subcommand {
+
+      final String command;
+      final IJellyFishCommandOptions options;
+      final List<String> dependencies;
+
+      Subcommand(String command, IJellyFishCommandOptions options, List<String> dependencies) {
+         this.command = command;
+         this.options = options;
+         this.dependencies = dependencies;
+      }
+   }
+}
@@ -27,6 +27,7 @@ import com.ngc.seaside.jellyfish.utilities.console.api.ITableFormat;
 
 import org.apache.commons.lang3.StringUtils;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -141,51 +142,64 @@ public class StringTable<T> extends AbstractTable<T> {
       List<MultiLineRow> rows = new ArrayList<>();
       int rowNumber = 0;
       for (T item : getModel().getItems()) {
-         MultiLineRow row = new MultiLineRow(rowNumber);
+         rows.add(getRow(item, rowNumber, columnWidths));
+         rowNumber++;
+      }
 
-         int maxLines = 1;
+      return rows;
+   }
 
-         for (int column = 0; column < getFormat().getColumnCount(); column++) {
-            MultiLineCell cell = new MultiLineCell(column);
+   /**
+    * Get a single row of the table given the column widths.
+    *
+    * @param item         the item of the row.
+    * @param rowNumber    the number of the row.
+    * @param columnWidths the column widths.
+    * @return the row formatted for multiline use based on the format.
+    */
+   protected MultiLineRow getRow(T item, int rowNumber, Map<Integer, Integer> columnWidths) {
+      MultiLineRow row = new MultiLineRow(rowNumber);
 
-            if (getFormat().getColumnValue(item, column) == null) {
-               throw new IllegalArgumentException(String.format(
-                     "getRows() Column '%s' Row: '%s' value is null", column, rowNumber));
-            }
+      int maxLines = 1;
+
+      for (int column = 0; column < getFormat().getColumnCount(); column++) {
+         MultiLineCell cell = new MultiLineCell(column);
+
+         Object columnValue = getFormat().getColumnValue(item, column);
+         if (columnValue == null) {
+            throw new IllegalArgumentException(String.format(
+                  "getRows() Column '%s' Row: '%s' value is null", column, rowNumber));
+         }
 
-            String value = getFormat().getColumnValue(item, column).toString();
-            int length = value.length();
-            int width = columnWidths.get(column);
-
-            switch (getFormat().getColumnSizePolicy(column)) {
-               case FIXED:
-                  if (length > width) {
-                     List<String> lines = StringWrap.wrap(value, width, true);
-                     if (maxLines < lines.size()) {
-                        maxLines = lines.size();
-                     }
-                     cell.addLines(lines);
-                  } else {
-                     cell.addLine(value);
+         String value = columnValue.toString();
+         int length = value.length();
+         int width = columnWidths.get(column);
+
+         switch (getFormat().getColumnSizePolicy(column)) {
+            case FIXED:
+               if (length > width) {
+                  List<String> lines = StringWrap.wrap(value, width, true);
+                  if (maxLines < lines.size()) {
+                     maxLines = lines.size();
                   }
-                  break;
-               case MAX:
+                  cell.addLines(lines);
+               } else {
                   cell.addLine(value);
-                  break;
-               default:
-                  throw new IllegalArgumentException(
-                        String.format("Unable to determine size policy for column %s", column));
-            }
-
-            row.addCell(cell);
+               }
+               break;
+            case MAX:
+               cell.addLine(value);
+               break;
+            default:
+               throw new IllegalArgumentException(
+                     String.format("Unable to determine size policy for column %s", column));
          }
 
-         row.setNumberOfLines(maxLines);
-         rows.add(row);
-         rowNumber++;
+         row.addCell(cell);
       }
 
-      return rows;
+      row.setNumberOfLines(maxLines);
+      return row;
    }
 
    /**
@@ -238,6 +252,34 @@ public class StringTable<T> extends AbstractTable<T> {
       return toString(getRows(map), map);
    }
 
+   /**
+    * Write the table to the given output. The output is the same as {@link #toString()} but each row is formatted and
+    * written before the next one is built, so large tables don't need to be held in memory as a single String.
+    *
+    * @param out the output to write to.
+    * @throws IOException if the output can't be written to.
+    */
+   public void write(Appendable out) throws IOException {
+      if (getModel().getItems().isEmpty()) {
+         return;
+      }
+      Map<Integer, Integer> columnWidths = getColumnWidths();
+      final String ROW_SEPARATOR = buildRowSeparator(getTableWidth(columnWidths) + 1);
+
+      if (showHeader) {
+         out.append(ROW_SEPARATOR);
+         out.append(rowToString(getHeader(columnWidths), columnWidths));
+      }
+
+      out.append(ROW_SEPARATOR);
+
+      int rowNumber = 0;
+      for (T item : getModel().getItems()) {
+         out.append(rowToString(getRow(item, rowNumber, columnWidths), columnWidths)).append(ROW_SEPARATOR);
+         rowNumber++;
+      }
+   }
+
    /**
     * Build a String representation of the table.
     *
@@ -280,17 +322,21 @@ public class StringTable<T> extends AbstractTable<T> {
       int rowNumber = 0;
       for (T item : getModel().getItems()) {
          for (int column = 0; column < getFormat().getColumnCount(); column++) {
+            ITableFormat.ColumnSizePolicy policy = getFormat().getColumnSizePolicy(column);
+            if (policy == ITableFormat.ColumnSizePolicy.FIXED) {
+               // The width of a fixed column doesn't depend on its values.
+               continue;
+            }
 
-            if (getFormat().getColumnValue(item, column) == null) {
+            Object value = getFormat().getColumnValue(item, column);
+            if (value == null) {
                throw new IllegalArgumentException(String.format(
                      "getColumnWidths() Column '%s' Row: '%s' value is null", column, rowNumber));
             }
 
-            int length = getFormat().getColumnValue(item, column).toString().length();
+            int length = value.toString().length();
 
-            switch (getFormat().getColumnSizePolicy(column)) {
-               case FIXED:
-                  break;
+            switch (policy) {
                case MAX:
                   //ensure that the column width is updated if the
                   if (columnWidths.get(column) < length) {
@@ -301,8 +347,8 @@ public class StringTable<T> extends AbstractTable<T> {
                   throw new IllegalArgumentException(
                         String.format("Unable to determine size policy for column %s", column));
             }
-            rowNumber++;
          }
+         rowNumber++;
       }
 
       return columnWidths;
@@ -0,0 +1,264 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.utilities.command;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.ngc.seaside.jellyfish.api.DefaultParameterCollection;
+import com.ngc.seaside.jellyfish.api.DefaultUsage;
+import com.ngc.seaside.jellyfish.api.IJellyFishCommand;
+import com.ngc.seaside.jellyfish.api.IJellyFishCommandOptions;
+import com.ngc.seaside.jellyfish.api.IUsage;
+import com.ngc.seaside.jellyfish.service.analysis.api.IAnalysisService;
+import com.ngc.seaside.jellyfish.service.analysis.api.SystemDescriptorFinding;
+import com.ngc.seaside.systemdescriptor.model.api.IPackage;
+import com.ngc.seaside.systemdescriptor.model.api.ISystemDescriptor;
+import com.ngc.seaside.systemdescriptor.model.api.data.IData;
+import com.ngc.seaside.systemdescriptor.model.api.data.IEnumeration;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
+import com.ngc.seaside.systemdescriptor.model.impl.basic.NamedChildCollection;
+import com.ngc.seaside.systemdescriptor.service.gherkin.api.IGherkinParsingResult;
+import com.ngc.seaside.systemdescriptor.service.gherkin.model.api.IFeature;
+import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class FusedAnalysisTest {
+
+   private FusedAnalysis analysis;
+
+   private List<String> callbacks;
+
+   private List<SystemDescriptorFinding<?>> findings;
+
+   private NamedChildCollection<ISystemDescriptor, IPackage> packages;
+
+   @Mock
+   private IJellyFishCommandOptions options;
+
+   @Mock
+   private ISystemDescriptor systemDescriptor;
+
+   @Mock
+   private IGherkinParsingResult gherkinResult;
+
+   @Mock
+   private IAnalysisService analysisService;
+
+   @Mock
+   private ILogService logService;
+
+   @Before
+   public void setup() {
+      callbacks = Collections.synchronizedList(new ArrayList<>());
+      findings = new ArrayList<>();
+      packages = new NamedChildCollection<>();
+      doAnswer(invocation -> findings.add(invocation.getArgument(0))).when(analysisService).addFinding(any());
+
+      when(options.getParameters()).thenReturn(new DefaultParameterCollection());
+      when(options.getSystemDescriptor()).thenReturn(systemDescriptor);
+      when(options.getGherkinParsingResult()).thenReturn(gherkinResult);
+      when(systemDescriptor.getPackages()).thenReturn(packages);
+      when(gherkinResult.getFeatures()).thenReturn(Collections.emptyList());
+
+      analysis = new FusedAnalysis(logService, options);
+   }
+
+   @Test
+   public void testDoesDispatchEachElementToAllCommands() {
+      IModel model = model(pkg("com.foo"), "FooModel");
+      IFeature feature = mock(IFeature.class);
+      when(feature.getName()).thenReturn("FooFeature");
+      when(gherkinResult.getFeatures()).thenReturn(Collections.singletonList(feature));
+
+      analysis.add(new TestableCommand("a", true))
+            .add(new TestableCommand("b", false))
+            .run(false);
+
+      assertEquals(Arrays.asList("a:pre",
+                                 "b:pre",
+                                 "a:package:com.foo",
+                                 "b:package:com.foo",
+                                 "a:model:" + model.getName(),
+                                 "b:model:" + model.getName(),
+                                 "a:feature:FooFeature",
+                                 "b:feature:FooFeature",
+                                 "a:project",
+                                 "b:project",
+                                 "a:post",
+                                 "b:post"),
+                   callbacks);
+   }
+
+   @Test
+   public void testDoesAddFindingsInPackageOrderWhenRunConcurrently() {
+      List<String> names = new ArrayList<>();
+      for (int i = 0; i < 20; i++) {
+         IPackage pkg = pkg("com.foo" + i);
+         for (int j = 0; j < 5; j++) {
+            names.add(model(pkg, "Model" + i + "_" + j).getName());
+         }
+      }
+      TestableCommand a = new TestableCommand("a", true);
+      TestableCommand b = new TestableCommand("b", true);
+
+      analysis.add(a).add(b).run(true);
+
+      List<SystemDescriptorFinding<?>> expected = new ArrayList<>();
+      for (String name : names) {
+         expected.add(a.findings.get(name));
+         expected.add(b.findings.get(name));
+      }
+      assertEquals(expected, findings);
+      assertTrue(a.wereFindingsReported());
+   }
+
+   @Test
+   public void testDoesUnwrapFusibleCommands() {
+      TestableCommand command = new TestableCommand("a", true);
+      IJellyFishCommand wrapper = mock(IJellyFishCommand.class,
+                                       withSettings().extraInterfaces(IAnalysisCommandWrapper.class));
+      when(((IAnalysisCommandWrapper) wrapper).getAnalysisCommand()).thenReturn(command);
+
+      assertSame(command, FusedAnalysis.getFusibleCommand(command).get());
+      assertSame(command, FusedAnalysis.getFusibleCommand(wrapper).get());
+      assertFalse(FusedAnalysis.getFusibleCommand(mock(IJellyFishCommand.class)).isPresent());
+      assertFalse(FusedAnalysis.getFusibleCommand(new UnfusibleCommand()).isPresent());
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testDoesNotAddUnfusibleCommands() {
+      analysis.add(new UnfusibleCommand());
+   }
+
+   private IPackage pkg(String name) {
+      IPackage pkg = mock(IPackage.class);
+      when(pkg.getName()).thenReturn(name);
+      when(pkg.getModels()).thenReturn(new NamedChildCollection<>());
+      when(pkg.getData()).thenReturn(new NamedChildCollection<IPackage, IData>());
+      when(pkg.getEnumerations()).thenReturn(new NamedChildCollection<IPackage, IEnumeration>());
+      packages.add(pkg);
+      return pkg;
+   }
+
+   private static IModel model(IPackage pkg, String name) {
+      IModel model = mock(IModel.class);
+      when(model.getName()).thenReturn(name);
+      pkg.getModels().add(model);
+      return model;
+   }
+
+   private class TestableCommand extends AbstractJellyfishAnalysisCommand {
+
+      private final boolean threadSafe;
+      private final Map<String, SystemDescriptorFinding<?>> findings = new ConcurrentHashMap<>();
+
+      TestableCommand(String name, boolean threadSafe) {
+         super(name);
+         this.threadSafe = threadSafe;
+         setAnalysisService(analysisService);
+      }
+
+      @Override
+      protected IUsage createUsage() {
+         return new DefaultUsage("");
+      }
+
+      @Override
+      protected boolean isFusible() {
+         return true;
+      }
+
+      @Override
+      protected boolean isPackageAnalysisThreadSafe() {
+         return threadSafe;
+      }
+
+      @Override
+      protected void preAnalysis() {
+         callbacks.add(getName() + ":pre");
+      }
+
+      @Override
+      protected void analyzePackage(IPackage pkg) {
+         callbacks.add(getName() + ":package:" + pkg.getName());
+      }
+
+      @Override
+      protected void analyzeModel(IModel model) {
+         // Make sure the options are available as they would be if the command were run.
+         getOptions();
+         callbacks.add(getName() + ":model:" + model.getName());
+         SystemDescriptorFinding<?> finding = mock(SystemDescriptorFinding.class);
+         findings.put(model.getName(), finding);
+         reportFinding(finding);
+      }
+
+      @Override
+      protected void analyzeFeature(IFeature feature) {
+         callbacks.add(getName() + ":feature:" + feature.getName());
+      }
+
+      @Override
+      protected void analyzeProject() {
+         callbacks.add(getName() + ":project");
+      }
+
+      @Override
+      protected void postAnalysis() {
+         callbacks.add(getName() + ":post");
+      }
+   }
+
+   private static class UnfusibleCommand extends AbstractJellyfishAnalysisCommand {
+
+      UnfusibleCommand() {
+         super("unfusible");
+      }
+
+      @Override
+      protected IUsage createUsage() {
+         return new DefaultUsage("");
+      }
+   }
+}
@@ -0,0 +1,124 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.utilities.command;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.ngc.seaside.jellyfish.api.CommandException;
+import com.ngc.seaside.jellyfish.api.IJellyFishCommandOptions;
+import com.ngc.seaside.jellyfish.api.IJellyFishCommandProvider;
+import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SubcommandRunnerTest {
+
+   private SubcommandRunner runner;
+
+   private final List<String> commands = Collections.synchronizedList(new ArrayList<>());
+
+   @Mock
+   private IJellyFishCommandProvider commandProvider;
+
+   @Mock
+   private IJellyFishCommandOptions options;
+
+   @Mock
+   private ILogService logService;
+
+   @Before
+   public void setup() {
+      doAnswer(invocation -> {
+         String command = invocation.getArgument(0);
+         if (command.startsWith("slow")) {
+            Thread.sleep(50);
+         }
+         if (command.startsWith("fail")) {
+            throw new CommandException(command);
+         }
+         return commands.add(command);
+      }).when(commandProvider).run(anyString(), any(IJellyFishCommandOptions.class));
+
+      runner = new SubcommandRunner(commandProvider, logService, SubcommandRunnerTest.class);
+   }
+
+   @Test
+   public void testDoesRunSubcommandsInOrderWhenSerial() {
+      runner.add("slow-a", options)
+            .add("b", options)
+            .addAfterAll("c", options)
+            .run(false);
+
+      assertEquals(Arrays.asList("slow-a", "b", "c"), commands);
+   }
+
+   @Test
+   public void testDoesRunSubcommandsAfterDependenciesWhenParallel() {
+      runner.add("slow-a", options)
+            .add("b", options)
+            .add("d", options, "slow-a")
+            .addAfterAll("c", options)
+            .run(true);
+
+      assertEquals(4, commands.size());
+      assertTrue(commands.indexOf("slow-a") < commands.indexOf("d"));
+      assertEquals("c", commands.get(3));
+   }
+
+   @Test
+   public void testDoesNotRunDependentsOfFailedSubcommand() {
+      runner.add("slow-fail", options)
+            .add("b", options)
+            .addAfterAll("c", options);
+      try {
+         runner.run(true);
+         fail("expected the failure to be rethrown!");
+      } catch (CommandException e) {
+         assertEquals("slow-fail", e.getMessage());
+      }
+
+      assertTrue(commands.contains("b"));
+      assertFalse(commands.contains("c"));
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void testDoesNotAllowDependenciesOnSubcommandsThatHaveNotBeenAdded() {
+      runner.add("a", options, "b");
+   }
+}
@@ -28,6 +28,7 @@ import com.ngc.seaside.jellyfish.utilities.console.api.ITableFormat;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -91,6 +92,25 @@ public class StringTableTest {
       System.out.println(fixture);
    }
 
+   @Test
+   public void doesWriteSameOutputAsToString() throws IOException {
+      fixture.getModel().addItems(Arrays.asList(
+            new TestItem("property", "this is the description of a property", "This is the last column for row 1"),
+            new TestItem("another property", "a short description", "This is the last column for the 2nd row")));
+      fixture.setRowSpacer("_");
+      fixture.setColumnSpacer("|");
+      fixture.setShowHeader(true);
+
+      StringBuilder out = new StringBuilder();
+      fixture.write(out);
+      assertEquals(fixture.toString(), out.toString());
+
+      StringTable<TestItem> empty = new StringTable<>(new ItemItemFormat());
+      out.setLength(0);
+      empty.write(out);
+      assertEquals("", out.toString());
+   }
+
    private class ItemItemFormat implements ITableFormat<TestItem> {
 
       @Override
@@ -33,7 +33,8 @@ import com.ngc.seaside.jellyfish.cli.gradle.adapter.GradleLogService;
 import com.ngc.seaside.jellyfish.service.impl.templateservice.TemplateServiceGuiceModule;
 
 /**
- * The module used to run Jellyfish within Gradle.
+ * The module used to run Jellyfish within Gradle.  This module has no state, so all instances are equal.  This lets
+ * Jellyfish reuse its injector between executions in daemon mode.
  */
 public class GradleJellyfishModule extends DefaultJellyfishModule {
 
@@ -55,4 +56,14 @@ public class GradleJellyfishModule extends DefaultJellyfishModule {
       modules.removeIf(m -> UNWANTED_MODULES.contains(m.getClass()));
       return modules;
    }
+
+   @Override
+   public boolean equals(Object obj) {
+      return obj != null && obj.getClass() == getClass();
+   }
+
+   @Override
+   public int hashCode() {
+      return getClass().hashCode();
+   }
 }
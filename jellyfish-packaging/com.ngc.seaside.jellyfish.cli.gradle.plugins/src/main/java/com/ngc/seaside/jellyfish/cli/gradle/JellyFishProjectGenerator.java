@@ -113,7 +113,14 @@ public class JellyFishProjectGenerator {
       return this;
    }
 
-   private static Map<String, String> asPureJavaTypes(Map<?, ?> map) {
+   /**
+    * Converts the keys and values of the given map to strings.  Groovy build scripts may add GStrings or other objects
+    * to maps of arguments.  Entries with {@code null} keys or values are dropped.
+    *
+    * @param map the map to convert
+    * @return a new map that only contains strings
+    */
+   public static Map<String, String> asPureJavaTypes(Map<?, ?> map) {
       Map<String, String> pure = new HashMap<>();
       for (Map.Entry<?, ?> entry : map.entrySet()) {
          Object key = entry.getKey();
@@ -50,6 +50,7 @@ import org.gradle.api.publish.maven.MavenPublication;
 import org.gradle.api.publish.maven.plugins.MavenPublishPlugin;
 import org.gradle.api.publish.maven.tasks.GenerateMavenPom;
 import org.gradle.api.publish.plugins.PublishingPlugin;
+import org.gradle.api.tasks.PathSensitivity;
 import org.gradle.api.tasks.SourceSet;
 import org.gradle.api.tasks.SourceSetContainer;
 import org.gradle.api.tasks.TaskContainer;
@@ -195,6 +196,7 @@ public class SystemDescriptorProjectPlugin extends AbstractProjectPlugin {
          sdJar.dependsOn(task);
          testJar.dependsOn(task);
          task.dependsOn(tasks.withType(GenerateMavenPom.class));
+         configureUpToDateChecks(project, task);
 
          // Dependent local projects must be built and installed first
          project.getConfigurations().getByName(SD_CONFIGURATION_NAME).getAllDependencies()
@@ -214,6 +216,7 @@ public class SystemDescriptorProjectPlugin extends AbstractProjectPlugin {
          sdJar.dependsOn(task);
          testJar.dependsOn(task);
          task.dependsOn(validate);
+         configureUpToDateChecks(project, task);
       });
 
       tasks.create(ANALYZE_TASK_NAME, JellyFishCliCommandTask.class, task -> {
@@ -225,6 +228,28 @@ public class SystemDescriptorProjectPlugin extends AbstractProjectPlugin {
       });
    }
 
+   /**
+    * Configures a task that validates the project so Gradle can skip it if neither the project nor its dependencies
+    * have changed.  The validation commands don't produce any files, so an empty directory is used as the output of
+    * the task.  Since that directory is owned by the task, the task can also be loaded from the build cache.  The
+    * resolved files of the dependencies are inputs of the task, so a new SNAPSHOT or a new version that matches a
+    * version range makes the task out of date.
+    */
+   private static void configureUpToDateChecks(Project project, JellyFishCliCommandTask task) {
+      task.setOutputDirectory(project.getBuildDir().toPath().resolve(Paths.get("jellyfish", task.getName())).toFile());
+      task.setCacheable(true);
+
+      Configuration sd = project.getConfigurations().getByName(SD_CONFIGURATION_NAME);
+      // Local projects may change without changing their versions so track their sources.
+      sd.getAllDependencies().withType(ProjectDependency.class).all(dependency -> task.inputFiles(
+            JellyFishCliCommandTask.getSystemDescriptorSources(dependency.getDependencyProject().getProjectDir())));
+      // The location of the local Maven repository differs between machines, so only the names of the files are
+      // tracked.
+      task.getInputs().files(sd)
+            .withPropertyName("sdDependencies")
+            .withPathSensitivity(PathSensitivity.NAME_ONLY);
+   }
+
    private void applyPlugins(Project project) {
       // Java plugin is required to install a model project locally.
       project.getPlugins().apply(JavaPlugin.class);
@@ -22,37 +22,126 @@
  */
 package com.ngc.seaside.jellyfish.cli.gradle.tasks;
 
+import com.ngc.seaside.jellyfish.api.CommonParameters;
 import com.ngc.seaside.jellyfish.cli.gradle.JellyFishProjectGenerator;
+import com.ngc.seaside.jellyfish.service.execution.api.IJellyfishService;
 
 import org.gradle.api.DefaultTask;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.FileCollection;
+import org.gradle.api.logging.Logging;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.Optional;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
 import org.gradle.api.tasks.TaskAction;
+import org.gradle.workers.IsolationMode;
+import org.gradle.workers.WorkerExecutor;
 
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import javax.inject.Inject;
 
 /**
  * A Gradle task that runs Jellyfish.
+ *
+ * <p>
+ * The task declares the files of the system descriptor project identified by the {@code inputDirectory} argument as
+ * its inputs.  Its output is the directory set with {@link #setOutputDirectory(File)}.  If that has not been set, the
+ * directory identified by the {@code outputDirectory} argument is used, but only if it is inside the build directory
+ * of the project.  Other directories, such as the root of the project, contain files that are not owned by the task.
+ * This allows Gradle to skip the task when it is up to date.  Additional inputs can be declared with
+ * {@link #inputFiles(Object...)}.  A task that has no output directory is never up to date.
+ *
+ * <p>
+ * The outputs of a task are only loaded from the build cache if {@link #setCacheable(boolean) cacheable} is enabled
+ * and the output directory is inside the build directory.  Gradle deletes the output directory before it restores
+ * cached outputs, so only enable caching if the output directory is owned by the task.
+ *
+ * <p>
+ * If {@link #setUseWorker(boolean) useWorker} is enabled or the {@value #USE_WORKER_PROPERTY} project property is
+ * {@code true}, Jellyfish is run in a worker process instead of the Gradle daemon.  Worker processes are reused by all
+ * Jellyfish tasks of a build.  If {@link #setDaemon(boolean) daemon} is also enabled or the
+ * {@value IJellyfishService#DAEMON_PROPERTY_NAME} project property is {@code true}, Jellyfish runs in
+ * {@link IJellyfishService#DAEMON_PROPERTY_NAME daemon mode} in the worker so later tasks reuse the injectors and
+ * parsed projects of earlier tasks.  Daemon mode is disabled by default.
  */
 public class JellyFishCliCommandTask extends DefaultTask {
 
+   /**
+    * The name of the project property that enables running Jellyfish in a shared worker process for all tasks that
+    * don't explicitly set {@link #setUseWorker(boolean) useWorker}.
+    */
+   public static final String USE_WORKER_PROPERTY = "jellyfish.useWorker";
+
+   private final WorkerExecutor workerExecutor;
+
+   private final ConfigurableFileCollection inputFiles;
+
    private String command;
 
    private boolean failBuildOnException = true;
 
    private Map<String, String> arguments = new HashMap<>();
 
+   private File outputDirectory;
+
+   private Boolean useWorker;
+
+   private Boolean daemon;
+
+   private boolean cacheable;
+
+   /**
+    * Creates a new task.
+    */
+   @Inject
+   public JellyFishCliCommandTask(WorkerExecutor workerExecutor) {
+      this.workerExecutor = workerExecutor;
+      this.inputFiles = getProject().files((Callable<Object>) this::getSystemDescriptorSources);
+      getOutputs().cacheIf("caching is enabled and the output directory is in the build directory",
+                           task -> cacheable
+                                 && getOutputDirectory() != null
+                                 && isInBuildDirectory(getOutputDirectory()));
+   }
+
    /**
     * Runs Jellyfish.
     */
    @TaskAction
    public void runJellyfish() {
-      new JellyFishProjectGenerator(getLogger())
-            .setCommand(command)
-            .setArguments(arguments)
-            .setFailBuildOnException(failBuildOnException)
-            .generate();
+      if (isUseWorker()) {
+         HashMap<String, String> args = new HashMap<>(JellyFishProjectGenerator.asPureJavaTypes(arguments));
+         boolean isDaemon = isDaemon();
+         workerExecutor.submit(JellyfishWorkAction.class, config -> {
+            config.setIsolationMode(IsolationMode.PROCESS);
+            if (isDaemon) {
+               // Daemon mode lets the worker reuse its injectors and parsing results for later tasks.
+               config.forkOptions(options -> options.systemProperty(IJellyfishService.DAEMON_PROPERTY_NAME, "true"));
+            }
+            config.setDisplayName("Jellyfish " + command);
+            config.setParams(command, args, failBuildOnException);
+         });
+      } else {
+         new JellyFishProjectGenerator(getLogger())
+               .setCommand(command)
+               .setArguments(arguments)
+               .setFailBuildOnException(failBuildOnException)
+               .generate();
+      }
    }
 
+   @Input
    public String getCommand() {
       return command;
    }
@@ -61,6 +150,7 @@ public class JellyFishCliCommandTask extends DefaultTask {
       this.command = command;
    }
 
+   @Internal
    public Map<String, String> getArguments() {
       return arguments;
    }
@@ -73,6 +163,22 @@ public class JellyFishCliCommandTask extends DefaultTask {
       this.arguments = new HashMap<>(arguments);
    }
 
+   /**
+    * Gets the arguments that are used to determine if this task is up to date.  The input and output directories are
+    * excluded since they are tracked by {@link #getInputFiles()} and {@link #getOutputDirectory()}.  This allows the
+    * outputs of the task to be reused from the build cache by a project in a different location.
+    *
+    * @return the arguments of the command without the input and output directories
+    */
+   @Input
+   public Map<String, String> getTrackedArguments() {
+      Map<String, String> tracked = new TreeMap<>(JellyFishProjectGenerator.asPureJavaTypes(arguments));
+      tracked.remove(CommonParameters.INPUT_DIRECTORY.getName());
+      tracked.remove(CommonParameters.OUTPUT_DIRECTORY.getName());
+      return tracked;
+   }
+
+   @Input
    public boolean isFailBuildOnException() {
       return failBuildOnException;
    }
@@ -80,4 +186,169 @@ public class JellyFishCliCommandTask extends DefaultTask {
    public void setFailBuildOnException(boolean failBuildOnException) {
       this.failBuildOnException = failBuildOnException;
    }
+
+   /**
+    * Gets the files this task reads.  By default, this contains the sources of the system descriptor project
+    * identified by the {@code inputDirectory} argument.
+    *
+    * @return the input files of this task
+    */
+   @InputFiles
+   @PathSensitive(PathSensitivity.RELATIVE)
+   public FileCollection getInputFiles() {
+      return inputFiles;
+   }
+
+   /**
+    * Adds additional files that this task reads.
+    *
+    * @param paths the files to add, evaluated as per {@link org.gradle.api.Project#files(Object...)}
+    */
+   public void inputFiles(Object... paths) {
+      inputFiles.from(paths);
+   }
+
+   /**
+    * Gets the directory this task writes to.  If the output directory has not been set, this is the directory
+    * identified by the {@code outputDirectory} argument if that directory is inside the build directory.
+    *
+    * @return the output directory of this task or {@code null} if the task has no output directory
+    */
+   @OutputDirectory
+   @Optional
+   public File getOutputDirectory() {
+      if (outputDirectory != null) {
+         return outputDirectory;
+      }
+      Object directory = ((Map<?, ?>) arguments).get(CommonParameters.OUTPUT_DIRECTORY.getName());
+      if (directory == null) {
+         return null;
+      }
+      File file = getProject().file(directory.toString());
+      return isInBuildDirectory(file) ? file : null;
+   }
+
+   /**
+    * Sets the directory that Gradle tracks as the output of this task.  This value is not passed to Jellyfish.
+    *
+    * @param outputDirectory the output directory of this task
+    */
+   public void setOutputDirectory(File outputDirectory) {
+      this.outputDirectory = outputDirectory;
+   }
+
+   /**
+    * Returns true if Jellyfish is run in a shared worker process.  If this has not been set, the value of the
+    * {@value #USE_WORKER_PROPERTY} project property is used.
+    *
+    * @return true if Jellyfish is run in a worker process
+    */
+   @Internal
+   public boolean isUseWorker() {
+      if (useWorker != null) {
+         return useWorker;
+      }
+      Object property = getProject().findProperty(USE_WORKER_PROPERTY);
+      return property != null && Boolean.parseBoolean(property.toString());
+   }
+
+   public void setUseWorker(boolean useWorker) {
+      this.useWorker = useWorker;
+   }
+
+   /**
+    * Returns true if Jellyfish runs in daemon mode in the worker process.  If this has not been set, the value of the
+    * {@value IJellyfishService#DAEMON_PROPERTY_NAME} project property is used.  This has no effect unless
+    * {@link #isUseWorker() useWorker} is enabled.
+    *
+    * @return true if Jellyfish runs in daemon mode in the worker process
+    */
+   @Internal
+   public boolean isDaemon() {
+      if (daemon != null) {
+         return daemon;
+      }
+      Object property = getProject().findProperty(IJellyfishService.DAEMON_PROPERTY_NAME);
+      return property != null && Boolean.parseBoolean(property.toString());
+   }
+
+   public void setDaemon(boolean daemon) {
+      this.daemon = daemon;
+   }
+
+   /**
+    * Returns true if the outputs of this task may be loaded from the build cache.  This is false by default.
+    *
+    * @return true if the outputs of this task may be loaded from the build cache
+    */
+   @Internal
+   public boolean isCacheable() {
+      return cacheable;
+   }
+
+   /**
+    * Sets whether the outputs of this task may be loaded from the build cache.  Only enable caching if the output
+    * directory of the task is not shared with any other files since Gradle deletes the directory before it restores
+    * the cached outputs.
+    *
+    * @param cacheable true if the outputs of this task may be loaded from the build cache
+    */
+   public void setCacheable(boolean cacheable) {
+      this.cacheable = cacheable;
+   }
+
+   /**
+    * Gets the source directories of a system descriptor project.  These are the directories that contain the SD
+    * files, the Gherkin feature files and their resources.
+    *
+    * @param projectDirectory the base directory of the system descriptor project
+    * @return the source directories of the project
+    */
+   public static List<File> getSystemDescriptorSources(File projectDirectory) {
+      return Arrays.asList(
+            projectDirectory.toPath().resolve("src/main/sd").toFile(),
+            projectDirectory.toPath().resolve("src/main/resources").toFile(),
+            projectDirectory.toPath().resolve("src/test/gherkin").toFile(),
+            projectDirectory.toPath().resolve("src/test/resources").toFile());
+   }
+
+   private boolean isInBuildDirectory(File file) {
+      Path buildDirectory = getProject().getBuildDir().toPath().toAbsolutePath().normalize();
+      Path path = file.toPath().toAbsolutePath().normalize();
+      return path.startsWith(buildDirectory) && !path.equals(buildDirectory);
+   }
+
+   private List<File> getSystemDescriptorSources() {
+      Object directory = ((Map<?, ?>) arguments).get(CommonParameters.INPUT_DIRECTORY.getName());
+      return directory == null
+             ? Collections.emptyList()
+             : getSystemDescriptorSources(getProject().file(directory.toString()));
+   }
+
+   /**
+    * Runs Jellyfish in a worker process.  Jellyfish is only initialized once per worker process so later tasks that
+    * run in the same process are faster.
+    */
+   public static class JellyfishWorkAction implements Runnable {
+
+      private final String command;
+      private final Map<String, String> arguments;
+      private final boolean failBuildOnException;
+
+      @Inject
+      public JellyfishWorkAction(String command, HashMap<String, String> arguments, Boolean failBuildOnException) {
+         this.command = command;
+         this.arguments = arguments;
+         this.failBuildOnException = failBuildOnException;
+      }
+
+      @Override
+      public void run() {
+         new JellyFishProjectGenerator(Logging.getLogger(JellyFishCliCommandTask.class))
+               .setCommand(command)
+               .setArguments(arguments)
+               .setFailBuildOnException(failBuildOnException)
+               .generate();
+      }
+   }
 }
@@ -0,0 +1,114 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.cli.gradle.tasks;
+
+import com.ngc.seaside.jellyfish.service.execution.api.IJellyfishService;
+
+import org.gradle.api.Project;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class JellyFishCliCommandTaskTest {
+
+   private Project project;
+
+   private JellyFishCliCommandTask task;
+
+   @Before
+   public void setup() {
+      project = ProjectBuilder.builder().build();
+      task = project.getTasks().create("jellyfish", JellyFishCliCommandTask.class);
+      task.setCommand("create-java-service");
+   }
+
+   @Test
+   public void testDoesDeriveInputsAndOutputsFromArguments() {
+      assertTrue(task.getInputFiles().getFiles().isEmpty());
+      assertNull(task.getOutputDirectory());
+
+      Map<String, String> args = new HashMap<>();
+      args.put("inputDirectory", "model");
+      args.put("outputDirectory", "build/generated");
+      args.put("model", "com.ngc.Model");
+      task.setArguments(args);
+
+      assertEquals(new HashSet<>(JellyFishCliCommandTask.getSystemDescriptorSources(project.file("model"))),
+                   task.getInputFiles().getFiles());
+      assertEquals(project.file("build/generated"), task.getOutputDirectory());
+      assertEquals(Collections.singletonMap("model", "com.ngc.Model"), task.getTrackedArguments());
+
+      File explicit = project.file("build/validation");
+      task.setOutputDirectory(explicit);
+      assertEquals(explicit, task.getOutputDirectory());
+   }
+
+   @Test
+   public void testDoesNotUseOutputDirectoryArgumentOutsideOfBuildDirectory() {
+      task.setArguments(Collections.singletonMap("outputDirectory", project.getProjectDir().toString()));
+      assertNull("the project directory is not owned by the task!", task.getOutputDirectory());
+
+      task.setArguments(Collections.singletonMap("outputDirectory", project.getBuildDir().toString()));
+      assertNull("the build directory is not owned by the task!", task.getOutputDirectory());
+   }
+
+   @Test
+   public void testDoesNotCacheOutputsByDefault() {
+      assertFalse("caching should be opt-in!", task.isCacheable());
+      task.setCacheable(true);
+      assertTrue(task.isCacheable());
+   }
+
+   @Test
+   public void testDoesUseWorkerIfConfigured() {
+      assertFalse(task.isUseWorker());
+
+      project.getExtensions().getExtraProperties().set(JellyFishCliCommandTask.USE_WORKER_PROPERTY, "true");
+      assertTrue(task.isUseWorker());
+
+      task.setUseWorker(false);
+      assertFalse(task.isUseWorker());
+   }
+
+   @Test
+   public void testDoesNotUseDaemonModeByDefault() {
+      assertFalse("daemon mode should be opt-in!", task.isDaemon());
+
+      project.getExtensions().getExtraProperties().set(IJellyfishService.DAEMON_PROPERTY_NAME, "true");
+      assertTrue(task.isDaemon());
+
+      task.setDaemon(false);
+      assertFalse(task.isDaemon());
+   }
+}
@@ -23,7 +23,6 @@
 package com.ngc.seaside.jellyfish.sonarqube.sensor;
 
 import com.google.common.base.Preconditions;
-import com.google.inject.Injector;
 
 import com.ngc.seaside.jellyfish.Jellyfish;
 import com.ngc.seaside.jellyfish.api.CommonParameters;
@@ -57,7 +56,9 @@ import org.sonar.api.utils.log.Logger;
 import org.sonar.api.utils.log.Loggers;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -73,6 +74,11 @@ public class SystemDescriptorSensor implements Sensor {
 
    private static final Logger LOGGER = Loggers.get(SystemDescriptorSensor.class);
 
+   /**
+    * The name of the Jellyfish command that validates a project.
+    */
+   private static final String VALIDATE_COMMAND_NAME = "validate";
+
    private final SystemDescriptorRulesDefinition rules;
 
    private final IJellyfishModuleFactory moduleFactory;
@@ -102,8 +108,19 @@ public class SystemDescriptorSensor implements Sensor {
 
       Map<String, String> commandLineArgs = getCommandLineArgs();
 
-      executeValidation(commandLineArgs);
-      executeAnalyses(commandLineArgs);
+      // Validate and analyze the project with a single execution so the project is only parsed once.
+      List<String> commands = new ArrayList<>();
+      commands.add(VALIDATE_COMMAND_NAME);
+      boolean analyze = commandLineArgs.containsKey(AnalyzeCommand.ANALYSES_PARAMETER_NAME);
+      if (analyze) {
+         commands.add(AnalyzeCommand.NAME);
+      }
+      IJellyfishExecution execution = runJellyfishCommands(commands, commandLineArgs);
+
+      saveParsingIssues(execution);
+      if (analyze) {
+         saveAnalysisFindings(execution);
+      }
 
       LOGGER.debug("Scan complete.");
    }
@@ -157,21 +174,16 @@ public class SystemDescriptorSensor implements Sensor {
       return args;
    }
 
-   private void executeValidation(Map<String, String> commandLineArgs) {
-      IParsingResult r = runJellyfishCommand("validate", commandLineArgs).getParsingResult();
+   private void saveParsingIssues(IJellyfishExecution execution) {
+      IParsingResult r = execution.getParsingResult();
 
       for (IParsingIssue i : r.getIssues()) {
          saveSonarqubeIssue(i);
       }
    }
 
-   private void executeAnalyses(Map<String, String> commandLineArgs) {
-      if (!commandLineArgs.containsKey(AnalyzeCommand.ANALYSES_PARAMETER_NAME)) {
-         return;
-      }
-
-      Injector injector = runJellyfishCommand(AnalyzeCommand.NAME, commandLineArgs).getInjector();
-      IAnalysisService analysisService = injector.getInstance(IAnalysisService.class);
+   private void saveAnalysisFindings(IJellyfishExecution execution) {
+      IAnalysisService analysisService = execution.getInjector().getInstance(IAnalysisService.class);
 
       for (SystemDescriptorFinding<? extends ISystemDescriptorFindingType> f : analysisService.getFindings()) {
          if (f.getType().getSeverity()
@@ -181,9 +193,9 @@ public class SystemDescriptorSensor implements Sensor {
       }
    }
 
-   private IJellyfishExecution runJellyfishCommand(String commandName, Map<String, String> commandLineArgs) {
+   private IJellyfishExecution runJellyfishCommands(List<String> commandNames, Map<String, String> commandLineArgs) {
       // Run Jellyfish with logging enabled.
-      return Jellyfish.getService().run(commandName, commandLineArgs, moduleFactory.getJellyfishModules(true));
+      return Jellyfish.getService().runAll(commandNames, commandLineArgs, moduleFactory.getJellyfishModules(true));
    }
 
    private void saveSonarqubeIssue(IParsingIssue i) {
@@ -25,17 +25,25 @@ package com.ngc.seaside.jellyfish;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Stopwatch;
 import com.google.inject.AbstractModule;
+import com.google.inject.Binding;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
+import com.google.inject.Key;
 import com.google.inject.Module;
 import com.google.inject.Stage;
+import com.google.inject.TypeLiteral;
 
+import com.ngc.seaside.jellyfish.api.CommandException;
 import com.ngc.seaside.jellyfish.api.DefaultJellyFishCommandOptions;
 import com.ngc.seaside.jellyfish.api.ICommand;
 import com.ngc.seaside.jellyfish.api.ICommandOptions;
 import com.ngc.seaside.jellyfish.api.ICommandProvider;
+import com.ngc.seaside.jellyfish.api.IJellyFishCommand;
 import com.ngc.seaside.jellyfish.api.IJellyFishCommandOptions;
 import com.ngc.seaside.jellyfish.api.IJellyFishCommandProvider;
+import com.ngc.seaside.jellyfish.api.IParameter;
+import com.ngc.seaside.jellyfish.api.IParameterCollection;
+import com.ngc.seaside.jellyfish.service.execution.api.IExecutionScopedService;
 import com.ngc.seaside.jellyfish.service.execution.api.IJellyfishExecution;
 import com.ngc.seaside.jellyfish.service.execution.api.IJellyfishService;
 import com.ngc.seaside.jellyfish.service.execution.api.JellyfishExecutionException;
@@ -43,13 +51,26 @@ import com.ngc.seaside.jellyfish.service.execution.api.JellyfishExecutionExcepti
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * An implementation of the {@code IJellyfishService} that can be referenced from other applications.  This service
- * runs with Guice and will create a new Injector for every execution of Jellyfish.
+ * runs with Guice and will create a new Injector for every execution of Jellyfish unless daemon mode is enabled.
+ *
+ * <p/>
+ * In daemon mode, the injector created for a given set of modules is reused by every later execution that uses equal
+ * modules in the same order.  This avoids recreating the injector and reinitializing XText for each execution.
+ * Modules are compared with {@code equals}, so by default an injector is only reused if the same module instances are
+ * passed again.  A module whose bindings don't depend on its state may implement {@code equals} and {@code hashCode}
+ * so that new instances of it reuse the injector as well.  Before each execution that reuses an injector, every
+ * {@link IExecutionScopedService} bound in the injector is reset so the state of one execution does not leak into the
+ * next.  Executions that share an injector are run one at a time.
  */
 public class JellyfishService implements IJellyfishService {
 
@@ -59,6 +80,40 @@ public class JellyfishService implements IJellyfishService {
     */
    static final String BLOCS_HOME_SYSTEM_PROPERTY = "NG_FW_HOME";
 
+   /**
+    * The key of the set of services that must be reset before an injector is reused.
+    */
+   private static final Key<Set<IExecutionScopedService>> EXECUTION_SCOPED_SERVICES =
+         Key.get(new TypeLiteral<Set<IExecutionScopedService>>() {
+         });
+
+   /**
+    * If true, injectors are reused between executions.
+    */
+   private final boolean reuseInjectors;
+
+   /**
+    * The injectors that can be reused, keyed by the modules that were used to create them.
+    */
+   private final Map<List<Module>, Injector> injectors = new ConcurrentHashMap<>();
+
+   /**
+    * Creates a new service.  Daemon mode is enabled if the system property
+    * {@value IJellyfishService#DAEMON_PROPERTY_NAME} is {@code true}.
+    */
+   public JellyfishService() {
+      this(Boolean.getBoolean(DAEMON_PROPERTY_NAME));
+   }
+
+   /**
+    * Creates a new service.
+    *
+    * @param reuseInjectors true to enable daemon mode and reuse injectors between executions
+    */
+   public JellyfishService(boolean reuseInjectors) {
+      this.reuseInjectors = reuseInjectors;
+   }
+
    @Override
    public IJellyfishExecution run(String command, Collection<String> arguments, Collection<Module> modules)
          throws JellyfishExecutionException {
@@ -67,31 +122,7 @@ public class JellyfishService implements IJellyfishService {
       Preconditions.checkArgument(!command.trim().isEmpty(), "command may not be empty!");
       Preconditions.checkNotNull(arguments, "arguments may not be null!");
       Preconditions.checkNotNull(modules, "modules may not be null!");
-
-      Collection<Module> mods = new ArrayList<>(modules);
-      // Add a module that register this service with the rest of Guice.
-      mods.add(new SelfRegisteringModule());
-
-      boolean isBlocsHomeSet = System.getProperty(BLOCS_HOME_SYSTEM_PROPERTY) != null;
-      try {
-         // Set the BLoCS home property if needed.
-         if (!isBlocsHomeSet) {
-            System.setProperty(BLOCS_HOME_SYSTEM_PROPERTY, getDefaultBlocsHome());
-         }
-
-         Injector injector = createInjector(mods);
-         return runCommand(injector, command, arguments, sw);
-      } catch (Throwable t) {
-         String msg = String.format("unable to run Jellyfish with the command %s and args %s!",
-                                    command,
-                                    arguments);
-         throw new JellyfishExecutionException(msg, t);
-      } finally {
-         // If we set the property, clear it before finishing.
-         if (!isBlocsHomeSet) {
-            System.clearProperty(BLOCS_HOME_SYSTEM_PROPERTY);
-         }
-      }
+      return execute(command, arguments, modules, injector -> runCommand(injector, command, arguments, sw));
    }
 
    @Override
@@ -101,11 +132,33 @@ public class JellyfishService implements IJellyfishService {
       Preconditions.checkArgument(!command.trim().isEmpty(), "command may not be empty!");
       Preconditions.checkNotNull(arguments, "arguments may not be null!");
       Preconditions.checkNotNull(modules, "modules may not be null!");
-      Collection<String> args = arguments.entrySet()
-            .stream()
-            .map(e -> e.getKey() + "=" + e.getValue())
-            .collect(Collectors.toList());
-      return run(command, args, modules);
+      return run(command, toArgs(arguments), modules);
+   }
+
+   @Override
+   public IJellyfishExecution runAll(List<String> commands, Collection<String> arguments, Collection<Module> modules)
+         throws JellyfishExecutionException {
+      Stopwatch sw = Stopwatch.createStarted();
+      Preconditions.checkNotNull(commands, "commands may not be null!");
+      Preconditions.checkArgument(!commands.isEmpty(), "commands may not be empty!");
+      for (String command : commands) {
+         Preconditions.checkNotNull(command, "commands may not contain null!");
+         Preconditions.checkArgument(!command.trim().isEmpty(), "commands may not contain an empty command!");
+      }
+      Preconditions.checkNotNull(arguments, "arguments may not be null!");
+      Preconditions.checkNotNull(modules, "modules may not be null!");
+      List<String> cmds = new ArrayList<>(commands);
+      return execute(String.join(", ", cmds),
+                     arguments,
+                     modules,
+                     injector -> runCommands(injector, cmds, arguments, sw));
+   }
+
+   @Override
+   public IJellyfishExecution runAll(List<String> commands, Map<String, String> arguments, Collection<Module> modules)
+         throws JellyfishExecutionException {
+      Preconditions.checkNotNull(arguments, "arguments may not be null!");
+      return runAll(commands, toArgs(arguments), modules);
    }
 
    /**
@@ -118,6 +171,13 @@ public class JellyfishService implements IJellyfishService {
       return Guice.createInjector(Stage.PRODUCTION, modules);
    }
 
+   /**
+    * Discards any injectors that are being reused in daemon mode.  The next execution will create a new injector.
+    */
+   public void clearInjectors() {
+      injectors.clear();
+   }
+
    /**
     * Adapts an {@code ICommandOptions} that comes back from the provider to an {@code IJellyfishExecution}.
     *
@@ -150,6 +210,58 @@ public class JellyfishService implements IJellyfishService {
             .setInjector(injector);
    }
 
+   private IJellyfishExecution execute(String command,
+                                       Collection<String> arguments,
+                                       Collection<Module> modules,
+                                       Function<Injector, IJellyfishExecution> execution) {
+      List<Module> mods = new ArrayList<>(modules);
+      // Add a module that register this service with the rest of Guice.
+      mods.add(new SelfRegisteringModule());
+
+      boolean isBlocsHomeSet = System.getProperty(BLOCS_HOME_SYSTEM_PROPERTY) != null;
+      try {
+         // Set the BLoCS home property if needed.
+         if (!isBlocsHomeSet) {
+            System.setProperty(BLOCS_HOME_SYSTEM_PROPERTY, getDefaultBlocsHome());
+         }
+
+         if (!reuseInjectors) {
+            return execution.apply(createInjector(mods));
+         }
+         Injector injector = getOrCreateInjector(modules, mods);
+         // The singletons of the injector are shared with other executions, so only one execution may use them at a
+         // time.
+         synchronized (injector) {
+            resetExecutionState(injector);
+            return execution.apply(injector);
+         }
+      } catch (Throwable t) {
+         String msg = String.format("unable to run Jellyfish with the command %s and args %s!",
+                                    command,
+                                    arguments);
+         throw new JellyfishExecutionException(msg, t);
+      } finally {
+         // If we set the property, clear it before finishing.
+         if (!isBlocsHomeSet) {
+            System.clearProperty(BLOCS_HOME_SYSTEM_PROPERTY);
+         }
+      }
+   }
+
+   private Injector getOrCreateInjector(Collection<Module> clientModules, List<Module> modules) {
+      // The self registering module is created for every execution and always binds this service, so only the
+      // client's modules identify the injector.
+      List<Module> key = new ArrayList<>(clientModules);
+      return injectors.computeIfAbsent(key, k -> createInjector(modules));
+   }
+
+   private static void resetExecutionState(Injector injector) {
+      Binding<Set<IExecutionScopedService>> binding = injector.getExistingBinding(EXECUTION_SCOPED_SERVICES);
+      if (binding != null) {
+         binding.getProvider().get().forEach(IExecutionScopedService::resetExecutionState);
+      }
+   }
+
    private IJellyfishExecution runCommand(Injector injector,
                                           String command,
                                           Collection<String> arguments,
@@ -172,6 +284,48 @@ public class JellyfishService implements IJellyfishService {
       }
    }
 
+   private IJellyfishExecution runCommands(Injector injector,
+                                           List<String> commands,
+                                           Collection<String> arguments,
+                                           Stopwatch sw) {
+      IJellyFishCommandProvider jfProvider = injector.getInstance(IJellyFishCommandProvider.class);
+      for (String command : commands) {
+         Preconditions.checkArgument(jfProvider.getCommand(command) != null,
+                                     "no Jellyfish command named '%s' found!",
+                                     command);
+      }
+
+      // The first command parses the project.  The remaining commands reuse the options it created.
+      IJellyFishCommandOptions options = jfProvider.run(buildArgs(commands.get(0), arguments));
+      for (String command : commands.subList(1, commands.size())) {
+         verifyRequiredParameters(jfProvider.getCommand(command), options.getParameters());
+         jfProvider.run(command, options);
+      }
+      return adaptResult(options, sw.elapsed(TimeUnit.MILLISECONDS), injector);
+   }
+
+   private static void verifyRequiredParameters(IJellyFishCommand command, IParameterCollection parameters) {
+      // The provider only verifies the parameters of the first command, so verify the others the same way.
+      String missingParams = command.getUsage().getRequiredParameters()
+            .stream()
+            .filter(p -> !parameters.containsParameter(p.getName()))
+            .map(IParameter::getName)
+            .collect(Collectors.joining(", "));
+      if (!missingParams.isEmpty()) {
+         throw new CommandException(String.format(
+               "the command '%s' requires the following additional parameters: %s",
+               command.getName(),
+               missingParams));
+      }
+   }
+
+   private static Collection<String> toArgs(Map<String, String> arguments) {
+      return arguments.entrySet()
+            .stream()
+            .map(e -> e.getKey() + "=" + e.getValue())
+            .collect(Collectors.toList());
+   }
+
    private static String[] buildArgs(String command, Collection<String> arguments) {
       String[] args = new String[arguments.size() + 1];
       args[0] = command;
@@ -26,12 +26,23 @@ import com.google.inject.AbstractModule;
 
 import com.ngc.seaside.jellyfish.api.ICommand;
 import com.ngc.seaside.jellyfish.api.ICommandOptions;
+import com.ngc.seaside.jellyfish.api.DefaultParameter;
+import com.ngc.seaside.jellyfish.api.DefaultParameterCollection;
+import com.ngc.seaside.jellyfish.api.DefaultUsage;
 import com.ngc.seaside.jellyfish.api.ICommandProvider;
 import com.ngc.seaside.jellyfish.api.IJellyFishCommand;
 import com.ngc.seaside.jellyfish.api.IJellyFishCommandOptions;
 import com.ngc.seaside.jellyfish.api.IJellyFishCommandProvider;
+import com.ngc.seaside.jellyfish.service.analysis.api.IAnalysisService;
+import com.ngc.seaside.jellyfish.service.analysis.api.ISystemDescriptorFindingType;
+import com.ngc.seaside.jellyfish.service.analysis.impl.analysisservice.AnalysisServiceGuiceModule;
+import com.ngc.seaside.jellyfish.service.buildmgmt.api.DependencyScope;
+import com.ngc.seaside.jellyfish.service.buildmgmt.api.IBuildManagementService;
+import com.ngc.seaside.jellyfish.service.buildmgmt.impl.buildmgmtservice.BuildManagementServiceModule;
 import com.ngc.seaside.jellyfish.service.execution.api.IJellyfishExecution;
 import com.ngc.seaside.jellyfish.service.execution.api.JellyfishExecutionException;
+import com.ngc.seaside.jellyfish.service.name.api.IProjectInformation;
+import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
 
 import org.junit.After;
 import org.junit.Before;
@@ -50,7 +61,16 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -148,6 +168,108 @@ public class JellyfishServiceTest {
                    System.getProperty(JellyfishService.BLOCS_HOME_SYSTEM_PROPERTY));
    }
 
+   @Test
+   public void testDoesReuseInjectorInDaemonMode() {
+      String command = "foo";
+      Collection<String> args = Collections.singletonList("a=b");
+      when(provider.getCommand(command)).thenReturn(mockedJfCommand);
+      when(provider.run(aryEq(new String[]{command, "a=b"}))).thenReturn(commandOptions);
+
+      IJellyfishExecution first = service.run(command, args, Collections.singleton(new MockRegisteringModule()));
+      IJellyfishExecution second = service.run(command, args, Collections.singleton(new MockRegisteringModule()));
+      assertNotSame("should not reuse injector by default!", first.getInjector(), second.getInjector());
+
+      service = new JellyfishService(true);
+      MockRegisteringModule module = new MockRegisteringModule();
+      first = service.run(command, args, Collections.singleton(module));
+      second = service.run(command, args, Collections.singleton(module));
+      assertSame("did not reuse injector!", first.getInjector(), second.getInjector());
+
+      second = service.run(command, args, Collections.singleton(new MockRegisteringModule()));
+      assertNotSame("should not reuse injector for a different module!", first.getInjector(), second.getInjector());
+
+      service.clearInjectors();
+      IJellyfishExecution third = service.run(command, args, Collections.singleton(module));
+      assertNotSame("did not discard injector!", first.getInjector(), third.getInjector());
+   }
+
+   @Test
+   public void testDoesNotLeakExecutionStateBetweenExecutionsInDaemonMode() {
+      String command = "foo";
+      Collection<String> args = Collections.singletonList("a=b");
+      ILogService logService = mock(ILogService.class);
+      IProjectInformation project = mock(IProjectInformation.class);
+      when(project.getDirectoryName()).thenReturn("generated-projects/artifactId");
+      when(provider.getCommand(command)).thenReturn(mockedJfCommand);
+      when(provider.run(aryEq(new String[]{command, "a=b"}))).thenReturn(commandOptions);
+      AbstractModule module = new AbstractModule() {
+         @Override
+         protected void configure() {
+            install(new MockRegisteringModule());
+            install(new AnalysisServiceGuiceModule());
+            install(new BuildManagementServiceModule());
+            bind(ILogService.class).toInstance(logService);
+         }
+      };
+
+      service = new JellyfishService(true);
+      IJellyfishExecution first = service.run(command, args, Collections.singleton(module));
+      // Simulate the state a command leaves behind.
+      IAnalysisService analysisService = first.getInjector().getInstance(IAnalysisService.class);
+      IBuildManagementService buildManagementService =
+            first.getInjector().getInstance(IBuildManagementService.class);
+      ISystemDescriptorFindingType type = mock(ISystemDescriptorFindingType.class, CALLS_REAL_METHODS);
+      analysisService.addFinding(type.createFinding("message", null, 0));
+      buildManagementService.registerDependency(commandOptions, "com.google.guava:guava");
+      buildManagementService.registerProject(commandOptions, project);
+
+      IJellyfishExecution second = service.run(command, args, Collections.singleton(module));
+      assertSame("did not reuse injector!", first.getInjector(), second.getInjector());
+      assertSame("did not reuse analysis service!",
+                 analysisService,
+                 second.getInjector().getInstance(IAnalysisService.class));
+      assertTrue("findings leaked into the next execution!",
+                 analysisService.getFindings().isEmpty());
+      assertTrue("registered dependencies leaked into the next execution!",
+                 buildManagementService.getRegisteredDependencies(commandOptions, DependencyScope.BUILD).isEmpty());
+      assertTrue("registered projects leaked into the next execution!",
+                 buildManagementService.getRegisteredProjects().isEmpty());
+   }
+
+   @Test
+   public void testDoesRunMultipleCommandsWithOneParse() {
+      IJellyFishCommand otherCommand = mock(IJellyFishCommand.class);
+      when(otherCommand.getUsage()).thenReturn(new DefaultUsage("", new DefaultParameter<>("a").required()));
+      when(provider.getCommand("foo")).thenReturn(mockedJfCommand);
+      when(provider.getCommand("bar")).thenReturn(otherCommand);
+      DefaultParameterCollection parameters = new DefaultParameterCollection();
+      parameters.addParameter(new DefaultParameter<>("a", "b"));
+      when(commandOptions.getParameters()).thenReturn(parameters);
+      when(provider.run(aryEq(new String[]{"foo", "a=b"}))).thenReturn(commandOptions);
+
+      IJellyfishExecution result = service.runAll(Arrays.asList("foo", "bar"),
+                                                  Collections.singletonList("a=b"),
+                                                  Collections.singleton(new MockRegisteringModule()));
+      assertSame("result not correct!",
+                 commandOptions,
+                 result.getOptions());
+      verify(provider).run("bar", commandOptions);
+   }
+
+   @Test(expected = JellyfishExecutionException.class)
+   public void testDoesNotRunMultipleCommandsIfAnyCommandIsUnknown() {
+      when(provider.getCommand("foo")).thenReturn(mockedJfCommand);
+
+      try {
+         service.runAll(Arrays.asList("foo", "bar"),
+                        Collections.singletonList("a=b"),
+                        Collections.singleton(new MockRegisteringModule()));
+      } finally {
+         verify(provider, never()).run(any(String[].class));
+         verify(provider, never()).run(anyString(), any());
+      }
+   }
+
    @Test(expected = JellyfishExecutionException.class)
    public void testDoesWrapExceptions() {
       String command = "foo";
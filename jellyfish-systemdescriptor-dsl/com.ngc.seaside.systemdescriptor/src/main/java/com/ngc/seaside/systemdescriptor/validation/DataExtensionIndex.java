@@ -0,0 +1,214 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.validation;
+
+import com.google.common.base.Preconditions;
+
+import com.ngc.seaside.systemdescriptor.systemDescriptor.Data;
+import com.ngc.seaside.systemdescriptor.systemDescriptor.SystemDescriptorPackage;
+
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.resource.IContainer;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * An index of the names of the data types that are extended by other data types visible to an object.  The index is
+ * built from the exported data types of the containers that are visible to the object and is shared by every object
+ * validated in the same resource set that sees the same containers.
+ *
+ * <p/>
+ * The index is keyed on the descriptions of the visible resources that export data types.  Xtext replaces the
+ * description of a resource whenever the resource changes, either in the resource set or in the index of the
+ * workspace.  Any change to a data type, a data type added in a new file or package, or a file that is removed
+ * therefore produces a new key and the index is built again.
+ */
+public class DataExtensionIndex {
+
+   /**
+    * The simple names of the data types that are extended by at least one other data type.
+    */
+   private final Set<String> extendedDataNames;
+
+   private DataExtensionIndex(Set<String> extendedDataNames) {
+      this.extendedDataNames = Collections.unmodifiableSet(extendedDataNames);
+   }
+
+   /**
+    * Gets the simple names of the data types visible to the object that are extended by at least one other data type.
+    *
+    * @return the names of the extended data types
+    */
+   public Set<String> getExtendedDataNames() {
+      return extendedDataNames;
+   }
+
+   /**
+    * Gets the index for the given object.  If the object is contained in a resource set, the index is cached with the
+    * resource set and reused until the resources that export data types in the visible containers change.
+    *
+    * @param object            the object being validated
+    * @param visibleContainers the containers that are visible to the object
+    * @return the index
+    */
+   public static DataExtensionIndex get(EObject object, Collection<IContainer> visibleContainers) {
+      Preconditions.checkNotNull(object, "object may not be null!");
+      Preconditions.checkNotNull(visibleContainers, "visibleContainers may not be null!");
+      Resource resource = object.eResource();
+      ResourceSet resourceSet = resource == null ? null : resource.getResourceSet();
+      if (resourceSet == null) {
+         return build(null, visibleContainers);
+      }
+
+      Key key = new Key(visibleContainers);
+      // Objects may be validated concurrently by multiple threads, so guard the adapters of the resource set.
+      synchronized (resourceSet) {
+         CachingAdapter adapter = (CachingAdapter) EcoreUtil.getExistingAdapter(resourceSet, CachingAdapter.class);
+         if (adapter == null) {
+            adapter = new CachingAdapter();
+            resourceSet.eAdapters().add(adapter);
+         }
+         if (!key.equals(adapter.key)) {
+            // Only the latest index is kept since the objects of a resource set usually see the same containers.
+            adapter.index = build(resourceSet, visibleContainers);
+            adapter.key = key;
+         }
+         return adapter.index;
+      }
+   }
+
+   /**
+    * Discards the index that is cached for the given resource set, if any.  This should be invoked once all resources
+    * in the set have been validated so the resource set does not retain the index.
+    *
+    * @param resourceSet the resource set whose cached index should be discarded
+    */
+   public static void discard(ResourceSet resourceSet) {
+      Preconditions.checkNotNull(resourceSet, "resourceSet may not be null!");
+      synchronized (resourceSet) {
+         CachingAdapter adapter = (CachingAdapter) EcoreUtil.getExistingAdapter(resourceSet, CachingAdapter.class);
+         if (adapter != null) {
+            resourceSet.eAdapters().remove(adapter);
+         }
+      }
+   }
+
+   private static DataExtensionIndex build(ResourceSet resourceSet, Collection<IContainer> visibleContainers) {
+      // The same data type may be exported by more than one container.
+      Collection<Data> data = new LinkedHashSet<>();
+      for (IContainer container : visibleContainers) {
+         for (IEObjectDescription description : container.getExportedObjectsByType(
+               SystemDescriptorPackage.Literals.DATA)) {
+            EObject object = description.getEObjectOrProxy();
+            if (object.eIsProxy() && resourceSet != null) {
+               object = resourceSet.getEObject(EcoreUtil.getURI(object), true);
+            }
+            if (object instanceof Data) {
+               data.add((Data) object);
+            }
+         }
+      }
+
+      Set<String> names = new HashSet<>();
+      for (Data d : data) {
+         Data superclass = d.getExtendedDataType();
+         if (superclass != null) {
+            names.add(superclass.getName());
+         }
+      }
+      return new DataExtensionIndex(names);
+   }
+
+   /**
+    * Identifies the visible resources that export data types by the identity of their descriptions.
+    */
+   private static class Key {
+
+      private final List<IResourceDescription> descriptions = new ArrayList<>();
+
+      Key(Collection<IContainer> visibleContainers) {
+         for (IContainer container : visibleContainers) {
+            for (IResourceDescription description : container.getResourceDescriptions()) {
+               if (description.getExportedObjectsByType(SystemDescriptorPackage.Literals.DATA).iterator().hasNext()) {
+                  descriptions.add(description);
+               }
+            }
+         }
+      }
+
+      @Override
+      public boolean equals(Object o) {
+         if (this == o) {
+            return true;
+         }
+         if (!(o instanceof Key)) {
+            return false;
+         }
+         List<IResourceDescription> other = ((Key) o).descriptions;
+         if (descriptions.size() != other.size()) {
+            return false;
+         }
+         for (int i = 0; i < descriptions.size(); i++) {
+            if (descriptions.get(i) != other.get(i)) {
+               return false;
+            }
+         }
+         return true;
+      }
+
+      @Override
+      public int hashCode() {
+         int hash = 1;
+         for (IResourceDescription description : descriptions) {
+            hash = 31 * hash + System.identityHashCode(description);
+         }
+         return hash;
+      }
+   }
+
+   /**
+    * An adapter that holds the latest index of a resource set.
+    */
+   private static class CachingAdapter extends AdapterImpl {
+
+      private Key key;
+      private DataExtensionIndex index;
+
+      @Override
+      public boolean isAdapterForType(Object type) {
+         return type == CachingAdapter.class;
+      }
+   }
+}
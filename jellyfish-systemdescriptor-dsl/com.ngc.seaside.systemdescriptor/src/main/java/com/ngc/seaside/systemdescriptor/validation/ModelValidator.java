@@ -52,7 +52,6 @@ import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.resource.IContainer;
-import org.eclipse.xtext.resource.IEObjectDescription;
 import org.eclipse.xtext.resource.IResourceDescription;
 import org.eclipse.xtext.resource.IResourceDescriptions;
 import org.eclipse.xtext.resource.impl.ResourceDescriptionsProvider;
@@ -61,6 +60,7 @@ import org.eclipse.xtext.validation.Check;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Validates a {@code Model} is correct. This validator mostly handles checking
@@ -330,7 +330,7 @@ public class ModelValidator extends AbstractUnregisteredSystemDescriptorValidato
    }
 
 
-   private void checkModelScenarios(Model model, List<String> superclasses,
+   private void checkModelScenarios(Model model, Set<String> superclasses,
                                     HashMap<String, String> dataFieldDeclarations) {
       if (model.getScenarios() != null) {
          //Only need to check input and output at the moment since parts and requires use models.
@@ -366,7 +366,7 @@ public class ModelValidator extends AbstractUnregisteredSystemDescriptorValidato
       }
    }
 
-   private void checkModelScenarioStep(List<String> superclasses, String classname, Step step) {
+   private void checkModelScenarioStep(Set<String> superclasses, String classname, Step step) {
       if (classname != null && superclasses.contains(classname)) {
          String msg = String.format(
                "You are using class '%s', a superclass, in your scenario declaration. Try using a class that inherits"
@@ -377,7 +377,7 @@ public class ModelValidator extends AbstractUnregisteredSystemDescriptorValidato
    }
 
 
-   private void checkModelLinks(Model model, List<String> superclasses, HashMap<String, String> dataFieldDeclarations) {
+   private void checkModelLinks(Model model, Set<String> superclasses, HashMap<String, String> dataFieldDeclarations) {
       // TODO TH: refactor this
       if (model.getLinks() != null) {
          //Only need to check input and output at the moment since parts and requires use models.
@@ -425,22 +425,14 @@ public class ModelValidator extends AbstractUnregisteredSystemDescriptorValidato
       }
    }
 
-   private List<EObject> getAllProjectObjectsFor(EObject object) {
-      List<EObject> objects = new ArrayList<>();
+   private List<IContainer> getVisibleContainersFor(EObject object) {
       IResourceDescriptions
             resourceDescriptions =
             resourceDescriptionsProvider.getResourceDescriptions(object.eResource());
       IResourceDescription
             resourceDescription =
             resourceDescriptions.getResourceDescription(object.eResource().getURI());
-      for (IContainer container : containerManager.getVisibleContainers(resourceDescription, resourceDescriptions)) {
-         for (IEObjectDescription objectDescription : container.getExportedObjects()) {
-            EObject objectOrProxy = objectDescription.getEObjectOrProxy();
-            objects.add(objectOrProxy);
-         }
-      }
-
-      return objects;
+      return containerManager.getVisibleContainers(resourceDescription, resourceDescriptions);
    }
 
    /**
@@ -453,28 +445,13 @@ public class ModelValidator extends AbstractUnregisteredSystemDescriptorValidato
       HashMap<String, String>
             dataFieldDeclarations =
             new HashMap<>();
-      List<String> superclasses = new ArrayList<>();
 
       Resource resource = model.eResource();
       if (resource != null) {
-
-         for (EObject object : getAllProjectObjectsFor(model)) {
-            if (object.eClass().equals(SystemDescriptorPackage.Literals.DATA)) {
-
-               if (object.eIsProxy()) {
-                  object = model.eResource().getResourceSet().getEObject(EcoreUtil.getURI(object), true);
-               }
-
-               Data data = (Data) object;
-               Data superclass = data.getExtendedDataType();
-               if (superclass != null) {
-                  String superclassName = superclass.getName();
-                  if (!superclasses.contains(superclassName)) {
-                     superclasses.add(superclassName);
-                  }
-               }
-            }
-         }
+         // The extended data types are the same for every model that sees the same containers, so they are indexed
+         // once and shared.
+         Set<String> superclasses = DataExtensionIndex.get(model, getVisibleContainersFor(model))
+               .getExtendedDataNames();
 
          if (model.getInput() != null) {
             for (InputDeclaration inputDeclaration : model.getInput().getDeclarations()) {
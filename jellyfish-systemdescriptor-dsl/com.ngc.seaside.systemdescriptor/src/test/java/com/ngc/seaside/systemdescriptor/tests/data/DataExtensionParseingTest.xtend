@@ -34,6 +34,7 @@ import com.ngc.seaside.systemdescriptor.tests.SystemDescriptorInjectorProvider
 import com.ngc.seaside.systemdescriptor.tests.resources.Datas
 import com.ngc.seaside.systemdescriptor.tests.resources.Models
 import org.eclipse.emf.ecore.resource.Resource
+import org.eclipse.xtext.resource.XtextResource
 import org.eclipse.xtext.testing.InjectWith
 import org.eclipse.xtext.testing.XtextRunner
 import org.eclipse.xtext.testing.util.ParseHelper
@@ -173,4 +174,77 @@ class DataExtensionParseingTest {
 
 		validationTester.assertWarning(result, SystemDescriptorPackage.Literals.FIELD_DECLARATION, null)
 	}
+
+	@Test
+	def void testDoesWarnIfInputIsExtendedByFirstDataInNewPackage() {
+		val source = '''
+			package food
+			
+			import food.Hamburger
+			
+			model FastFoodPlace {
+				input {
+					Hamburger hamburger
+				}
+			}
+		'''
+
+		val result = parseHelper.parse(source, requiredResources.resourceSet)
+		assertNotNull(result)
+		validationTester.assertNoErrors(result)
+		validationTester.assertNoWarnings(result, SystemDescriptorPackage.Literals.FIELD_DECLARATION, null)
+
+		val combo = parseHelper.parse('''
+			package food.combos
+			
+			import food.Hamburger
+			
+			data HamburgerCombo extends Hamburger {
+			}
+		''', requiredResources.resourceSet)
+		assertNotNull(combo)
+
+		validationTester.assertWarning(result, SystemDescriptorPackage.Literals.FIELD_DECLARATION, null)
+	}
+
+	@Test
+	def void testDoesWarnIfDataInAnotherFileChangesToExtendInput() {
+		val combo = parseHelper.parse('''
+			package food.combos
+			
+			import food.Food
+			
+			data Combo extends Food {
+			}
+		''', requiredResources.resourceSet)
+		assertNotNull(combo)
+
+		val source = '''
+			package food
+			
+			import food.Hamburger
+			
+			model FastFoodPlace {
+				input {
+					Hamburger hamburger
+				}
+			}
+		'''
+
+		val result = parseHelper.parse(source, requiredResources.resourceSet)
+		assertNotNull(result)
+		validationTester.assertNoErrors(result)
+		validationTester.assertNoWarnings(result, SystemDescriptorPackage.Literals.FIELD_DECLARATION, null)
+
+		(combo.eResource as XtextResource).reparse('''
+			package food.combos
+			
+			import food.Hamburger
+			
+			data Combo extends Hamburger {
+			}
+		''')
+
+		validationTester.assertWarning(result, SystemDescriptorPackage.Literals.FIELD_DECLARATION, null)
+	}
 }
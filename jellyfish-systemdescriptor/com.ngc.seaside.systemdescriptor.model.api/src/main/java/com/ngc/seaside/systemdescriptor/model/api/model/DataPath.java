@@ -88,7 +88,7 @@ class DataPath implements IDataPath {
 
          IDataField field;
          while (true) {
-            Optional<IDataField> optionalField = data.getFields().getByName(path);
+            Optional<IDataField> optionalField = data.getFields().getByName(part);
             if (optionalField.isPresent()) {
                field = optionalField.get();
                break;
@@ -201,6 +201,19 @@ class DataPath implements IDataPath {
 
    }
 
+   /**
+    * Creates a data path from fields that have already been resolved.  The fields are not copied.
+    *
+    * @param start    start field
+    * @param isOutput true if the start field is an output of its model
+    * @param fields   an unmodifiable list of the nested fields
+    */
+   DataPath(IDataReferenceField start, boolean isOutput, List<IDataField> fields) {
+      this.start = start;
+      this.isOutput = isOutput;
+      this.fields = fields;
+   }
+
    @Override
    public IDataReferenceField getStart() {
       return start;
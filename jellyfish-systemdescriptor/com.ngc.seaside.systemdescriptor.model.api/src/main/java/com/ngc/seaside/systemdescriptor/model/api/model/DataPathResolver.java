@@ -0,0 +1,230 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.model.api.model;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.ngc.seaside.systemdescriptor.model.api.IPackage;
+import com.ngc.seaside.systemdescriptor.model.api.ISystemDescriptor;
+import com.ngc.seaside.systemdescriptor.model.api.data.DataTypes;
+import com.ngc.seaside.systemdescriptor.model.api.data.IData;
+import com.ngc.seaside.systemdescriptor.model.api.data.IDataField;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Resolves {@link IDataPath}s and caches the results.  Paths are resolved the same way as
+ * {@link IDataPath#of(IModel, String)}, but the fields of a data type, including the fields it inherits, are flattened
+ * into a single table the first time the type is used and each resolved path is cached by the model it starts from.
+ * Resolving a path a second time is a single lookup.  Paths that can't be resolved are never cached.
+ *
+ * <p/>
+ * A resolver assumes the models and data it has seen don't change.  Only use a resolver with system descriptors that
+ * are not modified once they are created, such as the ones created by the standalone system descriptor service or
+ * the ones the XText validation creates each time a resource changes.  Resolved paths are grouped by the system descriptor that contains the model and descriptors are compared by
+ * identity.  Since a path references its model and a model references its system descriptor, only the paths of the
+ * most recently used system descriptors are retained.  Models that are not part of a system descriptor are never
+ * cached.
+ */
+public class DataPathResolver {
+
+   /**
+    * The default maximum number of system descriptors whose paths are retained.
+    */
+   public static final int DEFAULT_MAXIMUM_DESCRIPTORS = 4;
+
+   private final Cache<ISystemDescriptor, DescriptorTables> tables;
+
+   /**
+    * Creates a new resolver.  Guice will not create a resolver just-in-time since this constructor is not injectable;
+    * resolvers are only injected where they are explicitly bound.
+    *
+    * @param maximumDescriptors the maximum number of system descriptors whose paths are retained
+    */
+   public DataPathResolver(int maximumDescriptors) {
+      Preconditions.checkArgument(maximumDescriptors > 0, "maximumDescriptors must be positive!");
+      tables = CacheBuilder.newBuilder()
+            // Weak keys are compared by identity.
+            .weakKeys()
+            .maximumSize(maximumDescriptors)
+            .build();
+   }
+
+   /**
+    * Resolves a data path starting from the given model.  This is equivalent to {@link IDataPath#of(IModel, String)}.
+    *
+    * @param model model
+    * @param path  nested data field names (separated by '{@code .}')
+    * @return the data path
+    * @throws IllegalArgumentException if the path cannot be resolved
+    */
+   public IDataPath resolve(IModel model, String path) {
+      Preconditions.checkNotNull(model, "model may not be null!");
+      Preconditions.checkNotNull(path, "path may not be null!");
+      ISystemDescriptor descriptor = getSystemDescriptor(model);
+      if (descriptor == null) {
+         return IDataPath.of(model, path);
+      }
+
+      DescriptorTables descriptorTables;
+      try {
+         descriptorTables = tables.get(descriptor, DescriptorTables::new);
+      } catch (ExecutionException e) {
+         throw new RuntimeException(e.getMessage(), e);
+      }
+      return descriptorTables.getModelTable(model).resolve(path);
+   }
+
+   /**
+    * Releases all cached paths and field tables.
+    */
+   public void clear() {
+      tables.invalidateAll();
+   }
+
+   private static ISystemDescriptor getSystemDescriptor(IModel model) {
+      IPackage pkg = model.getParent();
+      return pkg == null ? null : pkg.getParent();
+   }
+
+   /**
+    * The compiled models and flattened data types of a single system descriptor.
+    */
+   private static class DescriptorTables {
+
+      /**
+       * Models keyed by fully qualified name.
+       */
+      private final ConcurrentMap<String, ModelTable> models = new ConcurrentHashMap<>();
+
+      /**
+       * The fields of each data type, including inherited fields, keyed by the data's fully qualified name.
+       */
+      private final ConcurrentMap<String, Map<String, IDataField>> fields = new ConcurrentHashMap<>();
+
+      ModelTable getModelTable(IModel model) {
+         return models.computeIfAbsent(model.getFullyQualifiedName(), name -> new ModelTable(this, model));
+      }
+
+      Map<String, IDataField> getFields(IData data) {
+         return fields.computeIfAbsent(data.getFullyQualifiedName(), name -> flatten(data));
+      }
+
+      private static Map<String, IDataField> flatten(IData data) {
+         Map<String, IDataField> flattened = new HashMap<>();
+         // Guard against cyclic inheritance in models that are not valid.
+         Set<String> visited = new HashSet<>();
+         IData current = data;
+         while (current != null && visited.add(current.getFullyQualifiedName())) {
+            for (IDataField field : current.getFields()) {
+               // A field declared by a type hides the fields of its parents with the same name.
+               flattened.putIfAbsent(field.getName(), field);
+            }
+            current = current.getExtendedDataType().orElse(null);
+         }
+         return flattened;
+      }
+   }
+
+   /**
+    * The inputs, outputs, and resolved paths of a single model.
+    */
+   private static class ModelTable {
+
+      private final DescriptorTables descriptorTables;
+      private final String modelName;
+      private final Map<String, IDataReferenceField> inputs = new HashMap<>();
+      private final Map<String, IDataReferenceField> outputs = new HashMap<>();
+      private final ConcurrentMap<String, IDataPath> paths = new ConcurrentHashMap<>();
+
+      ModelTable(DescriptorTables descriptorTables, IModel model) {
+         this.descriptorTables = descriptorTables;
+         this.modelName = model.getFullyQualifiedName();
+         for (IDataReferenceField input : model.getInputs()) {
+            inputs.putIfAbsent(input.getName(), input);
+         }
+         for (IDataReferenceField output : model.getOutputs()) {
+            outputs.putIfAbsent(output.getName(), output);
+         }
+      }
+
+      IDataPath resolve(String path) {
+         IDataPath resolved = paths.get(path);
+         if (resolved == null) {
+            // Don't use computeIfAbsent so failures are thrown directly and never cached.
+            resolved = compile(path);
+            IDataPath existing = paths.putIfAbsent(path, resolved);
+            if (existing != null) {
+               resolved = existing;
+            }
+         }
+         return resolved;
+      }
+
+      private IDataPath compile(String path) {
+         if (path.isEmpty()) {
+            throw new IllegalArgumentException("path may not be empty!");
+         }
+         String[] parts = path.split("\\.");
+         if (parts.length <= 1) {
+            throw new IllegalArgumentException("path must contain at least two parts");
+         }
+
+         // Inputs take precedence over outputs with the same name.
+         boolean isOutput = false;
+         IDataReferenceField start = inputs.get(parts[0]);
+         if (start == null) {
+            start = outputs.get(parts[0]);
+            isOutput = true;
+         }
+         if (start == null) {
+            throw new IllegalArgumentException("Unknown input/output in model " + modelName + ": " + parts[0]);
+         }
+
+         IData data = start.getType();
+         List<IDataField> fields = new ArrayList<>(parts.length - 1);
+         for (int i = 1; i < parts.length; i++) {
+            IDataField field = data == null ? null : descriptorTables.getFields(data).get(parts[i]);
+            if (field == null) {
+               int resolvedParts = data == null ? i : i + 1;
+               throw new IllegalArgumentException("Cannot resolve nested data field from model " + modelName + ": "
+                                                  + String.join(".", Arrays.asList(parts).subList(0, resolvedParts)));
+            }
+            fields.add(field);
+            data = field.getType() == DataTypes.DATA ? field.getReferencedDataType() : null;
+         }
+         return new DataPath(start, isOutput, Collections.unmodifiableList(fields));
+      }
+   }
+}
@@ -0,0 +1,229 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.model.api.model;
+
+import com.ngc.seaside.systemdescriptor.model.api.INamedChild;
+import com.ngc.seaside.systemdescriptor.model.api.INamedChildCollection;
+import com.ngc.seaside.systemdescriptor.model.api.IPackage;
+import com.ngc.seaside.systemdescriptor.model.api.ISystemDescriptor;
+import com.ngc.seaside.systemdescriptor.model.api.data.DataTypes;
+import com.ngc.seaside.systemdescriptor.model.api.data.IData;
+import com.ngc.seaside.systemdescriptor.model.api.data.IDataField;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class DataPathResolverTest {
+
+   private DataPathResolver resolver;
+
+   @Mock
+   private ISystemDescriptor systemDescriptor;
+
+   @Mock
+   private IPackage pkg;
+
+   @Mock
+   private IModel model;
+
+   @Mock
+   private IData base;
+
+   @Mock
+   private IData child;
+
+   private IDataField baseField;
+   private IDataField baseShared;
+   private IDataField childShared;
+   private IDataField nested;
+
+   private IDataReferenceField input;
+   private IDataReferenceField output;
+   private IDataReferenceField hiddenOutput;
+
+   @Before
+   public void setup() {
+      baseField = field("baseField", DataTypes.INT, null);
+      baseShared = field("shared", DataTypes.INT, null);
+      childShared = field("shared", DataTypes.STRING, null);
+      nested = field("nested", DataTypes.DATA, base);
+
+      when(base.getFullyQualifiedName()).thenReturn("a.Base");
+      when(base.getExtendedDataType()).thenReturn(Optional.empty());
+      INamedChildCollection<IData, IDataField> baseFields = collection(baseField, baseShared);
+      when(base.getFields()).thenReturn(baseFields);
+
+      when(child.getFullyQualifiedName()).thenReturn("a.Child");
+      when(child.getExtendedDataType()).thenReturn(Optional.of(base));
+      INamedChildCollection<IData, IDataField> childFields = collection(nested, childShared);
+      when(child.getFields()).thenReturn(childFields);
+
+      input = dataReferenceField("input", child);
+      output = dataReferenceField("output", base);
+      // An output with the same name as an input.  Inputs take precedence.
+      hiddenOutput = dataReferenceField("input", base);
+
+      when(pkg.getParent()).thenReturn(systemDescriptor);
+      when(model.getParent()).thenReturn(pkg);
+      when(model.getFullyQualifiedName()).thenReturn("a.Model");
+      INamedChildCollection<IModel, IDataReferenceField> inputs = collection(input);
+      INamedChildCollection<IModel, IDataReferenceField> outputs = collection(output, hiddenOutput);
+      when(model.getInputs()).thenReturn(inputs);
+      when(model.getOutputs()).thenReturn(outputs);
+
+      resolver = new DataPathResolver(DataPathResolver.DEFAULT_MAXIMUM_DESCRIPTORS);
+   }
+
+   @Test
+   public void testDoesResolveSamePathsAsDataPath() {
+      for (String path : Arrays.asList("input.baseField",
+                                       "input.shared",
+                                       "input.nested.baseField",
+                                       "input.nested.shared",
+                                       "output.shared")) {
+         assertEquals(path + " not resolved correctly!", IDataPath.of(model, path), resolver.resolve(model, path));
+      }
+
+      IDataPath path = resolver.resolve(model, "input.shared");
+      assertSame(input, path.getStart());
+      assertFalse(path.isOutput());
+      assertSame("field of the child should hide the field of the parent!", childShared, path.getEnd());
+
+      path = resolver.resolve(model, "input.nested.shared");
+      assertEquals(Arrays.asList(nested, baseShared), path.getElements());
+
+      path = resolver.resolve(model, "output.baseField");
+      assertSame(output, path.getStart());
+      assertTrue(path.isOutput());
+      assertSame(baseField, path.getEnd());
+   }
+
+   @Test
+   public void testDoesCacheResolvedPaths() {
+      IDataPath path = resolver.resolve(model, "input.nested.baseField");
+      assertSame(path, resolver.resolve(model, "input.nested.baseField"));
+      resolver.resolve(model, "input.shared");
+      resolver.resolve(model, "input.baseField");
+
+      verify(model, times(1)).getInputs();
+      verify(child, times(1)).getFields();
+      // The fields of the base type are read once when flattening the child and once when flattening the base.
+      verify(base, times(2)).getFields();
+   }
+
+   @Test
+   public void testDoesClearCachedPaths() {
+      IDataPath path = resolver.resolve(model, "input.baseField");
+      resolver.clear();
+      IDataPath resolvedAgain = resolver.resolve(model, "input.baseField");
+      assertNotSame(path, resolvedAgain);
+      assertEquals(path, resolvedAgain);
+   }
+
+   @Test
+   public void testDoesNotCacheModelsWithoutSystemDescriptors() {
+      when(model.getParent()).thenReturn(null);
+      IDataPath path = resolver.resolve(model, "input.baseField");
+      IDataPath resolvedAgain = resolver.resolve(model, "input.baseField");
+      assertNotSame(path, resolvedAgain);
+      assertEquals(path, resolvedAgain);
+   }
+
+   @Test
+   public void testDoesReportSameErrorsAsDataPath() {
+      for (String path : Arrays.asList("",
+                                       "input",
+                                       "unknown.baseField",
+                                       "input.missing",
+                                       "input.nested.missing",
+                                       "input.baseField.more")) {
+         String expectedMessage = null;
+         try {
+            IDataPath.of(model, path);
+            fail("expected " + path + " to be invalid!");
+         } catch (IllegalArgumentException e) {
+            expectedMessage = e.getMessage();
+         }
+
+         // Resolve twice to make sure failures are not cached.
+         for (int i = 0; i < 2; i++) {
+            try {
+               resolver.resolve(model, path);
+               fail("expected " + path + " to be invalid!");
+            } catch (IllegalArgumentException e) {
+               assertEquals(expectedMessage, e.getMessage());
+            }
+         }
+      }
+   }
+
+   private static IDataField field(String name, DataTypes type, IData referencedType) {
+      IDataField field = mock(IDataField.class);
+      when(field.getName()).thenReturn(name);
+      when(field.getType()).thenReturn(type);
+      when(field.getReferencedDataType()).thenReturn(referencedType);
+      return field;
+   }
+
+   private IDataReferenceField dataReferenceField(String name, IData type) {
+      IDataReferenceField field = mock(IDataReferenceField.class);
+      when(field.getName()).thenReturn(name);
+      when(field.getType()).thenReturn(type);
+      when(field.getParent()).thenReturn(model);
+      return field;
+   }
+
+   @SafeVarargs
+   @SuppressWarnings("unchecked")
+   private static <P, T extends INamedChild<P>> INamedChildCollection<P, T> collection(T... children) {
+      List<T> list = Arrays.asList(children);
+      INamedChildCollection<P, T> collection = mock(INamedChildCollection.class);
+      when(collection.iterator()).thenAnswer(invocation -> list.iterator());
+      when(collection.contains(any())).thenAnswer(invocation -> list.contains(invocation.getArgument(0)));
+      when(collection.getByName(anyString())).thenAnswer(invocation -> list.stream()
+            .filter(c -> c.getName().equals(invocation.getArgument(0)))
+            .findFirst());
+      return collection;
+   }
+}
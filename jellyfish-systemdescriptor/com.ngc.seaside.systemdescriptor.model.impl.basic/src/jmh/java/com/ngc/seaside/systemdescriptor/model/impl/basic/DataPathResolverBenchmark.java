@@ -0,0 +1,132 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.model.impl.basic;
+
+import com.ngc.seaside.systemdescriptor.model.api.data.DataTypes;
+import com.ngc.seaside.systemdescriptor.model.api.data.IData;
+import com.ngc.seaside.systemdescriptor.model.api.model.DataPathResolver;
+import com.ngc.seaside.systemdescriptor.model.api.model.IDataPath;
+import com.ngc.seaside.systemdescriptor.model.impl.basic.data.Data;
+import com.ngc.seaside.systemdescriptor.model.impl.basic.data.DataField;
+import com.ngc.seaside.systemdescriptor.model.impl.basic.model.DataReferenceField;
+import com.ngc.seaside.systemdescriptor.model.impl.basic.model.Model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares resolving a data path with a {@link DataPathResolver} to resolving the same path with
+ * {@link IDataPath#of(com.ngc.seaside.systemdescriptor.model.api.model.IModel, String)}.  Each data type in the path
+ * inherits the field that references the next type, so resolving the path also searches the extended data types.
+ * Run with {@code gradle jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataPathResolverBenchmark {
+
+   /**
+    * The number of fields in the path, not including the input field.
+    */
+   @Param({"2", "8"})
+   private int depth;
+
+   /**
+    * The number of other fields declared by each data type and each extended data type.
+    */
+   @Param({"4", "32"})
+   private int width;
+
+   private Model model;
+   private String path;
+   private DataPathResolver resolver;
+
+   @Setup
+   public void setup() {
+      Package pkg = new Package("benchmark");
+      SystemDescriptor descriptor = new SystemDescriptor();
+      descriptor.addPackage(pkg.setParent(descriptor));
+
+      IData next = null;
+      StringBuilder fields = new StringBuilder();
+      for (int i = depth - 1; i >= 0; i--) {
+         Data base = newData(pkg, "Base" + i);
+         DataField field = new DataField("field" + i);
+         if (next == null) {
+            field.setType(DataTypes.STRING);
+         } else {
+            field.setType(DataTypes.DATA);
+            field.setReferencedDataType(next);
+         }
+         base.getFields().add(field);
+
+         Data data = newData(pkg, "Data" + i);
+         data.setExtendedDataType(base);
+         next = data;
+         fields.insert(0, "." + field.getName());
+      }
+
+      DataReferenceField input = new DataReferenceField("input");
+      input.setType(next);
+      model = new Model("BenchmarkModel");
+      model.addInput(input.setParent(model));
+      pkg.addModel(model);
+      path = input.getName() + fields;
+
+      resolver = new DataPathResolver(DataPathResolver.DEFAULT_MAXIMUM_DESCRIPTORS);
+      resolver.resolve(model, path);
+   }
+
+   @Benchmark
+   public IDataPath resolveWithResolver() {
+      return resolver.resolve(model, path);
+   }
+
+   @Benchmark
+   public IDataPath resolveEachTime() {
+      return IDataPath.of(model, path);
+   }
+
+   private Data newData(Package pkg, String name) {
+      Data data = new Data(name);
+      for (int i = 0; i < width; i++) {
+         data.getFields().add(new DataField(name.toLowerCase() + "Other" + i).setType(DataTypes.INT));
+      }
+      pkg.addData(data);
+      return data;
+   }
+}
@@ -0,0 +1,131 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.model.impl.xtext.collection;
+
+import com.ngc.seaside.systemdescriptor.model.api.INamedChild;
+import com.ngc.seaside.systemdescriptor.systemDescriptor.Data;
+import com.ngc.seaside.systemdescriptor.systemDescriptor.DataFieldDeclaration;
+import com.ngc.seaside.systemdescriptor.systemDescriptor.PrimitiveDataFieldDeclaration;
+import com.ngc.seaside.systemdescriptor.systemDescriptor.PrimitiveDataType;
+import com.ngc.seaside.systemdescriptor.systemDescriptor.SystemDescriptorFactory;
+
+import org.eclipse.emf.common.util.BasicEList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares looking up elements by name in an indexed XText containment list with a linear search of the same elements.
+ * Run with {@code gradle jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WrappingNamedChildCollectionBenchmark {
+
+   /**
+    * The number of fields in the data object.
+    */
+   @Param({"4", "32", "256"})
+   private int size;
+
+   private WrappingNamedChildCollection<DataFieldDeclaration, Data, NamedField> indexed;
+   private WrappingNamedChildCollection<DataFieldDeclaration, Data, NamedField> linear;
+   private String[] names;
+   private int next;
+
+   @Setup
+   public void setup() {
+      Data data = SystemDescriptorFactory.eINSTANCE.createData();
+      names = new String[size];
+      for (int i = 0; i < size; i++) {
+         PrimitiveDataFieldDeclaration field = SystemDescriptorFactory.eINSTANCE.createPrimitiveDataFieldDeclaration();
+         field.setName("field" + i);
+         field.setType(PrimitiveDataType.STRING);
+         data.getFields().add(field);
+         names[i] = field.getName();
+      }
+
+      // The containment list notifies its owner of changes so it is indexed.  A plain list with the same elements is
+      // always searched linearly.
+      indexed = new WrappingNamedChildCollection<>(data.getFields(),
+                                                   NamedField::new,
+                                                   AutoWrappingCollection.defaultUnwrapper(),
+                                                   DataFieldDeclaration::getName);
+      linear = new WrappingNamedChildCollection<>(new BasicEList<>(data.getFields()),
+                                                  NamedField::new,
+                                                  AutoWrappingCollection.defaultUnwrapper(),
+                                                  DataFieldDeclaration::getName);
+   }
+
+   @Benchmark
+   public Optional<NamedField> indexedLookup() {
+      return indexed.getByName(nextName());
+   }
+
+   @Benchmark
+   public Optional<NamedField> linearLookup() {
+      return linear.getByName(nextName());
+   }
+
+   private String nextName() {
+      next = (next + 1) % names.length;
+      return names[next];
+   }
+
+   /**
+    * A minimal wrapper so the benchmark measures the collection and not the XText wrappers.
+    */
+   public static class NamedField implements INamedChild<Data> {
+
+      private final DataFieldDeclaration field;
+
+      NamedField(DataFieldDeclaration field) {
+         this.field = field;
+      }
+
+      @Override
+      public String getName() {
+         return field.getName();
+      }
+
+      @Override
+      public Data getParent() {
+         return (Data) field.eContainer();
+      }
+   }
+}
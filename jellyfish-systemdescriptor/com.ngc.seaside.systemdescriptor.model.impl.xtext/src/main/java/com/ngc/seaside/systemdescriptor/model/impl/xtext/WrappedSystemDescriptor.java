@@ -32,6 +32,7 @@ import com.ngc.seaside.systemdescriptor.model.api.data.IEnumeration;
 import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
 import com.ngc.seaside.systemdescriptor.model.impl.basic.NamedChildCollection;
 import com.ngc.seaside.systemdescriptor.model.impl.xtext.store.IWrapperResolver;
+import com.ngc.seaside.systemdescriptor.model.impl.xtext.store.IndexedWrapperResolver;
 import com.ngc.seaside.systemdescriptor.model.impl.xtext.store.WrapperResolver;
 import com.ngc.seaside.systemdescriptor.systemDescriptor.Package;
 
@@ -50,12 +51,23 @@ public class WrappedSystemDescriptor implements ISystemDescriptor {
    private final INamedChildCollection<ISystemDescriptor, IPackage> packages = new NamedChildCollection<>();
    private final IWrapperResolver resolver;
    private final EObject rootXtextObject;
+   private final boolean indexed;
 
    /**
     * Creates a new wrapped system descriptor.
     */
    public WrappedSystemDescriptor(Package parsedPackage) {
+      this(parsedPackage, false);
+   }
+
+   /**
+    * Creates a new wrapped system descriptor.  If {@code indexed} is {@code true}, XText elements are found with an
+    * {@link IndexedWrapperResolver} instead of scanning the resource set for every lookup.  Use this option if the
+    * resource set that contains the package is not modified after it has been parsed.
+    */
+   public WrappedSystemDescriptor(Package parsedPackage, boolean indexed) {
       this.rootXtextObject = Preconditions.checkNotNull(parsedPackage, "parsedPackage may not be null!");
+      this.indexed = indexed;
       // Create a new resolver.
       resolver = newResolver();
       // Register all packages that XText parsed.
@@ -154,12 +166,25 @@ public class WrappedSystemDescriptor implements ISystemDescriptor {
       return enumeration;
    }
 
+   /**
+    * Releases the index used to find XText elements if this descriptor was created with {@code indexed} set to
+    * {@code true}.  This removes the adapters the index installed on the XText objects.  The index is rebuilt if this
+    * descriptor is used again.
+    */
+   public void releaseIndex() {
+      if (resolver instanceof IndexedWrapperResolver) {
+         ((IndexedWrapperResolver) resolver).invalidate();
+      }
+   }
+
    /**
     * Factory method that creates a new {@link IWrapperResolver} implementation.  Extending classes or tests may
     * override this method.
     */
    protected IWrapperResolver newResolver() {
-      return new WrapperResolver(this, rootXtextObject);
+      return indexed
+            ? new IndexedWrapperResolver(this, rootXtextObject)
+            : new WrapperResolver(this, rootXtextObject);
    }
 
    /**
@@ -31,13 +31,21 @@ import org.eclipse.emf.ecore.EObject;
 
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
  * A collection view on top of an {@code EList} that can automatically adapt instances within the wrapped list to
  * instances of type T and vice versa.
- * This class is not threadsafe.
+ *
+ * <p/>
+ * By default, a new wrapper is created each time an element is accessed.  If wrapper caching is enabled, the wrapper
+ * of each element is created once and reused so the same element is always wrapped by the same instance.  Wrappers of
+ * elements removed through this collection are discarded.  Only enable caching if the wrappers are views of the
+ * wrapped elements that don't need to be recreated when the elements change.
+ * This class is not threadsafe for modification.
  *
  * @param <X> the type of object that the wrapped list contains
  * @param <T> the type of object that the contents of the wrapped list should be bridged to
@@ -70,6 +78,12 @@ public class AutoWrappingCollection<X extends EObject, T> implements Collection<
     */
    protected EList<X> wrapped;
 
+   /**
+    * The wrappers of the elements in the wrapped list.  This is {@code null} if wrapper caching is disabled.  XText
+    * objects don't override {@code equals}, so the elements are effectively compared by identity.
+    */
+   private final Map<X, T> wrappers;
+
    /**
     * Creates a new {@code AutoWrappingCollection} that is backed by the given list.
     *
@@ -81,9 +95,26 @@ public class AutoWrappingCollection<X extends EObject, T> implements Collection<
    public AutoWrappingCollection(EList<X> wrapped,
                                  Function<X, T> wrapperFunction,
                                  Function<T, X> unwrapperFunction) {
+      this(wrapped, wrapperFunction, unwrapperFunction, false);
+   }
+
+   /**
+    * Creates a new {@code AutoWrappingCollection} that is backed by the given list.
+    *
+    * @param wrapped           the list to wrap
+    * @param wrapperFunction   the function that converts elements from the wrapped list to elements of type T
+    * @param unwrapperFunction the function that converts elements of type T to elements that can be inserted in the
+    *                          wrapped list
+    * @param cacheWrappers     if true, the wrapper of each element is created once and reused
+    */
+   public AutoWrappingCollection(EList<X> wrapped,
+                                 Function<X, T> wrapperFunction,
+                                 Function<T, X> unwrapperFunction,
+                                 boolean cacheWrappers) {
       this.wrapped = Preconditions.checkNotNull(wrapped, "wrapped may not be null!");
       this.wrapperFunction = Preconditions.checkNotNull(wrapperFunction, "wrapperFunction may not be null!");
       this.unwrapperFunction = Preconditions.checkNotNull(unwrapperFunction, "unwrapperFunction may not be null!");
+      this.wrappers = cacheWrappers ? new ConcurrentHashMap<>() : null;
    }
 
    @Override
@@ -116,7 +147,7 @@ public class AutoWrappingCollection<X extends EObject, T> implements Collection<
       Object[] array = new Object[size()];
       int i = 0;
       for (X obj : wrapped) {
-         array[i++] = wrapperFunction.apply(obj);
+         array[i++] = wrap(obj);
       }
       return array;
    }
@@ -132,7 +163,7 @@ public class AutoWrappingCollection<X extends EObject, T> implements Collection<
 
       int i = 0;
       for (X obj : wrapped) {
-         a[i++] = (T1) wrapperFunction.apply(obj);
+         a[i++] = (T1) wrap(obj);
       }
       while (i < a.length - 1) {
          a[i++] = null;
@@ -153,7 +184,11 @@ public class AutoWrappingCollection<X extends EObject, T> implements Collection<
       Preconditions.checkNotNull(o, "o may not be null!");
       // No way to avoid this unsafe cast, sorry.
       X unwrapped = unwrapperFunction.apply((T) o);
-      return wrapped.remove(unwrapped);
+      boolean removed = wrapped.remove(unwrapped);
+      if (removed && wrappers != null && !wrapped.contains(unwrapped)) {
+         wrappers.remove(unwrapped);
+      }
+      return removed;
    }
 
    @Override
@@ -201,6 +236,7 @@ public class AutoWrappingCollection<X extends EObject, T> implements Collection<
    @Override
    public void clear() {
       wrapped.clear();
+      clearWrappers();
    }
 
    @Override
@@ -244,6 +280,38 @@ public class AutoWrappingCollection<X extends EObject, T> implements Collection<
     */
    protected void setWrapped(EList<X> toWrap) {
       this.wrapped = Preconditions.checkNotNull(toWrap, "toWrap may not be null!");
+      clearWrappers();
+   }
+
+   /**
+    * Gets the wrapper of the given element.  If wrapper caching is enabled, the cached wrapper is returned if there is
+    * one.  Otherwise, a new wrapper is created.
+    *
+    * @param obj the element to wrap
+    * @return the wrapper of the element
+    */
+   protected T wrap(X obj) {
+      if (wrappers == null) {
+         return wrapperFunction.apply(obj);
+      }
+      T wrapper = wrappers.get(obj);
+      if (wrapper == null) {
+         // Don't use computeIfAbsent since wrapping an element may wrap other elements of this collection.
+         wrapper = wrapperFunction.apply(obj);
+         T existing = wrappers.putIfAbsent(obj, wrapper);
+         wrapper = existing == null ? wrapper : existing;
+      }
+      return wrapper;
+   }
+
+   /**
+    * Discards all cached wrappers.  Subclasses should call this if the wrapped list changes without going through this
+    * collection.
+    */
+   protected void clearWrappers() {
+      if (wrappers != null) {
+         wrappers.clear();
+      }
    }
 
    /**
@@ -253,6 +321,11 @@ public class AutoWrappingCollection<X extends EObject, T> implements Collection<
 
       protected final Iterator<X> wrappedIterator;
 
+      /**
+       * The element that was last returned by {@link #next()}.
+       */
+      private X current;
+
       protected WrappingIterator(Iterator<X> wrappedIterator) {
          this.wrappedIterator = wrappedIterator;
       }
@@ -264,12 +337,16 @@ public class AutoWrappingCollection<X extends EObject, T> implements Collection<
 
       @Override
       public T next() {
-         return wrapperFunction.apply(wrappedIterator.next());
+         current = wrappedIterator.next();
+         return wrap(current);
       }
 
       @Override
       public void remove() {
          wrappedIterator.remove();
+         if (wrappers != null && !wrapped.contains(current)) {
+            wrappers.remove(current);
+         }
       }
    }
 }
@@ -59,9 +59,24 @@ public class SelfInitializingAutoWrappingCollection<X extends EObject, T> extend
    public SelfInitializingAutoWrappingCollection(Function<X, T> wrapperFunction,
                                                  Function<T, X> unwrapperFunction,
                                                  Supplier<EList<X>> initializer) {
+      this(wrapperFunction, unwrapperFunction, initializer, false);
+   }
+
+   /**
+    * @param wrapperFunction   the function that converts elements from the wrapped list to elements of type T
+    * @param unwrapperFunction the function that converts elements of type T to elements that can be inserted in the
+    *                          wrapped list
+    * @param initializer       the supplier that is called to get an {@code EList} before the first element is added.
+    *                          This collection will wrap the returned list.
+    * @param cacheWrappers     if true, the wrapper of each element is created once and reused
+    */
+   public SelfInitializingAutoWrappingCollection(Function<X, T> wrapperFunction,
+                                                 Function<T, X> unwrapperFunction,
+                                                 Supplier<EList<X>> initializer,
+                                                 boolean cacheWrappers) {
       // Just past an empty list to the super class for now.  We'll replace it before the first add so it
       // will never actually contain anything.
-      super(ECollections.emptyEList(), wrapperFunction, unwrapperFunction);
+      super(ECollections.emptyEList(), wrapperFunction, unwrapperFunction, cacheWrappers);
       this.initializer = Preconditions.checkNotNull(initializer, "initializer may not be null!");
    }
 
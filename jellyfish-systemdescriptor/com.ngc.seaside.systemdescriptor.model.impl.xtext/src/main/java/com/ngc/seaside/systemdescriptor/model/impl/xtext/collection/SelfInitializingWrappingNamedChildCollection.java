@@ -65,9 +65,27 @@ public class SelfInitializingWrappingNamedChildCollection<X extends EObject, P,
                                                        Function<T, X> unwrapperFunction,
                                                        Function<X, String> namingFunction,
                                                        Supplier<EList<X>> initializer) {
+      this(wrapperFunction, unwrapperFunction, namingFunction, initializer, false);
+   }
+
+   /**
+    * Creates a collection.
+    *
+    * @param wrapperFunction   the function that converts elements from the wrapped list to elements of type T
+    * @param unwrapperFunction the function that converts elements of type T to elements that can be inserted in the
+    *                          wrapped list
+    * @param namingFunction    the function that is used to obtain the name of the elements contained in the wrapped
+    * @param initializer       the supplier that is called to get an {@code EList} before the first element is added
+    * @param cacheWrappers     if true, the wrapper of each element is created once and reused
+    */
+   public SelfInitializingWrappingNamedChildCollection(Function<X, T> wrapperFunction,
+                                                       Function<T, X> unwrapperFunction,
+                                                       Function<X, String> namingFunction,
+                                                       Supplier<EList<X>> initializer,
+                                                       boolean cacheWrappers) {
       // Just past an empty list to the super class for now.  We'll replace it before the first add so it
       // will never actually contain anything.
-      super(ECollections.emptyEList(), wrapperFunction, unwrapperFunction, namingFunction);
+      super(ECollections.emptyEList(), wrapperFunction, unwrapperFunction, namingFunction, cacheWrappers);
       this.initializer = Preconditions.checkNotNull(initializer, "initializer may not be null!");
    }
 
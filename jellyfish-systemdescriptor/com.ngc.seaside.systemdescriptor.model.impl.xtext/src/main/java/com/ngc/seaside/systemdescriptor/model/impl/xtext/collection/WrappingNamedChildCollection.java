@@ -27,15 +27,38 @@ import com.google.common.base.Preconditions;
 import com.ngc.seaside.systemdescriptor.model.api.INamedChild;
 import com.ngc.seaside.systemdescriptor.model.api.INamedChildCollection;
 
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.notify.NotifyingList;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.ecore.EObject;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
 /**
  * A type of auto wrapping collection that also implements {@code INamedChildCollection}.
- * This class is not threadsafe.
+ *
+ * <p/>
+ * If the wrapped list is a {@link NotifyingList} owned by a {@link Notifier} (as all XText containment lists are),
+ * {@link #getByName(String)} uses an index of the elements by name.  The index is built on the first lookup and is
+ * discarded if the wrapped list or any of its elements change.  Other lists are searched linearly.  Wrapper caching is
+ * disabled by default.  If it is enabled, the same XText object is wrapped by the same instance while it remains in the
+ * list and the cached wrappers are discarded when an indexed list changes.  Only enable caching if the wrapped elements
+ * are only changed through their wrappers.
+ *
+ * <p/>
+ * This class is not threadsafe for modification.  Concurrent lookups are safe as long as neither the wrapped list nor
+ * any other part of the XText model is modified.  The index's adapter is added to and removed from the adapter list of
+ * the owner and of each element while holding the lock of that object.  The adapter lists of EMF objects are not
+ * thread safe, and the collections of the same owner (such as the inputs, outputs, and scenarios of a model) share the
+ * owner's list.  Any other code that changes the adapters of XText objects while lookups may be running must hold the
+ * same lock.
  *
  * @param <X> the type of {@code EObject} that is contained in the wrapped list
  * @param <P> the parent of the {@code INamedChild}
@@ -50,6 +73,16 @@ public class WrappingNamedChildCollection<X extends EObject, P, T extends INamed
     */
    private final Function<X, String> namingFunction;
 
+   /**
+    * Discards the index when the wrapped list or one of its elements changes.
+    */
+   private final IndexingAdapter adapter = new IndexingAdapter();
+
+   /**
+    * The elements of the wrapped list by name.  This is {@code null} if the index needs to be built.
+    */
+   private volatile Map<String, X> index;
+
    /**
     * Creates a collection.
     *
@@ -64,7 +97,26 @@ public class WrappingNamedChildCollection<X extends EObject, P, T extends INamed
                                        Function<X, T> wrapperFunction,
                                        Function<T, X> unwrapperFunction,
                                        Function<X, String> namingFunction) {
-      super(wrapped, wrapperFunction, unwrapperFunction);
+      this(wrapped, wrapperFunction, unwrapperFunction, namingFunction, false);
+   }
+
+   /**
+    * Creates a collection.
+    *
+    * @param wrapped           the {@code EList} to wrap
+    * @param wrapperFunction   the function that converts elements from the wrapped list to elements of type T
+    * @param unwrapperFunction the function that converts elements of type T to elements that can be inserted in the
+    *                          wrapped list
+    * @param namingFunction    the function that is used to obtain the name of the elements contained in the wrapped
+    *                          list
+    * @param cacheWrappers     if true, the wrapper of each element is created once and reused
+    */
+   public WrappingNamedChildCollection(EList<X> wrapped,
+                                       Function<X, T> wrapperFunction,
+                                       Function<T, X> unwrapperFunction,
+                                       Function<X, String> namingFunction,
+                                       boolean cacheWrappers) {
+      super(wrapped, wrapperFunction, unwrapperFunction, cacheWrappers);
       this.namingFunction = Preconditions.checkNotNull(namingFunction, "namingFunction may not be null!");
    }
 
@@ -73,11 +125,115 @@ public class WrappingNamedChildCollection<X extends EObject, P, T extends INamed
       Preconditions.checkNotNull(name, "name may not be null!");
       Preconditions.checkArgument(!name.trim().isEmpty(), "name may not be empty!");
 
-      // Find the element in the wrapped list with the given name.  Use the function to determine the names of the
-      // elements in the wrapped list.
-      Optional<X> xtextChild = wrapped.stream()
-            .filter(x -> namingFunction.apply(x).equals(name))
-            .findFirst();
-      return xtextChild.map(wrapperFunction);
+      Map<String, X> names = getIndex();
+      if (names == null) {
+         // Find the element in the wrapped list with the given name.  Use the function to determine the names of the
+         // elements in the wrapped list.
+         Optional<X> xtextChild = wrapped.stream()
+               .filter(x -> namingFunction.apply(x).equals(name))
+               .findFirst();
+         return xtextChild.map(this::wrap);
+      }
+
+      X xtextChild = names.get(name);
+      return xtextChild == null ? Optional.empty() : Optional.of(wrap(xtextChild));
+   }
+
+   @Override
+   protected void setWrapped(EList<X> toWrap) {
+      super.setWrapped(toWrap);
+      invalidate(false);
+   }
+
+   /**
+    * Gets the index of elements by name, building it if necessary.
+    *
+    * @return the index or {@code null} if the wrapped list can't be indexed
+    */
+   private Map<String, X> getIndex() {
+      Map<String, X> current = index;
+      if (current == null && wrapped instanceof NotifyingList) {
+         synchronized (this) {
+            current = index;
+            if (current == null) {
+               current = buildIndex((NotifyingList<X>) wrapped);
+               index = current;
+            }
+         }
+      }
+      return current;
+   }
+
+   private Map<String, X> buildIndex(NotifyingList<X> list) {
+      if (!(list.getNotifier() instanceof Notifier)) {
+         return null;
+      }
+      Map<String, X> names = new HashMap<>();
+      adapter.attach((Notifier) list.getNotifier());
+      for (X x : list) {
+         adapter.attach(x);
+         // Keep the first element if there are duplicate names.  This is the same element a linear search would find.
+         names.putIfAbsent(namingFunction.apply(x), x);
+      }
+      return names;
+   }
+
+   /**
+    * Discards the index.
+    *
+    * @param listChanged true if the contents of the wrapped list changed, in which case the cached wrappers are also
+    *                    discarded
+    */
+   private synchronized void invalidate(boolean listChanged) {
+      index = null;
+      adapter.detach();
+      if (listChanged) {
+         clearWrappers();
+      }
+   }
+
+   /**
+    * Listens to the owner of the wrapped list and the elements of the list.
+    */
+   private class IndexingAdapter extends AdapterImpl {
+
+      private final Collection<Notifier> notifiers = new ArrayList<>();
+
+      void attach(Notifier notifier) {
+         synchronized (notifier) {
+            notifier.eAdapters().add(this);
+         }
+         notifiers.add(notifier);
+      }
+
+      void detach() {
+         for (Notifier notifier : notifiers) {
+            synchronized (notifier) {
+               notifier.eAdapters().remove(this);
+            }
+         }
+         notifiers.clear();
+      }
+
+      @Override
+      public void notifyChanged(Notification notification) {
+         if (notification.isTouch()
+               || notification.getEventType() == Notification.RESOLVE
+               || notification.getEventType() == Notification.REMOVING_ADAPTER) {
+            return;
+         }
+
+         Object list = wrapped;
+         if (list instanceof NotifyingList && notification.getNotifier() == ((NotifyingList<?>) list).getNotifier()) {
+            // Only changes to the wrapped list of the owner affect the index.
+            if (notification.getFeature() == ((NotifyingList<?>) list).getFeature()) {
+               invalidate(true);
+            }
+         } else {
+            // The naming function may use any feature of an element, so any change to an element may change its
+            // name.
+            invalidate(false);
+         }
+      }
    }
 }
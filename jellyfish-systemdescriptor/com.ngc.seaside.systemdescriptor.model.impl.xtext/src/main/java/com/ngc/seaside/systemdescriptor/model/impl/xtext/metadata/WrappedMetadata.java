@@ -54,7 +54,8 @@ import javax.json.spi.JsonProvider;
 
 /**
  * Adapts an {@link Metadata} instance to {@link IMetadata}.  Unlike other wrappers, changes to this object do not
- * "write thought" to the wrapped object.
+ * "write thought" to the wrapped object.  The XText JSON is not converted until it is first read.  The converted JSON
+ * is reused after that.
  */
 public class WrappedMetadata implements IMetadata {
 
@@ -63,10 +64,15 @@ public class WrappedMetadata implements IMetadata {
     */
    private static JsonProvider provider;
 
-   private javax.json.JsonObject json;
+   /**
+    * The XText JSON that has not been converted yet.  This is {@code null} once the JSON has been converted or set.
+    */
+   private volatile JsonObject xtextJson;
 
-   private WrappedMetadata(javax.json.JsonObject json) {
-      this.json = json;
+   private volatile javax.json.JsonObject json;
+
+   private WrappedMetadata(JsonObject xtextJson) {
+      this.xtextJson = xtextJson;
    }
 
    /**
@@ -77,11 +83,21 @@ public class WrappedMetadata implements IMetadata {
 
    @Override
    public javax.json.JsonObject getJson() {
-      return json;
+      // Read the XText JSON first.  It is only cleared after the converted JSON has been set.
+      JsonObject unconverted = xtextJson;
+      javax.json.JsonObject result = json;
+      if (result == null && unconverted != null) {
+         // Don't worry about synchronization, if the JSON gets converted twice the results are equivalent.
+         result = toJavaxJsonObject(unconverted);
+         json = result;
+         xtextJson = null;
+      }
+      return result;
    }
 
    @Override
    public IMetadata setJson(javax.json.JsonObject json) {
+      this.xtextJson = null;
       this.json = json;
       return this;
    }
@@ -107,7 +123,7 @@ public class WrappedMetadata implements IMetadata {
     * {@code null}, {@link IMetadata#EMPTY_METADATA} is returned.
     */
    public static IMetadata fromXtextJson(JsonObject json) {
-      return json == null ? IMetadata.EMPTY_METADATA : new WrappedMetadata(toJavaxJsonObject(json));
+      return json == null ? IMetadata.EMPTY_METADATA : new WrappedMetadata(json);
    }
 
    /**
@@ -339,11 +339,13 @@ public class WrappedModel extends AbstractWrappedXtext<Model> implements IModel
 
 
    private void initScenarios() {
+      // Cache the scenario wrappers since each wrapper owns the cached wrappers of its steps.
       scenarios = new WrappingNamedChildCollection<>(
             wrapped.getScenarios(),
             s -> new WrappedScenario(resolver, s),
             WrappedScenario::toXtextScenario,
-            Scenario::getName);
+            Scenario::getName,
+            true);
    }
 
    private void initLinks() {
@@ -354,12 +356,14 @@ public class WrappedModel extends AbstractWrappedXtext<Model> implements IModel
                () -> {
                   wrapped.setLinks(SystemDescriptorFactory.eINSTANCE.createLinks());
                   return wrapped.getLinks().getDeclarations();
-               });
+               },
+               true);
       } else {
          links = new AutoWrappingCollection<>(
                wrapped.getLinks().getDeclarations(),
                this::wrapLinkDeclaration,
-               this::unwrapModelLink);
+               this::unwrapModelLink,
+               true);
       }
    }
 
@@ -78,13 +78,15 @@ public class WrappedScenario extends AbstractWrappedXtext<Scenario> implements I
                   // within the declaration.
                   wrapped.setGiven(SystemDescriptorFactory.eINSTANCE.createGivenDeclaration());
                   return wrapped.getGiven().getSteps();
-               });
+               },
+               true);
       } else {
          // Otherwise, just wrap the steps that are in the existing declaration.
          givens = new AutoWrappingCollection<>(
                wrapped.getGiven().getSteps(),
                s -> new WrappedScenarioStep<>(resolver, s),
-               AutoWrappingCollection.defaultUnwrapper());
+               AutoWrappingCollection.defaultUnwrapper(),
+               true);
       }
 
       if (wrapped.getWhen() == null) {
@@ -96,13 +98,15 @@ public class WrappedScenario extends AbstractWrappedXtext<Scenario> implements I
                   // within the declaration.
                   wrapped.setWhen(SystemDescriptorFactory.eINSTANCE.createWhenDeclaration());
                   return wrapped.getWhen().getSteps();
-               });
+               },
+               true);
       } else {
          // Otherwise, just wrap the steps that are in the existing declaration.
          whens = new AutoWrappingCollection<>(
                wrapped.getWhen().getSteps(),
                s -> new WrappedScenarioStep<>(resolver, s),
-               AutoWrappingCollection.defaultUnwrapper());
+               AutoWrappingCollection.defaultUnwrapper(),
+               true);
       }
 
       if (wrapped.getThen() == null) {
@@ -114,13 +118,15 @@ public class WrappedScenario extends AbstractWrappedXtext<Scenario> implements I
                   // within the declaration.
                   wrapped.setThen(SystemDescriptorFactory.eINSTANCE.createThenDeclaration());
                   return wrapped.getThen().getSteps();
-               });
+               },
+               true);
       } else {
          // Otherwise, just wrap the steps that are in the existing declaration.
          thens = new AutoWrappingCollection<>(
                wrapped.getThen().getSteps(),
                s -> new WrappedScenarioStep<>(resolver, s),
-               AutoWrappingCollection.defaultUnwrapper());
+               AutoWrappingCollection.defaultUnwrapper(),
+               true);
       }
    }
 
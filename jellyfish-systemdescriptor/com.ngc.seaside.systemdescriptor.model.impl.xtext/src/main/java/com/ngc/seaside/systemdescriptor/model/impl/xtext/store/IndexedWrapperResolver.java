@@ -0,0 +1,208 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.model.impl.xtext.store;
+
+import com.ngc.seaside.systemdescriptor.model.api.ISystemDescriptor;
+import com.ngc.seaside.systemdescriptor.systemDescriptor.Element;
+import com.ngc.seaside.systemdescriptor.systemDescriptor.Package;
+import com.ngc.seaside.systemdescriptor.systemDescriptor.SystemDescriptorPackage;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * An {@code IWrapperResolver} that finds XText elements with an index instead of scanning every resource in the
+ * resource set for each lookup.  The index is built the first time an element is requested.  It is discarded if a
+ * resource is added to or removed from the resource set, if the contents of a resource change, or if a package or
+ * element is renamed.
+ *
+ * <p/>
+ * This resolver is best suited for resource sets that don't change once they are parsed, such as the ones created by
+ * the standalone system descriptor service.  Lookups are synchronized so a single resolver can be used by validators
+ * that run in parallel.  The index installs adapters on the indexed objects; invoke {@link #invalidate()} to remove
+ * them once the resolver is no longer needed.
+ */
+public class IndexedWrapperResolver extends WrapperResolver {
+
+   /**
+    * Elements keyed by package name, element name, and element type.  This is {@code null} if the index needs to be
+    * built.
+    */
+   private Map<ElementKey, Element> index;
+
+   /**
+    * Invalidates the index when any indexed object changes.
+    */
+   private final InvalidatingAdapter adapter = new InvalidatingAdapter();
+
+   public IndexedWrapperResolver(ISystemDescriptor systemDescriptor, EObject rootXtextObject) {
+      super(systemDescriptor, rootXtextObject);
+   }
+
+   @Override
+   protected synchronized Optional<Element> findXTextElement(String name, String packageName, int classifierId) {
+      Resource resource = getRootXtextObject().eResource();
+      if (resource == null || resource.getResourceSet() == null) {
+         return super.findXTextElement(name, packageName, classifierId);
+      }
+      if (index == null) {
+         index = buildIndex(resource.getResourceSet());
+      }
+      return Optional.ofNullable(index.get(new ElementKey(packageName, name, classifierId)));
+   }
+
+   /**
+    * Discards the index.  The index will be rebuilt the next time an element is requested.
+    */
+   public synchronized void invalidate() {
+      if (index != null) {
+         index = null;
+         // Stop listening for changes until the index is rebuilt.
+         adapter.detach();
+      }
+   }
+
+   private Map<ElementKey, Element> buildIndex(ResourceSet set) {
+      Map<ElementKey, Element> elements = new HashMap<>();
+      adapter.attach(set);
+      for (Resource r : set.getResources()) {
+         adapter.attach(r);
+         for (EObject o : r.getContents()) {
+            if (o instanceof Package) {
+               Package p = (Package) o;
+               adapter.attach(p);
+               Element element = p.getElement();
+               if (element != null) {
+                  adapter.attach(element);
+                  // Keep the first element if there are duplicates.  This is the same element the linear search
+                  // would find.
+                  ElementKey key = new ElementKey(p.getName(),
+                                                  element.getName(),
+                                                  element.eClass().getClassifierID());
+                  elements.putIfAbsent(key, element);
+               }
+            }
+         }
+      }
+      return elements;
+   }
+
+   /**
+    * The key of an element in the index.
+    */
+   private static class ElementKey {
+
+      private final String packageName;
+      private final String name;
+      private final int classifierId;
+
+      ElementKey(String packageName, String name, int classifierId) {
+         this.packageName = packageName;
+         this.name = name;
+         this.classifierId = classifierId;
+      }
+
+      @Override
+      public boolean equals(Object o) {
+         if (this == o) {
+            return true;
+         }
+         if (!(o instanceof ElementKey)) {
+            return false;
+         }
+         ElementKey that = (ElementKey) o;
+         return classifierId == that.classifierId
+               && Objects.equals(packageName, that.packageName)
+               && Objects.equals(name, that.name);
+      }
+
+      @Override
+      public int hashCode() {
+         return Objects.hash(packageName, name, classifierId);
+      }
+   }
+
+   /**
+    * An adapter that invalidates the index if the resource set, a resource, a package, or an element changes in a way
+    * that affects the index.
+    */
+   private class InvalidatingAdapter extends AdapterImpl {
+
+      private final Collection<Notifier> notifiers = new ArrayList<>();
+
+      void attach(Notifier notifier) {
+         // Adapter lists are not thread safe and may be shared with other resolvers and collections.
+         synchronized (notifier) {
+            notifier.eAdapters().add(this);
+         }
+         notifiers.add(notifier);
+      }
+
+      void detach() {
+         for (Notifier notifier : notifiers) {
+            synchronized (notifier) {
+               notifier.eAdapters().remove(this);
+            }
+         }
+         notifiers.clear();
+      }
+
+      @Override
+      public void notifyChanged(Notification notification) {
+         if (notification.isTouch()
+               || notification.getEventType() == Notification.RESOLVE
+               || notification.getEventType() == Notification.REMOVING_ADAPTER) {
+            return;
+         }
+
+         Object notifier = notification.getNotifier();
+         boolean affectsIndex;
+         if (notifier instanceof ResourceSet) {
+            affectsIndex = notification.getFeatureID(ResourceSet.class) == ResourceSet.RESOURCE_SET__RESOURCES;
+         } else if (notifier instanceof Resource) {
+            affectsIndex = notification.getFeatureID(Resource.class) == Resource.RESOURCE__CONTENTS;
+         } else if (notifier instanceof Package) {
+            int featureId = notification.getFeatureID(Package.class);
+            affectsIndex = featureId == SystemDescriptorPackage.PACKAGE__NAME
+                  || featureId == SystemDescriptorPackage.PACKAGE__ELEMENT;
+         } else {
+            affectsIndex = notification.getFeatureID(Element.class) == SystemDescriptorPackage.ELEMENT__NAME;
+         }
+
+         if (affectsIndex) {
+            invalidate();
+         }
+      }
+   }
+}
@@ -106,15 +106,8 @@ public class WrapperResolver implements IWrapperResolver {
       Preconditions.checkNotNull(packageName, "packageName may not be null!");
       Preconditions.checkArgument(!packageName.trim().isEmpty(), "packageName may not be empty!");
 
-      for (Package p : findXTextPackages(packageName)) {
-         Element element = p.getElement();
-         if (element.eClass().getClassifierID() == SystemDescriptorPackage.ENUMERATION
-               && element.getName().equals(name)) {
-            return Optional.of((Enumeration) element);
-         }
-      }
-
-      return Optional.empty();
+      return findXTextElement(name, packageName, SystemDescriptorPackage.ENUMERATION)
+            .map(element -> (Enumeration) element);
    }
 
    @Override
@@ -124,15 +117,8 @@ public class WrapperResolver implements IWrapperResolver {
       Preconditions.checkNotNull(packageName, "packageName may not be null!");
       Preconditions.checkArgument(!packageName.trim().isEmpty(), "packageName may not be empty!");
 
-      for (Package p : findXTextPackages(packageName)) {
-         Element element = p.getElement();
-         if (element.eClass().getClassifierID() == SystemDescriptorPackage.DATA
-               && element.getName().equals(name)) {
-            return Optional.of((Data) element);
-         }
-      }
-
-      return Optional.empty();
+      return findXTextElement(name, packageName, SystemDescriptorPackage.DATA)
+            .map(element -> (Data) element);
    }
 
    @Override
@@ -142,17 +128,37 @@ public class WrapperResolver implements IWrapperResolver {
       Preconditions.checkNotNull(packageName, "packageName may not be null!");
       Preconditions.checkArgument(!packageName.trim().isEmpty(), "packageName may not be empty!");
 
+      return findXTextElement(name, packageName, SystemDescriptorPackage.MODEL)
+            .map(element -> (Model) element);
+   }
+
+   /**
+    * Finds the XText element with the given name and package that is of the type identified by the given classifier
+    * ID.  Extending classes may override this method to locate elements more efficiently.
+    *
+    * @param name         the name of the element
+    * @param packageName  the name of the package that contains the element
+    * @param classifierId the {@link SystemDescriptorPackage} classifier ID of the type of the element
+    * @return the element or an empty optional if no such element exists
+    */
+   protected Optional<Element> findXTextElement(String name, String packageName, int classifierId) {
       for (Package p : findXTextPackages(packageName)) {
          Element element = p.getElement();
-         if (element.eClass().getClassifierID() == SystemDescriptorPackage.MODEL
+         if (element.eClass().getClassifierID() == classifierId
                && element.getName().equals(name)) {
-            return Optional.of((Model) element);
+            return Optional.of(element);
          }
       }
-
       return Optional.empty();
    }
 
+   /**
+    * Gets the root XText object used to create this resolver.
+    */
+   protected EObject getRootXtextObject() {
+      return rootXtextObject;
+   }
+
    /**
     * Finds the XTest packages with the given name.  There may be more than one package with the given name.
     */
@@ -37,6 +37,8 @@ import java.util.Iterator;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class AutoWrappingCollectionTest extends AbstractWrappedXtextTest {
@@ -91,4 +93,32 @@ public class AutoWrappingCollectionTest extends AbstractWrappedXtextTest {
       assertTrue("remove not correct!",
                  wrapped.isEmpty());
    }
+
+   @Test
+   public void testDoesReuseWrappersIfCachingEnabled() throws Throwable {
+      assertNotSame("wrappers should not be reused by default!",
+                    wrapped.iterator().next(),
+                    wrapped.iterator().next());
+
+      AutoWrappingCollection<DataFieldDeclaration, IDataField> cached = new AutoWrappingCollection<>(
+            data.getFields(),
+            f -> new WrappedPrimitiveDataField(resolver(), (PrimitiveDataFieldDeclaration) f),
+            AutoWrappingCollection.defaultUnwrapper(),
+            true);
+      IDataField field = cached.iterator().next();
+      assertSame("wrapper was not reused!",
+                 field,
+                 cached.iterator().next());
+      assertSame("wrapper was not reused!",
+                 field,
+                 cached.toArray()[0]);
+
+      assertTrue("did not return true if removed!",
+                 cached.remove(field));
+      assertTrue("did not return true if added!",
+                 cached.add(field));
+      assertNotSame("wrapper of removed element should not be reused!",
+                    field,
+                    cached.iterator().next());
+   }
 }
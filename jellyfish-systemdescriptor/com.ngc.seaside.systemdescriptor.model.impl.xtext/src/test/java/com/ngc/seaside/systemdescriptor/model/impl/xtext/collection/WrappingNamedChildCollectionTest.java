@@ -36,10 +36,18 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -86,4 +94,85 @@ public class WrappingNamedChildCollectionTest extends AbstractWrappedXtextTest {
       assertTrue("did not return true if removed!", wrapped.remove(field));
       assertTrue("remove not correct!", wrapped.isEmpty());
    }
+
+   @Test
+   public void testDoesUpdateNamesWhenXtextListChanges() {
+      assertTrue("did not find field!", wrapped.getByName("field1").isPresent());
+
+      PrimitiveDataFieldDeclaration field2 = factory().createPrimitiveDataFieldDeclaration();
+      field2.setName("field2");
+      field2.setType(PrimitiveDataType.INT);
+      parent.getFields().add(field2);
+      assertTrue("did not find added field!", wrapped.getByName("field2").isPresent());
+
+      field2.setName("renamedField2");
+      assertFalse("field should not be found by its old name!", wrapped.getByName("field2").isPresent());
+      assertTrue("did not find renamed field!", wrapped.getByName("renamedField2").isPresent());
+
+      parent.getFields().remove(field2);
+      assertFalse("removed field should not be found!", wrapped.getByName("renamedField2").isPresent());
+      assertTrue("did not find remaining field!", wrapped.getByName("field1").isPresent());
+   }
+
+   @Test
+   public void testDoesReuseWrappersOnlyIfCachingEnabled() {
+      assertNotSame("wrappers should not be reused by default!",
+                    wrapped.getByName("field1").get(),
+                    wrapped.getByName("field1").get());
+
+      WrappingNamedChildCollection<DataFieldDeclaration, IData, IDataField> cached = new WrappingNamedChildCollection<>(
+            parent.getFields(),
+            f -> new WrappedPrimitiveDataField(resolver(), (PrimitiveDataFieldDeclaration) f),
+            AutoWrappingCollection.defaultUnwrapper(),
+            DataFieldDeclaration::getName,
+            true);
+      IDataField field = cached.getByName("field1").get();
+      assertSame("getByName should return the same wrapper!", field, cached.getByName("field1").get());
+      assertSame("iterator should return the same wrapper!", field, cached.iterator().next());
+
+      PrimitiveDataFieldDeclaration field2 = factory().createPrimitiveDataFieldDeclaration();
+      field2.setName("field2");
+      field2.setType(PrimitiveDataType.INT);
+      parent.getFields().add(field2);
+      assertNotSame("wrappers should be discarded when the XText list changes!",
+                    field,
+                    cached.getByName("field1").get());
+   }
+
+   @Test
+   public void testDoesAttachAdaptersToSharedOwnerConcurrently() throws Throwable {
+      int collections = 32;
+      List<WrappingNamedChildCollection<DataFieldDeclaration, IData, IDataField>> views = new ArrayList<>();
+      for (int i = 0; i < collections; i++) {
+         views.add(new WrappingNamedChildCollection<>(
+               parent.getFields(),
+               f -> new WrappedPrimitiveDataField(resolver(), (PrimitiveDataFieldDeclaration) f),
+               AutoWrappingCollection.defaultUnwrapper(),
+               DataFieldDeclaration::getName));
+      }
+      int adaptersBefore = parent.eAdapters().size();
+
+      // Build the index of every collection at the same time.  Each collection adds an adapter to the same owner.
+      ExecutorService executor = Executors.newFixedThreadPool(8);
+      try {
+         CountDownLatch start = new CountDownLatch(1);
+         List<Future<Boolean>> lookups = new ArrayList<>();
+         for (WrappingNamedChildCollection<DataFieldDeclaration, IData, IDataField> view : views) {
+            lookups.add(executor.submit(() -> {
+               start.await();
+               return view.getByName("field1").isPresent();
+            }));
+         }
+         start.countDown();
+         for (Future<Boolean> lookup : lookups) {
+            assertTrue("did not find field!", lookup.get());
+         }
+      } finally {
+         executor.shutdownNow();
+      }
+
+      assertEquals("adapters of the owner were lost!",
+                   adaptersBefore + collections,
+                   parent.eAdapters().size());
+   }
 }
@@ -50,6 +50,7 @@ import static com.ngc.seaside.systemdescriptor.model.impl.xtext.metadata.Wrapped
 import static com.ngc.seaside.systemdescriptor.model.impl.xtext.metadata.WrappedMetadata.newStringValue;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class WrappedMetadataTest extends AbstractWrappedXtextTest {
@@ -107,6 +108,21 @@ public class WrappedMetadataTest extends AbstractWrappedXtextTest {
                   wrapped.getJson().getBoolean("c"));
    }
 
+   @Test
+   public void testDoesConvertMetadataOnce() throws Throwable {
+      wrapped = WrappedMetadata.fromXtext(metadata);
+      javax.json.JsonObject json = wrapped.getJson();
+      assertSame("converted JSON should be reused!",
+                 json,
+                 wrapped.getJson());
+
+      javax.json.JsonObject replacement = javax.json.Json.createObjectBuilder().add("hello", "again").build();
+      wrapped.setJson(replacement);
+      assertSame("set JSON should replace the converted JSON!",
+                 replacement,
+                 wrapped.getJson());
+   }
+
    @Test
    public void testDoesUnwrapMetadata() throws Throwable {
       wrapped = WrappedMetadata.fromXtext(metadata);
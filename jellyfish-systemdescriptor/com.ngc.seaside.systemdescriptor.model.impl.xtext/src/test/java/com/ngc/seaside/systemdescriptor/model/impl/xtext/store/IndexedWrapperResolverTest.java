@@ -0,0 +1,129 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.model.impl.xtext.store;
+
+import com.ngc.seaside.systemdescriptor.model.api.ISystemDescriptor;
+import com.ngc.seaside.systemdescriptor.model.impl.xtext.AbstractWrappedXtextTest;
+import com.ngc.seaside.systemdescriptor.systemDescriptor.Data;
+import com.ngc.seaside.systemdescriptor.systemDescriptor.Model;
+import com.ngc.seaside.systemdescriptor.systemDescriptor.Package;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IndexedWrapperResolverTest extends AbstractWrappedXtextTest {
+
+   private IndexedWrapperResolver resolver;
+
+   private ResourceSet resourceSet;
+
+   private Package dataPackage;
+
+   private Data data;
+
+   @Mock
+   private ISystemDescriptor systemDescriptor;
+
+   @Before
+   public void setup() throws Throwable {
+      data = factory().createData();
+      data.setName("MyData");
+      dataPackage = factory().createPackage();
+      dataPackage.setName("hello.world");
+      dataPackage.setElement(data);
+
+      Model model = factory().createModel();
+      model.setName("MyModel");
+      Package modelPackage = factory().createPackage();
+      modelPackage.setName("hello.world.again");
+      modelPackage.setElement(model);
+
+      resourceSet = new ResourceSetImpl();
+      resourceSet.getResources().add(newResource("MyData.sd", dataPackage));
+      resourceSet.getResources().add(newResource("MyModel.sd", modelPackage));
+
+      resolver = new IndexedWrapperResolver(systemDescriptor, dataPackage);
+   }
+
+   @Test
+   public void testDoesFindElements() throws Throwable {
+      assertEquals("did not find data!",
+                   data,
+                   resolver.findXTextData("MyData", "hello.world").orElse(null));
+      assertTrue("did not find model!",
+                 resolver.findXTextModel("MyModel", "hello.world.again").isPresent());
+      assertFalse("data should not be found as a model!",
+                  resolver.findXTextModel("MyData", "hello.world").isPresent());
+      assertFalse("data should not be found in another package!",
+                  resolver.findXTextData("MyData", "hello.world.again").isPresent());
+   }
+
+   @Test
+   public void testDoesUpdateIndexWhenResourceSetChanges() throws Throwable {
+      assertTrue("did not find data!",
+                 resolver.findXTextData("MyData", "hello.world").isPresent());
+
+      data.setName("MyRenamedData");
+      assertFalse("renamed data should not be found by its old name!",
+                  resolver.findXTextData("MyData", "hello.world").isPresent());
+      assertTrue("did not find renamed data!",
+                 resolver.findXTextData("MyRenamedData", "hello.world").isPresent());
+
+      Data otherData = factory().createData();
+      otherData.setName("MyOtherData");
+      Package otherPackage = factory().createPackage();
+      otherPackage.setName("hello.world");
+      otherPackage.setElement(otherData);
+      resourceSet.getResources().add(newResource("MyOtherData.sd", otherPackage));
+      assertTrue("did not find data in new resource!",
+                 resolver.findXTextData("MyOtherData", "hello.world").isPresent());
+   }
+
+   @Test
+   public void testDoesRemoveAdaptersWhenInvalidated() throws Throwable {
+      assertTrue("did not find data!",
+                 resolver.findXTextData("MyData", "hello.world").isPresent());
+      assertFalse("index should listen for changes!", data.eAdapters().isEmpty());
+
+      resolver.invalidate();
+      assertTrue("adapters should be removed!", resourceSet.eAdapters().isEmpty());
+      assertTrue("adapters should be removed!", dataPackage.eAdapters().isEmpty());
+      assertTrue("adapters should be removed!", data.eAdapters().isEmpty());
+   }
+
+   private static Resource newResource(String fileName, Package p) {
+      Resource resource = new ResourceImpl(URI.createFileURI(fileName));
+      resource.getContents().add(p);
+      return resource;
+   }
+}
@@ -23,9 +23,11 @@
 package com.ngc.seaside.systemdescriptor.scenario.impl.standardsteps;
 
 import com.google.common.base.Preconditions;
+import com.google.inject.Inject;
 import com.ngc.seaside.systemdescriptor.model.api.data.DataTypes;
 import com.ngc.seaside.systemdescriptor.model.api.data.IData;
 import com.ngc.seaside.systemdescriptor.model.api.data.IDataField;
+import com.ngc.seaside.systemdescriptor.model.api.model.DataPathResolver;
 import com.ngc.seaside.systemdescriptor.model.api.model.IDataPath;
 import com.ngc.seaside.systemdescriptor.model.api.model.IDataReferenceField;
 import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
@@ -61,6 +63,8 @@ public class CorrelateStepHandler extends AbstractStepHandler {
    private static final Pattern PATTERN = Pattern.compile("(?:[a-z][a-z0-9_]*)(\\.(?:[a-z][a-z0-9_]*))+",
                                                           Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
 
+   private DataPathResolver dataPathResolver = new DataPathResolver(DataPathResolver.DEFAULT_MAXIMUM_DESCRIPTORS);
+
    /**
     * Default constructor
     */
@@ -68,6 +72,18 @@ public class CorrelateStepHandler extends AbstractStepHandler {
       register(PAST, PRESENT, FUTURE);
    }
 
+   /**
+    * Sets the resolver used to resolve and cache data paths.  By default, each handler uses its own resolver.  Paths
+    * are cached by system descriptor identity, so paths are resolved again once a modified model is wrapped in a new
+    * descriptor.
+    *
+    * @param dataPathResolver the resolver to use
+    */
+   @Inject(optional = true)
+   public void setDataPathResolver(DataPathResolver dataPathResolver) {
+      this.dataPathResolver = Preconditions.checkNotNull(dataPathResolver, "dataPathResolver may not be null!");
+   }
+
    /**
     * Get the data path referenced on the left side of the "to".
     *
@@ -261,7 +277,7 @@ public class CorrelateStepHandler extends AbstractStepHandler {
 
       IDataPath path;
       try {
-         path = IDataPath.of(model, dataFieldString);
+         path = dataPathResolver.resolve(model, dataFieldString);
       } catch (RuntimeException e) {
          declareOrThrowError(context,
                              step,
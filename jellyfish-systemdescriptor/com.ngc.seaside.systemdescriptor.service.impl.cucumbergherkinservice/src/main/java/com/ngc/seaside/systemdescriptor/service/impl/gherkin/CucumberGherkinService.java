@@ -24,16 +24,37 @@ package com.ngc.seaside.systemdescriptor.service.impl.gherkin;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.Reader;
+import java.io.StringReader;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.ngc.seaside.systemdescriptor.model.api.ISystemDescriptor;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
 import com.ngc.seaside.systemdescriptor.model.api.model.scenario.IScenario;
+import com.ngc.seaside.systemdescriptor.service.api.IParsingIssue;
 import com.ngc.seaside.systemdescriptor.service.gherkin.api.IGherkinParsingResult;
 import com.ngc.seaside.systemdescriptor.service.gherkin.api.IGherkinService;
 import com.ngc.seaside.systemdescriptor.service.gherkin.model.api.IFeature;
@@ -47,16 +68,52 @@ import gherkin.ast.GherkinDocument;
 
 /**
  * Parses Gherkin feature files.  Only parses files that end with the extension {@code .feature}.
+ *
+ * <p/>
+ * Parsed documents are cached by the hash of the contents of their files.  If a file has not changed since it was
+ * last parsed by this service, it is not parsed again.  Feature files can be parsed by multiple threads by setting the
+ * {@value #PARALLELISM_PROPERTY_NAME} system property or by calling {@link #setParallelism(int)}.  Each thread uses
+ * its own parser.  Features are always linked to the scenarios of the system descriptor on the calling thread and the
+ * result contains the features and issues in the same order regardless of the number of threads.
  */
 public class CucumberGherkinService implements IGherkinService {
 
-   private final Parser<GherkinDocument> parser = new Parser<>(new AstBuilder());
+   /**
+    * The name of the system property that configures the number of threads used to parse feature files.  If the
+    * property is not set or has a value less than 2, feature files are parsed on the calling thread.
+    */
+   public static final String PARALLELISM_PROPERTY_NAME = "jellyfish.gherkin.parsing.threads";
+
+   /**
+    * The maximum number of parsed documents that are cached.
+    */
+   static final int MAXIMUM_CACHED_DOCUMENTS = 10_000;
+
+   /**
+    * A parser for each thread since parsers are not thread safe.
+    */
+   private final ThreadLocal<Parser<GherkinDocument>> parsers =
+         ThreadLocal.withInitial(() -> new Parser<>(new AstBuilder()));
+
+   /**
+    * Parsed documents keyed by the hash of the contents of their files.  Documents are immutable so they can be
+    * shared between results.
+    */
+   private final Cache<HashCode, GherkinDocument> documents = CacheBuilder.newBuilder()
+         .maximumSize(MAXIMUM_CACHED_DOCUMENTS)
+         .build();
 
    private final ILogService logService;
 
+   /**
+    * The number of threads used to parse feature files.  A value of 1 disables parallel parsing.
+    */
+   private volatile int parallelism;
+
    @Inject
    public CucumberGherkinService(ILogService logService) {
       this.logService = logService;
+      this.parallelism = Math.max(1, Integer.getInteger(PARALLELISM_PROPERTY_NAME, 1));
    }
 
    @Override
@@ -70,49 +127,129 @@ public class CucumberGherkinService implements IGherkinService {
 
       logService.trace(getClass(), "Attempting to parse feature files in %s.", directoryContainingFeatureFiles);
 
-      GherkinParsingResult result = new GherkinParsingResult();
       PathMatcher matcher = directoryContainingFeatureFiles.getFileSystem().getPathMatcher("glob:**.feature");
-      try {
-         Files.walk(directoryContainingFeatureFiles)
-               .filter(Files::isRegularFile)
+      List<Path> featureFiles;
+      try (Stream<Path> files = Files.walk(directoryContainingFeatureFiles)) {
+         featureFiles = files.filter(Files::isRegularFile)
                .filter(matcher::matches)
-               .forEach(f -> parseFeatureFile(f, directoryContainingFeatureFiles, result, systemDescriptor));
+               .collect(Collectors.toList());
       } catch (IOException e) {
          throw new UncheckedIOException("error parsing feature files from directory "
                                         + directoryContainingFeatureFiles,
                                         e);
       }
+
+      int threads = Math.min(parallelism, featureFiles.size());
+      List<ParsedFeatureFile> parsedFiles = threads > 1
+            ? parseInParallel(featureFiles, threads)
+            : featureFiles.stream().map(this::parseFeatureFile).collect(Collectors.toList());
+
+      GherkinParsingResult result = new GherkinParsingResult();
+      Map<String, Optional<IModel>> models = new HashMap<>();
+      for (ParsedFeatureFile parsedFile : parsedFiles) {
+         if (parsedFile.issue == null) {
+            result.addFeature(convert(parsedFile.document,
+                                      parsedFile.featureFile,
+                                      directoryContainingFeatureFiles,
+                                      systemDescriptor,
+                                      models));
+         } else {
+            result.addIssue(parsedFile.issue);
+         }
+      }
       return result;
    }
 
-   private void parseFeatureFile(Path featureFile,
-                                 Path rootDirectory,
-                                 GherkinParsingResult result,
-                                 ISystemDescriptor systemDescriptor) {
-      try (Reader reader = Files.newBufferedReader(featureFile)) {
-         GherkinDocument doc = parser.parse(reader);
-         result.addFeature(convert(doc, featureFile, rootDirectory, systemDescriptor));
+   /**
+    * Gets the number of threads used to parse feature files.
+    *
+    * @return the number of threads used to parse feature files
+    */
+   public int getParallelism() {
+      return parallelism;
+   }
+
+   /**
+    * Sets the number of threads used to parse feature files.  If {@code parallelism} is 1, all feature files are
+    * parsed on the calling thread.
+    *
+    * @param parallelism the number of threads to use
+    */
+   public void setParallelism(int parallelism) {
+      Preconditions.checkArgument(parallelism > 0, "parallelism must be greater than 0!");
+      this.parallelism = parallelism;
+   }
+
+   private List<ParsedFeatureFile> parseInParallel(List<Path> featureFiles, int threads) {
+      ExecutorService executor = Executors.newFixedThreadPool(
+            threads,
+            new ThreadFactoryBuilder().setNameFormat("gherkin-parser-%d").setDaemon(true).build());
+      try {
+         List<Future<ParsedFeatureFile>> futures = new ArrayList<>(featureFiles.size());
+         for (Path featureFile : featureFiles) {
+            futures.add(executor.submit(() -> parseFeatureFile(featureFile)));
+         }
+
+         List<ParsedFeatureFile> parsedFiles = new ArrayList<>(featureFiles.size());
+         for (Future<ParsedFeatureFile> future : futures) {
+            try {
+               parsedFiles.add(future.get());
+            } catch (InterruptedException e) {
+               Thread.currentThread().interrupt();
+               throw new IllegalStateException("interrupted while parsing feature files!", e);
+            } catch (ExecutionException e) {
+               Throwable cause = e.getCause();
+               if (cause instanceof RuntimeException) {
+                  throw (RuntimeException) cause;
+               }
+               throw new IllegalStateException(cause.getMessage(), cause);
+            }
+         }
+         return parsedFiles;
+      } finally {
+         executor.shutdownNow();
+      }
+   }
+
+   private ParsedFeatureFile parseFeatureFile(Path featureFile) {
+      try {
+         byte[] contents = Files.readAllBytes(featureFile);
+         HashCode hash = Hashing.sha256().hashBytes(contents);
+         GherkinDocument doc = documents.getIfPresent(hash);
+         if (doc == null) {
+            doc = parsers.get().parse(new StringReader(decode(contents)));
+            documents.put(hash, doc);
+         }
+         return new ParsedFeatureFile(featureFile, doc, null);
       } catch (ParserException.CompositeParserException e) {
          if (e.errors.isEmpty()) {
-            result.addIssue(GherkinParsingIssue.forParsingException(featureFile, e));
+            return new ParsedFeatureFile(featureFile, null, GherkinParsingIssue.forParsingException(featureFile, e));
          } else {
-            result.addIssue(GherkinParsingIssue.forParsingException(featureFile, e.errors.get(0)));
+            return new ParsedFeatureFile(featureFile,
+                                         null,
+                                         GherkinParsingIssue.forParsingException(featureFile, e.errors.get(0)));
          }
       } catch (ParserException e) {
-         result.addIssue(GherkinParsingIssue.forParsingException(featureFile, e));
+         return new ParsedFeatureFile(featureFile, null, GherkinParsingIssue.forParsingException(featureFile, e));
       } catch (IOException e) {
-         result.addIssue(GherkinParsingIssue.forException(featureFile, e));
+         return new ParsedFeatureFile(featureFile, null, GherkinParsingIssue.forException(featureFile, e));
       }
    }
 
+   private static String decode(byte[] contents) throws CharacterCodingException {
+      // Report malformed input as an issue like a reader would instead of silently replacing characters.
+      return StandardCharsets.UTF_8.newDecoder().decode(ByteBuffer.wrap(contents)).toString();
+   }
+
    private IFeature convert(GherkinDocument doc,
                             Path featureFile,
                             Path rootDirectory,
-                            ISystemDescriptor systemDescriptor) {
+                            ISystemDescriptor systemDescriptor,
+                            Map<String, Optional<IModel>> models) {
       Path relativePath = rootDirectory.relativize(featureFile);
       String packageName = relativePath.getParent().toString().replace(File.separatorChar, '.');
       String name = com.google.common.io.Files.getNameWithoutExtension(relativePath.getFileName().toString());
-      IScenario scenario = findSdScenario(packageName, name, systemDescriptor);
+      IScenario scenario = findSdScenario(packageName, name, systemDescriptor, models);
 
       // If the feature file has no content, the Gherkin feature object is null.  To avoid issues, we'll use a special
       // empty (non-null) feature wrapper for client to consume easier.
@@ -126,12 +263,33 @@ public class CucumberGherkinService implements IGherkinService {
       }
    }
 
-   private static IScenario findSdScenario(String packageName, String name, ISystemDescriptor systemDescriptor) {
+   private static IScenario findSdScenario(String packageName,
+                                           String name,
+                                           ISystemDescriptor systemDescriptor,
+                                           Map<String, Optional<IModel>> models) {
       String[] names = name.split("\\.");
+      // A model usually has several feature files so only look up each model once.
       return names.length == 2
-             ? systemDescriptor.findModel(packageName, names[0])
+             ? models.computeIfAbsent(packageName + "." + names[0],
+                                      key -> systemDescriptor.findModel(packageName, names[0]))
                    .flatMap(s -> s.getScenarios().getByName(names[1]))
                    .orElse(null)
              : null;
    }
+
+   /**
+    * The result of parsing a single feature file.  Either the document or the issue is set.
+    */
+   private static class ParsedFeatureFile {
+
+      private final Path featureFile;
+      private final GherkinDocument document;
+      private final IParsingIssue issue;
+
+      ParsedFeatureFile(Path featureFile, GherkinDocument document, IParsingIssue issue) {
+         this.featureFile = featureFile;
+         this.document = document;
+         this.issue = issue;
+      }
+   }
 }
@@ -24,6 +24,7 @@ package com.ngc.seaside.systemdescriptor.service.impl.gherkin;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -48,6 +49,7 @@ import com.ngc.seaside.systemdescriptor.service.gherkin.model.api.IFeature;
 import com.ngc.seaside.systemdescriptor.service.gherkin.model.api.IGherkinScenario;
 import com.ngc.seaside.systemdescriptor.service.gherkin.model.api.IGherkinStep;
 import com.ngc.seaside.systemdescriptor.service.gherkin.model.api.IGherkinTable;
+import com.ngc.seaside.systemdescriptor.service.impl.gherkin.model.GherkinFeature;
 import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
 import com.ngc.seaside.systemdescriptor.validation.api.Severity;
 
@@ -183,6 +185,36 @@ public class CucumberGherkinServiceIT {
                    issue.getLocation().getColumn());
    }
 
+   @Test
+   public void testDoesParseFeatureFilesInParallel() {
+      setupSdForLinkedModel();
+      service.setParallelism(4);
+
+      IGherkinParsingResult result = service.parseRecursively(Paths.get("build", "resources", "test"),
+                                                              systemDescriptor);
+
+      assertEquals("did not parse all features!",
+                   1,
+                   result.getFeatures().size());
+      assertEquals("should have parsing issue!",
+                   1,
+                   result.getIssues().size());
+      assertTrue("SD scenario should be present!",
+                 result.getFeatures().iterator().next().getModelScenario().isPresent());
+   }
+
+   @Test
+   public void testDoesNotParseUnchangedFeatureFilesAgain() {
+      IGherkinParsingResult first = service.parseRecursively(Paths.get("build", "resources", "test", "valid"),
+                                                             systemDescriptor);
+      IGherkinParsingResult second = service.parseRecursively(Paths.get("build", "resources", "test", "valid"),
+                                                              systemDescriptor);
+
+      assertSame("parsed feature should have been reused!",
+                 ((GherkinFeature) first.getFeatures().iterator().next()).unwrap(),
+                 ((GherkinFeature) second.getFeatures().iterator().next()).unwrap());
+   }
+
    private void setupSdForLinkedModel() {
       IModel model = mock(IModel.class);
       IScenario scenario = mock(IScenario.class);
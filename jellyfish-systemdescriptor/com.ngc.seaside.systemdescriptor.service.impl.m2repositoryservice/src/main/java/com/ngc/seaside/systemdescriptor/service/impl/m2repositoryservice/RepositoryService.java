@@ -27,11 +27,14 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -43,6 +46,7 @@ import org.apache.maven.settings.building.SettingsBuildingException;
 import org.apache.maven.settings.io.DefaultSettingsReader;
 import org.apache.maven.settings.io.DefaultSettingsWriter;
 import org.apache.maven.settings.validation.DefaultSettingsValidator;
+import org.eclipse.aether.DefaultRepositoryCache;
 import org.eclipse.aether.DefaultRepositorySystemSession;
 import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.RepositorySystemSession;
@@ -72,7 +76,10 @@ import com.ngc.seaside.systemdescriptor.service.repository.api.RepositoryService
 
 /**
  * This implementation uses maven's .m2 local repository in combination with nexusConsolidated
- * (found in gradle.properties) for the remote repository.
+ * (found in gradle.properties) for the remote repository.  Resolved artifacts and dependencies are memoized until this
+ * component is deactivated, so an artifact shared by several projects is only resolved once.  Results that can change
+ * between invocations are never memoized.  These are SNAPSHOT artifacts and dependencies that include a SNAPSHOT or are
+ * declared with a version range.  This class is threadsafe.
  */
 public class RepositoryService implements IRepositoryService {
 
@@ -94,6 +101,18 @@ public class RepositoryService implements IRepositoryService {
    private static final String USER_HOME_PROPERTY_NAME = "user.home";
 
    private final List<RemoteRepository> remoteRepositories = new ArrayList<>();
+   /**
+    * The resolved artifacts, keyed by artifact identifier.
+    */
+   private final ConcurrentMap<String, Path> artifacts = new ConcurrentHashMap<>();
+   /**
+    * The resolved dependencies of artifacts, keyed by artifact identifier and whether the dependencies are transitive.
+    */
+   private final ConcurrentMap<String, Set<Path>> dependencies = new ConcurrentHashMap<>();
+   /**
+    * The identifiers of the artifacts whose dependencies include a SNAPSHOT or a version range.
+    */
+   private final Set<String> volatileDependencies = ConcurrentHashMap.newKeySet();
    private boolean initialized = false;
    private RepositorySystem repositorySystem;
    private RepositorySystemSession session;
@@ -107,10 +126,45 @@ public class RepositoryService implements IRepositoryService {
       Preconditions.checkArgument(ARTIFACT_IDENTIFIER.matcher(identifier).matches(),
                                   "invalid identifier: " + identifier);
 
-      // Defer initialization until necessary.  We do this because this service might be needed for dependencies
-      // but might not actually be used.  This is the case if this bundle is deployed in Eclipse.
-      initalizeIfNecessary();
+      if (isSnapshot(identifier)) {
+         return resolveArtifact(identifier, getUncachedSession());
+      }
+      Path artifact = artifacts.get(identifier);
+      if (artifact == null) {
+         artifact = resolveArtifact(identifier, getSession());
+         artifacts.putIfAbsent(identifier, artifact);
+      }
+      return artifact;
+   }
+
+   @Override
+   public Set<Path> getArtifactDependencies(String identifier, boolean transitive) {
+      Preconditions.checkNotNull(identifier, "identifier may not be null!");
+      Preconditions.checkArgument(ARTIFACT_IDENTIFIER.matcher(identifier).matches(),
+                                  "invalid identifier: " + identifier);
+
+      if (isSnapshot(identifier) || volatileDependencies.contains(identifier)) {
+         return toPaths(identifier, resolveDependencies(identifier, getUncachedSession()), transitive);
+      }
 
+      String key = identifier + (transitive ? "|transitive" : "|direct");
+      Set<Path> paths = dependencies.get(key);
+      if (paths == null) {
+         DependencyResult result = resolveDependencies(identifier, getSession());
+         if (isVolatile(result.getRoot())) {
+            // The session's cache may contain stale versions of the SNAPSHOTs or ranges, so resolve them again without
+            // the cache.
+            volatileDependencies.add(identifier);
+            return toPaths(identifier, resolveDependencies(identifier, getUncachedSession()), transitive);
+         }
+         paths = Collections.unmodifiableSet(toPaths(identifier, result, transitive));
+         dependencies.putIfAbsent(key, paths);
+      }
+      // Return a copy since callers may modify the set.
+      return new LinkedHashSet<>(paths);
+   }
+
+   private Path resolveArtifact(String identifier, RepositorySystemSession session) {
       ArtifactRequest request = new ArtifactRequest();
       request.setArtifact(new DefaultArtifact(identifier));
       request.setRepositories(remoteRepositories);
@@ -131,19 +185,9 @@ public class RepositoryService implements IRepositoryService {
       return result.getArtifact().getFile().toPath();
    }
 
-   @Override
-   public Set<Path> getArtifactDependencies(String identifier, boolean transitive) {
-      Preconditions.checkNotNull(identifier, "identifier may not be null!");
-      Preconditions.checkArgument(ARTIFACT_IDENTIFIER.matcher(identifier).matches(),
-                                  "invalid identifier: " + identifier);
-
-      // Defer initialization until necessary.  We do this because this service might be needed for dependencies
-      // but might not actually be used.  This is the case if this bundle is deployed in Eclipse.
-      initalizeIfNecessary();
-
-      Artifact baseArtifact = new DefaultArtifact(identifier);
+   private DependencyResult resolveDependencies(String identifier, RepositorySystemSession session) {
       CollectRequest request = new CollectRequest();
-      request.setRoot(new Dependency(baseArtifact, null));
+      request.setRoot(new Dependency(new DefaultArtifact(identifier), null));
       request.setRepositories(remoteRepositories);
 
       DependencyRequest dependencyRequest = new DependencyRequest(request, null);
@@ -158,6 +202,11 @@ public class RepositoryService implements IRepositoryService {
       if (!result.getCollectExceptions().isEmpty()) {
          throw new RepositoryServiceException("Unable to retrieve artifact dependencies for " + identifier);
       }
+      return result;
+   }
+
+   private Set<Path> toPaths(String identifier, DependencyResult result, boolean transitive) {
+      Artifact baseArtifact = new DefaultArtifact(identifier);
       if (transitive) {
          return result.getArtifactResults()
                .stream()
@@ -196,6 +245,49 @@ public class RepositoryService implements IRepositoryService {
       }
    }
 
+   /**
+    * Gets the session used to resolve artifacts whose resolution can be memoized.  The session caches artifact
+    * descriptors for the lifetime of this component.
+    */
+   private RepositorySystemSession getSession() {
+      // Defer initialization until necessary.  We do this because this service might be needed for dependencies
+      // but might not actually be used.  This is the case if this bundle is deployed in Eclipse.
+      initalizeIfNecessary();
+      return session;
+   }
+
+   /**
+    * Gets a session that does not cache anything between requests.  This is used to resolve artifacts that can change
+    * between invocations.
+    */
+   private RepositorySystemSession getUncachedSession() {
+      return new DefaultRepositorySystemSession(getSession()).setCache(null);
+   }
+
+   private static boolean isSnapshot(String identifier) {
+      return identifier.endsWith("-SNAPSHOT");
+   }
+
+   /**
+    * Returns true if the given dependency node or any of its children is a SNAPSHOT or was declared with a version
+    * range.  The resolution of such a node can change without its identifier changing.
+    */
+   private static boolean isVolatile(DependencyNode node) {
+      Artifact artifact = node.getArtifact();
+      if (artifact != null && artifact.isSnapshot()) {
+         return true;
+      }
+      if (node.getVersionConstraint() != null && node.getVersionConstraint().getRange() != null) {
+         return true;
+      }
+      for (DependencyNode child : node.getChildren()) {
+         if (isVolatile(child)) {
+            return true;
+         }
+      }
+      return false;
+   }
+
    /**
     * Activates this component.
     */
@@ -208,6 +300,9 @@ public class RepositoryService implements IRepositoryService {
     */
    public void deactivate() {
       this.remoteRepositories.clear();
+      this.artifacts.clear();
+      this.dependencies.clear();
+      this.volatileDependencies.clear();
       this.repositorySystem = null;
       this.session = null;
       logService.trace(getClass(), "deactivated");
@@ -342,6 +437,9 @@ public class RepositoryService implements IRepositoryService {
          this.repositorySystem = locator.getService(RepositorySystem.class);
 
          DefaultRepositorySystemSession session = MavenRepositorySystemUtils.newSession();
+         // Cache artifact descriptors and other data for the lifetime of the session.  This way, dependencies that
+         // are shared by several artifacts are only read once when resolving the dependencies of those artifacts.
+         session.setCache(new DefaultRepositoryCache());
          Optional<Path> mavenLocalRepo = findMavenLocal();
          if (mavenLocalRepo.isPresent()) {
             LocalRepository localRepository = new LocalRepository(mavenLocalRepo.get().toFile());
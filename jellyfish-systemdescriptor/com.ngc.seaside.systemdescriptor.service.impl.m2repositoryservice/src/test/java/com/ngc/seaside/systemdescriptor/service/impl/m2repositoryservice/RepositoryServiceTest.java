@@ -24,6 +24,8 @@ package com.ngc.seaside.systemdescriptor.service.impl.m2repositoryservice;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.spy;
 
@@ -119,4 +121,29 @@ public class RepositoryServiceTest {
             dependency2.toAbsolutePath().toString());
    }
 
+   @Test
+   public void testRepositoryServiceMemoizesResults() {
+      String identifier = "com.ngc.seaside:test.project2:zip:2.0.0";
+      Path artifact = service.getArtifact(identifier);
+      assertSame(artifact, service.getArtifact(identifier));
+
+      Set<Path> dependencies = service.getArtifactDependencies(identifier, true);
+      dependencies.clear();
+      assertEquals(1, service.getArtifactDependencies(identifier, true).size());
+      assertEquals(1, service.getArtifactDependencies(identifier, false).size());
+   }
+
+   @Test
+   public void testRepositoryServiceDoesNotMemoizeSnapshots() {
+      String identifier = "com.ngc.seaside:test.project1:zip:1.0.0-SNAPSHOT";
+      Path artifact = service.getArtifact(identifier);
+      Path again = service.getArtifact(identifier);
+      assertNotSame(artifact, again);
+      assertEquals(artifact, again);
+
+      Set<Path> dependencies = service.getArtifactDependencies(identifier, true);
+      dependencies.clear();
+      assertEquals(2, service.getArtifactDependencies(identifier, true).size());
+   }
+
 }
@@ -29,10 +29,13 @@ import com.ngc.seaside.systemdescriptor.model.api.metadata.IMetadata;
 import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
 import com.ngc.seaside.systemdescriptor.model.api.model.IModelReferenceField;
 import com.ngc.seaside.systemdescriptor.model.api.model.link.IModelLink;
-import com.ngc.seaside.systemdescriptor.model.impl.basic.metadata.Metadata;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
@@ -43,10 +46,17 @@ import javax.json.JsonValue;
 import javax.json.spi.JsonProvider;
 
 /**
- * Serves as a factory for aggregating metadata for data and model objects.
+ * Serves as a factory for aggregating metadata for data and model objects.  The aggregated metadata is a read-through
+ * view: metadata is only merged when it is read, and changes to the metadata of an object or its parents are visible
+ * through the view.
  */
 public class AggregatedMetadataView {
 
+   /**
+    * The cached JSON provider.  We don't use synchronization here.  If it gets loaded twice, that is not a problem.
+    */
+   private static JsonProvider provider;
+
    private AggregatedMetadataView() {
    }
 
@@ -84,24 +94,139 @@ public class AggregatedMetadataView {
                                                       Function<T, Optional<T>> parentFunction,
                                                       Function<T, IMetadata> metadataFunction) {
       Preconditions.checkNotNull(wrapped, "wrapped may not be null!");
-      // Contains the names of the keys that have already been aggregated.
-      Set<String> keysAggregated = new HashSet<>();
-      JsonObjectBuilder aggregatedJson = JsonProvider.provider().createObjectBuilder();
-      T next = wrapped;
-
-      while (next != null) {
-         JsonObject json = metadataFunction.apply(next).getJson();
-         for (Map.Entry<String, JsonValue> entry : json.entrySet()) {
-            // Do not overwrite a value already aggregated.  This allows values closer to the root object to take
-            // precedence over values inherited from extended types.
-            if (keysAggregated.add(entry.getKey())) {
-               aggregatedJson.add(entry.getKey(), entry.getValue());
+      return new AggregatedMetadata<>(wrapped, parentFunction, metadataFunction);
+   }
+
+   private static JsonProvider getProvider() {
+      // Don't worry about synchronization, if the provider gets loaded twice that is fine.
+      if (provider == null) {
+         provider = JsonProvider.provider();
+      }
+      return provider;
+   }
+
+   /**
+    * The metadata of an object and its parents.  If only one object has metadata, its JSON is returned as is.
+    * Otherwise, the JSON is merged and the merged JSON is reused until the metadata of the object or one of its parents
+    * is replaced.
+    */
+   private static class AggregatedMetadata<T> implements IMetadata {
+
+      private final T wrapped;
+      private final Function<T, Optional<T>> parentFunction;
+      private final Function<T, IMetadata> metadataFunction;
+
+      /**
+       * The JSON that was explicitly set, which may be {@code null}.  Only used if {@link #jsonSet} is true.
+       */
+      private JsonObject json;
+
+      /**
+       * If true, the JSON was explicitly set and is used instead of the aggregated metadata.
+       */
+      private boolean jsonSet;
+
+      /**
+       * The JSON objects that were last merged, ordered from the wrapped object to its furthest parent.
+       */
+      private List<JsonObject> mergedSources = Collections.emptyList();
+
+      private JsonObject merged;
+
+      AggregatedMetadata(T wrapped,
+                         Function<T, Optional<T>> parentFunction,
+                         Function<T, IMetadata> metadataFunction) {
+         this.wrapped = wrapped;
+         this.parentFunction = parentFunction;
+         this.metadataFunction = metadataFunction;
+      }
+
+      @Override
+      public synchronized JsonObject getJson() {
+         if (jsonSet) {
+            return json;
+         }
+
+         List<JsonObject> sources = new ArrayList<>();
+         T next = wrapped;
+         while (next != null) {
+            IMetadata metadata = metadataFunction.apply(next);
+            JsonObject source = metadata == null ? null : metadata.getJson();
+            if (source != null && !source.isEmpty()) {
+               sources.add(source);
             }
+            next = parentFunction.apply(next).orElse(null);
          }
 
-         next = parentFunction.apply(next).orElse(null);
+         switch (sources.size()) {
+            case 0:
+               return JsonObject.EMPTY_JSON_OBJECT;
+            case 1:
+               return sources.get(0);
+            default:
+               if (!isSameSources(sources)) {
+                  merged = merge(sources);
+                  mergedSources = sources;
+               }
+               return merged;
+         }
+      }
+
+      @Override
+      public synchronized IMetadata setJson(JsonObject json) {
+         this.json = json;
+         this.jsonSet = true;
+         return this;
+      }
+
+      @Override
+      public boolean equals(Object o) {
+         if (this == o) {
+            return true;
+         }
+         if (!(o instanceof AggregatedMetadata)) {
+            return false;
+         }
+         AggregatedMetadata<?> that = (AggregatedMetadata<?>) o;
+         return Objects.equals(getJson(), that.getJson());
       }
 
-      return new Metadata().setJson(aggregatedJson.build());
+      @Override
+      public int hashCode() {
+         return Objects.hash(getJson());
+      }
+
+      @Override
+      public String toString() {
+         return "AggregatedMetadata[json='" + getJson() + "']";
+      }
+
+      private boolean isSameSources(List<JsonObject> sources) {
+         if (sources.size() != mergedSources.size()) {
+            return false;
+         }
+         for (int i = 0; i < sources.size(); i++) {
+            if (sources.get(i) != mergedSources.get(i)) {
+               return false;
+            }
+         }
+         return true;
+      }
+
+      private static JsonObject merge(List<JsonObject> sources) {
+         // Contains the names of the keys that have already been aggregated.
+         Set<String> keysAggregated = new HashSet<>();
+         JsonObjectBuilder aggregatedJson = getProvider().createObjectBuilder();
+         for (JsonObject source : sources) {
+            for (Map.Entry<String, JsonValue> entry : source.entrySet()) {
+               // Do not overwrite a value already aggregated.  This allows values closer to the root object to take
+               // precedence over values inherited from extended types.
+               if (keysAggregated.add(entry.getKey())) {
+                  aggregatedJson.add(entry.getKey(), entry.getValue());
+               }
+            }
+         }
+         return aggregatedJson.build();
+      }
    }
 }
@@ -42,94 +42,127 @@ import java.util.Optional;
 import java.util.function.Function;
 
 /**
- * Provides an aggregated view of a model by taking into account the model's refinement hierarchy.
+ * Provides an aggregated view of a model by taking into account the model's refinement hierarchy.  Each aggregated
+ * collection is built the first time it is requested.
  */
 public class AggregatedModelView implements IModel {
 
    private final IModel wrapped;
-   private final INamedChildCollection<IModel, IDataReferenceField> aggregatedInputs;
-   private final INamedChildCollection<IModel, IDataReferenceField> aggregatedOutputs;
-   private final INamedChildCollection<IModel, IModelReferenceField> aggregatedParts;
-   private final INamedChildCollection<IModel, IModelReferenceField> aggregatedRequirements;
-   private final INamedChildCollection<IModel, IScenario> aggregatedScenarios;
-   private final Collection<IModelLink<?>> aggregatedLinks;
-   private IMetadata aggregatedMetadata;
-   private IProperties aggregatedProperties;
+   private volatile INamedChildCollection<IModel, IDataReferenceField> aggregatedInputs;
+   private volatile INamedChildCollection<IModel, IDataReferenceField> aggregatedOutputs;
+   private volatile INamedChildCollection<IModel, IModelReferenceField> aggregatedParts;
+   private volatile INamedChildCollection<IModel, IModelReferenceField> aggregatedRequirements;
+   private volatile INamedChildCollection<IModel, IScenario> aggregatedScenarios;
+   private volatile Collection<IModelLink<?>> aggregatedLinks;
+   private volatile IMetadata aggregatedMetadata;
+   private volatile IProperties aggregatedProperties;
 
    /**
     * Creates a new view that wraps the given model.
     */
    public AggregatedModelView(IModel wrapped) {
       this.wrapped = Preconditions.checkNotNull(wrapped, "wrapped may not be null!");
-      this.aggregatedInputs = getAggregatedFields(IModel::getInputs, Function.identity());
-      this.aggregatedOutputs = getAggregatedFields(IModel::getOutputs, Function.identity());
-      this.aggregatedParts = getAggregatedFields(IModel::getParts, AggregatedModelFieldView::new);
-      this.aggregatedRequirements = getAggregatedFields(IModel::getRequiredModels, AggregatedModelFieldView::new);
-      this.aggregatedScenarios = getAggregatedFields(IModel::getScenarios, Function.identity());
-      this.aggregatedLinks = getAggregatedLinks();
-      this.aggregatedMetadata = AggregatedMetadataView.getAggregatedMetadata(wrapped);
-      this.aggregatedProperties = AggregatedPropertiesView.getAggregatedProperties(wrapped);
    }
 
    @Override
    public IMetadata getMetadata() {
-      return aggregatedMetadata;
+      IMetadata metadata = aggregatedMetadata;
+      if (metadata == null) {
+         metadata = AggregatedMetadataView.getAggregatedMetadata(wrapped);
+         aggregatedMetadata = metadata;
+      }
+      return metadata;
    }
 
    @Override
    public IModel setMetadata(IMetadata metadata) {
       wrapped.setMetadata(metadata);
-      aggregatedMetadata = AggregatedMetadataView.getAggregatedMetadata(wrapped);
+      aggregatedMetadata = null;
       return this;
    }
 
    @Override
    public IProperties getProperties() {
-      return aggregatedProperties;
+      IProperties properties = aggregatedProperties;
+      if (properties == null) {
+         properties = AggregatedPropertiesView.getAggregatedProperties(wrapped);
+         aggregatedProperties = properties;
+      }
+      return properties;
    }
 
    @Override
    public IModel setProperties(IProperties properties) {
       wrapped.setProperties(properties);
-      aggregatedMetadata = AggregatedMetadataView.getAggregatedMetadata(wrapped);
+      aggregatedProperties = null;
       return this;
    }
 
    @Override
    public INamedChildCollection<IModel, IDataReferenceField> getInputs() {
-      return aggregatedInputs;
+      INamedChildCollection<IModel, IDataReferenceField> inputs = aggregatedInputs;
+      if (inputs == null) {
+         inputs = getAggregatedFields(IModel::getInputs, Function.identity());
+         aggregatedInputs = inputs;
+      }
+      return inputs;
    }
 
    @Override
    public INamedChildCollection<IModel, IDataReferenceField> getOutputs() {
-      return aggregatedOutputs;
+      INamedChildCollection<IModel, IDataReferenceField> outputs = aggregatedOutputs;
+      if (outputs == null) {
+         outputs = getAggregatedFields(IModel::getOutputs, Function.identity());
+         aggregatedOutputs = outputs;
+      }
+      return outputs;
    }
 
    @Override
    public INamedChildCollection<IModel, IModelReferenceField> getRequiredModels() {
-      return aggregatedRequirements;
+      INamedChildCollection<IModel, IModelReferenceField> requirements = aggregatedRequirements;
+      if (requirements == null) {
+         requirements = getAggregatedFields(IModel::getRequiredModels, AggregatedModelFieldView::new);
+         aggregatedRequirements = requirements;
+      }
+      return requirements;
    }
 
    @Override
    public INamedChildCollection<IModel, IModelReferenceField> getParts() {
-      return aggregatedParts;
+      INamedChildCollection<IModel, IModelReferenceField> parts = aggregatedParts;
+      if (parts == null) {
+         parts = getAggregatedFields(IModel::getParts, AggregatedModelFieldView::new);
+         aggregatedParts = parts;
+      }
+      return parts;
    }
 
    @Override
    public INamedChildCollection<IModel, IScenario> getScenarios() {
-      return aggregatedScenarios;
+      INamedChildCollection<IModel, IScenario> scenarios = aggregatedScenarios;
+      if (scenarios == null) {
+         scenarios = getAggregatedFields(IModel::getScenarios, Function.identity());
+         aggregatedScenarios = scenarios;
+      }
+      return scenarios;
    }
 
    @Override
    public Collection<IModelLink<?>> getLinks() {
-      return aggregatedLinks;
+      Collection<IModelLink<?>> links = aggregatedLinks;
+      if (links == null) {
+         links = getAggregatedLinks();
+         aggregatedLinks = links;
+      }
+      return links;
    }
 
    @Override
    public Optional<IModelLink<?>> getLinkByName(String name) {
       Preconditions.checkNotNull(name, "name may not be null!");
       Preconditions.checkState(!name.trim().isEmpty(), "name may not be empty!");
-      return aggregatedLinks
+      return getLinks()
             .stream()
             .filter(link -> name.equals(link.getName().orElse(null)))
             .findFirst();
@@ -0,0 +1,134 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.service.impl.xtext;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * An evicting cache of aggregated views.  This enables the flyweight pattern so we can reuse instances of the views.
+ * Keys are compared by identity instead of with {@code equals}.  This lets a view be reused if the state of the wrapped
+ * object changes.  Keys are held weakly only to get identity comparison; since a view references the object it wraps,
+ * a weak key alone never releases an entry.  Instead, views are held softly so the garbage collector can release them
+ * when memory is low, and entries are evicted when the cache grows past its maximum size.  Once a view is released,
+ * its key can be collected as well.  A released view is simply created again the next time it is requested.
+ *
+ * <p/>
+ * The cache records hit, miss, and eviction statistics.  The statistics are logged at the debug level every
+ * {@value #STATISTICS_LOG_INTERVAL} requests and evictions are logged at the trace level.
+ *
+ * @param <K> the type of object being viewed
+ * @param <V> the type of the view
+ */
+class AggregatedViewCache<K, V> {
+
+   /**
+    * The number of requests between logging the statistics of the cache.
+    */
+   static final int STATISTICS_LOG_INTERVAL = 1000;
+
+   private final String name;
+   private final ILogService logService;
+   private final Cache<K, V> cache;
+   private final AtomicLong requests = new AtomicLong();
+
+   /**
+    * Creates a new cache.
+    *
+    * @param name        the name of the type of view, used for logging
+    * @param maximumSize the maximum number of views to cache
+    * @param logService  the log service
+    */
+   AggregatedViewCache(String name, long maximumSize, ILogService logService) {
+      Preconditions.checkArgument(maximumSize > 0, "maximumSize must be positive!");
+      this.name = Preconditions.checkNotNull(name, "name may not be null!");
+      this.logService = Preconditions.checkNotNull(logService, "logService may not be null!");
+      this.cache = CacheBuilder.newBuilder()
+            // Weak keys are compared by identity.
+            .weakKeys()
+            // Views reference their keys, so the values must not be held strongly for entries to be collectable.
+            .softValues()
+            .maximumSize(maximumSize)
+            .recordStats()
+            .<K, V>removalListener(notification -> {
+               if (notification.wasEvicted()) {
+                  logService.trace(getClass(),
+                                   "Evicted the aggregated %s view of %s (%s).",
+                                   name,
+                                   notification.getKey(),
+                                   notification.getCause());
+               }
+            })
+            .build();
+   }
+
+   /**
+    * Gets the view of the given object, creating it if necessary.
+    *
+    * @param key         the object to view
+    * @param viewFactory creates a view if the cache doesn't contain one
+    * @return the view
+    */
+   V get(K key, Function<K, V> viewFactory) {
+      Preconditions.checkNotNull(key, "key may not be null!");
+      V view;
+      try {
+         view = cache.get(key, () -> viewFactory.apply(key));
+      } catch (ExecutionException e) {
+         throw new RuntimeException(e.getMessage(), e);
+      }
+      if (requests.incrementAndGet() % STATISTICS_LOG_INTERVAL == 0) {
+         logStatistics();
+      }
+      return view;
+   }
+
+   /**
+    * Gets the statistics of this cache.
+    */
+   CacheStats getStatistics() {
+      return cache.stats();
+   }
+
+   /**
+    * Logs the statistics of this cache at the debug level.
+    */
+   void logStatistics() {
+      CacheStats stats = cache.stats();
+      logService.debug(getClass(),
+                       "Aggregated %s view cache: %d hits, %d misses, %d evictions, %.1f%% hit rate, %d entries.",
+                       name,
+                       stats.hitCount(),
+                       stats.missCount(),
+                       stats.evictionCount(),
+                       stats.hitRate() * 100,
+                       cache.size());
+   }
+}
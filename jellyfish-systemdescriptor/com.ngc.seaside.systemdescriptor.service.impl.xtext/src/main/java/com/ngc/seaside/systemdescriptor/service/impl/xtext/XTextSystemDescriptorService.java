@@ -27,11 +27,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ExecutionException;
 
 import com.google.common.base.Preconditions;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
 import com.ngc.seaside.systemdescriptor.SystemDescriptorStandaloneSetup;
@@ -91,6 +88,17 @@ import com.ngc.seaside.systemdescriptor.validation.api.ISystemDescriptorValidato
  */
 public class XTextSystemDescriptorService implements ISystemDescriptorService {
 
+   /**
+    * The name of the system property that configures the maximum number of aggregated views of data and of models
+    * that are cached.  If the property is not set, {@link #DEFAULT_VIEW_CACHE_SIZE} views of each type are cached.
+    */
+   public static final String VIEW_CACHE_SIZE_PROPERTY_NAME = "jellyfish.sd.views.cache.size";
+
+   /**
+    * The default maximum number of aggregated views of data and of models that are cached.
+    */
+   public static final int DEFAULT_VIEW_CACHE_SIZE = 1000;
+
    /**
     * Contains all registered step handlers.  A copy on write list is used for thread safely since we expect to read
     * from this list much more often then we write to it.
@@ -98,20 +106,14 @@ public class XTextSystemDescriptorService implements ISystemDescriptorService {
    private final Collection<IScenarioStepHandler> stepHandlers = new CopyOnWriteArrayList<>();
 
    /**
-    * An evicting cache that stores aggregated views of data.  This enables the flyweight pattern so we can reuse
-    * instances of the views.  The cache will only grow to a fixed size and then entries will be evicted.
+    * An evicting cache that stores aggregated views of data.
     */
-   private final Cache<Integer, AggregatedDataView> dataViews = CacheBuilder.newBuilder()
-         .maximumSize(25)
-         .build();
+   private final AggregatedViewCache<IData, AggregatedDataView> dataViews;
 
    /**
-    * An evicting cache that stores aggregated views of models.  This enables the flyweight pattern so we can reuse
-    * instances of the views.  The cache will only grow to a fixed size and then entries will be evicted.
+    * An evicting cache that stores aggregated views of models.
     */
-   private final Cache<Integer, AggregatedModelView> modelViews = CacheBuilder.newBuilder()
-         .maximumSize(25)
-         .build();
+   private final AggregatedViewCache<IModel, AggregatedModelView> modelViews;
 
    private final ILogService logService;
 
@@ -138,6 +140,17 @@ public class XTextSystemDescriptorService implements ISystemDescriptorService {
       this.parsingDelegate = Preconditions.checkNotNull(parsingDelegate, "parsingDelegate may not be null!");
       this.validationDelegate = Preconditions.checkNotNull(validationDelegate, "validationDelegate may not be null!");
       Preconditions.checkNotNull(holder, "holder may not be null!");
+      int viewCacheSize = Integer.getInteger(VIEW_CACHE_SIZE_PROPERTY_NAME, DEFAULT_VIEW_CACHE_SIZE);
+      if (viewCacheSize < 1) {
+         logService.warn(XTextSystemDescriptorService.class,
+                         "Ignoring invalid value %d of %s, using %d.",
+                         viewCacheSize,
+                         VIEW_CACHE_SIZE_PROPERTY_NAME,
+                         DEFAULT_VIEW_CACHE_SIZE);
+         viewCacheSize = DEFAULT_VIEW_CACHE_SIZE;
+      }
+      this.dataViews = new AggregatedViewCache<>("data", viewCacheSize, logService);
+      this.modelViews = new AggregatedViewCache<>("model", viewCacheSize, logService);
       holder.handlers.forEach(this::addScenarioStepHandler);
    }
 
@@ -153,6 +166,9 @@ public class XTextSystemDescriptorService implements ISystemDescriptorService {
                                        StepsHolder holder) {
       this(logService, parsingDelegate, validationDelegate, holder);
       Preconditions.checkNotNull(injector, "injector may not be null!");
+      // Standalone parsing validates each descriptor once, so indexed lookups pay off unless explicitly disabled.
+      validationDelegate.setIndexedLookups(
+            Boolean.parseBoolean(System.getProperty(ValidationDelegate.INDEXED_LOOKUPS_PROPERTY_NAME, "true")));
       // Configure XText.
       new SystemDescriptorStandaloneSetup().register(injector);
    }
@@ -180,27 +196,16 @@ public class XTextSystemDescriptorService implements ISystemDescriptorService {
    @Override
    public IData getAggregatedView(IData data) {
       Preconditions.checkNotNull(data, "data may not be null!");
-      // Use the identity of the actual object as a key.  This avoids computing the hash code from the state of the
-      // object.  If the object's state changes, we can still reuse the original view, so we don't want to use the
-      // real hashCode(..) implementation.  identityHashCode gives us a unique value for each instance of IData.
-      int key = System.identityHashCode(data);
-      try {
-         return dataViews.get(key, () -> new AggregatedDataView(data));
-      } catch (ExecutionException e) {
-         throw new RuntimeException(e.getMessage(), e);
-      }
+      // The cache uses the identity of the actual object as a key.  If the object's state changes, we can still reuse
+      // the original view, so we don't want to use the real hashCode(..) implementation.
+      return dataViews.get(data, AggregatedDataView::new);
    }
 
    @Override
    public IModel getAggregatedView(IModel model) {
       Preconditions.checkNotNull(model, "model may not be null!");
-      // See note above regarding the use of identityHashCode.
-      int key = System.identityHashCode(model);
-      try {
-         return modelViews.get(key, () -> new AggregatedModelView(model));
-      } catch (ExecutionException e) {
-         throw new RuntimeException(e.getMessage(), e);
-      }
+      // See note above regarding the use of the object's identity.
+      return modelViews.get(model, AggregatedModelView::new);
    }
 
    @Override
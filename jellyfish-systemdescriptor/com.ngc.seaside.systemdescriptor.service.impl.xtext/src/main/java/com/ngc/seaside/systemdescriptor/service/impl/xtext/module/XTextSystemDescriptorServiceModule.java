@@ -33,6 +33,7 @@ import com.google.inject.Singleton;
 import com.google.inject.multibindings.Multibinder;
 import com.ngc.seaside.systemdescriptor.SystemDescriptorRuntimeModule;
 import com.ngc.seaside.systemdescriptor.extension.IScenarioStepCompletionExtension;
+import com.ngc.seaside.systemdescriptor.model.api.model.DataPathResolver;
 import com.ngc.seaside.systemdescriptor.service.api.ISystemDescriptorService;
 import com.ngc.seaside.systemdescriptor.service.impl.xtext.XTextSystemDescriptorService;
 import com.ngc.seaside.systemdescriptor.service.impl.xtext.codecompletion.XtextScenarioStepCodeCompletion;
@@ -81,6 +82,10 @@ public class XTextSystemDescriptorServiceModule extends AbstractModule {
       bind(ValidationDelegate.class).in(Singleton.class);
       bind(IScenarioStepCompletionExtension.class).to(XtextScenarioStepCodeCompletion.class).in(Singleton.class);
       bindDefaultValidators();
+      // Resolved data paths are cached by system descriptor identity.  Within Eclipse, the validation delegate creates
+      // a new descriptor whenever a resource changes, so cached paths are never reused for a modified model.
+      bind(DataPathResolver.class)
+            .toInstance(new DataPathResolver(DataPathResolver.DEFAULT_MAXIMUM_DESCRIPTORS));
 
       // If in standalone mode, include the DSL module so the client does not have to.
       if (isStandalone) {
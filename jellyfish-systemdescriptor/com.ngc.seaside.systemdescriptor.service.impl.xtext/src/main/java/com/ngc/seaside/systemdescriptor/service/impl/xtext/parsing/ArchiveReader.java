@@ -0,0 +1,135 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.service.impl.xtext.parsing;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.io.ByteStreams;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Reads the system descriptor files contained in archives.  Each archive is opened once with a {@link ZipFile}.  The
+ * {@code .sd} entries are found with the central directory of the archive, so no other entries are inflated.
+ *
+ * <p/>
+ * The contents of recently read archives are cached so a long running process doesn't read the same dependencies
+ * every time a project is parsed.  A cached archive is read again if its size or modification time changes.  The
+ * total size of the cached files is limited by the {@value #CACHE_SIZE_PROPERTY_NAME} system property, in megabytes.
+ * This class is threadsafe.
+ */
+class ArchiveReader {
+
+   /**
+    * The name of the system property that configures the maximum total size in megabytes of the system descriptor
+    * files that are cached.  If the property is set to 0, archives are not cached.
+    */
+   static final String CACHE_SIZE_PROPERTY_NAME = "jellyfish.sd.parsing.archives.cacheSize";
+
+   /**
+    * The default maximum total size in megabytes of the system descriptor files that are cached.
+    */
+   static final int DEFAULT_CACHE_SIZE = 64;
+
+   private static final String SD_EXTENSION = ".sd";
+
+   /**
+    * The recently read archives keyed by their absolute paths.
+    */
+   private static final Cache<Path, CachedArchive> CACHE = CacheBuilder.newBuilder()
+         .maximumWeight(Math.max(0, Integer.getInteger(CACHE_SIZE_PROPERTY_NAME, DEFAULT_CACHE_SIZE)) * 1024L * 1024L)
+         .weigher((Path path, CachedArchive archive) -> archive.weight)
+         .build();
+
+   private ArchiveReader() {
+   }
+
+   /**
+    * Reads the system descriptor files in the given archive.
+    *
+    * @param archive the ZIP file
+    * @return the contents of each system descriptor file keyed by the name of its entry, in the order the entries
+    *       appear in the archive
+    * @throws IOException if the archive can't be read
+    */
+   static Map<String, byte[]> readSystemDescriptorFiles(Path archive) throws IOException {
+      Preconditions.checkNotNull(archive, "archive may not be null!");
+      Path key = archive.toAbsolutePath().normalize();
+      BasicFileAttributes attributes = Files.readAttributes(key, BasicFileAttributes.class);
+      long lastModified = attributes.lastModifiedTime().toMillis();
+
+      CachedArchive cached = CACHE.getIfPresent(key);
+      if (cached != null && cached.lastModified == lastModified && cached.size == attributes.size()) {
+         return cached.files;
+      }
+
+      Map<String, byte[]> files = new LinkedHashMap<>();
+      int weight = 0;
+      try (ZipFile zip = new ZipFile(key.toFile())) {
+         Enumeration<? extends ZipEntry> entries = zip.entries();
+         while (entries.hasMoreElements()) {
+            ZipEntry entry = entries.nextElement();
+            if (!entry.isDirectory() && entry.getName().endsWith(SD_EXTENSION)) {
+               try (InputStream is = zip.getInputStream(entry)) {
+                  byte[] contents = ByteStreams.toByteArray(is);
+                  files.put(entry.getName(), contents);
+                  weight += contents.length;
+               }
+            }
+         }
+      }
+
+      cached = new CachedArchive(lastModified, attributes.size(), Collections.unmodifiableMap(files), weight);
+      CACHE.put(key, cached);
+      return cached.files;
+   }
+
+   /**
+    * The system descriptor files of an archive.
+    */
+   private static class CachedArchive {
+
+      private final long lastModified;
+      private final long size;
+      private final Map<String, byte[]> files;
+      private final int weight;
+
+      CachedArchive(long lastModified, long size, Map<String, byte[]> files, int weight) {
+         this.lastModified = lastModified;
+         this.size = size;
+         this.files = files;
+         this.weight = weight;
+      }
+   }
+}
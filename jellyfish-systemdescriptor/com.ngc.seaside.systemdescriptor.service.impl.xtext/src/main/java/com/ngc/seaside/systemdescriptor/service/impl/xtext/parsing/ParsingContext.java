@@ -23,13 +23,16 @@
 package com.ngc.seaside.systemdescriptor.service.impl.xtext.parsing;
 
 import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.impl.URIHandlerImpl;
 import org.eclipse.xtext.resource.XtextResource;
 import org.eclipse.xtext.resource.XtextResourceSet;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.zip.ZipEntry;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Mains state and context for a single parsing invocation.
@@ -48,12 +51,20 @@ public class ParsingContext implements AutoCloseable {
     */
    private final Map<URI, XtextResource> resources = new HashMap<>();
 
+   /**
+    * Contains the contents of resources that were read from archives keyed by URI.  Resources may be loaded
+    * concurrently, so this map is threadsafe.
+    */
+   private final Map<URI, byte[]> archivedContents = new ConcurrentHashMap<>();
+
    /**
     * Creates a new context.
     */
    public ParsingContext() {
       // Configure XText to resolve imports.
       this.resourceSet.addLoadOption(XtextResource.OPTION_RESOLVE_ALL, Boolean.TRUE);
+      // Load resources that were read from archives from memory instead of opening the archive again.
+      this.resourceSet.getURIConverter().getURIHandlers().add(0, new ArchivedContentsHandler());
    }
 
    public Path getMain() {
@@ -72,22 +83,42 @@ public class ParsingContext implements AutoCloseable {
       this.test = test;
    }
 
+   /**
+    * Gets the resource set that contains the resources created by this context.
+    *
+    * @return the resource set of this context
+    */
+   public XtextResourceSet getResourceSet() {
+      return resourceSet;
+   }
+
    @Override
    public void close() {
-      // Do nothing.
+      archivedContents.clear();
    }
 
    /**
-    * Creates a new resource using the given ZIP entry and contents of the stream.
+    * Creates a new resource for an entry of a ZIP file whose contents have already been read.  When the resource is
+    * loaded, the given contents are used instead of reading the entry from the ZIP file again.
     *
-    * @param zipFile the ZIP file
-    * @param entry   the ZIP entry
+    * @param zipFile   the ZIP file
+    * @param entryName the name of the entry in the ZIP file
+    * @param contents  the contents of the entry
     * @return the new resource
     */
-   public XtextResource resourceOf(Path zipFile, ZipEntry entry) {
+   public XtextResource resourceOf(Path zipFile, String entryName, byte[] contents) {
       // Do not load the resource here.  If we do that, validation will automatically start.  This can cause problems
       // if all the resources have not yet been added to the set.
-      URI uri = URI.createHierarchicalURI(
+      URI uri = archiveUriOf(zipFile, entryName);
+      archivedContents.putIfAbsent(uri, contents);
+      // Only create the resource if the resource is not already in the set.  This avoid errors that have to do with
+      // dependency management of System Descriptor projects.  In particular, we could try to add the same resource
+      // multiple times if two or more projects reference the same dependency.
+      return resources.computeIfAbsent(uri, key -> (XtextResource) resourceSet.createResource(key));
+   }
+
+   private static URI archiveUriOf(Path zipFile, String entryName) {
+      return URI.createHierarchicalURI(
             // scheme (this must be 'archive' or 'jar' for ZIPs)
             "archive",
             // authority (this is the path to the JAR/ZIP followed by '!')
@@ -95,16 +126,12 @@ public class ParsingContext implements AutoCloseable {
             // device (must be null for ZIPs/JARs)
             null,
             // segments (the array of strings that make up the path to the file in the ZIP/JAR)
-            entry.getName().split("/"),
+            entryName.split("/"),
             // query (ZIPs/JARs don't have query parameters)
             null,
             // fragment (ZIPs/JARs can't have fragments)
             null
       );
-      // Only create the resource if the resource is not already in the set.  This avoid errors that have to do with
-      // dependency management of System Descriptor projects.  In particular, we could try to add the same resource
-      // multiple times if two or more projects reference the same dependency.
-      return resources.computeIfAbsent(uri, key -> (XtextResource) resourceSet.createResource(key));
    }
 
    /**
@@ -122,4 +149,26 @@ public class ParsingContext implements AutoCloseable {
       // multiple times if two or more projects reference the same dependency.
       return resources.computeIfAbsent(uri, key -> (XtextResource) resourceSet.createResource(key));
    }
+
+   /**
+    * Provides the contents of resources that were read from archives.  Other URIs are handled by the default handlers
+    * of the resource set.
+    */
+   private class ArchivedContentsHandler extends URIHandlerImpl {
+
+      @Override
+      public boolean canHandle(URI uri) {
+         return archivedContents.containsKey(uri);
+      }
+
+      @Override
+      public InputStream createInputStream(URI uri, Map<?, ?> options) {
+         return new ByteArrayInputStream(archivedContents.get(uri));
+      }
+
+      @Override
+      public boolean exists(URI uri, Map<?, ?> options) {
+         return true;
+      }
+   }
 }
@@ -25,40 +25,105 @@ package com.ngc.seaside.systemdescriptor.service.impl.xtext.parsing;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.resource.XtextResource;
 import org.eclipse.xtext.validation.CheckMode;
 import org.eclipse.xtext.validation.IResourceValidator;
+import org.eclipse.xtext.validation.Issue;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Stopwatch;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.ngc.seaside.systemdescriptor.model.impl.xtext.WrappedSystemDescriptor;
 import com.ngc.seaside.systemdescriptor.service.api.IParsingResult;
 import com.ngc.seaside.systemdescriptor.service.api.ParsingException;
+import com.ngc.seaside.systemdescriptor.service.impl.xtext.validation.ValidationDelegate;
 import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
 import com.ngc.seaside.systemdescriptor.service.repository.api.IRepositoryService;
 import com.ngc.seaside.systemdescriptor.systemDescriptor.Package;
+import com.ngc.seaside.systemdescriptor.validation.DataExtensionIndex;
 
 /**
  * The parsing delegate does the actual work of parsing system descriptor files.
  */
 public class ParsingDelegate {
 
+   /**
+    * The name of the system property that configures the number of threads used to resolve dependencies and to parse
+    * resources.  If the property is not set or has a value less than 2, dependencies are resolved and resources are
+    * parsed on the calling thread.  Resources are always linked and validated on the calling thread.
+    */
+   public static final String PARALLELISM_PROPERTY_NAME = "jellyfish.sd.parsing.threads";
+
+   /**
+    * The name of the system property that enables the validation cache of projects.  The cache is disabled by default.
+    */
+   public static final String VALIDATION_CACHE_PROPERTY_NAME = "jellyfish.sd.parsing.cache";
+
+   /**
+    * The directory relative to a project's directory that contains the validation cache of the project.
+    */
+   private static final Path VALIDATION_CACHE_PATH = Paths.get("build", "jellyfish-cache");
+
    private final ILogService logService;
+   private final ValidationDelegate validationDelegate;
    private final ParsingUtils utils;
 
+   /**
+    * The number of threads used to parse resources.  A value of 1 disables parallel parsing.
+    */
+   private volatile int parallelism;
+
    /**
     * Creates a new parsing delegate.
     */
    @Inject
-   public ParsingDelegate(ILogService logService, IRepositoryService repositoryService) {
+   public ParsingDelegate(ILogService logService,
+                          IRepositoryService repositoryService,
+                          ValidationDelegate validationDelegate) {
       this.logService = Preconditions.checkNotNull(logService, "logService may not be null!");
+      this.validationDelegate = Preconditions.checkNotNull(validationDelegate,
+                                                           "validationDelegate may not be null!");
       this.utils = new ParsingUtils(repositoryService);
+      this.parallelism = Math.max(1, Integer.getInteger(PARALLELISM_PROPERTY_NAME, 1));
+      this.utils.setParallelism(parallelism);
+   }
+
+   /**
+    * Gets the number of threads used to parse resources.
+    *
+    * @return the number of threads used to parse resources
+    */
+   public int getParallelism() {
+      return parallelism;
+   }
+
+   /**
+    * Sets the number of threads used to parse resources.  If {@code parallelism} is 1, all parsing is done on the
+    * calling thread.  Linking and validation are always done on the calling thread.
+    *
+    * @param parallelism the number of threads to use
+    */
+   public void setParallelism(int parallelism) {
+      Preconditions.checkArgument(parallelism > 0, "parallelism must be greater than 0!");
+      this.parallelism = parallelism;
+      utils.setParallelism(parallelism);
    }
 
    /**
@@ -73,7 +138,10 @@ public class ParsingDelegate {
 
       try (ParsingContext ctx = new ParsingContext()) {
          Collection<XtextResource> resources = utils.getProjectAndDependencies(projectDirectory, ctx);
-         return getResult(ctx, resources);
+         ValidationCache cache = getValidationCache(projectDirectory);
+         XTextParsingResult result = getResult(ctx, resources, cache);
+         saveValidationCache(cache, resources.size());
+         return result;
       } catch (Exception e) {
          throw new ParsingException(e.getMessage(), e);
       }
@@ -90,7 +158,7 @@ public class ParsingDelegate {
       Preconditions.checkArgument(gav.matches("[^:\\s]+:[^:\\s]+:[^:\\s]+"), "invalid gav: " + gav);
       try (ParsingContext ctx = new ParsingContext()) {
          Collection<XtextResource> resources = utils.getProjectAndDependencies(gav, ctx);
-         return getResult(ctx, resources);
+         return getResult(ctx, resources, ValidationCache.noCache());
       } catch (Exception e) {
          throw new ParsingException(e.getMessage(), e);
       }
@@ -113,7 +181,7 @@ public class ParsingDelegate {
          // Create all the resources.
          Collection<XtextResource> resources = getResources(paths, ctx);
          // Now aggregate the validation results.
-         result = getResult(ctx, resources);
+         result = getResult(ctx, resources, ValidationCache.noCache());
       }
       timer.stop();
 
@@ -149,7 +217,26 @@ public class ParsingDelegate {
       return resources;
    }
 
-   private XTextParsingResult getResult(ParsingContext context, Collection<XtextResource> resources) {
+   private XTextParsingResult getResult(ParsingContext context,
+                                        Collection<XtextResource> resources,
+                                        ValidationCache cache) {
+      long descriptorBuildCount = validationDelegate.getDescriptorBuildCount();
+      int threads = Math.min(parallelism, resources.size());
+      XTextParsingResult result = threads > 1
+            ? getResultInParallel(context, resources, cache, threads)
+            : getResultSerially(context, resources, cache);
+      validationDelegate.clearCachedDescriptor(context.getResourceSet());
+      DataExtensionIndex.discard(context.getResourceSet());
+      logService.debug(getClass(),
+                       "Created %d system descriptors to validate %d resources.",
+                       validationDelegate.getDescriptorBuildCount() - descriptorBuildCount,
+                       resources.size());
+      return result;
+   }
+
+   private XTextParsingResult getResultSerially(ParsingContext context,
+                                                Collection<XtextResource> resources,
+                                                ValidationCache cache) {
       XTextParsingResult result = new XTextParsingResult();
       result.setMainSourcesRoot(context.getMain());
       result.setTestSourcesRoot(context.getTest());
@@ -162,6 +249,7 @@ public class ParsingDelegate {
       }
 
       // Now get the results of validation.
+      cache.computeFingerprints(resources);
       Iterator<XtextResource> i = resources.iterator();
       XtextResource resource = i.next();
       // Get the validator.
@@ -171,15 +259,147 @@ public class ParsingDelegate {
       if (!resource.getContents().isEmpty()) {
          // A single file contains at most one package.
          Package p = (Package) resource.getContents().get(0);
-         result.setSystemDescriptor(new WrappedSystemDescriptor(p));
+         result.setSystemDescriptor(new WrappedSystemDescriptor(p, true));
       }
 
       // Aggregate the remaining issues.
       do {
-         result.addIssues(validator.validate(resource, CheckMode.ALL, null));
+         result.addIssues(validate(validator, resource, cache));
          resource = i.hasNext() ? i.next() : null;
       } while (resource != null);
 
       return result;
    }
+
+   /**
+    * Validates the given resource or returns the issues of the last validation of the resource if the resource has not
+    * changed since then.
+    */
+   private static List<Issue> validate(IResourceValidator validator, XtextResource resource, ValidationCache cache) {
+      Optional<List<Issue>> cachedIssues = cache.getIssues(resource);
+      if (cachedIssues.isPresent()) {
+         return cachedIssues.get();
+      }
+      List<Issue> issues = validator.validate(resource, CheckMode.ALL, null);
+      cache.putIssues(resource, issues);
+      return issues;
+   }
+
+   private ValidationCache getValidationCache(Path projectDirectory) {
+      if (!Boolean.parseBoolean(System.getProperty(VALIDATION_CACHE_PROPERTY_NAME, "false"))) {
+         return ValidationCache.noCache();
+      }
+      String validators = validationDelegate.getValidators()
+            .stream()
+            .map(validator -> validator.getClass().getName())
+            .sorted()
+            .collect(Collectors.joining(","));
+      return ValidationCache.load(projectDirectory.resolve(VALIDATION_CACHE_PATH), validators);
+   }
+
+   private void saveValidationCache(ValidationCache cache, int numberOfResources) {
+      logService.debug(getClass(),
+                       "Reused the validation results of %d of %d resources.",
+                       cache.getHits(),
+                       numberOfResources);
+      try {
+         cache.save();
+      } catch (IOException e) {
+         // Failing to save the cache only means the next invocation will take longer.
+         logService.warn(getClass(), e, "Unable to save the validation cache.");
+      }
+   }
+
+   /**
+    * Loads the given resources using a pool of worker threads and then links and validates them on the calling thread.
+    * The resulting issues are the same as those returned by the serial implementation and are reported in the same
+    * order.
+    */
+   private XTextParsingResult getResultInParallel(ParsingContext context,
+                                                  Collection<XtextResource> resources,
+                                                  ValidationCache cache,
+                                                  int threads) {
+      XTextParsingResult result = new XTextParsingResult();
+      result.setMainSourcesRoot(context.getMain());
+      result.setTestSourcesRoot(context.getTest());
+
+      List<XtextResource> orderedResources = new ArrayList<>(resources);
+      ExecutorService executor = Executors.newFixedThreadPool(
+            threads,
+            new ThreadFactoryBuilder().setNameFormat("sd-parser-%d").setDaemon(true).build());
+      try {
+         // Lex and parse each resource.  We don't use the OPTION_RESOLVE_ALL load option here.  Without it, cross
+         // references are only installed as lazy proxies and a resource never touches any other resource while it is
+         // being loaded.  This makes it safe to load the resources concurrently.
+         Map<Object, Object> loadOptions = context.getResourceSet().getLoadOptions();
+         invokeAll(executor, orderedResources, resource -> {
+            Map<Object, Object> options = new HashMap<>(loadOptions);
+            options.remove(XtextResource.OPTION_RESOLVE_ALL);
+            resource.load(options);
+            return null;
+         });
+
+         // Link the resources.  Resolving a proxy modifies the resource that contains the reference and may need the
+         // resource set, so this is done on a single thread.  This is the same work that OPTION_RESOLVE_ALL performs
+         // when a resource is loaded serially.
+         for (XtextResource resource : orderedResources) {
+            EcoreUtil.resolveAll(resource);
+         }
+         cache.computeFingerprints(orderedResources);
+
+         XtextResource first = orderedResources.get(0);
+         if (!first.getContents().isEmpty()) {
+            // A single file contains at most one package.
+            Package p = (Package) first.getContents().get(0);
+            result.setSystemDescriptor(new WrappedSystemDescriptor(p, true));
+         }
+
+         // Validate each resource on this thread.  Validators, scope providers, and the resource scope cache add
+         // adapters to the resources and may load additional resources into the shared resource set.  None of this is
+         // thread safe.
+         IResourceValidator validator = first.getResourceServiceProvider().getResourceValidator();
+         for (XtextResource resource : orderedResources) {
+            result.addIssues(validate(validator, resource, cache));
+         }
+      } finally {
+         executor.shutdownNow();
+      }
+
+      return result;
+   }
+
+   /**
+    * Submits the given task for each resource and waits for all of them to complete.  The results are returned in
+    * the same order as the resources.
+    */
+   private static <T> List<T> invokeAll(ExecutorService executor,
+                                        List<XtextResource> resources,
+                                        ResourceTask<T> task) {
+      List<Future<T>> futures = new ArrayList<>(resources.size());
+      for (XtextResource resource : resources) {
+         futures.add(executor.submit(() -> task.apply(resource)));
+      }
+
+      List<T> results = new ArrayList<>(resources.size());
+      for (Future<T> future : futures) {
+         try {
+            results.add(future.get());
+         } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ParsingException(e);
+         } catch (ExecutionException e) {
+            throw new ParsingException(e.getCause().getMessage(), e.getCause());
+         }
+      }
+      return results;
+   }
+
+   /**
+    * A unit of work that is performed on a single resource by a worker thread.
+    */
+   @FunctionalInterface
+   private interface ResourceTask<T> {
+
+      T apply(XtextResource resource) throws Exception;
+   }
 }
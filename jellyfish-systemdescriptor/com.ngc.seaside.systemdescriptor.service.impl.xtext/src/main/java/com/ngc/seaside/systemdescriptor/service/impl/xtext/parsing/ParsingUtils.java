@@ -23,6 +23,7 @@
 package com.ngc.seaside.systemdescriptor.service.impl.xtext.parsing;
 
 import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.ngc.seaside.systemdescriptor.service.api.ParsingException;
 import com.ngc.seaside.systemdescriptor.service.repository.api.IRepositoryService;
 
@@ -39,13 +40,19 @@ import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
 
 class ParsingUtils {
 
@@ -66,10 +73,26 @@ class ParsingUtils {
 
    private final IRepositoryService repositoryService;
 
+   /**
+    * The maximum number of threads used to resolve artifacts.
+    */
+   private volatile int parallelism = 1;
+
    public ParsingUtils(IRepositoryService repositoryService) {
       this.repositoryService = repositoryService;
    }
 
+   /**
+    * Sets the maximum number of threads used to resolve the artifacts of projects.  If {@code parallelism} is 1,
+    * artifacts are resolved on the calling thread.
+    *
+    * @param parallelism the number of threads to use
+    */
+   public void setParallelism(int parallelism) {
+      Preconditions.checkArgument(parallelism > 0, "parallelism must be greater than 0!");
+      this.parallelism = parallelism;
+   }
+
    /**
     * Returns the parsed XtextResources for the given project.
     *
@@ -178,15 +201,10 @@ class ParsingUtils {
     */
    public static Collection<XtextResource> parseJar(Path jar, ParsingContext ctx) throws IOException {
       Collection<XtextResource> resources = new LinkedHashSet<>();
-      try (ZipInputStream zis = new ZipInputStream(Files.newInputStream(jar))) {
-         ZipEntry entry;
-         while ((entry = zis.getNextEntry()) != null) {
-            if (entry.getName().endsWith(".sd")) {
-               XtextResource resource = ctx.resourceOf(jar, entry);
-               if (resource != null) {
-                  resources.add(resource);
-               }
-            }
+      for (Map.Entry<String, byte[]> entry : ArchiveReader.readSystemDescriptorFiles(jar).entrySet()) {
+         XtextResource resource = ctx.resourceOf(jar, entry.getKey(), entry.getValue());
+         if (resource != null) {
+            resources.add(resource);
          }
       }
       return resources;
@@ -247,10 +265,77 @@ class ParsingUtils {
       if (gavs == null || gavs.isEmpty()) {
          return Collections.emptySet();
       }
+
+      // Resolve the artifacts of all the projects first.  Several projects often share dependencies, so each archive is
+      // only scanned once.  The archives are scanned in the same order as if each project was handled in turn.
+      Set<Path> archives = new LinkedHashSet<>();
+      for (ResolvedProject project : resolveProjects(gavs, includeSelf)) {
+         if (includeSelf) {
+            archives.add(project.mainArchive);
+            if (ctx.getMain() == null) {
+               ctx.setMain(getArchiveRoot(project.mainArchive));
+            }
+            if (ctx.getTest() == null) {
+               ctx.setTest(getArchiveRoot(project.testArchive));
+            }
+         }
+         archives.addAll(project.dependencies);
+      }
+
       Collection<XtextResource> resources = new LinkedHashSet<>();
+      for (Path archive : archives) {
+         resources.addAll(parseJar(archive, ctx));
+      }
+      return resources;
+   }
+
+   /**
+    * Resolves the artifacts of the projects with the given gavs.  If there is more than one project and the
+    * parallelism is greater than 1, the projects are resolved concurrently.
+    *
+    * @return the resolved projects in the same order as the gavs
+    */
+   private List<ResolvedProject> resolveProjects(Collection<String> gavs, boolean includeSelf) {
+      List<ResolvedProject> projects = new ArrayList<>(gavs.size());
+      int threads = Math.min(parallelism, gavs.size());
+      if (threads < 2) {
+         for (String gav : gavs) {
+            projects.add(resolveProject(gav, includeSelf));
+         }
+         return projects;
+      }
+
+      List<Callable<ResolvedProject>> tasks = new ArrayList<>(gavs.size());
       for (String gav : gavs) {
-         String[] splitGav = gav.split(":");
-         String artifactGav = String.format("%s:%s:zip:%s", splitGav[0], splitGav[1], splitGav[2]);
+         tasks.add(() -> resolveProject(gav, includeSelf));
+      }
+      ExecutorService executor = Executors.newFixedThreadPool(
+            threads,
+            new ThreadFactoryBuilder().setNameFormat("sd-resolver-%d").setDaemon(true).build());
+      try {
+         for (Future<ResolvedProject> future : executor.invokeAll(tasks)) {
+            projects.add(future.get());
+         }
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+         throw new ParsingException(e);
+      } catch (ExecutionException e) {
+         if (e.getCause() instanceof RuntimeException) {
+            throw (RuntimeException) e.getCause();
+         }
+         throw new ParsingException(e.getCause().getMessage(), e.getCause());
+      } finally {
+         executor.shutdownNow();
+      }
+      return projects;
+   }
+
+   private ResolvedProject resolveProject(String gav, boolean includeSelf) {
+      String[] splitGav = gav.split(":");
+      String artifactGav = String.format("%s:%s:zip:%s", splitGav[0], splitGav[1], splitGav[2]);
+      ResolvedProject project = new ResolvedProject();
+      if (includeSelf) {
+         project.mainArchive = repositoryService.getArtifact(artifactGav);
          // We also need to download the tests classifier for the project. This is needed because Gradle will refuse to
          // download the tests later since the ZIP file will already be in the local Maven repository. In this case,
          // Gradle thinks that the entire artifact has been downloaded and won't try to download the tests. Thus, we
@@ -260,36 +345,30 @@ class ParsingUtils {
                                                 splitGav[1],
                                                 TESTS_CLASSIFIER,
                                                 splitGav[2]);
-         if (includeSelf) {
-            Path mainJar = repositoryService.getArtifact(artifactGav);
-            resources.addAll(parseJar(mainJar, ctx));
-            Path testJar = repositoryService.getArtifact(testArtifactGav);
-            if (ctx.getMain() == null) {
-               URI mainUri = URI.create("jar:file:" + mainJar.toUri().getPath());
-               FileSystem mainFs = null;
-               try {
-                  mainFs = FileSystems.getFileSystem(mainUri);
-               } catch (FileSystemNotFoundException e) {
-                  mainFs = FileSystems.newFileSystem(mainUri, Collections.singletonMap("create", true));
-               }
-               ctx.setMain(mainFs.getPath("/"));
-            }
-            if (ctx.getTest() == null) {
-               URI testUri = URI.create("jar:file:" + testJar.toUri().getPath());
-               FileSystem testFs = null;
-               try {
-                  testFs = FileSystems.getFileSystem(testUri);
-               } catch (FileSystemNotFoundException e) {
-                  testFs = FileSystems.newFileSystem(testUri, Collections.singletonMap("create", true));
-               }
-               ctx.setTest(testFs.getPath("/"));
-            }
-         }
-         for (Path path : repositoryService.getArtifactDependencies(artifactGav, true)) {
-            resources.addAll(parseJar(path, ctx));
-         }
+         project.testArchive = repositoryService.getArtifact(testArtifactGav);
       }
-      return resources;
+      project.dependencies = repositoryService.getArtifactDependencies(artifactGav, true);
+      return project;
+   }
+
+   private static Path getArchiveRoot(Path archive) throws IOException {
+      URI uri = URI.create("jar:file:" + archive.toUri().getPath());
+      FileSystem fs;
+      try {
+         fs = FileSystems.getFileSystem(uri);
+      } catch (FileSystemNotFoundException e) {
+         fs = FileSystems.newFileSystem(uri, Collections.singletonMap("create", true));
+      }
+      return fs.getPath("/");
    }
 
+   /**
+    * The resolved artifacts of a system descriptor project.
+    */
+   private static class ResolvedProject {
+
+      private Path mainArchive;
+      private Path testArchive;
+      private Set<Path> dependencies;
+   }
 }
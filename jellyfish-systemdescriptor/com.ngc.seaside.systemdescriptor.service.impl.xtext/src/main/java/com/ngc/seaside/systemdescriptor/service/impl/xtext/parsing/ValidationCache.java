@@ -0,0 +1,564 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.service.impl.xtext.parsing;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.ngc.seaside.systemdescriptor.systemDescriptor.Data;
+import com.ngc.seaside.systemdescriptor.systemDescriptor.Element;
+import com.ngc.seaside.systemdescriptor.systemDescriptor.Package;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.diagnostics.Severity;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.validation.CheckType;
+import org.eclipse.xtext.validation.Issue;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * A persistent cache of the validation issues of resources.  Each resource is identified by a fingerprint of its
+ * contents, the contents of every resource it references (directly or indirectly), the elements declared by all
+ * resources that were parsed, the validators that are installed, and the versions of the system descriptor language
+ * and of this implementation.  If none of these have changed since the resource was last validated, the issues of the
+ * previous validation are reused instead of validating the resource again.
+ *
+ * <p/>
+ * Resources are still parsed and linked when the cache is used.  The parsed resources are needed to create the system
+ * descriptor that is returned to the client.
+ *
+ * <p/>
+ * The cache file only contains strings, numbers, and booleans that are written with a {@link DataOutputStream}.  Java
+ * serialization is not used, so a cache file that was modified by someone else can't be used to run code.
+ */
+public class ValidationCache {
+
+   /**
+    * The name of the file in the cache directory that stores the cache.
+    */
+   static final String CACHE_FILE_NAME = "validation.cache";
+
+   /**
+    * Identifies the format of the cache file.  This must be changed whenever the format changes.
+    */
+   private static final int FORMAT = 0x5344_5601;
+
+   /**
+    * Identifies the versions of the grammar and of the validation implementation.  Upgrading either invalidates all
+    * cached issues.
+    */
+   private static final String VERSION = getVersion(Package.class) + "," + getVersion(ValidationCache.class);
+
+   /**
+    * The cache directory or {@code null} if this cache is not persisted.
+    */
+   private final Path directory;
+
+   /**
+    * Identifies the validators that produce the cached issues.
+    */
+   private final String validators;
+
+   /**
+    * The entries loaded from the cache file keyed by resource URI.
+    */
+   private final Map<String, CachedResource> previousEntries;
+
+   /**
+    * The entries of the resources that were parsed in this invocation keyed by resource URI.  These are the entries
+    * that are saved.
+    */
+   private final Map<String, CachedResource> currentEntries = new ConcurrentHashMap<>();
+
+   /**
+    * The fingerprints of the resources that were parsed in this invocation.
+    */
+   private final Map<Resource, String> fingerprints = new HashMap<>();
+
+   private final AtomicInteger hits = new AtomicInteger();
+
+   private ValidationCache(Path directory, String validators, Map<String, CachedResource> previousEntries) {
+      this.directory = directory;
+      this.validators = validators;
+      this.previousEntries = previousEntries;
+   }
+
+   /**
+    * Creates a cache that never contains any entries and is never persisted.
+    *
+    * @return a new, empty cache
+    */
+   public static ValidationCache noCache() {
+      return new ValidationCache(null, "", Collections.emptyMap());
+   }
+
+   /**
+    * Loads the cache stored in the given directory.  If the directory does not contain a cache or the cache can't be
+    * read, an empty cache is returned that will be saved to the given directory.
+    *
+    * @param directory  the directory that contains the cache
+    * @param validators identifies the validators that are installed; the cached issues are not reused if the
+    *                   validators change
+    * @return the cache
+    */
+   public static ValidationCache load(Path directory, String validators) {
+      Map<String, CachedResource> entries = Collections.emptyMap();
+      Path file = directory.resolve(CACHE_FILE_NAME);
+      if (Files.isRegularFile(file)) {
+         // Read the entire file first so the lengths in the file can be checked against the number of bytes left.
+         try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(file)))) {
+            entries = readEntries(in);
+         } catch (IOException e) {
+            // The cache is either corrupted or was written by an incompatible version.  Just rebuild it.
+            entries = Collections.emptyMap();
+         }
+      }
+      return new ValidationCache(directory, validators, entries);
+   }
+
+   /**
+    * Computes the fingerprints of the given resources.  This must be invoked after all the resources have been parsed
+    * and linked and before any issues are retrieved or stored.
+    *
+    * @param resources all resources that were parsed
+    */
+   public void computeFingerprints(Collection<? extends Resource> resources) {
+      if (directory == null) {
+         return;
+      }
+
+      List<Resource> sortedResources = new ArrayList<>(resources);
+      sortedResources.sort(Comparator.comparing(r -> r.getURI().toString()));
+
+      Map<Resource, String> contentHashes = new HashMap<>();
+      Map<Resource, Set<Resource>> directDependencies = new HashMap<>();
+      Hasher projectHasher = Hashing.sha256().newHasher();
+      for (Resource resource : sortedResources) {
+         contentHashes.put(resource, getContentHash(resource));
+         directDependencies.put(resource, getDirectDependencies(resource));
+         putDeclarations(resource, projectHasher);
+      }
+      String projectHash = projectHasher.hash().toString();
+
+      for (Resource resource : sortedResources) {
+         Hasher hasher = Hashing.sha256().newHasher()
+               .putString(contentHashes.get(resource), StandardCharsets.UTF_8)
+               .putString(projectHash, StandardCharsets.UTF_8)
+               .putString(validators, StandardCharsets.UTF_8)
+               .putString(VERSION, StandardCharsets.UTF_8);
+         for (Resource dependency : getAllDependencies(resource, directDependencies)) {
+            hasher.putString(dependency.getURI().toString(), StandardCharsets.UTF_8)
+                  .putString(contentHashes.getOrDefault(dependency, ""), StandardCharsets.UTF_8);
+         }
+         fingerprints.put(resource, hasher.hash().toString());
+      }
+   }
+
+   /**
+    * Gets the issues of the last validation of the given resource if the resource has not changed since then.
+    *
+    * @param resource the resource
+    * @return the issues of the resource or an empty optional if the resource must be validated
+    */
+   public Optional<List<Issue>> getIssues(Resource resource) {
+      String fingerprint = fingerprints.get(resource);
+      if (fingerprint == null) {
+         return Optional.empty();
+      }
+      String uri = resource.getURI().toString();
+      CachedResource entry = previousEntries.get(uri);
+      if (entry == null || !fingerprint.equals(entry.fingerprint)) {
+         return Optional.empty();
+      }
+      currentEntries.put(uri, entry);
+      hits.incrementAndGet();
+      return Optional.of(entry.issues.stream().map(CachedIssue::toIssue).collect(Collectors.toList()));
+   }
+
+   /**
+    * Stores the issues of the validation of the given resource.
+    *
+    * @param resource the resource
+    * @param issues   the issues that were produced when the resource was validated
+    */
+   public void putIssues(Resource resource, Collection<Issue> issues) {
+      String fingerprint = fingerprints.get(resource);
+      if (fingerprint != null) {
+         List<CachedIssue> cachedIssues = issues.stream().map(CachedIssue::new).collect(Collectors.toList());
+         currentEntries.put(resource.getURI().toString(), new CachedResource(fingerprint, cachedIssues));
+      }
+   }
+
+   /**
+    * Gets the number of resources whose issues were retrieved from this cache.
+    *
+    * @return the number of cache hits
+    */
+   public int getHits() {
+      return hits.get();
+   }
+
+   /**
+    * Saves this cache.  Only the resources that were parsed in this invocation are saved.
+    *
+    * @throws IOException if the cache could not be written
+    */
+   public void save() throws IOException {
+      if (directory == null) {
+         return;
+      }
+      Files.createDirectories(directory);
+      // Write to a temporary file first so a concurrent or interrupted invocation never sees a partially written
+      // cache.
+      Path file = directory.resolve(CACHE_FILE_NAME);
+      Path tempFile = Files.createTempFile(directory, CACHE_FILE_NAME, ".tmp");
+      try {
+         try (DataOutputStream out = new DataOutputStream(
+               new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+            writeEntries(out, new HashMap<>(currentEntries));
+         }
+         Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+      } finally {
+         Files.deleteIfExists(tempFile);
+      }
+   }
+
+   private static void writeEntries(DataOutputStream out, Map<String, CachedResource> entries) throws IOException {
+      out.writeInt(FORMAT);
+      out.writeInt(entries.size());
+      for (Map.Entry<String, CachedResource> entry : entries.entrySet()) {
+         writeString(out, entry.getKey());
+         writeString(out, entry.getValue().fingerprint);
+         out.writeInt(entry.getValue().issues.size());
+         for (CachedIssue issue : entry.getValue().issues) {
+            issue.write(out);
+         }
+      }
+   }
+
+   private static Map<String, CachedResource> readEntries(DataInputStream in) throws IOException {
+      if (in.readInt() != FORMAT) {
+         throw new IOException("unknown format");
+      }
+      int size = readCount(in);
+      Map<String, CachedResource> entries = new HashMap<>();
+      for (int i = 0; i < size; i++) {
+         String uri = readString(in);
+         String fingerprint = readString(in);
+         int issueCount = readCount(in);
+         List<CachedIssue> issues = new ArrayList<>(issueCount);
+         for (int j = 0; j < issueCount; j++) {
+            issues.add(CachedIssue.read(in));
+         }
+         entries.put(uri, new CachedResource(fingerprint, issues));
+      }
+      return entries;
+   }
+
+   private static void writeString(DataOutputStream out, String value) throws IOException {
+      if (value == null) {
+         out.writeInt(-1);
+      } else {
+         byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+         out.writeInt(bytes.length);
+         out.write(bytes);
+      }
+   }
+
+   private static String readString(DataInputStream in) throws IOException {
+      int length = in.readInt();
+      if (length == -1) {
+         return null;
+      }
+      if (length < 0 || length > in.available()) {
+         throw new IOException("invalid string length " + length);
+      }
+      byte[] bytes = new byte[length];
+      in.readFully(bytes);
+      return new String(bytes, StandardCharsets.UTF_8);
+   }
+
+   private static void writeInteger(DataOutputStream out, Integer value) throws IOException {
+      out.writeBoolean(value != null);
+      if (value != null) {
+         out.writeInt(value);
+      }
+   }
+
+   private static Integer readInteger(DataInputStream in) throws IOException {
+      return in.readBoolean() ? in.readInt() : null;
+   }
+
+   /**
+    * Reads the number of items that follow.  Every item takes at least one byte, so the count can't be larger than the
+    * number of bytes left.
+    */
+   private static int readCount(DataInputStream in) throws IOException {
+      int count = in.readInt();
+      if (count < 0 || count > in.available()) {
+         throw new IOException("invalid count " + count);
+      }
+      return count;
+   }
+
+   /**
+    * Gets the version of the module that contains the given class.  This is the implementation version of the class's
+    * package if the manifest declares one, otherwise it is the location the class was loaded from, which contains the
+    * version for released JARs.
+    */
+   private static String getVersion(Class<?> clazz) {
+      java.lang.Package p = clazz.getPackage();
+      if (p != null && p.getImplementationVersion() != null) {
+         return p.getImplementationVersion();
+      }
+      CodeSource source = clazz.getProtectionDomain().getCodeSource();
+      return source == null || source.getLocation() == null ? "" : source.getLocation().toString();
+   }
+
+   private static String getContentHash(Resource resource) {
+      String text = "";
+      if (resource instanceof XtextResource) {
+         XtextResource xtextResource = (XtextResource) resource;
+         if (xtextResource.getParseResult() != null) {
+            text = xtextResource.getParseResult().getRootNode().getText();
+         }
+      }
+      return Hashing.sha256().hashString(text, StandardCharsets.UTF_8).toString();
+   }
+
+   /**
+    * Adds the names of the elements declared in the given resource to the hasher.  These are used to detect changes
+    * that affect validation of resources that don't reference the changed resource, such as duplicate declarations
+    * and data inheritance.
+    */
+   private static void putDeclarations(Resource resource, Hasher hasher) {
+      hasher.putString(resource.getURI().toString(), StandardCharsets.UTF_8);
+      for (EObject object : resource.getContents()) {
+         if (object instanceof Package) {
+            Package p = (Package) object;
+            Element element = p.getElement();
+            hasher.putString(String.valueOf(p.getName()), StandardCharsets.UTF_8);
+            if (element != null) {
+               hasher.putString(element.eClass().getName(), StandardCharsets.UTF_8)
+                     .putString(String.valueOf(element.getName()), StandardCharsets.UTF_8);
+               if (element instanceof Data && ((Data) element).getExtendedDataType() != null) {
+                  hasher.putString(String.valueOf(((Data) element).getExtendedDataType().getName()),
+                                   StandardCharsets.UTF_8);
+               }
+            }
+         }
+      }
+   }
+
+   private static Set<Resource> getDirectDependencies(Resource resource) {
+      Set<Resource> dependencies = new LinkedHashSet<>();
+      for (EObject target : EcoreUtil.ExternalCrossReferencer.find(resource).keySet()) {
+         Resource dependency = target.eResource();
+         if (dependency != null && dependency != resource) {
+            dependencies.add(dependency);
+         }
+      }
+      return dependencies;
+   }
+
+   private static List<Resource> getAllDependencies(Resource resource,
+                                                    Map<Resource, Set<Resource>> directDependencies) {
+      Set<Resource> dependencies = new LinkedHashSet<>();
+      Deque<Resource> toVisit = new ArrayDeque<>();
+      toVisit.add(resource);
+      while (!toVisit.isEmpty()) {
+         Resource next = toVisit.pop();
+         for (Resource dependency : directDependencies.getOrDefault(next, Collections.emptySet())) {
+            if (dependency != resource && dependencies.add(dependency)) {
+               toVisit.add(dependency);
+            }
+         }
+      }
+      List<Resource> sorted = new ArrayList<>(dependencies);
+      sorted.sort(Comparator.comparing(r -> r.getURI().toString()));
+      return sorted;
+   }
+
+   /**
+    * The cached validation results of a single resource.
+    */
+   private static class CachedResource {
+
+      private final String fingerprint;
+      private final List<CachedIssue> issues;
+
+      CachedResource(String fingerprint, List<CachedIssue> issues) {
+         this.fingerprint = fingerprint;
+         this.issues = issues;
+      }
+   }
+
+   /**
+    * A copy of an XText {@link Issue} that can be written to the cache file.
+    */
+   private static class CachedIssue {
+
+      private final String severity;
+      private final String type;
+      private final String code;
+      private final String message;
+      private final String uriToProblem;
+      private final Integer offset;
+      private final Integer length;
+      private final Integer lineNumber;
+      private final Integer column;
+      private final String[] data;
+      private final boolean syntaxError;
+
+      private CachedIssue(String severity, String type, String code, String message, String uriToProblem,
+                          Integer offset, Integer length, Integer lineNumber, Integer column, String[] data,
+                          boolean syntaxError) {
+         this.severity = severity;
+         this.type = type;
+         this.code = code;
+         this.message = message;
+         this.uriToProblem = uriToProblem;
+         this.offset = offset;
+         this.length = length;
+         this.lineNumber = lineNumber;
+         this.column = column;
+         this.data = data;
+         this.syntaxError = syntaxError;
+      }
+
+      CachedIssue(Issue issue) {
+         this.severity = issue.getSeverity() == null ? null : issue.getSeverity().name();
+         this.type = issue.getType() == null ? null : issue.getType().name();
+         this.code = issue.getCode();
+         this.message = issue.getMessage();
+         this.uriToProblem = issue.getUriToProblem() == null ? null : issue.getUriToProblem().toString();
+         this.offset = issue.getOffset();
+         this.length = issue.getLength();
+         this.lineNumber = issue.getLineNumber();
+         this.column = issue.getColumn();
+         this.data = issue.getData();
+         this.syntaxError = issue.isSyntaxError();
+      }
+
+      Issue toIssue() {
+         Issue.IssueImpl issue = new Issue.IssueImpl();
+         issue.setSeverity(severity == null ? null : Severity.valueOf(severity));
+         issue.setType(type == null ? null : CheckType.valueOf(type));
+         issue.setCode(code);
+         issue.setMessage(message);
+         issue.setUriToProblem(uriToProblem == null ? null : URI.createURI(uriToProblem));
+         issue.setOffset(offset);
+         issue.setLength(length);
+         issue.setLineNumber(lineNumber);
+         issue.setColumn(column);
+         issue.setData(data);
+         issue.setSyntaxError(syntaxError);
+         return issue;
+      }
+
+      void write(DataOutputStream out) throws IOException {
+         writeString(out, severity);
+         writeString(out, type);
+         writeString(out, code);
+         writeString(out, message);
+         writeString(out, uriToProblem);
+         writeInteger(out, offset);
+         writeInteger(out, length);
+         writeInteger(out, lineNumber);
+         writeInteger(out, column);
+         if (data == null) {
+            out.writeInt(-1);
+         } else {
+            out.writeInt(data.length);
+            for (String value : data) {
+               writeString(out, value);
+            }
+         }
+         out.writeBoolean(syntaxError);
+      }
+
+      static CachedIssue read(DataInputStream in) throws IOException {
+         String severity = readString(in);
+         String type = readString(in);
+         String code = readString(in);
+         String message = readString(in);
+         String uriToProblem = readString(in);
+         Integer offset = readInteger(in);
+         Integer length = readInteger(in);
+         Integer lineNumber = readInteger(in);
+         Integer column = readInteger(in);
+         String[] data = null;
+         int dataLength = in.readInt();
+         if (dataLength != -1) {
+            if (dataLength < 0 || dataLength > in.available()) {
+               throw new IOException("invalid data length " + dataLength);
+            }
+            data = new String[dataLength];
+            for (int i = 0; i < dataLength; i++) {
+               data[i] = readString(in);
+            }
+         }
+         boolean syntaxError = in.readBoolean();
+         try {
+            // Check the enum names now so a corrupted cache is rebuilt instead of failing when the issue is used.
+            if (severity != null) {
+               Severity.valueOf(severity);
+            }
+            if (type != null) {
+               CheckType.valueOf(type);
+            }
+         } catch (IllegalArgumentException e) {
+            throw new IOException("invalid issue", e);
+         }
+         return new CachedIssue(severity, type, code, message, uriToProblem, offset, length, lineNumber, column, data,
+                                syntaxError);
+      }
+   }
+}
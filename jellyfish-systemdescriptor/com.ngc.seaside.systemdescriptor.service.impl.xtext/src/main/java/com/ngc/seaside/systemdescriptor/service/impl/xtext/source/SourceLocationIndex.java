@@ -0,0 +1,155 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.service.impl.xtext.source;
+
+import com.ngc.seaside.systemdescriptor.service.source.api.ISourceLocation;
+
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.parser.IParseResult;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.util.LineAndColumn;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Caches the source locations of the elements of a single XText resource.  The index stores the offset of each line
+ * of the resource's text so the line and column of an offset can be found with a binary search instead of scanning
+ * the text.  It also stores the locations that have already been computed keyed by the URI fragment of the element.
+ *
+ * <p/>
+ * The index is attached to the resource as an adapter.  The index is built for the text of the resource when it was
+ * last parsed.  If the resource is parsed again, a new index is built the next time a location is requested.
+ */
+class SourceLocationIndex extends AdapterImpl {
+
+   /**
+    * The text the index was built for.  This is compared by identity since the node model only creates a new string if
+    * the resource is parsed again.
+    */
+   private final String text;
+
+   /**
+    * The offsets of the first character of each line.
+    */
+   private final int[] lineOffsets;
+
+   private final Map<String, ISourceLocation> locations = new ConcurrentHashMap<>();
+
+   private SourceLocationIndex(String text) {
+      this.text = text;
+      this.lineOffsets = computeLineOffsets(text);
+   }
+
+   /**
+    * Gets the index of the resource that contains the given object, building the index if necessary.
+    *
+    * @param object the object whose location is needed
+    * @return the index or {@code null} if the object is not contained in a parsed XText resource
+    */
+   static SourceLocationIndex get(EObject object) {
+      Resource resource = object.eResource();
+      if (!(resource instanceof XtextResource)) {
+         return null;
+      }
+      IParseResult parseResult = ((XtextResource) resource).getParseResult();
+      ICompositeNode rootNode = parseResult == null ? null : parseResult.getRootNode();
+      if (rootNode == null) {
+         return null;
+      }
+
+      String text = rootNode.getText();
+      synchronized (resource) {
+         SourceLocationIndex index =
+               (SourceLocationIndex) EcoreUtil.getExistingAdapter(resource, SourceLocationIndex.class);
+         if (index == null || index.text != text) {
+            if (index != null) {
+               resource.eAdapters().remove(index);
+            }
+            index = new SourceLocationIndex(text);
+            resource.eAdapters().add(index);
+         }
+         return index;
+      }
+   }
+
+   /**
+    * Gets the location of the given object, computing it if it has not been requested before.
+    *
+    * @param object             the object
+    * @param fullRegion         true if the location covers the full region of the object
+    * @param locationCalculator computes the location if it's not cached
+    * @return the location of the object
+    */
+   ISourceLocation getLocation(EObject object,
+                               boolean fullRegion,
+                               Function<EObject, ISourceLocation> locationCalculator) {
+      String key = object.eResource().getURIFragment(object) + (fullRegion ? "|full" : "|significant");
+      return locations.computeIfAbsent(key, k -> locationCalculator.apply(object));
+   }
+
+   /**
+    * Gets the line and column of the given offset.  Lines and columns start at 1.
+    *
+    * @param offset the offset in the text of the resource
+    * @return the line and column of the offset
+    */
+   LineAndColumn getLineAndColumn(int offset) {
+      int clamped = Math.max(0, Math.min(offset, text.length()));
+      int index = Arrays.binarySearch(lineOffsets, clamped);
+      // If the offset is not the start of a line, binarySearch returns (-(insertion point) - 1).  The line that
+      // contains the offset is the one before the insertion point.
+      int line = index >= 0 ? index : -index - 2;
+      return LineAndColumn.from(line + 1, clamped - lineOffsets[line] + 1);
+   }
+
+   @Override
+   public boolean isAdapterForType(Object type) {
+      return type == SourceLocationIndex.class;
+   }
+
+   private static int[] computeLineOffsets(String text) {
+      int[] offsets = new int[16];
+      int count = 1;
+      for (int i = 0; i < text.length(); i++) {
+         char c = text.charAt(i);
+         if (c == '\r' && i + 1 < text.length() && text.charAt(i + 1) == '\n') {
+            // Treat \r\n as a single line break.
+            i++;
+         } else if (c != '\n' && c != '\r') {
+            continue;
+         }
+         if (count == offsets.length) {
+            offsets = Arrays.copyOf(offsets, count * 2);
+         }
+         offsets[count++] = i + 1;
+      }
+      return Arrays.copyOf(offsets, count);
+   }
+}
@@ -68,15 +68,28 @@ public class XTextSourceLocatorService implements ISourceLocatorService {
       @SuppressWarnings("unchecked")
       IUnwrappable<? extends EObject> wrappable = (IUnwrappable<? extends EObject>) element;
       EObject object = wrappable.unwrap();
+      SourceLocationIndex index = SourceLocationIndex.get(object);
+      if (index == null) {
+         return computeXtextLocation(object, fullRegion, null);
+      }
+      return index.getLocation(object, fullRegion, o -> computeXtextLocation(o, fullRegion, index));
+   }
+
+   private ISourceLocation computeXtextLocation(EObject object, boolean fullRegion, SourceLocationIndex index) {
       URI uri = EcoreUtil2.getNormalizedURI(object);
-      INode node = NodeModelUtils.findActualNodeFor(object);
       ITextRegion region;
       if (fullRegion) {
          region = provider.getFullTextRegion(object);
       } else {
          region = provider.getSignificantTextRegion(object);
       }
-      LineAndColumn lineAndColumn = WrapperInternalNodeModelUtils.getLineAndColumn(node, region.getOffset());
+      LineAndColumn lineAndColumn;
+      if (index == null) {
+         INode node = NodeModelUtils.findActualNodeFor(object);
+         lineAndColumn = WrapperInternalNodeModelUtils.getLineAndColumn(node, region.getOffset());
+      } else {
+         lineAndColumn = index.getLineAndColumn(region.getOffset());
+      }
       return new SourceLocation(uri, lineAndColumn.getLine(), lineAndColumn.getColumn(), region.getLength());
    }
 
@@ -60,8 +60,14 @@ public class XtextSourceLocation implements IDetailedSourceLocation {
       this.object = object;
       this.region = region;
       this.path = getPathFromUri(EcoreUtil2.getNormalizedURI(object));
-      INode node = NodeModelUtils.findActualNodeFor(object);
-      LineAndColumn lineAndColumn = WrapperInternalNodeModelUtils.getLineAndColumn(node, region.getOffset());
+      SourceLocationIndex index = SourceLocationIndex.get(object);
+      LineAndColumn lineAndColumn;
+      if (index == null) {
+         INode node = NodeModelUtils.findActualNodeFor(object);
+         lineAndColumn = WrapperInternalNodeModelUtils.getLineAndColumn(node, region.getOffset());
+      } else {
+         lineAndColumn = index.getLineAndColumn(region.getOffset());
+      }
       this.line = lineAndColumn.getLine();
       this.column = lineAndColumn.getColumn();
    }
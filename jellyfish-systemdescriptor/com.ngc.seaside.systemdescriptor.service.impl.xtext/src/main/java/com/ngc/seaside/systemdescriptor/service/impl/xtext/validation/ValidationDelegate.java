@@ -26,8 +26,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EContentAdapter;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 
 import com.google.common.base.Preconditions;
@@ -81,6 +86,15 @@ import com.ngc.seaside.systemdescriptor.validation.api.IValidationContext;
  */
 public class ValidationDelegate implements IValidatorExtension {
 
+   /**
+    * The name of the system property that configures how the system descriptors used for validation find XText
+    * elements.  If the property is {@code true}, elements are found with an index.  If the property is {@code false},
+    * every resource is scanned for each lookup.  If the property is not set, lookups are only indexed when the service
+    * is used outside of Eclipse.  Within Eclipse, the descriptor used for validation is rebuilt after every edit, so
+    * the cost of building the index is rarely recovered.
+    */
+   public static final String INDEXED_LOOKUPS_PROPERTY_NAME = "jellyfish.sd.validation.indexed";
+
    /**
     * All registered validators.
     */
@@ -96,6 +110,17 @@ public class ValidationDelegate implements IValidatorExtension {
     */
    private final ILogService logService;
 
+   /**
+    * The number of system descriptors that have been created to perform validation.
+    */
+   private final AtomicLong descriptorBuildCount = new AtomicLong();
+
+   /**
+    * If {@code true}, system descriptors find XText elements with an index.
+    */
+   private volatile boolean indexedLookups =
+         Boolean.parseBoolean(System.getProperty(INDEXED_LOOKUPS_PROPERTY_NAME, "false"));
+
    /**
     * Creates a new validation delegate.
     */
@@ -113,7 +138,8 @@ public class ValidationDelegate implements IValidatorExtension {
    public void validate(EObject source, ValidationHelper helper) {
       // Walk the source object up the containment hierarchy to find the Package object.  Build a system descriptor
       // for the entire package.  Then instruct the validator to validate the associated wrapper of the source object.
-      ISystemDescriptor descriptor = new WrappedSystemDescriptor(findPackage(source));
+      // The descriptor is shared by all objects in the same resource set until the resource set is modified.
+      ISystemDescriptor descriptor = getDescriptor(source);
 
       // Do not allow validation exceptions to bubble up.  Instead, convert the exception to an issue and consume the
       // error.  We do this because XText calls the validators even if the project is invalid.  In this case, a
@@ -163,6 +189,69 @@ public class ValidationDelegate implements IValidatorExtension {
       return result;
    }
 
+   /**
+    * Gets the number of system descriptors this delegate has created in order to perform validation.  Since
+    * descriptors are reused until the objects being validated are changed, this is usually much less than the number
+    * of objects that have been validated.
+    *
+    * @return the number of system descriptors this delegate has created
+    */
+   public long getDescriptorBuildCount() {
+      return descriptorBuildCount.get();
+   }
+
+   /**
+    * Gets whether the system descriptors used for validation find XText elements with an index.
+    *
+    * @return {@code true} if lookups are indexed, {@code false} if every resource is scanned for each lookup
+    */
+   public boolean isIndexedLookups() {
+      return indexedLookups;
+   }
+
+   /**
+    * Sets whether the system descriptors used for validation find XText elements with an index.  Indexed lookups are
+    * faster for large resource sets when a descriptor is used for many lookups.  Disable them to scan every resource
+    * for each lookup instead.  This only affects descriptors that are created after this method is invoked.
+    *
+    * @param indexedLookups {@code true} to use an index, {@code false} to scan every resource
+    */
+   public void setIndexedLookups(boolean indexedLookups) {
+      this.indexedLookups = indexedLookups;
+   }
+
+   /**
+    * Discards the system descriptor that is cached for the given resource set, if any.  This should be invoked once all
+    * resources in the set have been validated so the resource set does not retain the descriptor or its index.
+    *
+    * @param resourceSet the resource set whose cached descriptor should be discarded
+    */
+   public void clearCachedDescriptor(ResourceSet resourceSet) {
+      Preconditions.checkNotNull(resourceSet, "resourceSet may not be null!");
+      DescriptorCachingAdapter adapter;
+      synchronized (resourceSet) {
+         adapter = (DescriptorCachingAdapter) EcoreUtil.getExistingAdapter(resourceSet,
+                                                                          DescriptorCachingAdapter.class);
+         if (adapter != null) {
+            resourceSet.eAdapters().remove(adapter);
+         }
+      }
+      if (adapter != null) {
+         adapter.releaseDescriptor();
+      }
+   }
+
+   /**
+    * Gets the validators that are currently registered with this delegate.
+    *
+    * @return an unmodifiable copy of the registered validators
+    */
+   public Collection<ISystemDescriptorValidator> getValidators() {
+      synchronized (validators) {
+         return Collections.unmodifiableList(new ArrayList<>(validators));
+      }
+   }
+
    protected void doValidate(EObject source, ValidationHelper helper, ISystemDescriptor descriptor) {
       switch (source.eClass().getClassifierID()) {
          case SystemDescriptorPackage.PACKAGE:
@@ -373,6 +462,40 @@ public class ValidationDelegate implements IValidatorExtension {
       }
    }
 
+   /**
+    * Gets the system descriptor that contains the wrapper of the given object.  If the object is contained in a
+    * resource set, the descriptor is cached with the resource set and reused until any resource in the set changes.
+    */
+   private ISystemDescriptor getDescriptor(EObject source) {
+      Package p = findPackage(source);
+      Resource resource = p.eResource();
+      ResourceSet resourceSet = resource == null ? null : resource.getResourceSet();
+      if (resourceSet == null) {
+         return newDescriptor(p);
+      }
+
+      // Objects may be validated concurrently by multiple threads, so guard the adapters of the resource set.
+      synchronized (resourceSet) {
+         DescriptorCachingAdapter adapter = (DescriptorCachingAdapter) EcoreUtil.getExistingAdapter(
+               resourceSet,
+               DescriptorCachingAdapter.class);
+         if (adapter == null) {
+            adapter = new DescriptorCachingAdapter();
+            resourceSet.eAdapters().add(adapter);
+         }
+         if (adapter.descriptor == null) {
+            adapter.descriptor = newDescriptor(p);
+         }
+         return adapter.descriptor;
+      }
+   }
+
+   private WrappedSystemDescriptor newDescriptor(Package p) {
+      long count = descriptorBuildCount.incrementAndGet();
+      logService.trace(getClass(), "Creating system descriptor #%d to validate package %s.", count, p.getName());
+      return new WrappedSystemDescriptor(p, indexedLookups);
+   }
+
    private void registerSelf() {
       // Note this method and unregisterSelf get called while by guarded by the validators list.  This means this
       // and unregisterSelf can't be called concurrently.
@@ -519,4 +642,59 @@ public class ValidationDelegate implements IValidatorExtension {
       @Inject(optional = true)
       Set<ISystemDescriptorValidator> validators = Collections.emptySet();
    }
+
+   /**
+    * An adapter that caches the system descriptor of a resource set.  This adapter is attached to the resource set and
+    * all of its contents.  The cached descriptor is discarded if any resource in the set changes.
+    */
+   private static class DescriptorCachingAdapter extends EContentAdapter {
+
+      private volatile WrappedSystemDescriptor descriptor;
+
+      @Override
+      public void notifyChanged(Notification notification) {
+         super.notifyChanged(notification);
+         if (isModification(notification)) {
+            releaseDescriptor();
+         }
+      }
+
+      /**
+       * Discards the cached descriptor and removes the adapters installed by its index.
+       */
+      void releaseDescriptor() {
+         WrappedSystemDescriptor released = descriptor;
+         descriptor = null;
+         if (released != null) {
+            released.releaseIndex();
+         }
+      }
+
+      @Override
+      public boolean isAdapterForType(Object type) {
+         return type == DescriptorCachingAdapter.class;
+      }
+
+      @Override
+      protected boolean resolve() {
+         // Never resolve proxies just to attach this adapter.
+         return false;
+      }
+
+      private static boolean isModification(Notification notification) {
+         if (notification.isTouch()
+               || notification.getEventType() == Notification.RESOLVE
+               || notification.getEventType() == Notification.REMOVING_ADAPTER) {
+            return false;
+         }
+         // Only changes to the contents of a resource matter.  Resources also notify when errors and warnings are
+         // added which happens while proxies are resolved.
+         Object notifier = notification.getNotifier();
+         if (notifier instanceof Resource) {
+            int featureId = notification.getFeatureID(Resource.class);
+            return featureId == Resource.RESOURCE__CONTENTS || featureId == Resource.RESOURCE__IS_LOADED;
+         }
+         return true;
+      }
+   }
 }
@@ -39,7 +39,12 @@ import javax.json.JsonObject;
 import javax.json.spi.JsonProvider;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -158,6 +163,80 @@ public class AggregatedMetadataViewTest {
                    view.getJson().getString("shared"));
    }
 
+   @Test
+   public void testDoesReadThroughToMetadata() {
+      view = AggregatedMetadataView.getAggregatedMetadata(data);
+      verify(data, never()).getMetadata();
+
+      JsonObject json = view.getJson();
+      assertSame("merged metadata should be reused!",
+                 json,
+                 view.getJson());
+
+      JsonObject updatedJson = jsonProvider.createObjectBuilder()
+            .add("data", "updated")
+            .build();
+      when(data.getMetadata()).thenReturn(metadata(updatedJson));
+      assertEquals("did not read through to updated metadata!",
+                   "updated",
+                   view.getJson().getString("data"));
+      assertEquals("missing metadata from parent object!",
+                   "value2",
+                   view.getJson().getString("parent"));
+   }
+
+   @Test
+   public void testDoesNotCopyMetadataIfOnlyOneObjectHasMetadata() {
+      JsonObject json = jsonProvider.createObjectBuilder()
+            .add("only", "value")
+            .build();
+      IData single = mock(IData.class);
+      when(single.getMetadata()).thenReturn(metadata(json));
+      when(single.getExtendedDataType()).thenReturn(Optional.empty());
+
+      view = AggregatedMetadataView.getAggregatedMetadata(single);
+      assertSame("metadata should not be copied!",
+                 json,
+                 view.getJson());
+   }
+
+   @Test
+   public void testDoesCompareAggregatedMetadataByJson() {
+      view = AggregatedMetadataView.getAggregatedMetadata(data);
+      IMetadata other = AggregatedMetadataView.getAggregatedMetadata(data);
+      assertEquals("views of the same metadata should be equal!",
+                   view,
+                   other);
+      assertEquals("views of the same metadata should have the same hash code!",
+                   view.hashCode(),
+                   other.hashCode());
+
+      assertNotEquals("views of different metadata should not be equal!",
+                      view,
+                      AggregatedMetadataView.getAggregatedMetadata(model));
+
+      other.setJson(view.getJson());
+      assertEquals("metadata with the same JSON should be equal!",
+                   view,
+                   other);
+   }
+
+   @Test
+   public void testDoesAcceptNullJson() {
+      view = AggregatedMetadataView.getAggregatedMetadata(data);
+      assertSame(view, view.setJson(null));
+      assertNull("JSON should be null once it is set to null!",
+                 view.getJson());
+
+      IMetadata other = AggregatedMetadataView.getAggregatedMetadata(model).setJson(null);
+      assertEquals("metadata with null JSON should be equal!",
+                   view,
+                   other);
+      assertEquals("metadata with null JSON should have the same hash code!",
+                   view.hashCode(),
+                   other.hashCode());
+   }
+
    private static IMetadata metadata(JsonObject json) {
       return new Metadata().setJson(json);
    }
@@ -46,6 +46,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Optional;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
 
@@ -181,6 +182,15 @@ public class AggregatedModelViewTest {
                  view.getLinkByName("linkC").isPresent());
    }
 
+   @Test
+   public void testDoesGetMetadataAndPropertiesFromRefinedModels() {
+      assertEquals("metadata should be empty!",
+                   IMetadata.EMPTY_METADATA.getJson(),
+                   view.getMetadata().getJson());
+      assertTrue("properties should be empty!",
+                 view.getProperties().isEmpty());
+   }
+
    /**
     * Creates a collection of fields of the given type with the given name.
     */
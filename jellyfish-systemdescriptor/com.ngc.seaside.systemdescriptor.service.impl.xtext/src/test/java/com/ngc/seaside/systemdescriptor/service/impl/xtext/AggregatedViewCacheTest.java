@@ -0,0 +1,74 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.service.impl.xtext;
+
+import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AggregatedViewCacheTest {
+
+   private AggregatedViewCache<String, StringBuilder> cache;
+
+   @Mock
+   private ILogService logService;
+
+   @Before
+   public void setup() {
+      cache = new AggregatedViewCache<>("test", 1, logService);
+   }
+
+   @Test
+   public void testDoesCacheViewsByIdentity() {
+      String key = "key";
+      // Equal to the first key but not the same instance.
+      String equalKey = new String(key);
+
+      StringBuilder view = cache.get(key, StringBuilder::new);
+      assertSame("did not cache view!",
+                 view,
+                 cache.get(key, StringBuilder::new));
+      assertNotSame("views should be cached by identity!",
+                    view,
+                    cache.get(equalKey, StringBuilder::new));
+
+      assertEquals("hit count not correct!",
+                   1,
+                   cache.getStatistics().hitCount());
+      assertEquals("miss count not correct!",
+                   2,
+                   cache.getStatistics().missCount());
+      assertEquals("eviction count not correct!",
+                   1,
+                   cache.getStatistics().evictionCount());
+   }
+}
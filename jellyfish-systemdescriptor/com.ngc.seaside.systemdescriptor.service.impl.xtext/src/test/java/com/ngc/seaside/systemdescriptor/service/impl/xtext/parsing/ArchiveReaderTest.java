@@ -0,0 +1,57 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.service.impl.xtext.parsing;
+
+import org.junit.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class ArchiveReaderTest {
+
+   private static final Path ARCHIVE = Paths.get("src", "test", "resources", "valid-zipped-project.zip");
+
+   @Test
+   public void testDoesReadOnlySystemDescriptorFiles() throws Throwable {
+      Map<String, byte[]> files = ArchiveReader.readSystemDescriptorFiles(ARCHIVE);
+      assertEquals("did not find the correct files!",
+                   Collections.singleton("com/Test.sd"),
+                   files.keySet());
+      assertEquals("did not read the contents of the file!",
+                   29,
+                   files.get("com/Test.sd").length);
+   }
+
+   @Test
+   public void testDoesReuseContentsOfUnchangedArchive() throws Throwable {
+      Map<String, byte[]> files = ArchiveReader.readSystemDescriptorFiles(ARCHIVE);
+      assertSame("did not reuse the contents of the archive!",
+                 files,
+                 ArchiveReader.readSystemDescriptorFiles(ARCHIVE.toAbsolutePath()));
+   }
+}
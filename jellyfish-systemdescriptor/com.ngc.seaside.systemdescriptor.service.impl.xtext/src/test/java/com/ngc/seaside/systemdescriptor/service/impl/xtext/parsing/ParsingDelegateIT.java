@@ -24,6 +24,7 @@ package com.ngc.seaside.systemdescriptor.service.impl.xtext.parsing;
 
 import com.ngc.seaside.systemdescriptor.SystemDescriptorStandaloneSetup;
 import com.ngc.seaside.systemdescriptor.model.api.data.IData;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
 import com.ngc.seaside.systemdescriptor.service.api.IParsingIssue;
 import com.ngc.seaside.systemdescriptor.service.api.IParsingResult;
 import com.ngc.seaside.systemdescriptor.service.impl.xtext.testutil.InjectorTestFactory;
@@ -35,12 +36,14 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -91,6 +94,114 @@ public class ParsingDelegateIT {
       assertNotNull("system descriptor not set!", result.getSystemDescriptor());
    }
 
+   @Test
+   public void testDoesParseProjectDirectoryInParallel() {
+      delegate.setParallelism(4);
+      try {
+         IParsingResult result = delegate.parseProject(Paths.get("build", "resources", "test", "valid-project"));
+         assertTrue("parsing should be successful!", result.isSuccessful());
+         assertNotNull("system descriptor not set!", result.getSystemDescriptor());
+         assertTrue("data inheritance not linked!",
+                    result.getSystemDescriptor()
+                          .findData("clocks.datatypes.BestTime")
+                          .get()
+                          .getExtendedDataType()
+                          .isPresent());
+      } finally {
+         delegate.setParallelism(1);
+      }
+   }
+
+   @Test
+   public void testDoesLinkAndValidateCrossReferencingFilesInParallel() {
+      Collection<Path> paths = Arrays.asList(
+            pathTo("valid-project", "clocks", "AlarmClock.sd"),
+            pathTo("valid-project", "clocks", "models", "Alarm.sd"),
+            pathTo("valid-project", "clocks", "models", "ClockDisplay.sd"),
+            pathTo("valid-project", "clocks", "models", "Speaker.sd"),
+            pathTo("valid-project", "clocks", "models", "Timer.sd"),
+            pathTo("valid-project", "clocks", "datatypes", "ComplexTime.sd"),
+            pathTo("valid-project", "clocks", "datatypes", "TimeZone.sd"),
+            pathTo("valid-project", "clocks", "datatypes", "Time.sd"));
+      IParsingResult serialResult = delegate.parseFiles(paths);
+
+      delegate.setParallelism(4);
+      try {
+         // Parse several times to give concurrent access to the shared resource set a chance to fail.
+         for (int i = 0; i < 10; i++) {
+            IParsingResult parallelResult = delegate.parseFiles(paths);
+            assertTrue("parsing should be successful!", parallelResult.isSuccessful());
+            assertEquals("wrong number of issues!",
+                         serialResult.getIssues().size(),
+                         parallelResult.getIssues().size());
+
+            IModel alarmClock = parallelResult.getSystemDescriptor().findModel("clocks.AlarmClock").get();
+            assertEquals("parts not linked!",
+                         "clocks.models.Timer",
+                         alarmClock.getParts().getByName("timer").get().getType().getFullyQualifiedName());
+            assertEquals("requirements not linked!",
+                         "clocks.models.Speaker",
+                         alarmClock.getRequiredModels().getByName("speaker").get().getType().getFullyQualifiedName());
+            assertEquals("inputs not linked!",
+                         "clocks.datatypes.Time",
+                         alarmClock.getInputs().getByName("alarmTimes").get().getType().getFullyQualifiedName());
+            assertEquals("links not linked!",
+                         serialResult.getSystemDescriptor().findModel("clocks.AlarmClock").get().getLinks().size(),
+                         alarmClock.getLinks().size());
+         }
+      } finally {
+         delegate.setParallelism(1);
+      }
+   }
+
+   @Test
+   public void testDoesReturnSameParsingErrorsInParallel() {
+      Collection<Path> paths = Arrays.asList(
+            pathTo("invalid-project", "clocks", "datatypes", "Time.sd"),
+            pathTo("valid-project", "clocks", "datatypes", "TimeZone.sd"));
+      IParsingResult serialResult = delegate.parseFiles(paths);
+
+      delegate.setParallelism(2);
+      try {
+         IParsingResult parallelResult = delegate.parseFiles(paths);
+         assertFalse("parsing should not be successful!", parallelResult.isSuccessful());
+         assertEquals("wrong number of issues!", serialResult.getIssues().size(), parallelResult.getIssues().size());
+
+         Iterator<IParsingIssue> serialIssues = serialResult.getIssues().iterator();
+         for (IParsingIssue issue : parallelResult.getIssues()) {
+            IParsingIssue expected = serialIssues.next();
+            assertEquals("issue message not correct!", expected.getMessage(), issue.getMessage());
+            assertEquals("issue line not correct!",
+                         expected.getLocation().getLineNumber(),
+                         issue.getLocation().getLineNumber());
+         }
+      } finally {
+         delegate.setParallelism(1);
+      }
+   }
+
+   @Test
+   public void testDoesReuseValidationResultsOfUnchangedProject() {
+      Path project = Paths.get("build", "resources", "test", "valid-project");
+      IParsingResult first;
+      IParsingResult second;
+      System.setProperty(ParsingDelegate.VALIDATION_CACHE_PROPERTY_NAME, "true");
+      try {
+         first = delegate.parseProject(project);
+         second = delegate.parseProject(project);
+      } finally {
+         System.clearProperty(ParsingDelegate.VALIDATION_CACHE_PROPERTY_NAME);
+      }
+
+      assertTrue("validation cache not saved!",
+                 Files.isRegularFile(project.resolve(Paths.get("build",
+                                                               "jellyfish-cache",
+                                                               ValidationCache.CACHE_FILE_NAME))));
+      assertTrue("parsing should be successful!", second.isSuccessful());
+      assertNotNull("system descriptor not set!", second.getSystemDescriptor());
+      assertEquals("wrong number of issues!", first.getIssues().size(), second.getIssues().size());
+   }
+
    @Test
    public void testDoesHandleDataInheritance() {
       IParsingResult result = delegate.parseProject(Paths.get("build", "resources", "test", "valid-project"));
@@ -0,0 +1,108 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.service.impl.xtext.source;
+
+import com.ngc.seaside.systemdescriptor.service.source.api.ISourceLocation;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.parser.IParseResult;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.util.LineAndColumn;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.nio.file.Paths;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SourceLocationIndexTest {
+
+   @Mock
+   private XtextResource resource;
+
+   @Mock
+   private IParseResult parseResult;
+
+   @Mock
+   private ICompositeNode rootNode;
+
+   @Mock
+   private EObject object;
+
+   @Before
+   public void setup() {
+      EList<Adapter> adapters = new BasicEList<>();
+      when(resource.eAdapters()).thenReturn(adapters);
+      when(resource.getParseResult()).thenReturn(parseResult);
+      when(parseResult.getRootNode()).thenReturn(rootNode);
+      when(object.eResource()).thenReturn(resource);
+   }
+
+   @Test
+   public void testDoesFindLineAndColumn() {
+      when(rootNode.getText()).thenReturn("ab\ncd\r\nef\rg");
+      SourceLocationIndex index = SourceLocationIndex.get(object);
+
+      assertLineAndColumn(1, 1, index.getLineAndColumn(0));
+      assertLineAndColumn(1, 3, index.getLineAndColumn(2));
+      assertLineAndColumn(2, 1, index.getLineAndColumn(3));
+      assertLineAndColumn(2, 3, index.getLineAndColumn(5));
+      assertLineAndColumn(3, 1, index.getLineAndColumn(7));
+      assertLineAndColumn(4, 1, index.getLineAndColumn(10));
+      assertLineAndColumn(4, 2, index.getLineAndColumn(100));
+   }
+
+   @Test
+   public void testDoesCacheLocationsUntilResourceIsParsedAgain() {
+      when(rootNode.getText()).thenReturn(new String("a"));
+      when(resource.getURIFragment(object)).thenReturn("/0");
+      ISourceLocation location = new SourceLocation(Paths.get("a.sd"), 1, 1, 1);
+
+      SourceLocationIndex index = SourceLocationIndex.get(object);
+      assertSame(location, index.getLocation(object, false, o -> location));
+      assertSame(location, index.getLocation(object, false, o -> mock(ISourceLocation.class)));
+      assertSame(index, SourceLocationIndex.get(object));
+
+      when(rootNode.getText()).thenReturn(new String("a"));
+      SourceLocationIndex newIndex = SourceLocationIndex.get(object);
+      assertNotSame(index, newIndex);
+      assertEquals(1, resource.eAdapters().size());
+   }
+
+   private static void assertLineAndColumn(int line, int column, LineAndColumn actual) {
+      assertEquals("line not correct!", line, actual.getLine());
+      assertEquals("column not correct!", column, actual.getColumn());
+   }
+}
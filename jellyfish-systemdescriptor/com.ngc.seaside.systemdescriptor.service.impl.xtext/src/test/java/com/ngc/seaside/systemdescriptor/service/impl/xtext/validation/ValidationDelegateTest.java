@@ -22,6 +22,10 @@
  */
 package com.ngc.seaside.systemdescriptor.service.impl.xtext.validation;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doThrow;
@@ -32,7 +36,12 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 
+import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -497,6 +506,61 @@ public class ValidationDelegateTest {
       verify(dslValidator).addValidatorExtension(delegate);
    }
 
+   @Test
+   public void testDoesReuseDescriptorUntilResourceSetIsModified() throws Throwable {
+      Data data = factory().createData();
+      data.setName("MyData");
+      Package dataPackage = factory().createPackage();
+      dataPackage.setName("foo.data");
+      dataPackage.setElement(data);
+
+      Model model = factory().createModel();
+      model.setName("MyModel");
+      Package modelPackage = factory().createPackage();
+      modelPackage.setName("foo.model");
+      modelPackage.setElement(model);
+
+      ResourceSet resourceSet = new ResourceSetImpl();
+      Resource dataResource = new ResourceImpl(URI.createURI("Data.sd"));
+      dataResource.getContents().add(dataPackage);
+      Resource modelResource = new ResourceImpl(URI.createURI("Model.sd"));
+      modelResource.getContents().add(modelPackage);
+      resourceSet.getResources().add(dataResource);
+      resourceSet.getResources().add(modelResource);
+
+      delegate.addValidator(validator);
+      delegate.validate(data, helper);
+      ISystemDescriptor first = descriptor;
+      delegate.validate(model, helper);
+      assertSame("descriptor should be reused!", first, descriptor);
+      assertEquals("wrong number of descriptors created!", 1, delegate.getDescriptorBuildCount());
+
+      data.setName("MyOtherData");
+      delegate.validate(data, helper);
+      assertNotSame("descriptor should be created after a modification!", first, descriptor);
+      assertEquals("wrong number of descriptors created!", 2, delegate.getDescriptorBuildCount());
+
+      delegate.clearCachedDescriptor(resourceSet);
+      assertTrue("adapter should be removed!", resourceSet.eAdapters().isEmpty());
+      assertTrue("adapter should be removed!", data.eAdapters().isEmpty());
+   }
+
+   @Test
+   public void testDoesValidateWithIndexedLookups() throws Throwable {
+      Model source = factory().createModel();
+      source.setName("MyModel");
+      Package p = factory().createPackage();
+      p.setName("foo.package");
+      p.setElement(source);
+
+      delegate.setIndexedLookups(true);
+      delegate.addValidator(validator);
+      delegate.validate(source, helper);
+
+      IModel toValidate = descriptor.findModel(p.getName(), source.getName()).get();
+      verify(validator).validate(argThat(ctx -> toValidate.equals(ctx.getObject())));
+   }
+
    private void interceptValidate(EObject source,
                                   IValidatorExtension.ValidationHelper helper,
                                   ISystemDescriptor descriptor) {